@@ -337,6 +337,46 @@ public interface Java8Listener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCompilationUnit(Java8Parser.CompilationUnitContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link Java8Parser#declarations}.
+	 * @param ctx the parse tree
+	 */
+	void enterDeclarations(Java8Parser.DeclarationsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link Java8Parser#declarations}.
+	 * @param ctx the parse tree
+	 */
+	void exitDeclarations(Java8Parser.DeclarationsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link Java8Parser#singleStatements}.
+	 * @param ctx the parse tree
+	 */
+	void enterSingleStatements(Java8Parser.SingleStatementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link Java8Parser#singleStatements}.
+	 * @param ctx the parse tree
+	 */
+	void exitSingleStatements(Java8Parser.SingleStatementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link Java8Parser#singleExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterSingleExpression(Java8Parser.SingleExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link Java8Parser#singleExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitSingleExpression(Java8Parser.SingleExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link Java8Parser#classBodyDeclarations}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassBodyDeclarations(Java8Parser.ClassBodyDeclarationsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link Java8Parser#classBodyDeclarations}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassBodyDeclarations(Java8Parser.ClassBodyDeclarationsContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link Java8Parser#declaration}.
 	 * @param ctx the parse tree
@@ -45,83 +45,85 @@ public class Java8Parser extends Parser {
 		RULE_typeArguments = 21, RULE_typeArgumentList = 22, RULE_typeArgument = 23, 
 		RULE_wildcard = 24, RULE_wildcardBounds = 25, RULE_packageName = 26, RULE_typeName = 27, 
 		RULE_packageOrTypeName = 28, RULE_expressionName = 29, RULE_methodName = 30, 
-		RULE_ambiguousName = 31, RULE_compilationUnit = 32, RULE_declaration = 33, 
-		RULE_singleStatement = 34, RULE_packageDeclaration = 35, RULE_packageModifier = 36, 
-		RULE_importDeclaration = 37, RULE_singleTypeImportDeclaration = 38, RULE_typeImportOnDemandDeclaration = 39, 
-		RULE_singleStaticImportDeclaration = 40, RULE_staticImportOnDemandDeclaration = 41, 
-		RULE_typeDeclaration = 42, RULE_classDeclaration = 43, RULE_normalClassDeclaration = 44, 
-		RULE_classModifier = 45, RULE_typeParameters = 46, RULE_typeParameterList = 47, 
-		RULE_superclass = 48, RULE_superinterfaces = 49, RULE_interfaceTypeList = 50, 
-		RULE_classBody = 51, RULE_classBodyDeclaration = 52, RULE_classMemberDeclaration = 53, 
-		RULE_fieldDeclaration = 54, RULE_fieldModifier = 55, RULE_variableDeclaratorList = 56, 
-		RULE_variableDeclarator = 57, RULE_variableDeclaratorId = 58, RULE_variableInitializer = 59, 
-		RULE_unannType = 60, RULE_unannPrimitiveType = 61, RULE_unannReferenceType = 62, 
-		RULE_unannClassOrInterfaceType = 63, RULE_unannClassType = 64, RULE_unannClassType_lf_unannClassOrInterfaceType = 65, 
-		RULE_unannClassType_lfno_unannClassOrInterfaceType = 66, RULE_unannInterfaceType = 67, 
-		RULE_unannInterfaceType_lf_unannClassOrInterfaceType = 68, RULE_unannInterfaceType_lfno_unannClassOrInterfaceType = 69, 
-		RULE_unannTypeVariable = 70, RULE_unannArrayType = 71, RULE_methodDeclaration = 72, 
-		RULE_methodModifier = 73, RULE_methodHeader = 74, RULE_result = 75, RULE_methodDeclarator = 76, 
-		RULE_formalParameterList = 77, RULE_formalParameters = 78, RULE_formalParameter = 79, 
-		RULE_variableModifier = 80, RULE_lastFormalParameter = 81, RULE_receiverParameter = 82, 
-		RULE_throws_ = 83, RULE_exceptionTypeList = 84, RULE_exceptionType = 85, 
-		RULE_methodBody = 86, RULE_instanceInitializer = 87, RULE_staticInitializer = 88, 
-		RULE_constructorDeclaration = 89, RULE_constructorModifier = 90, RULE_constructorDeclarator = 91, 
-		RULE_simpleTypeName = 92, RULE_constructorBody = 93, RULE_explicitConstructorInvocation = 94, 
-		RULE_enumDeclaration = 95, RULE_enumBody = 96, RULE_enumConstantList = 97, 
-		RULE_enumConstant = 98, RULE_enumConstantModifier = 99, RULE_enumBodyDeclarations = 100, 
-		RULE_interfaceDeclaration = 101, RULE_normalInterfaceDeclaration = 102, 
-		RULE_interfaceModifier = 103, RULE_extendsInterfaces = 104, RULE_interfaceBody = 105, 
-		RULE_interfaceMemberDeclaration = 106, RULE_constantDeclaration = 107, 
-		RULE_constantModifier = 108, RULE_interfaceMethodDeclaration = 109, RULE_interfaceMethodModifier = 110, 
-		RULE_annotationTypeDeclaration = 111, RULE_annotationTypeBody = 112, RULE_annotationTypeMemberDeclaration = 113, 
-		RULE_annotationTypeElementDeclaration = 114, RULE_annotationTypeElementModifier = 115, 
-		RULE_defaultValue = 116, RULE_annotation = 117, RULE_normalAnnotation = 118, 
-		RULE_elementValuePairList = 119, RULE_elementValuePair = 120, RULE_elementValue = 121, 
-		RULE_elementValueArrayInitializer = 122, RULE_elementValueList = 123, 
-		RULE_markerAnnotation = 124, RULE_singleElementAnnotation = 125, RULE_arrayInitializer = 126, 
-		RULE_variableInitializerList = 127, RULE_block = 128, RULE_blockStatements = 129, 
-		RULE_blockStatement = 130, RULE_localVariableDeclarationStatement = 131, 
-		RULE_localVariableDeclaration = 132, RULE_statement = 133, RULE_statementNoShortIf = 134, 
-		RULE_statementWithoutTrailingSubstatement = 135, RULE_emptyStatement = 136, 
-		RULE_labeledStatement = 137, RULE_labeledStatementNoShortIf = 138, RULE_expressionStatement = 139, 
-		RULE_statementExpression = 140, RULE_ifThenStatement = 141, RULE_ifThenElseStatement = 142, 
-		RULE_ifThenElseStatementNoShortIf = 143, RULE_assertStatement = 144, RULE_switchStatement = 145, 
-		RULE_switchBlock = 146, RULE_switchBlockStatementGroup = 147, RULE_switchLabels = 148, 
-		RULE_switchLabel = 149, RULE_enumConstantName = 150, RULE_whileStatement = 151, 
-		RULE_whileStatementNoShortIf = 152, RULE_doStatement = 153, RULE_forStatement = 154, 
-		RULE_forStatementNoShortIf = 155, RULE_basicForStatement = 156, RULE_basicForStatementNoShortIf = 157, 
-		RULE_forInit = 158, RULE_forUpdate = 159, RULE_statementExpressionList = 160, 
-		RULE_enhancedForStatement = 161, RULE_enhancedForStatementNoShortIf = 162, 
-		RULE_breakStatement = 163, RULE_continueStatement = 164, RULE_returnStatement = 165, 
-		RULE_throwStatement = 166, RULE_synchronizedStatement = 167, RULE_tryStatement = 168, 
-		RULE_catches = 169, RULE_catchClause = 170, RULE_catchFormalParameter = 171, 
-		RULE_catchType = 172, RULE_finally_ = 173, RULE_tryWithResourcesStatement = 174, 
-		RULE_resourceSpecification = 175, RULE_resourceList = 176, RULE_resource = 177, 
-		RULE_primary = 178, RULE_primaryNoNewArray = 179, RULE_primaryNoNewArray_lf_arrayAccess = 180, 
-		RULE_primaryNoNewArray_lfno_arrayAccess = 181, RULE_primaryNoNewArray_lf_primary = 182, 
-		RULE_primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary = 183, RULE_primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary = 184, 
-		RULE_primaryNoNewArray_lfno_primary = 185, RULE_primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary = 186, 
-		RULE_primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary = 187, 
-		RULE_classInstanceCreationExpression = 188, RULE_classInstanceCreationExpression_lf_primary = 189, 
-		RULE_classInstanceCreationExpression_lfno_primary = 190, RULE_typeArgumentsOrDiamond = 191, 
-		RULE_fieldAccess = 192, RULE_fieldAccess_lf_primary = 193, RULE_fieldAccess_lfno_primary = 194, 
-		RULE_arrayAccess = 195, RULE_arrayAccess_lf_primary = 196, RULE_arrayAccess_lfno_primary = 197, 
-		RULE_methodInvocation = 198, RULE_methodInvocation_lf_primary = 199, RULE_methodInvocation_lfno_primary = 200, 
-		RULE_argumentList = 201, RULE_methodReference = 202, RULE_methodReference_lf_primary = 203, 
-		RULE_methodReference_lfno_primary = 204, RULE_arrayCreationExpression = 205, 
-		RULE_dimExprs = 206, RULE_dimExpr = 207, RULE_constantExpression = 208, 
-		RULE_expression = 209, RULE_lambdaExpression = 210, RULE_lambdaParameters = 211, 
-		RULE_inferredFormalParameterList = 212, RULE_lambdaBody = 213, RULE_assignmentExpression = 214, 
-		RULE_assignment = 215, RULE_leftHandSide = 216, RULE_assignmentOperator = 217, 
-		RULE_conditionalExpression = 218, RULE_conditionalOrExpression = 219, 
-		RULE_conditionalAndExpression = 220, RULE_inclusiveOrExpression = 221, 
-		RULE_exclusiveOrExpression = 222, RULE_andExpression = 223, RULE_equalityExpression = 224, 
-		RULE_relationalExpression = 225, RULE_shiftExpression = 226, RULE_additiveExpression = 227, 
-		RULE_multiplicativeExpression = 228, RULE_unaryExpression = 229, RULE_preIncrementExpression = 230, 
-		RULE_preDecrementExpression = 231, RULE_unaryExpressionNotPlusMinus = 232, 
-		RULE_postfixExpression = 233, RULE_postIncrementExpression = 234, RULE_postIncrementExpression_lf_postfixExpression = 235, 
-		RULE_postDecrementExpression = 236, RULE_postDecrementExpression_lf_postfixExpression = 237, 
-		RULE_castExpression = 238;
+		RULE_ambiguousName = 31, RULE_compilationUnit = 32, RULE_declarations = 33, 
+		RULE_singleStatements = 34, RULE_singleExpression = 35, RULE_classBodyDeclarations = 36, 
+		RULE_declaration = 37, RULE_singleStatement = 38, RULE_packageDeclaration = 39, 
+		RULE_packageModifier = 40, RULE_importDeclaration = 41, RULE_singleTypeImportDeclaration = 42, 
+		RULE_typeImportOnDemandDeclaration = 43, RULE_singleStaticImportDeclaration = 44, 
+		RULE_staticImportOnDemandDeclaration = 45, RULE_typeDeclaration = 46, 
+		RULE_classDeclaration = 47, RULE_normalClassDeclaration = 48, RULE_classModifier = 49, 
+		RULE_typeParameters = 50, RULE_typeParameterList = 51, RULE_superclass = 52, 
+		RULE_superinterfaces = 53, RULE_interfaceTypeList = 54, RULE_classBody = 55, 
+		RULE_classBodyDeclaration = 56, RULE_classMemberDeclaration = 57, RULE_fieldDeclaration = 58, 
+		RULE_fieldModifier = 59, RULE_variableDeclaratorList = 60, RULE_variableDeclarator = 61, 
+		RULE_variableDeclaratorId = 62, RULE_variableInitializer = 63, RULE_unannType = 64, 
+		RULE_unannPrimitiveType = 65, RULE_unannReferenceType = 66, RULE_unannClassOrInterfaceType = 67, 
+		RULE_unannClassType = 68, RULE_unannClassType_lf_unannClassOrInterfaceType = 69, 
+		RULE_unannClassType_lfno_unannClassOrInterfaceType = 70, RULE_unannInterfaceType = 71, 
+		RULE_unannInterfaceType_lf_unannClassOrInterfaceType = 72, RULE_unannInterfaceType_lfno_unannClassOrInterfaceType = 73, 
+		RULE_unannTypeVariable = 74, RULE_unannArrayType = 75, RULE_methodDeclaration = 76, 
+		RULE_methodModifier = 77, RULE_methodHeader = 78, RULE_result = 79, RULE_methodDeclarator = 80, 
+		RULE_formalParameterList = 81, RULE_formalParameters = 82, RULE_formalParameter = 83, 
+		RULE_variableModifier = 84, RULE_lastFormalParameter = 85, RULE_receiverParameter = 86, 
+		RULE_throws_ = 87, RULE_exceptionTypeList = 88, RULE_exceptionType = 89, 
+		RULE_methodBody = 90, RULE_instanceInitializer = 91, RULE_staticInitializer = 92, 
+		RULE_constructorDeclaration = 93, RULE_constructorModifier = 94, RULE_constructorDeclarator = 95, 
+		RULE_simpleTypeName = 96, RULE_constructorBody = 97, RULE_explicitConstructorInvocation = 98, 
+		RULE_enumDeclaration = 99, RULE_enumBody = 100, RULE_enumConstantList = 101, 
+		RULE_enumConstant = 102, RULE_enumConstantModifier = 103, RULE_enumBodyDeclarations = 104, 
+		RULE_interfaceDeclaration = 105, RULE_normalInterfaceDeclaration = 106, 
+		RULE_interfaceModifier = 107, RULE_extendsInterfaces = 108, RULE_interfaceBody = 109, 
+		RULE_interfaceMemberDeclaration = 110, RULE_constantDeclaration = 111, 
+		RULE_constantModifier = 112, RULE_interfaceMethodDeclaration = 113, RULE_interfaceMethodModifier = 114, 
+		RULE_annotationTypeDeclaration = 115, RULE_annotationTypeBody = 116, RULE_annotationTypeMemberDeclaration = 117, 
+		RULE_annotationTypeElementDeclaration = 118, RULE_annotationTypeElementModifier = 119, 
+		RULE_defaultValue = 120, RULE_annotation = 121, RULE_normalAnnotation = 122, 
+		RULE_elementValuePairList = 123, RULE_elementValuePair = 124, RULE_elementValue = 125, 
+		RULE_elementValueArrayInitializer = 126, RULE_elementValueList = 127, 
+		RULE_markerAnnotation = 128, RULE_singleElementAnnotation = 129, RULE_arrayInitializer = 130, 
+		RULE_variableInitializerList = 131, RULE_block = 132, RULE_blockStatements = 133, 
+		RULE_blockStatement = 134, RULE_localVariableDeclarationStatement = 135, 
+		RULE_localVariableDeclaration = 136, RULE_statement = 137, RULE_statementNoShortIf = 138, 
+		RULE_statementWithoutTrailingSubstatement = 139, RULE_emptyStatement = 140, 
+		RULE_labeledStatement = 141, RULE_labeledStatementNoShortIf = 142, RULE_expressionStatement = 143, 
+		RULE_statementExpression = 144, RULE_ifThenStatement = 145, RULE_ifThenElseStatement = 146, 
+		RULE_ifThenElseStatementNoShortIf = 147, RULE_assertStatement = 148, RULE_switchStatement = 149, 
+		RULE_switchBlock = 150, RULE_switchBlockStatementGroup = 151, RULE_switchLabels = 152, 
+		RULE_switchLabel = 153, RULE_enumConstantName = 154, RULE_whileStatement = 155, 
+		RULE_whileStatementNoShortIf = 156, RULE_doStatement = 157, RULE_forStatement = 158, 
+		RULE_forStatementNoShortIf = 159, RULE_basicForStatement = 160, RULE_basicForStatementNoShortIf = 161, 
+		RULE_forInit = 162, RULE_forUpdate = 163, RULE_statementExpressionList = 164, 
+		RULE_enhancedForStatement = 165, RULE_enhancedForStatementNoShortIf = 166, 
+		RULE_breakStatement = 167, RULE_continueStatement = 168, RULE_returnStatement = 169, 
+		RULE_throwStatement = 170, RULE_synchronizedStatement = 171, RULE_tryStatement = 172, 
+		RULE_catches = 173, RULE_catchClause = 174, RULE_catchFormalParameter = 175, 
+		RULE_catchType = 176, RULE_finally_ = 177, RULE_tryWithResourcesStatement = 178, 
+		RULE_resourceSpecification = 179, RULE_resourceList = 180, RULE_resource = 181, 
+		RULE_primary = 182, RULE_primaryNoNewArray = 183, RULE_primaryNoNewArray_lf_arrayAccess = 184, 
+		RULE_primaryNoNewArray_lfno_arrayAccess = 185, RULE_primaryNoNewArray_lf_primary = 186, 
+		RULE_primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary = 187, RULE_primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary = 188, 
+		RULE_primaryNoNewArray_lfno_primary = 189, RULE_primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary = 190, 
+		RULE_primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary = 191, 
+		RULE_classInstanceCreationExpression = 192, RULE_classInstanceCreationExpression_lf_primary = 193, 
+		RULE_classInstanceCreationExpression_lfno_primary = 194, RULE_typeArgumentsOrDiamond = 195, 
+		RULE_fieldAccess = 196, RULE_fieldAccess_lf_primary = 197, RULE_fieldAccess_lfno_primary = 198, 
+		RULE_arrayAccess = 199, RULE_arrayAccess_lf_primary = 200, RULE_arrayAccess_lfno_primary = 201, 
+		RULE_methodInvocation = 202, RULE_methodInvocation_lf_primary = 203, RULE_methodInvocation_lfno_primary = 204, 
+		RULE_argumentList = 205, RULE_methodReference = 206, RULE_methodReference_lf_primary = 207, 
+		RULE_methodReference_lfno_primary = 208, RULE_arrayCreationExpression = 209, 
+		RULE_dimExprs = 210, RULE_dimExpr = 211, RULE_constantExpression = 212, 
+		RULE_expression = 213, RULE_lambdaExpression = 214, RULE_lambdaParameters = 215, 
+		RULE_inferredFormalParameterList = 216, RULE_lambdaBody = 217, RULE_assignmentExpression = 218, 
+		RULE_assignment = 219, RULE_leftHandSide = 220, RULE_assignmentOperator = 221, 
+		RULE_conditionalExpression = 222, RULE_conditionalOrExpression = 223, 
+		RULE_conditionalAndExpression = 224, RULE_inclusiveOrExpression = 225, 
+		RULE_exclusiveOrExpression = 226, RULE_andExpression = 227, RULE_equalityExpression = 228, 
+		RULE_relationalExpression = 229, RULE_shiftExpression = 230, RULE_additiveExpression = 231, 
+		RULE_multiplicativeExpression = 232, RULE_unaryExpression = 233, RULE_preIncrementExpression = 234, 
+		RULE_preDecrementExpression = 235, RULE_unaryExpressionNotPlusMinus = 236, 
+		RULE_postfixExpression = 237, RULE_postIncrementExpression = 238, RULE_postIncrementExpression_lf_postfixExpression = 239, 
+		RULE_postDecrementExpression = 240, RULE_postDecrementExpression_lf_postfixExpression = 241, 
+		RULE_castExpression = 242;
 	public static final String[] ruleNames = {
 		"literal", "type", "primitiveType", "numericType", "integralType", "floatingPointType", 
 		"referenceType", "classOrInterfaceType", "classType", "classType_lf_classOrInterfaceType", 
@@ -130,7 +132,8 @@ public class Java8Parser extends Parser {
 		"dims", "typeParameter", "typeParameterModifier", "typeBound", "additionalBound", 
 		"typeArguments", "typeArgumentList", "typeArgument", "wildcard", "wildcardBounds", 
 		"packageName", "typeName", "packageOrTypeName", "expressionName", "methodName", 
-		"ambiguousName", "compilationUnit", "declaration", "singleStatement", 
+		"ambiguousName", "compilationUnit", "declarations", "singleStatements", 
+		"singleExpression", "classBodyDeclarations", "declaration", "singleStatement", 
 		"packageDeclaration", "packageModifier", "importDeclaration", "singleTypeImportDeclaration", 
 		"typeImportOnDemandDeclaration", "singleStaticImportDeclaration", "staticImportOnDemandDeclaration", 
 		"typeDeclaration", "classDeclaration", "normalClassDeclaration", "classModifier", 
@@ -306,7 +309,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(478);
+			setState(486);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -356,19 +359,19 @@ public class Java8Parser extends Parser {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_type);
 		try {
-			setState(482);
+			setState(490);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(480);
+				setState(488);
 				primitiveType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(481);
+				setState(489);
 				referenceType();
 				}
 				break;
@@ -419,47 +422,47 @@ public class Java8Parser extends Parser {
 		enterRule(_localctx, 4, RULE_primitiveType);
 		int _la;
 		try {
-			setState(498);
+			setState(506);
 			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(487);
+				setState(495);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(484);
+					setState(492);
 					annotation();
 					}
 					}
-					setState(489);
+					setState(497);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(490);
+				setState(498);
 				numericType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(494);
+				setState(502);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(491);
+					setState(499);
 					annotation();
 					}
 					}
-					setState(496);
+					setState(504);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(497);
+				setState(505);
 				match(BOOLEAN);
 				}
 				break;
@@ -506,7 +509,7 @@ public class Java8Parser extends Parser {
 		NumericTypeContext _localctx = new NumericTypeContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_numericType);
 		try {
-			setState(502);
+			setState(510);
 			switch (_input.LA(1)) {
 			case BYTE:
 			case CHAR:
@@ -515,7 +518,7 @@ public class Java8Parser extends Parser {
 			case SHORT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(500);
+				setState(508);
 				integralType();
 				}
 				break;
@@ -523,7 +526,7 @@ public class Java8Parser extends Parser {
 			case FLOAT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(501);
+				setState(509);
 				floatingPointType();
 				}
 				break;
@@ -569,7 +572,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(504);
+			setState(512);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BYTE) | (1L << CHAR) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -616,7 +619,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(506);
+			setState(514);
 			_la = _input.LA(1);
 			if ( !(_la==DOUBLE || _la==FLOAT) ) {
 			_errHandler.recoverInline(this);
@@ -669,26 +672,26 @@ public class Java8Parser extends Parser {
 		ReferenceTypeContext _localctx = new ReferenceTypeContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_referenceType);
 		try {
-			setState(511);
+			setState(519);
 			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(508);
+				setState(516);
 				classOrInterfaceType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(509);
+				setState(517);
 				typeVariable();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(510);
+				setState(518);
 				arrayType();
 				}
 				break;
@@ -750,45 +753,45 @@ public class Java8Parser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(515);
+			setState(523);
 			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
 				{
-				setState(513);
+				setState(521);
 				classType_lfno_classOrInterfaceType();
 				}
 				break;
 			case 2:
 				{
-				setState(514);
+				setState(522);
 				interfaceType_lfno_classOrInterfaceType();
 				}
 				break;
 			}
-			setState(521);
+			setState(529);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(519);
+					setState(527);
 					switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
 					case 1:
 						{
-						setState(517);
+						setState(525);
 						classType_lf_classOrInterfaceType();
 						}
 						break;
 					case 2:
 						{
-						setState(518);
+						setState(526);
 						interfaceType_lf_classOrInterfaceType();
 						}
 						break;
 					}
 					} 
 				}
-				setState(523);
+				setState(531);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
 			}
@@ -843,32 +846,32 @@ public class Java8Parser extends Parser {
 		enterRule(_localctx, 16, RULE_classType);
 		int _la;
 		try {
-			setState(546);
+			setState(554);
 			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(527);
+				setState(535);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(524);
+					setState(532);
 					annotation();
 					}
 					}
-					setState(529);
+					setState(537);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(530);
+				setState(538);
 				match(Identifier);
-				setState(532);
+				setState(540);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(531);
+					setState(539);
 					typeArguments();
 					}
 				}
@@ -878,31 +881,31 @@ public class Java8Parser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(534);
+				setState(542);
 				classOrInterfaceType();
-				setState(535);
+				setState(543);
 				match(DOT);
-				setState(539);
+				setState(547);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(536);
+					setState(544);
 					annotation();
 					}
 					}
-					setState(541);
+					setState(549);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(542);
+				setState(550);
 				match(Identifier);
-				setState(544);
+				setState(552);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(543);
+					setState(551);
 					typeArguments();
 					}
 				}
@@ -959,29 +962,29 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(548);
+			setState(556);
 			match(DOT);
-			setState(552);
+			setState(560);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(549);
+				setState(557);
 				annotation();
 				}
 				}
-				setState(554);
+				setState(562);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(555);
+			setState(563);
 			match(Identifier);
-			setState(557);
+			setState(565);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				{
-				setState(556);
+				setState(564);
 				typeArguments();
 				}
 				break;
@@ -1036,27 +1039,27 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(562);
+			setState(570);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(559);
+				setState(567);
 				annotation();
 				}
 				}
-				setState(564);
+				setState(572);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(565);
+			setState(573);
 			match(Identifier);
-			setState(567);
+			setState(575);
 			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
 			case 1:
 				{
-				setState(566);
+				setState(574);
 				typeArguments();
 				}
 				break;
@@ -1103,7 +1106,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(569);
+			setState(577);
 			classType();
 			}
 		}
@@ -1147,7 +1150,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(571);
+			setState(579);
 			classType_lf_classOrInterfaceType();
 			}
 		}
@@ -1191,7 +1194,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(573);
+			setState(581);
 			classType_lfno_classOrInterfaceType();
 			}
 		}
@@ -1240,21 +1243,21 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(578);
+			setState(586);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(575);
+				setState(583);
 				annotation();
 				}
 				}
-				setState(580);
+				setState(588);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(581);
+			setState(589);
 			match(Identifier);
 			}
 		}
@@ -1305,32 +1308,32 @@ public class Java8Parser extends Parser {
 		ArrayTypeContext _localctx = new ArrayTypeContext(_ctx, getState());
 		enterRule(_localctx, 30, RULE_arrayType);
 		try {
-			setState(592);
+			setState(600);
 			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(583);
+				setState(591);
 				primitiveType();
-				setState(584);
+				setState(592);
 				dims();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(586);
+				setState(594);
 				classOrInterfaceType();
-				setState(587);
+				setState(595);
 				dims();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(589);
+				setState(597);
 				typeVariable();
-				setState(590);
+				setState(598);
 				dims();
 				}
 				break;
@@ -1381,53 +1384,53 @@ public class Java8Parser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(597);
+			setState(605);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(594);
+				setState(602);
 				annotation();
 				}
 				}
-				setState(599);
+				setState(607);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(600);
+			setState(608);
 			match(LBRACK);
-			setState(601);
+			setState(609);
 			match(RBRACK);
-			setState(612);
+			setState(620);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(605);
+					setState(613);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==AT) {
 						{
 						{
-						setState(602);
+						setState(610);
 						annotation();
 						}
 						}
-						setState(607);
+						setState(615);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(608);
+					setState(616);
 					match(LBRACK);
-					setState(609);
+					setState(617);
 					match(RBRACK);
 					}
 					} 
 				}
-				setState(614);
+				setState(622);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			}
@@ -1481,27 +1484,27 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(618);
+			setState(626);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(615);
+				setState(623);
 				typeParameterModifier();
 				}
 				}
-				setState(620);
+				setState(628);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(621);
+			setState(629);
 			match(Identifier);
-			setState(623);
+			setState(631);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(622);
+				setState(630);
 				typeBound();
 				}
 			}
@@ -1548,7 +1551,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(625);
+			setState(633);
 			annotation();
 			}
 		}
@@ -1600,35 +1603,35 @@ public class Java8Parser extends Parser {
 		enterRule(_localctx, 38, RULE_typeBound);
 		int _la;
 		try {
-			setState(637);
+			setState(645);
 			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(627);
+				setState(635);
 				match(EXTENDS);
-				setState(628);
+				setState(636);
 				typeVariable();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(629);
+				setState(637);
 				match(EXTENDS);
-				setState(630);
+				setState(638);
 				classOrInterfaceType();
-				setState(634);
+				setState(642);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==BITAND) {
 					{
 					{
-					setState(631);
+					setState(639);
 					additionalBound();
 					}
 					}
-					setState(636);
+					setState(644);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1676,9 +1679,9 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(639);
+			setState(647);
 			match(BITAND);
-			setState(640);
+			setState(648);
 			interfaceType();
 			}
 		}
@@ -1722,11 +1725,11 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(642);
+			setState(650);
 			match(LT);
-			setState(643);
+			setState(651);
 			typeArgumentList();
-			setState(644);
+			setState(652);
 			match(GT);
 			}
 		}
@@ -1774,21 +1777,21 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(646);
+			setState(654);
 			typeArgument();
-			setState(651);
+			setState(659);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(647);
+				setState(655);
 				match(COMMA);
-				setState(648);
+				setState(656);
 				typeArgument();
 				}
 				}
-				setState(653);
+				setState(661);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1835,19 +1838,19 @@ public class Java8Parser extends Parser {
 		TypeArgumentContext _localctx = new TypeArgumentContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_typeArgument);
 		try {
-			setState(656);
+			setState(664);
 			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(654);
+				setState(662);
 				referenceType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(655);
+				setState(663);
 				wildcard();
 				}
 				break;
@@ -1900,27 +1903,27 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(661);
+			setState(669);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(658);
+				setState(666);
 				annotation();
 				}
 				}
-				setState(663);
+				setState(671);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(664);
+			setState(672);
 			match(QUESTION);
-			setState(666);
+			setState(674);
 			_la = _input.LA(1);
 			if (_la==EXTENDS || _la==SUPER) {
 				{
-				setState(665);
+				setState(673);
 				wildcardBounds();
 				}
 			}
@@ -1965,23 +1968,23 @@ public class Java8Parser extends Parser {
 		WildcardBoundsContext _localctx = new WildcardBoundsContext(_ctx, getState());
 		enterRule(_localctx, 50, RULE_wildcardBounds);
 		try {
-			setState(672);
+			setState(680);
 			switch (_input.LA(1)) {
 			case EXTENDS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(668);
+				setState(676);
 				match(EXTENDS);
-				setState(669);
+				setState(677);
 				referenceType();
 				}
 				break;
 			case SUPER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(670);
+				setState(678);
 				match(SUPER);
-				setState(671);
+				setState(679);
 				referenceType();
 				}
 				break;
@@ -2040,11 +2043,11 @@ public class Java8Parser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(675);
+			setState(683);
 			match(Identifier);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(682);
+			setState(690);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2055,16 +2058,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new PackageNameContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_packageName);
-					setState(677);
+					setState(685);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(678);
+					setState(686);
 					match(DOT);
-					setState(679);
+					setState(687);
 					match(Identifier);
 					}
 					} 
 				}
-				setState(684);
+				setState(692);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 			}
@@ -2109,23 +2112,23 @@ public class Java8Parser extends Parser {
 		TypeNameContext _localctx = new TypeNameContext(_ctx, getState());
 		enterRule(_localctx, 54, RULE_typeName);
 		try {
-			setState(690);
+			setState(698);
 			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(685);
+				setState(693);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(686);
+				setState(694);
 				packageOrTypeName(0);
-				setState(687);
+				setState(695);
 				match(DOT);
-				setState(688);
+				setState(696);
 				match(Identifier);
 				}
 				break;
@@ -2182,11 +2185,11 @@ public class Java8Parser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(693);
+			setState(701);
 			match(Identifier);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(700);
+			setState(708);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2197,16 +2200,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new PackageOrTypeNameContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_packageOrTypeName);
-					setState(695);
+					setState(703);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(696);
+					setState(704);
 					match(DOT);
-					setState(697);
+					setState(705);
 					match(Identifier);
 					}
 					} 
 				}
-				setState(702);
+				setState(710);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
 			}
@@ -2251,23 +2254,23 @@ public class Java8Parser extends Parser {
 		ExpressionNameContext _localctx = new ExpressionNameContext(_ctx, getState());
 		enterRule(_localctx, 58, RULE_expressionName);
 		try {
-			setState(708);
+			setState(716);
 			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(703);
+				setState(711);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(704);
+				setState(712);
 				ambiguousName(0);
-				setState(705);
+				setState(713);
 				match(DOT);
-				setState(706);
+				setState(714);
 				match(Identifier);
 				}
 				break;
@@ -2311,7 +2314,7 @@ public class Java8Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(710);
+			setState(718);
 			match(Identifier);
 			}
 		}
@@ -2366,11 +2369,11 @@ public class Java8Parser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(713);
+			setState(721);
 			match(Identifier);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(720);
+			setState(728);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2381,16 +2384,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new AmbiguousNameContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_ambiguousName);
-					setState(715);
+					setState(723);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(716);
+					setState(724);
 					match(DOT);
-					setState(717);
+					setState(725);
 					match(Identifier);
 					}
 					} 
 				}
-				setState(722);
+				setState(730);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 			}
@@ -2408,18 +2411,6 @@ public class Java8Parser extends Parser {
 	}
 
 	public static class CompilationUnitContext extends ParserRuleContext {
-		public List<DeclarationContext> declaration() {
-			return getRuleContexts(DeclarationContext.class);
-		}
-		public DeclarationContext declaration(int i) {
-			return getRuleContext(DeclarationContext.class,i);
-		}
-		public List<SingleStatementContext> singleStatement() {
-			return getRuleContexts(SingleStatementContext.class);
-		}
-		public SingleStatementContext singleStatement(int i) {
-			return getRuleContext(SingleStatementContext.class,i);
-		}
 		public TerminalNode EOF() { return getToken(Java8Parser.EOF, 0); }
 		public PackageDeclarationContext packageDeclaration() {
 			return getRuleContext(PackageDeclarationContext.class,0);
@@ -2460,92 +2451,47 @@ public class Java8Parser extends Parser {
 		enterRule(_localctx, 64, RULE_compilationUnit);
 		int _la;
 		try {
-			setState(749);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(732);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(724); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					{
-					setState(723);
-					declaration();
-					}
-					}
-					setState(726); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0) );
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
 				{
-				setState(729); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					{
-					setState(728);
-					singleStatement();
-					}
-					}
-					setState(731); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << RETURN) | (1L << SHORT) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0) );
+				setState(731);
+				packageDeclaration();
 				}
 				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
+			}
+			setState(737);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
 				{
 				{
 				setState(734);
-				switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
-				case 1:
-					{
-					setState(733);
-					packageDeclaration();
-					}
-					break;
+				importDeclaration();
+				}
 				}
 				setState(739);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==IMPORT) {
-					{
-					{
-					setState(736);
-					importDeclaration();
-					}
-					}
-					setState(741);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
+			}
+			setState(743);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << CLASS) | (1L << ENUM) | (1L << FINAL) | (1L << INTERFACE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==AT) {
+				{
+				{
+				setState(740);
+				typeDeclaration();
+				}
 				}
 				setState(745);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << CLASS) | (1L << ENUM) | (1L << FINAL) | (1L << INTERFACE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==AT) {
-					{
-					{
-					setState(742);
-					typeDeclaration();
-					}
-					}
-					setState(747);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				}
-				setState(748);
-				match(EOF);
-				}
-				break;
+			}
+			setState(746);
+			match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2559,52 +2505,56 @@ public class Java8Parser extends Parser {
 		return _localctx;
 	}
 
-	public static class DeclarationContext extends ParserRuleContext {
-		public MethodDeclarationContext methodDeclaration() {
-			return getRuleContext(MethodDeclarationContext.class,0);
+	public static class DeclarationsContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(Java8Parser.EOF, 0); }
+		public List<DeclarationContext> declaration() {
+			return getRuleContexts(DeclarationContext.class);
 		}
-		public FieldDeclarationContext fieldDeclaration() {
-			return getRuleContext(FieldDeclarationContext.class,0);
+		public DeclarationContext declaration(int i) {
+			return getRuleContext(DeclarationContext.class,i);
 		}
-		public DeclarationContext(ParserRuleContext parent, int invokingState) {
+		public DeclarationsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_declaration; }
+		@Override public int getRuleIndex() { return RULE_declarations; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterDeclaration(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterDeclarations(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitDeclaration(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitDeclarations(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitDeclaration(this);
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitDeclarations(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final DeclarationContext declaration() throws RecognitionException {
-		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_declaration);
+	public final DeclarationsContext declarations() throws RecognitionException {
+		DeclarationsContext _localctx = new DeclarationsContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_declarations);
+		int _la;
 		try {
-			setState(753);
-			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(749); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
 				{
-				setState(751);
-				methodDeclaration();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
 				{
-				setState(752);
-				fieldDeclaration();
+				setState(748);
+				declaration();
 				}
-				break;
+				}
+				setState(751); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0) );
+			setState(753);
+			match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2618,52 +2568,56 @@ public class Java8Parser extends Parser {
 		return _localctx;
 	}
 
-	public static class SingleStatementContext extends ParserRuleContext {
-		public StatementContext statement() {
-			return getRuleContext(StatementContext.class,0);
+	public static class SingleStatementsContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(Java8Parser.EOF, 0); }
+		public List<SingleStatementContext> singleStatement() {
+			return getRuleContexts(SingleStatementContext.class);
 		}
-		public LocalVariableDeclarationStatementContext localVariableDeclarationStatement() {
-			return getRuleContext(LocalVariableDeclarationStatementContext.class,0);
+		public SingleStatementContext singleStatement(int i) {
+			return getRuleContext(SingleStatementContext.class,i);
 		}
-		public SingleStatementContext(ParserRuleContext parent, int invokingState) {
+		public SingleStatementsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_singleStatement; }
+		@Override public int getRuleIndex() { return RULE_singleStatements; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterSingleStatement(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterSingleStatements(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitSingleStatement(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitSingleStatements(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitSingleStatement(this);
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitSingleStatements(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final SingleStatementContext singleStatement() throws RecognitionException {
-		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_singleStatement);
+	public final SingleStatementsContext singleStatements() throws RecognitionException {
+		SingleStatementsContext _localctx = new SingleStatementsContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_singleStatements);
+		int _la;
 		try {
-			setState(757);
-			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(756); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
 				{
 				setState(755);
-				statement();
+				singleStatement();
 				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(756);
-				localVariableDeclarationStatement();
 				}
-				break;
+				setState(758); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << RETURN) | (1L << SHORT) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0) );
+			setState(760);
+			match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2677,79 +2631,40 @@ public class Java8Parser extends Parser {
 		return _localctx;
 	}
 
-	public static class PackageDeclarationContext extends ParserRuleContext {
-		public List<TerminalNode> Identifier() { return getTokens(Java8Parser.Identifier); }
-		public TerminalNode Identifier(int i) {
-			return getToken(Java8Parser.Identifier, i);
-		}
-		public List<PackageModifierContext> packageModifier() {
-			return getRuleContexts(PackageModifierContext.class);
-		}
-		public PackageModifierContext packageModifier(int i) {
-			return getRuleContext(PackageModifierContext.class,i);
+	public static class SingleExpressionContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode EOF() { return getToken(Java8Parser.EOF, 0); }
+		public SingleExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override public int getRuleIndex() { return RULE_singleExpression; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterPackageDeclaration(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterSingleExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitPackageDeclaration(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitSingleExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitPackageDeclaration(this);
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitSingleExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
-		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_packageDeclaration);
-		int _la;
+	public final SingleExpressionContext singleExpression() throws RecognitionException {
+		SingleExpressionContext _localctx = new SingleExpressionContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_singleExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			setState(762);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==AT) {
-				{
-				{
-				setState(759);
-				packageModifier();
-				}
-				}
-				setState(764);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(765);
-			match(PACKAGE);
-			setState(766);
-			match(Identifier);
-			setState(771);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==DOT) {
-				{
-				{
-				setState(767);
-				match(DOT);
-				setState(768);
-				match(Identifier);
-				}
-				}
-				setState(773);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(774);
-			match(SEMI);
+			expression();
+			setState(763);
+			match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2763,36 +2678,303 @@ public class Java8Parser extends Parser {
 		return _localctx;
 	}
 
-	public static class PackageModifierContext extends ParserRuleContext {
-		public AnnotationContext annotation() {
-			return getRuleContext(AnnotationContext.class,0);
+	public static class ClassBodyDeclarationsContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(Java8Parser.EOF, 0); }
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
 		}
-		public PackageModifierContext(ParserRuleContext parent, int invokingState) {
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public ClassBodyDeclarationsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_packageModifier; }
+		@Override public int getRuleIndex() { return RULE_classBodyDeclarations; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterPackageModifier(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterClassBodyDeclarations(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitPackageModifier(this);
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitClassBodyDeclarations(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitPackageModifier(this);
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitClassBodyDeclarations(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final PackageModifierContext packageModifier() throws RecognitionException {
+	public final ClassBodyDeclarationsContext classBodyDeclarations() throws RecognitionException {
+		ClassBodyDeclarationsContext _localctx = new ClassBodyDeclarationsContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_classBodyDeclarations);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(768);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(765);
+				classBodyDeclaration();
+				}
+				}
+				setState(770);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(771);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DeclarationContext extends ParserRuleContext {
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public FieldDeclarationContext fieldDeclaration() {
+			return getRuleContext(FieldDeclarationContext.class,0);
+		}
+		public DeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_declaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DeclarationContext declaration() throws RecognitionException {
+		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_declaration);
+		try {
+			setState(775);
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(773);
+				methodDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(774);
+				fieldDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SingleStatementContext extends ParserRuleContext {
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public LocalVariableDeclarationStatementContext localVariableDeclarationStatement() {
+			return getRuleContext(LocalVariableDeclarationStatementContext.class,0);
+		}
+		public SingleStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterSingleStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitSingleStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitSingleStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SingleStatementContext singleStatement() throws RecognitionException {
+		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_singleStatement);
+		try {
+			setState(779);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(777);
+				statement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(778);
+				localVariableDeclarationStatement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageDeclarationContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(Java8Parser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(Java8Parser.Identifier, i);
+		}
+		public List<PackageModifierContext> packageModifier() {
+			return getRuleContexts(PackageModifierContext.class);
+		}
+		public PackageModifierContext packageModifier(int i) {
+			return getRuleContext(PackageModifierContext.class,i);
+		}
+		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterPackageDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitPackageDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitPackageDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
+		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_packageDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(784);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(781);
+				packageModifier();
+				}
+				}
+				setState(786);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(787);
+			match(PACKAGE);
+			setState(788);
+			match(Identifier);
+			setState(793);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DOT) {
+				{
+				{
+				setState(789);
+				match(DOT);
+				setState(790);
+				match(Identifier);
+				}
+				}
+				setState(795);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(796);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageModifierContext extends ParserRuleContext {
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public PackageModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).enterPackageModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof Java8Listener ) ((Java8Listener)listener).exitPackageModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof Java8Visitor ) return ((Java8Visitor<? extends T>)visitor).visitPackageModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageModifierContext packageModifier() throws RecognitionException {
 		PackageModifierContext _localctx = new PackageModifierContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_packageModifier);
+		enterRule(_localctx, 80, RULE_packageModifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(776);
+			setState(798);
 			annotation();
 			}
 		}
@@ -2841,35 +3023,35 @@ public class Java8Parser extends Parser {
 
 	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
 		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_importDeclaration);
+		enterRule(_localctx, 82, RULE_importDeclaration);
 		try {
-			setState(782);
+			setState(804);
 			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(778);
+				setState(800);
 				singleTypeImportDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(779);
+				setState(801);
 				typeImportOnDemandDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(780);
+				setState(802);
 				singleStaticImportDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(781);
+				setState(803);
 				staticImportOnDemandDeclaration();
 				}
 				break;
@@ -2911,15 +3093,15 @@ public class Java8Parser extends Parser {
 
 	public final SingleTypeImportDeclarationContext singleTypeImportDeclaration() throws RecognitionException {
 		SingleTypeImportDeclarationContext _localctx = new SingleTypeImportDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_singleTypeImportDeclaration);
+		enterRule(_localctx, 84, RULE_singleTypeImportDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(784);
+			setState(806);
 			match(IMPORT);
-			setState(785);
+			setState(807);
 			typeName();
-			setState(786);
+			setState(808);
 			match(SEMI);
 			}
 		}
@@ -2959,19 +3141,19 @@ public class Java8Parser extends Parser {
 
 	public final TypeImportOnDemandDeclarationContext typeImportOnDemandDeclaration() throws RecognitionException {
 		TypeImportOnDemandDeclarationContext _localctx = new TypeImportOnDemandDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_typeImportOnDemandDeclaration);
+		enterRule(_localctx, 86, RULE_typeImportOnDemandDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(788);
+			setState(810);
 			match(IMPORT);
-			setState(789);
+			setState(811);
 			packageOrTypeName(0);
-			setState(790);
+			setState(812);
 			match(DOT);
-			setState(791);
+			setState(813);
 			match(MUL);
-			setState(792);
+			setState(814);
 			match(SEMI);
 			}
 		}
@@ -3012,21 +3194,21 @@ public class Java8Parser extends Parser {
 
 	public final SingleStaticImportDeclarationContext singleStaticImportDeclaration() throws RecognitionException {
 		SingleStaticImportDeclarationContext _localctx = new SingleStaticImportDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_singleStaticImportDeclaration);
+		enterRule(_localctx, 88, RULE_singleStaticImportDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(794);
+			setState(816);
 			match(IMPORT);
-			setState(795);
+			setState(817);
 			match(STATIC);
-			setState(796);
+			setState(818);
 			typeName();
-			setState(797);
+			setState(819);
 			match(DOT);
-			setState(798);
+			setState(820);
 			match(Identifier);
-			setState(799);
+			setState(821);
 			match(SEMI);
 			}
 		}
@@ -3066,21 +3248,21 @@ public class Java8Parser extends Parser {
 
 	public final StaticImportOnDemandDeclarationContext staticImportOnDemandDeclaration() throws RecognitionException {
 		StaticImportOnDemandDeclarationContext _localctx = new StaticImportOnDemandDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_staticImportOnDemandDeclaration);
+		enterRule(_localctx, 90, RULE_staticImportOnDemandDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(801);
+			setState(823);
 			match(IMPORT);
-			setState(802);
+			setState(824);
 			match(STATIC);
-			setState(803);
+			setState(825);
 			typeName();
-			setState(804);
+			setState(826);
 			match(DOT);
-			setState(805);
+			setState(827);
 			match(MUL);
-			setState(806);
+			setState(828);
 			match(SEMI);
 			}
 		}
@@ -3123,28 +3305,28 @@ public class Java8Parser extends Parser {
 
 	public final TypeDeclarationContext typeDeclaration() throws RecognitionException {
 		TypeDeclarationContext _localctx = new TypeDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_typeDeclaration);
+		enterRule(_localctx, 92, RULE_typeDeclaration);
 		try {
-			setState(811);
+			setState(833);
 			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(808);
+				setState(830);
 				classDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(809);
+				setState(831);
 				interfaceDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(810);
+				setState(832);
 				match(SEMI);
 				}
 				break;
@@ -3189,21 +3371,21 @@ public class Java8Parser extends Parser {
 
 	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
 		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_classDeclaration);
+		enterRule(_localctx, 94, RULE_classDeclaration);
 		try {
-			setState(815);
+			setState(837);
 			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(813);
+				setState(835);
 				normalClassDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(814);
+				setState(836);
 				enumDeclaration();
 				}
 				break;
@@ -3261,57 +3443,57 @@ public class Java8Parser extends Parser {
 
 	public final NormalClassDeclarationContext normalClassDeclaration() throws RecognitionException {
 		NormalClassDeclarationContext _localctx = new NormalClassDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_normalClassDeclaration);
+		enterRule(_localctx, 96, RULE_normalClassDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(820);
+			setState(842);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 				{
 				{
-				setState(817);
+				setState(839);
 				classModifier();
 				}
 				}
-				setState(822);
+				setState(844);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(823);
+			setState(845);
 			match(CLASS);
-			setState(824);
+			setState(846);
 			match(Identifier);
-			setState(826);
+			setState(848);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(825);
+				setState(847);
 				typeParameters();
 				}
 			}
 
-			setState(829);
+			setState(851);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(828);
+				setState(850);
 				superclass();
 				}
 			}
 
-			setState(832);
+			setState(854);
 			_la = _input.LA(1);
 			if (_la==IMPLEMENTS) {
 				{
-				setState(831);
+				setState(853);
 				superinterfaces();
 				}
 			}
 
-			setState(834);
+			setState(856);
 			classBody();
 			}
 		}
@@ -3351,63 +3533,63 @@ public class Java8Parser extends Parser {
 
 	public final ClassModifierContext classModifier() throws RecognitionException {
 		ClassModifierContext _localctx = new ClassModifierContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_classModifier);
+		enterRule(_localctx, 98, RULE_classModifier);
 		try {
-			setState(844);
+			setState(866);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(836);
+				setState(858);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(837);
+				setState(859);
 				match(PUBLIC);
 				}
 				break;
 			case PROTECTED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(838);
+				setState(860);
 				match(PROTECTED);
 				}
 				break;
 			case PRIVATE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(839);
+				setState(861);
 				match(PRIVATE);
 				}
 				break;
 			case ABSTRACT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(840);
+				setState(862);
 				match(ABSTRACT);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(841);
+				setState(863);
 				match(STATIC);
 				}
 				break;
 			case FINAL:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(842);
+				setState(864);
 				match(FINAL);
 				}
 				break;
 			case STRICTFP:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(843);
+				setState(865);
 				match(STRICTFP);
 				}
 				break;
@@ -3451,15 +3633,15 @@ public class Java8Parser extends Parser {
 
 	public final TypeParametersContext typeParameters() throws RecognitionException {
 		TypeParametersContext _localctx = new TypeParametersContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_typeParameters);
+		enterRule(_localctx, 100, RULE_typeParameters);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(846);
+			setState(868);
 			match(LT);
-			setState(847);
+			setState(869);
 			typeParameterList();
-			setState(848);
+			setState(870);
 			match(GT);
 			}
 		}
@@ -3502,26 +3684,26 @@ public class Java8Parser extends Parser {
 
 	public final TypeParameterListContext typeParameterList() throws RecognitionException {
 		TypeParameterListContext _localctx = new TypeParameterListContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_typeParameterList);
+		enterRule(_localctx, 102, RULE_typeParameterList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(850);
+			setState(872);
 			typeParameter();
-			setState(855);
+			setState(877);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(851);
+				setState(873);
 				match(COMMA);
-				setState(852);
+				setState(874);
 				typeParameter();
 				}
 				}
-				setState(857);
+				setState(879);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3563,13 +3745,13 @@ public class Java8Parser extends Parser {
 
 	public final SuperclassContext superclass() throws RecognitionException {
 		SuperclassContext _localctx = new SuperclassContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_superclass);
+		enterRule(_localctx, 104, RULE_superclass);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(858);
+			setState(880);
 			match(EXTENDS);
-			setState(859);
+			setState(881);
 			classType();
 			}
 		}
@@ -3609,13 +3791,13 @@ public class Java8Parser extends Parser {
 
 	public final SuperinterfacesContext superinterfaces() throws RecognitionException {
 		SuperinterfacesContext _localctx = new SuperinterfacesContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_superinterfaces);
+		enterRule(_localctx, 106, RULE_superinterfaces);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(861);
+			setState(883);
 			match(IMPLEMENTS);
-			setState(862);
+			setState(884);
 			interfaceTypeList();
 			}
 		}
@@ -3658,26 +3840,26 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceTypeListContext interfaceTypeList() throws RecognitionException {
 		InterfaceTypeListContext _localctx = new InterfaceTypeListContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_interfaceTypeList);
+		enterRule(_localctx, 108, RULE_interfaceTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(864);
+			setState(886);
 			interfaceType();
-			setState(869);
+			setState(891);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(865);
+				setState(887);
 				match(COMMA);
-				setState(866);
+				setState(888);
 				interfaceType();
 				}
 				}
-				setState(871);
+				setState(893);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3722,28 +3904,28 @@ public class Java8Parser extends Parser {
 
 	public final ClassBodyContext classBody() throws RecognitionException {
 		ClassBodyContext _localctx = new ClassBodyContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_classBody);
+		enterRule(_localctx, 110, RULE_classBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(872);
+			setState(894);
 			match(LBRACE);
-			setState(876);
+			setState(898);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(873);
+				setState(895);
 				classBodyDeclaration();
 				}
 				}
-				setState(878);
+				setState(900);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(879);
+			setState(901);
 			match(RBRACE);
 			}
 		}
@@ -3792,35 +3974,35 @@ public class Java8Parser extends Parser {
 
 	public final ClassBodyDeclarationContext classBodyDeclaration() throws RecognitionException {
 		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_classBodyDeclaration);
+		enterRule(_localctx, 112, RULE_classBodyDeclaration);
 		try {
-			setState(885);
+			setState(907);
 			switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(881);
+				setState(903);
 				classMemberDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(882);
+				setState(904);
 				instanceInitializer();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(883);
+				setState(905);
 				staticInitializer();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(884);
+				setState(906);
 				constructorDeclaration();
 				}
 				break;
@@ -3871,42 +4053,42 @@ public class Java8Parser extends Parser {
 
 	public final ClassMemberDeclarationContext classMemberDeclaration() throws RecognitionException {
 		ClassMemberDeclarationContext _localctx = new ClassMemberDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_classMemberDeclaration);
+		enterRule(_localctx, 114, RULE_classMemberDeclaration);
 		try {
-			setState(892);
+			setState(914);
 			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(887);
+				setState(909);
 				fieldDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(888);
+				setState(910);
 				methodDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(889);
+				setState(911);
 				classDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(890);
+				setState(912);
 				interfaceDeclaration();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(891);
+				setState(913);
 				match(SEMI);
 				}
 				break;
@@ -3957,30 +4139,30 @@ public class Java8Parser extends Parser {
 
 	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
 		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_fieldDeclaration);
+		enterRule(_localctx, 116, RULE_fieldDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(897);
+			setState(919);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << TRANSIENT) | (1L << VOLATILE))) != 0) || _la==AT) {
 				{
 				{
-				setState(894);
+				setState(916);
 				fieldModifier();
 				}
 				}
-				setState(899);
+				setState(921);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(900);
+			setState(922);
 			unannType();
-			setState(901);
+			setState(923);
 			variableDeclaratorList();
-			setState(902);
+			setState(924);
 			match(SEMI);
 			}
 		}
@@ -4020,63 +4202,63 @@ public class Java8Parser extends Parser {
 
 	public final FieldModifierContext fieldModifier() throws RecognitionException {
 		FieldModifierContext _localctx = new FieldModifierContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_fieldModifier);
+		enterRule(_localctx, 118, RULE_fieldModifier);
 		try {
-			setState(912);
+			setState(934);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(904);
+				setState(926);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(905);
+				setState(927);
 				match(PUBLIC);
 				}
 				break;
 			case PROTECTED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(906);
+				setState(928);
 				match(PROTECTED);
 				}
 				break;
 			case PRIVATE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(907);
+				setState(929);
 				match(PRIVATE);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(908);
+				setState(930);
 				match(STATIC);
 				}
 				break;
 			case FINAL:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(909);
+				setState(931);
 				match(FINAL);
 				}
 				break;
 			case TRANSIENT:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(910);
+				setState(932);
 				match(TRANSIENT);
 				}
 				break;
 			case VOLATILE:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(911);
+				setState(933);
 				match(VOLATILE);
 				}
 				break;
@@ -4123,26 +4305,26 @@ public class Java8Parser extends Parser {
 
 	public final VariableDeclaratorListContext variableDeclaratorList() throws RecognitionException {
 		VariableDeclaratorListContext _localctx = new VariableDeclaratorListContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_variableDeclaratorList);
+		enterRule(_localctx, 120, RULE_variableDeclaratorList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(914);
+			setState(936);
 			variableDeclarator();
-			setState(919);
+			setState(941);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(915);
+				setState(937);
 				match(COMMA);
-				setState(916);
+				setState(938);
 				variableDeclarator();
 				}
 				}
-				setState(921);
+				setState(943);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4187,20 +4369,20 @@ public class Java8Parser extends Parser {
 
 	public final VariableDeclaratorContext variableDeclarator() throws RecognitionException {
 		VariableDeclaratorContext _localctx = new VariableDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_variableDeclarator);
+		enterRule(_localctx, 122, RULE_variableDeclarator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(922);
+			setState(944);
 			variableDeclaratorId();
-			setState(925);
+			setState(947);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(923);
+				setState(945);
 				match(ASSIGN);
-				setState(924);
+				setState(946);
 				variableInitializer();
 				}
 			}
@@ -4244,18 +4426,18 @@ public class Java8Parser extends Parser {
 
 	public final VariableDeclaratorIdContext variableDeclaratorId() throws RecognitionException {
 		VariableDeclaratorIdContext _localctx = new VariableDeclaratorIdContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_variableDeclaratorId);
+		enterRule(_localctx, 124, RULE_variableDeclaratorId);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(927);
+			setState(949);
 			match(Identifier);
-			setState(929);
+			setState(951);
 			_la = _input.LA(1);
 			if (_la==LBRACK || _la==AT) {
 				{
-				setState(928);
+				setState(950);
 				dims();
 				}
 			}
@@ -4301,9 +4483,9 @@ public class Java8Parser extends Parser {
 
 	public final VariableInitializerContext variableInitializer() throws RecognitionException {
 		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_variableInitializer);
+		enterRule(_localctx, 126, RULE_variableInitializer);
 		try {
-			setState(933);
+			setState(955);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -4334,14 +4516,14 @@ public class Java8Parser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(931);
+				setState(953);
 				expression();
 				}
 				break;
 			case LBRACE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(932);
+				setState(954);
 				arrayInitializer();
 				}
 				break;
@@ -4388,21 +4570,21 @@ public class Java8Parser extends Parser {
 
 	public final UnannTypeContext unannType() throws RecognitionException {
 		UnannTypeContext _localctx = new UnannTypeContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_unannType);
+		enterRule(_localctx, 128, RULE_unannType);
 		try {
-			setState(937);
+			setState(959);
 			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(935);
+				setState(957);
 				unannPrimitiveType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(936);
+				setState(958);
 				unannReferenceType();
 				}
 				break;
@@ -4444,9 +4626,9 @@ public class Java8Parser extends Parser {
 
 	public final UnannPrimitiveTypeContext unannPrimitiveType() throws RecognitionException {
 		UnannPrimitiveTypeContext _localctx = new UnannPrimitiveTypeContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_unannPrimitiveType);
+		enterRule(_localctx, 130, RULE_unannPrimitiveType);
 		try {
-			setState(941);
+			setState(963);
 			switch (_input.LA(1)) {
 			case BYTE:
 			case CHAR:
@@ -4457,14 +4639,14 @@ public class Java8Parser extends Parser {
 			case SHORT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(939);
+				setState(961);
 				numericType();
 				}
 				break;
 			case BOOLEAN:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(940);
+				setState(962);
 				match(BOOLEAN);
 				}
 				break;
@@ -4514,28 +4696,28 @@ public class Java8Parser extends Parser {
 
 	public final UnannReferenceTypeContext unannReferenceType() throws RecognitionException {
 		UnannReferenceTypeContext _localctx = new UnannReferenceTypeContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_unannReferenceType);
+		enterRule(_localctx, 132, RULE_unannReferenceType);
 		try {
-			setState(946);
+			setState(968);
 			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(943);
+				setState(965);
 				unannClassOrInterfaceType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(944);
+				setState(966);
 				unannTypeVariable();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(945);
+				setState(967);
 				unannArrayType();
 				}
 				break;
@@ -4592,50 +4774,50 @@ public class Java8Parser extends Parser {
 
 	public final UnannClassOrInterfaceTypeContext unannClassOrInterfaceType() throws RecognitionException {
 		UnannClassOrInterfaceTypeContext _localctx = new UnannClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_unannClassOrInterfaceType);
+		enterRule(_localctx, 134, RULE_unannClassOrInterfaceType);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(950);
+			setState(972);
 			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				{
-				setState(948);
+				setState(970);
 				unannClassType_lfno_unannClassOrInterfaceType();
 				}
 				break;
 			case 2:
 				{
-				setState(949);
+				setState(971);
 				unannInterfaceType_lfno_unannClassOrInterfaceType();
 				}
 				break;
 			}
-			setState(956);
+			setState(978);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(954);
+					setState(976);
 					switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 					case 1:
 						{
-						setState(952);
+						setState(974);
 						unannClassType_lf_unannClassOrInterfaceType();
 						}
 						break;
 					case 2:
 						{
-						setState(953);
+						setState(975);
 						unannInterfaceType_lf_unannClassOrInterfaceType();
 						}
 						break;
 					}
 					} 
 				}
-				setState(958);
+				setState(980);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 			}
@@ -4687,21 +4869,21 @@ public class Java8Parser extends Parser {
 
 	public final UnannClassTypeContext unannClassType() throws RecognitionException {
 		UnannClassTypeContext _localctx = new UnannClassTypeContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_unannClassType);
+		enterRule(_localctx, 136, RULE_unannClassType);
 		int _la;
 		try {
-			setState(975);
+			setState(997);
 			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(959);
+				setState(981);
 				match(Identifier);
-				setState(961);
+				setState(983);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(960);
+					setState(982);
 					typeArguments();
 					}
 				}
@@ -4711,31 +4893,31 @@ public class Java8Parser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(963);
+				setState(985);
 				unannClassOrInterfaceType();
-				setState(964);
+				setState(986);
 				match(DOT);
-				setState(968);
+				setState(990);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(965);
+					setState(987);
 					annotation();
 					}
 					}
-					setState(970);
+					setState(992);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(971);
+				setState(993);
 				match(Identifier);
-				setState(973);
+				setState(995);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(972);
+					setState(994);
 					typeArguments();
 					}
 				}
@@ -4787,34 +4969,34 @@ public class Java8Parser extends Parser {
 
 	public final UnannClassType_lf_unannClassOrInterfaceTypeContext unannClassType_lf_unannClassOrInterfaceType() throws RecognitionException {
 		UnannClassType_lf_unannClassOrInterfaceTypeContext _localctx = new UnannClassType_lf_unannClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_unannClassType_lf_unannClassOrInterfaceType);
+		enterRule(_localctx, 138, RULE_unannClassType_lf_unannClassOrInterfaceType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(977);
+			setState(999);
 			match(DOT);
-			setState(981);
+			setState(1003);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(978);
+				setState(1000);
 				annotation();
 				}
 				}
-				setState(983);
+				setState(1005);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(984);
+			setState(1006);
 			match(Identifier);
-			setState(986);
+			setState(1008);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(985);
+				setState(1007);
 				typeArguments();
 				}
 			}
@@ -4858,18 +5040,18 @@ public class Java8Parser extends Parser {
 
 	public final UnannClassType_lfno_unannClassOrInterfaceTypeContext unannClassType_lfno_unannClassOrInterfaceType() throws RecognitionException {
 		UnannClassType_lfno_unannClassOrInterfaceTypeContext _localctx = new UnannClassType_lfno_unannClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_unannClassType_lfno_unannClassOrInterfaceType);
+		enterRule(_localctx, 140, RULE_unannClassType_lfno_unannClassOrInterfaceType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(988);
+			setState(1010);
 			match(Identifier);
-			setState(990);
+			setState(1012);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(989);
+				setState(1011);
 				typeArguments();
 				}
 			}
@@ -4912,11 +5094,11 @@ public class Java8Parser extends Parser {
 
 	public final UnannInterfaceTypeContext unannInterfaceType() throws RecognitionException {
 		UnannInterfaceTypeContext _localctx = new UnannInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_unannInterfaceType);
+		enterRule(_localctx, 142, RULE_unannInterfaceType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(992);
+			setState(1014);
 			unannClassType();
 			}
 		}
@@ -4956,11 +5138,11 @@ public class Java8Parser extends Parser {
 
 	public final UnannInterfaceType_lf_unannClassOrInterfaceTypeContext unannInterfaceType_lf_unannClassOrInterfaceType() throws RecognitionException {
 		UnannInterfaceType_lf_unannClassOrInterfaceTypeContext _localctx = new UnannInterfaceType_lf_unannClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_unannInterfaceType_lf_unannClassOrInterfaceType);
+		enterRule(_localctx, 144, RULE_unannInterfaceType_lf_unannClassOrInterfaceType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(994);
+			setState(1016);
 			unannClassType_lf_unannClassOrInterfaceType();
 			}
 		}
@@ -5000,11 +5182,11 @@ public class Java8Parser extends Parser {
 
 	public final UnannInterfaceType_lfno_unannClassOrInterfaceTypeContext unannInterfaceType_lfno_unannClassOrInterfaceType() throws RecognitionException {
 		UnannInterfaceType_lfno_unannClassOrInterfaceTypeContext _localctx = new UnannInterfaceType_lfno_unannClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_unannInterfaceType_lfno_unannClassOrInterfaceType);
+		enterRule(_localctx, 146, RULE_unannInterfaceType_lfno_unannClassOrInterfaceType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(996);
+			setState(1018);
 			unannClassType_lfno_unannClassOrInterfaceType();
 			}
 		}
@@ -5042,11 +5224,11 @@ public class Java8Parser extends Parser {
 
 	public final UnannTypeVariableContext unannTypeVariable() throws RecognitionException {
 		UnannTypeVariableContext _localctx = new UnannTypeVariableContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_unannTypeVariable);
+		enterRule(_localctx, 148, RULE_unannTypeVariable);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(998);
+			setState(1020);
 			match(Identifier);
 			}
 		}
@@ -5095,34 +5277,34 @@ public class Java8Parser extends Parser {
 
 	public final UnannArrayTypeContext unannArrayType() throws RecognitionException {
 		UnannArrayTypeContext _localctx = new UnannArrayTypeContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_unannArrayType);
+		enterRule(_localctx, 150, RULE_unannArrayType);
 		try {
-			setState(1009);
+			setState(1031);
 			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1000);
+				setState(1022);
 				unannPrimitiveType();
-				setState(1001);
+				setState(1023);
 				dims();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1003);
+				setState(1025);
 				unannClassOrInterfaceType();
-				setState(1004);
+				setState(1026);
 				dims();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1006);
+				setState(1028);
 				unannTypeVariable();
-				setState(1007);
+				setState(1029);
 				dims();
 				}
 				break;
@@ -5173,28 +5355,28 @@ public class Java8Parser extends Parser {
 
 	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
 		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_methodDeclaration);
+		enterRule(_localctx, 152, RULE_methodDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1014);
+			setState(1036);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED))) != 0) || _la==AT) {
 				{
 				{
-				setState(1011);
+				setState(1033);
 				methodModifier();
 				}
 				}
-				setState(1016);
+				setState(1038);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1017);
+			setState(1039);
 			methodHeader();
-			setState(1018);
+			setState(1040);
 			methodBody();
 			}
 		}
@@ -5234,77 +5416,77 @@ public class Java8Parser extends Parser {
 
 	public final MethodModifierContext methodModifier() throws RecognitionException {
 		MethodModifierContext _localctx = new MethodModifierContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_methodModifier);
+		enterRule(_localctx, 154, RULE_methodModifier);
 		try {
-			setState(1030);
+			setState(1052);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1020);
+				setState(1042);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1021);
+				setState(1043);
 				match(PUBLIC);
 				}
 				break;
 			case PROTECTED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1022);
+				setState(1044);
 				match(PROTECTED);
 				}
 				break;
 			case PRIVATE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1023);
+				setState(1045);
 				match(PRIVATE);
 				}
 				break;
 			case ABSTRACT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1024);
+				setState(1046);
 				match(ABSTRACT);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1025);
+				setState(1047);
 				match(STATIC);
 				}
 				break;
 			case FINAL:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1026);
+				setState(1048);
 				match(FINAL);
 				}
 				break;
 			case SYNCHRONIZED:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1027);
+				setState(1049);
 				match(SYNCHRONIZED);
 				}
 				break;
 			case NATIVE:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1028);
+				setState(1050);
 				match(NATIVE);
 				}
 				break;
 			case STRICTFP:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1029);
+				setState(1051);
 				match(STRICTFP);
 				}
 				break;
@@ -5363,10 +5545,10 @@ public class Java8Parser extends Parser {
 
 	public final MethodHeaderContext methodHeader() throws RecognitionException {
 		MethodHeaderContext _localctx = new MethodHeaderContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_methodHeader);
+		enterRule(_localctx, 156, RULE_methodHeader);
 		int _la;
 		try {
-			setState(1049);
+			setState(1071);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -5380,15 +5562,15 @@ public class Java8Parser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1032);
+				setState(1054);
 				result();
-				setState(1033);
+				setState(1055);
 				methodDeclarator();
-				setState(1035);
+				setState(1057);
 				_la = _input.LA(1);
 				if (_la==THROWS) {
 					{
-					setState(1034);
+					setState(1056);
 					throws_();
 					}
 				}
@@ -5398,31 +5580,31 @@ public class Java8Parser extends Parser {
 			case LT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1037);
+				setState(1059);
 				typeParameters();
-				setState(1041);
+				setState(1063);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(1038);
+					setState(1060);
 					annotation();
 					}
 					}
-					setState(1043);
+					setState(1065);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1044);
+				setState(1066);
 				result();
-				setState(1045);
+				setState(1067);
 				methodDeclarator();
-				setState(1047);
+				setState(1069);
 				_la = _input.LA(1);
 				if (_la==THROWS) {
 					{
-					setState(1046);
+					setState(1068);
 					throws_();
 					}
 				}
@@ -5469,9 +5651,9 @@ public class Java8Parser extends Parser {
 
 	public final ResultContext result() throws RecognitionException {
 		ResultContext _localctx = new ResultContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_result);
+		enterRule(_localctx, 158, RULE_result);
 		try {
-			setState(1053);
+			setState(1075);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -5484,14 +5666,14 @@ public class Java8Parser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1051);
+				setState(1073);
 				unannType();
 				}
 				break;
 			case VOID:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1052);
+				setState(1074);
 				match(VOID);
 				}
 				break;
@@ -5539,31 +5721,31 @@ public class Java8Parser extends Parser {
 
 	public final MethodDeclaratorContext methodDeclarator() throws RecognitionException {
 		MethodDeclaratorContext _localctx = new MethodDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_methodDeclarator);
+		enterRule(_localctx, 160, RULE_methodDeclarator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1055);
+			setState(1077);
 			match(Identifier);
-			setState(1056);
+			setState(1078);
 			match(LPAREN);
-			setState(1058);
+			setState(1080);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
 				{
-				setState(1057);
+				setState(1079);
 				formalParameterList();
 				}
 			}
 
-			setState(1060);
+			setState(1082);
 			match(RPAREN);
-			setState(1062);
+			setState(1084);
 			_la = _input.LA(1);
 			if (_la==LBRACK || _la==AT) {
 				{
-				setState(1061);
+				setState(1083);
 				dims();
 				}
 			}
@@ -5609,25 +5791,25 @@ public class Java8Parser extends Parser {
 
 	public final FormalParameterListContext formalParameterList() throws RecognitionException {
 		FormalParameterListContext _localctx = new FormalParameterListContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_formalParameterList);
+		enterRule(_localctx, 162, RULE_formalParameterList);
 		try {
-			setState(1069);
+			setState(1091);
 			switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1064);
+				setState(1086);
 				formalParameters();
-				setState(1065);
+				setState(1087);
 				match(COMMA);
-				setState(1066);
+				setState(1088);
 				lastFormalParameter();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1068);
+				setState(1090);
 				lastFormalParameter();
 				}
 				break;
@@ -5675,31 +5857,31 @@ public class Java8Parser extends Parser {
 
 	public final FormalParametersContext formalParameters() throws RecognitionException {
 		FormalParametersContext _localctx = new FormalParametersContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_formalParameters);
+		enterRule(_localctx, 164, RULE_formalParameters);
 		try {
 			int _alt;
-			setState(1087);
+			setState(1109);
 			switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1071);
+				setState(1093);
 				formalParameter();
-				setState(1076);
+				setState(1098);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,90,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1072);
+						setState(1094);
 						match(COMMA);
-						setState(1073);
+						setState(1095);
 						formalParameter();
 						}
 						} 
 					}
-					setState(1078);
+					setState(1100);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,90,_ctx);
 				}
@@ -5708,23 +5890,23 @@ public class Java8Parser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1079);
+				setState(1101);
 				receiverParameter();
-				setState(1084);
+				setState(1106);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1080);
+						setState(1102);
 						match(COMMA);
-						setState(1081);
+						setState(1103);
 						formalParameter();
 						}
 						} 
 					}
-					setState(1086);
+					setState(1108);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
 				}
@@ -5777,28 +5959,28 @@ public class Java8Parser extends Parser {
 
 	public final FormalParameterContext formalParameter() throws RecognitionException {
 		FormalParameterContext _localctx = new FormalParameterContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_formalParameter);
+		enterRule(_localctx, 166, RULE_formalParameter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1092);
+			setState(1114);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1089);
+				setState(1111);
 				variableModifier();
 				}
 				}
-				setState(1094);
+				setState(1116);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1095);
+			setState(1117);
 			unannType();
-			setState(1096);
+			setState(1118);
 			variableDeclaratorId();
 			}
 		}
@@ -5838,21 +6020,21 @@ public class Java8Parser extends Parser {
 
 	public final VariableModifierContext variableModifier() throws RecognitionException {
 		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_variableModifier);
+		enterRule(_localctx, 168, RULE_variableModifier);
 		try {
-			setState(1100);
+			setState(1122);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1098);
+				setState(1120);
 				annotation();
 				}
 				break;
 			case FINAL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1099);
+				setState(1121);
 				match(FINAL);
 				}
 				break;
@@ -5914,54 +6096,54 @@ public class Java8Parser extends Parser {
 
 	public final LastFormalParameterContext lastFormalParameter() throws RecognitionException {
 		LastFormalParameterContext _localctx = new LastFormalParameterContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_lastFormalParameter);
+		enterRule(_localctx, 170, RULE_lastFormalParameter);
 		int _la;
 		try {
-			setState(1119);
+			setState(1141);
 			switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1105);
+				setState(1127);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==FINAL || _la==AT) {
 					{
 					{
-					setState(1102);
+					setState(1124);
 					variableModifier();
 					}
 					}
-					setState(1107);
+					setState(1129);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1108);
+				setState(1130);
 				unannType();
-				setState(1112);
+				setState(1134);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(1109);
+					setState(1131);
 					annotation();
 					}
 					}
-					setState(1114);
+					setState(1136);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1115);
+				setState(1137);
 				match(ELLIPSIS);
-				setState(1116);
+				setState(1138);
 				variableDeclaratorId();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1118);
+				setState(1140);
 				formalParameter();
 				}
 				break;
@@ -6010,39 +6192,39 @@ public class Java8Parser extends Parser {
 
 	public final ReceiverParameterContext receiverParameter() throws RecognitionException {
 		ReceiverParameterContext _localctx = new ReceiverParameterContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_receiverParameter);
+		enterRule(_localctx, 172, RULE_receiverParameter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1124);
+			setState(1146);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(1121);
+				setState(1143);
 				annotation();
 				}
 				}
-				setState(1126);
+				setState(1148);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1127);
+			setState(1149);
 			unannType();
-			setState(1130);
+			setState(1152);
 			_la = _input.LA(1);
 			if (_la==Identifier) {
 				{
-				setState(1128);
+				setState(1150);
 				match(Identifier);
-				setState(1129);
+				setState(1151);
 				match(DOT);
 				}
 			}
 
-			setState(1132);
+			setState(1154);
 			match(THIS);
 			}
 		}
@@ -6082,13 +6264,13 @@ public class Java8Parser extends Parser {
 
 	public final Throws_Context throws_() throws RecognitionException {
 		Throws_Context _localctx = new Throws_Context(_ctx, getState());
-		enterRule(_localctx, 166, RULE_throws_);
+		enterRule(_localctx, 174, RULE_throws_);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1134);
+			setState(1156);
 			match(THROWS);
-			setState(1135);
+			setState(1157);
 			exceptionTypeList();
 			}
 		}
@@ -6131,26 +6313,26 @@ public class Java8Parser extends Parser {
 
 	public final ExceptionTypeListContext exceptionTypeList() throws RecognitionException {
 		ExceptionTypeListContext _localctx = new ExceptionTypeListContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_exceptionTypeList);
+		enterRule(_localctx, 176, RULE_exceptionTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1137);
+			setState(1159);
 			exceptionType();
-			setState(1142);
+			setState(1164);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(1138);
+				setState(1160);
 				match(COMMA);
-				setState(1139);
+				setState(1161);
 				exceptionType();
 				}
 				}
-				setState(1144);
+				setState(1166);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -6195,21 +6377,21 @@ public class Java8Parser extends Parser {
 
 	public final ExceptionTypeContext exceptionType() throws RecognitionException {
 		ExceptionTypeContext _localctx = new ExceptionTypeContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_exceptionType);
+		enterRule(_localctx, 178, RULE_exceptionType);
 		try {
-			setState(1147);
+			setState(1169);
 			switch ( getInterpreter().adaptivePredict(_input,101,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1145);
+				setState(1167);
 				classType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1146);
+				setState(1168);
 				typeVariable();
 				}
 				break;
@@ -6251,21 +6433,21 @@ public class Java8Parser extends Parser {
 
 	public final MethodBodyContext methodBody() throws RecognitionException {
 		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_methodBody);
+		enterRule(_localctx, 180, RULE_methodBody);
 		try {
-			setState(1151);
+			setState(1173);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1149);
+				setState(1171);
 				block();
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1150);
+				setState(1172);
 				match(SEMI);
 				}
 				break;
@@ -6309,11 +6491,11 @@ public class Java8Parser extends Parser {
 
 	public final InstanceInitializerContext instanceInitializer() throws RecognitionException {
 		InstanceInitializerContext _localctx = new InstanceInitializerContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_instanceInitializer);
+		enterRule(_localctx, 182, RULE_instanceInitializer);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1153);
+			setState(1175);
 			block();
 			}
 		}
@@ -6353,13 +6535,13 @@ public class Java8Parser extends Parser {
 
 	public final StaticInitializerContext staticInitializer() throws RecognitionException {
 		StaticInitializerContext _localctx = new StaticInitializerContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_staticInitializer);
+		enterRule(_localctx, 184, RULE_staticInitializer);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1155);
+			setState(1177);
 			match(STATIC);
-			setState(1156);
+			setState(1178);
 			block();
 			}
 		}
@@ -6411,37 +6593,37 @@ public class Java8Parser extends Parser {
 
 	public final ConstructorDeclarationContext constructorDeclaration() throws RecognitionException {
 		ConstructorDeclarationContext _localctx = new ConstructorDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_constructorDeclaration);
+		enterRule(_localctx, 186, RULE_constructorDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1161);
+			setState(1183);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC))) != 0) || _la==AT) {
 				{
 				{
-				setState(1158);
+				setState(1180);
 				constructorModifier();
 				}
 				}
-				setState(1163);
+				setState(1185);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1164);
+			setState(1186);
 			constructorDeclarator();
-			setState(1166);
+			setState(1188);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(1165);
+				setState(1187);
 				throws_();
 				}
 			}
 
-			setState(1168);
+			setState(1190);
 			constructorBody();
 			}
 		}
@@ -6481,35 +6663,35 @@ public class Java8Parser extends Parser {
 
 	public final ConstructorModifierContext constructorModifier() throws RecognitionException {
 		ConstructorModifierContext _localctx = new ConstructorModifierContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_constructorModifier);
+		enterRule(_localctx, 188, RULE_constructorModifier);
 		try {
-			setState(1174);
+			setState(1196);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1170);
+				setState(1192);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1171);
+				setState(1193);
 				match(PUBLIC);
 				}
 				break;
 			case PROTECTED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1172);
+				setState(1194);
 				match(PROTECTED);
 				}
 				break;
 			case PRIVATE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1173);
+				setState(1195);
 				match(PRIVATE);
 				}
 				break;
@@ -6559,34 +6741,34 @@ public class Java8Parser extends Parser {
 
 	public final ConstructorDeclaratorContext constructorDeclarator() throws RecognitionException {
 		ConstructorDeclaratorContext _localctx = new ConstructorDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_constructorDeclarator);
+		enterRule(_localctx, 190, RULE_constructorDeclarator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1177);
+			setState(1199);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(1176);
+				setState(1198);
 				typeParameters();
 				}
 			}
 
-			setState(1179);
+			setState(1201);
 			simpleTypeName();
-			setState(1180);
+			setState(1202);
 			match(LPAREN);
-			setState(1182);
+			setState(1204);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
 				{
-				setState(1181);
+				setState(1203);
 				formalParameterList();
 				}
 			}
 
-			setState(1184);
+			setState(1206);
 			match(RPAREN);
 			}
 		}
@@ -6624,11 +6806,11 @@ public class Java8Parser extends Parser {
 
 	public final SimpleTypeNameContext simpleTypeName() throws RecognitionException {
 		SimpleTypeNameContext _localctx = new SimpleTypeNameContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_simpleTypeName);
+		enterRule(_localctx, 192, RULE_simpleTypeName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1186);
+			setState(1208);
 			match(Identifier);
 			}
 		}
@@ -6671,32 +6853,32 @@ public class Java8Parser extends Parser {
 
 	public final ConstructorBodyContext constructorBody() throws RecognitionException {
 		ConstructorBodyContext _localctx = new ConstructorBodyContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_constructorBody);
+		enterRule(_localctx, 194, RULE_constructorBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1188);
+			setState(1210);
 			match(LBRACE);
-			setState(1190);
+			setState(1212);
 			switch ( getInterpreter().adaptivePredict(_input,108,_ctx) ) {
 			case 1:
 				{
-				setState(1189);
+				setState(1211);
 				explicitConstructorInvocation();
 				}
 				break;
 			}
-			setState(1193);
+			setState(1215);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1192);
+				setState(1214);
 				blockStatements();
 				}
 			}
 
-			setState(1195);
+			setState(1217);
 			match(RBRACE);
 			}
 		}
@@ -6745,140 +6927,140 @@ public class Java8Parser extends Parser {
 
 	public final ExplicitConstructorInvocationContext explicitConstructorInvocation() throws RecognitionException {
 		ExplicitConstructorInvocationContext _localctx = new ExplicitConstructorInvocationContext(_ctx, getState());
-		enterRule(_localctx, 188, RULE_explicitConstructorInvocation);
+		enterRule(_localctx, 196, RULE_explicitConstructorInvocation);
 		int _la;
 		try {
-			setState(1243);
+			setState(1265);
 			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1198);
+				setState(1220);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(1197);
+					setState(1219);
 					typeArguments();
 					}
 				}
 
-				setState(1200);
+				setState(1222);
 				match(THIS);
-				setState(1201);
+				setState(1223);
 				match(LPAREN);
-				setState(1203);
+				setState(1225);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(1202);
+					setState(1224);
 					argumentList();
 					}
 				}
 
-				setState(1205);
+				setState(1227);
 				match(RPAREN);
-				setState(1206);
+				setState(1228);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1208);
+				setState(1230);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(1207);
+					setState(1229);
 					typeArguments();
 					}
 				}
 
-				setState(1210);
+				setState(1232);
 				match(SUPER);
-				setState(1211);
+				setState(1233);
 				match(LPAREN);
-				setState(1213);
+				setState(1235);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(1212);
+					setState(1234);
 					argumentList();
 					}
 				}
 
-				setState(1215);
+				setState(1237);
 				match(RPAREN);
-				setState(1216);
+				setState(1238);
 				match(SEMI);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1217);
+				setState(1239);
 				expressionName();
-				setState(1218);
+				setState(1240);
 				match(DOT);
-				setState(1220);
+				setState(1242);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(1219);
+					setState(1241);
 					typeArguments();
 					}
 				}
 
-				setState(1222);
+				setState(1244);
 				match(SUPER);
-				setState(1223);
+				setState(1245);
 				match(LPAREN);
-				setState(1225);
+				setState(1247);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(1224);
+					setState(1246);
 					argumentList();
 					}
 				}
 
-				setState(1227);
+				setState(1249);
 				match(RPAREN);
-				setState(1228);
+				setState(1250);
 				match(SEMI);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1230);
+				setState(1252);
 				primary();
-				setState(1231);
+				setState(1253);
 				match(DOT);
-				setState(1233);
+				setState(1255);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(1232);
+					setState(1254);
 					typeArguments();
 					}
 				}
 
-				setState(1235);
+				setState(1257);
 				match(SUPER);
-				setState(1236);
+				setState(1258);
 				match(LPAREN);
-				setState(1238);
+				setState(1260);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(1237);
+					setState(1259);
 					argumentList();
 					}
 				}
 
-				setState(1240);
+				setState(1262);
 				match(RPAREN);
-				setState(1241);
+				setState(1263);
 				match(SEMI);
 				}
 				break;
@@ -6930,39 +7112,39 @@ public class Java8Parser extends Parser {
 
 	public final EnumDeclarationContext enumDeclaration() throws RecognitionException {
 		EnumDeclarationContext _localctx = new EnumDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 190, RULE_enumDeclaration);
+		enterRule(_localctx, 198, RULE_enumDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1248);
+			setState(1270);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 				{
 				{
-				setState(1245);
+				setState(1267);
 				classModifier();
 				}
 				}
-				setState(1250);
+				setState(1272);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1251);
+			setState(1273);
 			match(ENUM);
-			setState(1252);
+			setState(1274);
 			match(Identifier);
-			setState(1254);
+			setState(1276);
 			_la = _input.LA(1);
 			if (_la==IMPLEMENTS) {
 				{
-				setState(1253);
+				setState(1275);
 				superinterfaces();
 				}
 			}
 
-			setState(1256);
+			setState(1278);
 			enumBody();
 			}
 		}
@@ -7005,41 +7187,41 @@ public class Java8Parser extends Parser {
 
 	public final EnumBodyContext enumBody() throws RecognitionException {
 		EnumBodyContext _localctx = new EnumBodyContext(_ctx, getState());
-		enterRule(_localctx, 192, RULE_enumBody);
+		enterRule(_localctx, 200, RULE_enumBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1258);
+			setState(1280);
 			match(LBRACE);
-			setState(1260);
+			setState(1282);
 			_la = _input.LA(1);
 			if (_la==Identifier || _la==AT) {
 				{
-				setState(1259);
+				setState(1281);
 				enumConstantList();
 				}
 			}
 
-			setState(1263);
+			setState(1285);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(1262);
+				setState(1284);
 				match(COMMA);
 				}
 			}
 
-			setState(1266);
+			setState(1288);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(1265);
+				setState(1287);
 				enumBodyDeclarations();
 				}
 			}
 
-			setState(1268);
+			setState(1290);
 			match(RBRACE);
 			}
 		}
@@ -7082,28 +7264,28 @@ public class Java8Parser extends Parser {
 
 	public final EnumConstantListContext enumConstantList() throws RecognitionException {
 		EnumConstantListContext _localctx = new EnumConstantListContext(_ctx, getState());
-		enterRule(_localctx, 194, RULE_enumConstantList);
+		enterRule(_localctx, 202, RULE_enumConstantList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1270);
+			setState(1292);
 			enumConstant();
-			setState(1275);
+			setState(1297);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1271);
+					setState(1293);
 					match(COMMA);
-					setState(1272);
+					setState(1294);
 					enumConstant();
 					}
 					} 
 				}
-				setState(1277);
+				setState(1299);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
 			}
@@ -7155,52 +7337,52 @@ public class Java8Parser extends Parser {
 
 	public final EnumConstantContext enumConstant() throws RecognitionException {
 		EnumConstantContext _localctx = new EnumConstantContext(_ctx, getState());
-		enterRule(_localctx, 196, RULE_enumConstant);
+		enterRule(_localctx, 204, RULE_enumConstant);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1281);
+			setState(1303);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(1278);
+				setState(1300);
 				enumConstantModifier();
 				}
 				}
-				setState(1283);
+				setState(1305);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1284);
+			setState(1306);
 			match(Identifier);
-			setState(1290);
+			setState(1312);
 			_la = _input.LA(1);
 			if (_la==LPAREN) {
 				{
-				setState(1285);
+				setState(1307);
 				match(LPAREN);
-				setState(1287);
+				setState(1309);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(1286);
+					setState(1308);
 					argumentList();
 					}
 				}
 
-				setState(1289);
+				setState(1311);
 				match(RPAREN);
 				}
 			}
 
-			setState(1293);
+			setState(1315);
 			_la = _input.LA(1);
 			if (_la==LBRACE) {
 				{
-				setState(1292);
+				setState(1314);
 				classBody();
 				}
 			}
@@ -7243,11 +7425,11 @@ public class Java8Parser extends Parser {
 
 	public final EnumConstantModifierContext enumConstantModifier() throws RecognitionException {
 		EnumConstantModifierContext _localctx = new EnumConstantModifierContext(_ctx, getState());
-		enterRule(_localctx, 198, RULE_enumConstantModifier);
+		enterRule(_localctx, 206, RULE_enumConstantModifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1295);
+			setState(1317);
 			annotation();
 			}
 		}
@@ -7290,24 +7472,24 @@ public class Java8Parser extends Parser {
 
 	public final EnumBodyDeclarationsContext enumBodyDeclarations() throws RecognitionException {
 		EnumBodyDeclarationsContext _localctx = new EnumBodyDeclarationsContext(_ctx, getState());
-		enterRule(_localctx, 200, RULE_enumBodyDeclarations);
+		enterRule(_localctx, 208, RULE_enumBodyDeclarations);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1297);
+			setState(1319);
 			match(SEMI);
-			setState(1301);
+			setState(1323);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(1298);
+				setState(1320);
 				classBodyDeclaration();
 				}
 				}
-				setState(1303);
+				setState(1325);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -7352,21 +7534,21 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceDeclarationContext interfaceDeclaration() throws RecognitionException {
 		InterfaceDeclarationContext _localctx = new InterfaceDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 202, RULE_interfaceDeclaration);
+		enterRule(_localctx, 210, RULE_interfaceDeclaration);
 		try {
-			setState(1306);
+			setState(1328);
 			switch ( getInterpreter().adaptivePredict(_input,130,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1304);
+				setState(1326);
 				normalInterfaceDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1305);
+				setState(1327);
 				annotationTypeDeclaration();
 				}
 				break;
@@ -7421,48 +7603,48 @@ public class Java8Parser extends Parser {
 
 	public final NormalInterfaceDeclarationContext normalInterfaceDeclaration() throws RecognitionException {
 		NormalInterfaceDeclarationContext _localctx = new NormalInterfaceDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 204, RULE_normalInterfaceDeclaration);
+		enterRule(_localctx, 212, RULE_normalInterfaceDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1311);
+			setState(1333);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 				{
 				{
-				setState(1308);
+				setState(1330);
 				interfaceModifier();
 				}
 				}
-				setState(1313);
+				setState(1335);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1314);
+			setState(1336);
 			match(INTERFACE);
-			setState(1315);
+			setState(1337);
 			match(Identifier);
-			setState(1317);
+			setState(1339);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(1316);
+				setState(1338);
 				typeParameters();
 				}
 			}
 
-			setState(1320);
+			setState(1342);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(1319);
+				setState(1341);
 				extendsInterfaces();
 				}
 			}
 
-			setState(1322);
+			setState(1344);
 			interfaceBody();
 			}
 		}
@@ -7502,56 +7684,56 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceModifierContext interfaceModifier() throws RecognitionException {
 		InterfaceModifierContext _localctx = new InterfaceModifierContext(_ctx, getState());
-		enterRule(_localctx, 206, RULE_interfaceModifier);
+		enterRule(_localctx, 214, RULE_interfaceModifier);
 		try {
-			setState(1331);
+			setState(1353);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1324);
+				setState(1346);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1325);
+				setState(1347);
 				match(PUBLIC);
 				}
 				break;
 			case PROTECTED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1326);
+				setState(1348);
 				match(PROTECTED);
 				}
 				break;
 			case PRIVATE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1327);
+				setState(1349);
 				match(PRIVATE);
 				}
 				break;
 			case ABSTRACT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1328);
+				setState(1350);
 				match(ABSTRACT);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1329);
+				setState(1351);
 				match(STATIC);
 				}
 				break;
 			case STRICTFP:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1330);
+				setState(1352);
 				match(STRICTFP);
 				}
 				break;
@@ -7595,13 +7777,13 @@ public class Java8Parser extends Parser {
 
 	public final ExtendsInterfacesContext extendsInterfaces() throws RecognitionException {
 		ExtendsInterfacesContext _localctx = new ExtendsInterfacesContext(_ctx, getState());
-		enterRule(_localctx, 208, RULE_extendsInterfaces);
+		enterRule(_localctx, 216, RULE_extendsInterfaces);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1333);
+			setState(1355);
 			match(EXTENDS);
-			setState(1334);
+			setState(1356);
 			interfaceTypeList();
 			}
 		}
@@ -7644,28 +7826,28 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceBodyContext interfaceBody() throws RecognitionException {
 		InterfaceBodyContext _localctx = new InterfaceBodyContext(_ctx, getState());
-		enterRule(_localctx, 210, RULE_interfaceBody);
+		enterRule(_localctx, 218, RULE_interfaceBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1336);
+			setState(1358);
 			match(LBRACE);
-			setState(1340);
+			setState(1362);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DEFAULT) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << VOID) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
 				{
 				{
-				setState(1337);
+				setState(1359);
 				interfaceMemberDeclaration();
 				}
 				}
-				setState(1342);
+				setState(1364);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1343);
+			setState(1365);
 			match(RBRACE);
 			}
 		}
@@ -7714,42 +7896,42 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceMemberDeclarationContext interfaceMemberDeclaration() throws RecognitionException {
 		InterfaceMemberDeclarationContext _localctx = new InterfaceMemberDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 212, RULE_interfaceMemberDeclaration);
+		enterRule(_localctx, 220, RULE_interfaceMemberDeclaration);
 		try {
-			setState(1350);
+			setState(1372);
 			switch ( getInterpreter().adaptivePredict(_input,136,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1345);
+				setState(1367);
 				constantDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1346);
+				setState(1368);
 				interfaceMethodDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1347);
+				setState(1369);
 				classDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1348);
+				setState(1370);
 				interfaceDeclaration();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1349);
+				setState(1371);
 				match(SEMI);
 				}
 				break;
@@ -7800,30 +7982,30 @@ public class Java8Parser extends Parser {
 
 	public final ConstantDeclarationContext constantDeclaration() throws RecognitionException {
 		ConstantDeclarationContext _localctx = new ConstantDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 214, RULE_constantDeclaration);
+		enterRule(_localctx, 222, RULE_constantDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1355);
+			setState(1377);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FINAL) | (1L << PUBLIC) | (1L << STATIC))) != 0) || _la==AT) {
 				{
 				{
-				setState(1352);
+				setState(1374);
 				constantModifier();
 				}
 				}
-				setState(1357);
+				setState(1379);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1358);
+			setState(1380);
 			unannType();
-			setState(1359);
+			setState(1381);
 			variableDeclaratorList();
-			setState(1360);
+			setState(1382);
 			match(SEMI);
 			}
 		}
@@ -7863,35 +8045,35 @@ public class Java8Parser extends Parser {
 
 	public final ConstantModifierContext constantModifier() throws RecognitionException {
 		ConstantModifierContext _localctx = new ConstantModifierContext(_ctx, getState());
-		enterRule(_localctx, 216, RULE_constantModifier);
+		enterRule(_localctx, 224, RULE_constantModifier);
 		try {
-			setState(1366);
+			setState(1388);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1362);
+				setState(1384);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1363);
+				setState(1385);
 				match(PUBLIC);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1364);
+				setState(1386);
 				match(STATIC);
 				}
 				break;
 			case FINAL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1365);
+				setState(1387);
 				match(FINAL);
 				}
 				break;
@@ -7944,28 +8126,28 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceMethodDeclarationContext interfaceMethodDeclaration() throws RecognitionException {
 		InterfaceMethodDeclarationContext _localctx = new InterfaceMethodDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 218, RULE_interfaceMethodDeclaration);
+		enterRule(_localctx, 226, RULE_interfaceMethodDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1371);
+			setState(1393);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << DEFAULT) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
 				{
 				{
-				setState(1368);
+				setState(1390);
 				interfaceMethodModifier();
 				}
 				}
-				setState(1373);
+				setState(1395);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1374);
+			setState(1396);
 			methodHeader();
-			setState(1375);
+			setState(1397);
 			methodBody();
 			}
 		}
@@ -8005,49 +8187,49 @@ public class Java8Parser extends Parser {
 
 	public final InterfaceMethodModifierContext interfaceMethodModifier() throws RecognitionException {
 		InterfaceMethodModifierContext _localctx = new InterfaceMethodModifierContext(_ctx, getState());
-		enterRule(_localctx, 220, RULE_interfaceMethodModifier);
+		enterRule(_localctx, 228, RULE_interfaceMethodModifier);
 		try {
-			setState(1383);
+			setState(1405);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1377);
+				setState(1399);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1378);
+				setState(1400);
 				match(PUBLIC);
 				}
 				break;
 			case ABSTRACT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1379);
+				setState(1401);
 				match(ABSTRACT);
 				}
 				break;
 			case DEFAULT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1380);
+				setState(1402);
 				match(DEFAULT);
 				}
 				break;
 			case STATIC:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1381);
+				setState(1403);
 				match(STATIC);
 				}
 				break;
 			case STRICTFP:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1382);
+				setState(1404);
 				match(STRICTFP);
 				}
 				break;
@@ -8098,34 +8280,34 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationTypeDeclarationContext annotationTypeDeclaration() throws RecognitionException {
 		AnnotationTypeDeclarationContext _localctx = new AnnotationTypeDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 222, RULE_annotationTypeDeclaration);
+		enterRule(_localctx, 230, RULE_annotationTypeDeclaration);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1388);
+			setState(1410);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,141,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1385);
+					setState(1407);
 					interfaceModifier();
 					}
 					} 
 				}
-				setState(1390);
+				setState(1412);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,141,_ctx);
 			}
-			setState(1391);
+			setState(1413);
 			match(AT);
-			setState(1392);
+			setState(1414);
 			match(INTERFACE);
-			setState(1393);
+			setState(1415);
 			match(Identifier);
-			setState(1394);
+			setState(1416);
 			annotationTypeBody();
 			}
 		}
@@ -8168,28 +8350,28 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationTypeBodyContext annotationTypeBody() throws RecognitionException {
 		AnnotationTypeBodyContext _localctx = new AnnotationTypeBodyContext(_ctx, getState());
-		enterRule(_localctx, 224, RULE_annotationTypeBody);
+		enterRule(_localctx, 232, RULE_annotationTypeBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1396);
+			setState(1418);
 			match(LBRACE);
-			setState(1400);
+			setState(1422);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==Identifier || _la==AT) {
 				{
 				{
-				setState(1397);
+				setState(1419);
 				annotationTypeMemberDeclaration();
 				}
 				}
-				setState(1402);
+				setState(1424);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1403);
+			setState(1425);
 			match(RBRACE);
 			}
 		}
@@ -8238,42 +8420,42 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationTypeMemberDeclarationContext annotationTypeMemberDeclaration() throws RecognitionException {
 		AnnotationTypeMemberDeclarationContext _localctx = new AnnotationTypeMemberDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 226, RULE_annotationTypeMemberDeclaration);
+		enterRule(_localctx, 234, RULE_annotationTypeMemberDeclaration);
 		try {
-			setState(1410);
+			setState(1432);
 			switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1405);
+				setState(1427);
 				annotationTypeElementDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1406);
+				setState(1428);
 				constantDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1407);
+				setState(1429);
 				classDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1408);
+				setState(1430);
 				interfaceDeclaration();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1409);
+				setState(1431);
 				match(SEMI);
 				}
 				break;
@@ -8328,52 +8510,52 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration() throws RecognitionException {
 		AnnotationTypeElementDeclarationContext _localctx = new AnnotationTypeElementDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 228, RULE_annotationTypeElementDeclaration);
+		enterRule(_localctx, 236, RULE_annotationTypeElementDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1415);
+			setState(1437);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==ABSTRACT || _la==PUBLIC || _la==AT) {
 				{
 				{
-				setState(1412);
+				setState(1434);
 				annotationTypeElementModifier();
 				}
 				}
-				setState(1417);
+				setState(1439);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1418);
+			setState(1440);
 			unannType();
-			setState(1419);
+			setState(1441);
 			match(Identifier);
-			setState(1420);
+			setState(1442);
 			match(LPAREN);
-			setState(1421);
+			setState(1443);
 			match(RPAREN);
-			setState(1423);
+			setState(1445);
 			_la = _input.LA(1);
 			if (_la==LBRACK || _la==AT) {
 				{
-				setState(1422);
+				setState(1444);
 				dims();
 				}
 			}
 
-			setState(1426);
+			setState(1448);
 			_la = _input.LA(1);
 			if (_la==DEFAULT) {
 				{
-				setState(1425);
+				setState(1447);
 				defaultValue();
 				}
 			}
 
-			setState(1428);
+			setState(1450);
 			match(SEMI);
 			}
 		}
@@ -8413,28 +8595,28 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationTypeElementModifierContext annotationTypeElementModifier() throws RecognitionException {
 		AnnotationTypeElementModifierContext _localctx = new AnnotationTypeElementModifierContext(_ctx, getState());
-		enterRule(_localctx, 230, RULE_annotationTypeElementModifier);
+		enterRule(_localctx, 238, RULE_annotationTypeElementModifier);
 		try {
-			setState(1433);
+			setState(1455);
 			switch (_input.LA(1)) {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1430);
+				setState(1452);
 				annotation();
 				}
 				break;
 			case PUBLIC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1431);
+				setState(1453);
 				match(PUBLIC);
 				}
 				break;
 			case ABSTRACT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1432);
+				setState(1454);
 				match(ABSTRACT);
 				}
 				break;
@@ -8478,13 +8660,13 @@ public class Java8Parser extends Parser {
 
 	public final DefaultValueContext defaultValue() throws RecognitionException {
 		DefaultValueContext _localctx = new DefaultValueContext(_ctx, getState());
-		enterRule(_localctx, 232, RULE_defaultValue);
+		enterRule(_localctx, 240, RULE_defaultValue);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1435);
+			setState(1457);
 			match(DEFAULT);
-			setState(1436);
+			setState(1458);
 			elementValue();
 			}
 		}
@@ -8530,28 +8712,28 @@ public class Java8Parser extends Parser {
 
 	public final AnnotationContext annotation() throws RecognitionException {
 		AnnotationContext _localctx = new AnnotationContext(_ctx, getState());
-		enterRule(_localctx, 234, RULE_annotation);
+		enterRule(_localctx, 242, RULE_annotation);
 		try {
-			setState(1441);
+			setState(1463);
 			switch ( getInterpreter().adaptivePredict(_input,148,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1438);
+				setState(1460);
 				normalAnnotation();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1439);
+				setState(1461);
 				markerAnnotation();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1440);
+				setState(1462);
 				singleElementAnnotation();
 				}
 				break;
@@ -8596,27 +8778,27 @@ public class Java8Parser extends Parser {
 
 	public final NormalAnnotationContext normalAnnotation() throws RecognitionException {
 		NormalAnnotationContext _localctx = new NormalAnnotationContext(_ctx, getState());
-		enterRule(_localctx, 236, RULE_normalAnnotation);
+		enterRule(_localctx, 244, RULE_normalAnnotation);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1443);
+			setState(1465);
 			match(AT);
-			setState(1444);
+			setState(1466);
 			typeName();
-			setState(1445);
+			setState(1467);
 			match(LPAREN);
-			setState(1447);
+			setState(1469);
 			_la = _input.LA(1);
 			if (_la==Identifier) {
 				{
-				setState(1446);
+				setState(1468);
 				elementValuePairList();
 				}
 			}
 
-			setState(1449);
+			setState(1471);
 			match(RPAREN);
 			}
 		}
@@ -8659,26 +8841,26 @@ public class Java8Parser extends Parser {
 
 	public final ElementValuePairListContext elementValuePairList() throws RecognitionException {
 		ElementValuePairListContext _localctx = new ElementValuePairListContext(_ctx, getState());
-		enterRule(_localctx, 238, RULE_elementValuePairList);
+		enterRule(_localctx, 246, RULE_elementValuePairList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1451);
+			setState(1473);
 			elementValuePair();
-			setState(1456);
+			setState(1478);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(1452);
+				setState(1474);
 				match(COMMA);
-				setState(1453);
+				setState(1475);
 				elementValuePair();
 				}
 				}
-				setState(1458);
+				setState(1480);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -8721,15 +8903,15 @@ public class Java8Parser extends Parser {
 
 	public final ElementValuePairContext elementValuePair() throws RecognitionException {
 		ElementValuePairContext _localctx = new ElementValuePairContext(_ctx, getState());
-		enterRule(_localctx, 240, RULE_elementValuePair);
+		enterRule(_localctx, 248, RULE_elementValuePair);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1459);
+			setState(1481);
 			match(Identifier);
-			setState(1460);
+			setState(1482);
 			match(ASSIGN);
-			setState(1461);
+			setState(1483);
 			elementValue();
 			}
 		}
@@ -8775,28 +8957,28 @@ public class Java8Parser extends Parser {
 
 	public final ElementValueContext elementValue() throws RecognitionException {
 		ElementValueContext _localctx = new ElementValueContext(_ctx, getState());
-		enterRule(_localctx, 242, RULE_elementValue);
+		enterRule(_localctx, 250, RULE_elementValue);
 		try {
-			setState(1466);
+			setState(1488);
 			switch ( getInterpreter().adaptivePredict(_input,151,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1463);
+				setState(1485);
 				conditionalExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1464);
+				setState(1486);
 				elementValueArrayInitializer();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1465);
+				setState(1487);
 				annotation();
 				}
 				break;
@@ -8838,32 +9020,32 @@ public class Java8Parser extends Parser {
 
 	public final ElementValueArrayInitializerContext elementValueArrayInitializer() throws RecognitionException {
 		ElementValueArrayInitializerContext _localctx = new ElementValueArrayInitializerContext(_ctx, getState());
-		enterRule(_localctx, 244, RULE_elementValueArrayInitializer);
+		enterRule(_localctx, 252, RULE_elementValueArrayInitializer);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1468);
+			setState(1490);
 			match(LBRACE);
-			setState(1470);
+			setState(1492);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(1469);
+				setState(1491);
 				elementValueList();
 				}
 			}
 
-			setState(1473);
+			setState(1495);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(1472);
+				setState(1494);
 				match(COMMA);
 				}
 			}
 
-			setState(1475);
+			setState(1497);
 			match(RBRACE);
 			}
 		}
@@ -8906,28 +9088,28 @@ public class Java8Parser extends Parser {
 
 	public final ElementValueListContext elementValueList() throws RecognitionException {
 		ElementValueListContext _localctx = new ElementValueListContext(_ctx, getState());
-		enterRule(_localctx, 246, RULE_elementValueList);
+		enterRule(_localctx, 254, RULE_elementValueList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1477);
+			setState(1499);
 			elementValue();
-			setState(1482);
+			setState(1504);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,154,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1478);
+					setState(1500);
 					match(COMMA);
-					setState(1479);
+					setState(1501);
 					elementValue();
 					}
 					} 
 				}
-				setState(1484);
+				setState(1506);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,154,_ctx);
 			}
@@ -8969,13 +9151,13 @@ public class Java8Parser extends Parser {
 
 	public final MarkerAnnotationContext markerAnnotation() throws RecognitionException {
 		MarkerAnnotationContext _localctx = new MarkerAnnotationContext(_ctx, getState());
-		enterRule(_localctx, 248, RULE_markerAnnotation);
+		enterRule(_localctx, 256, RULE_markerAnnotation);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1485);
+			setState(1507);
 			match(AT);
-			setState(1486);
+			setState(1508);
 			typeName();
 			}
 		}
@@ -9018,19 +9200,19 @@ public class Java8Parser extends Parser {
 
 	public final SingleElementAnnotationContext singleElementAnnotation() throws RecognitionException {
 		SingleElementAnnotationContext _localctx = new SingleElementAnnotationContext(_ctx, getState());
-		enterRule(_localctx, 250, RULE_singleElementAnnotation);
+		enterRule(_localctx, 258, RULE_singleElementAnnotation);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1488);
+			setState(1510);
 			match(AT);
-			setState(1489);
+			setState(1511);
 			typeName();
-			setState(1490);
+			setState(1512);
 			match(LPAREN);
-			setState(1491);
+			setState(1513);
 			elementValue();
-			setState(1492);
+			setState(1514);
 			match(RPAREN);
 			}
 		}
@@ -9070,32 +9252,32 @@ public class Java8Parser extends Parser {
 
 	public final ArrayInitializerContext arrayInitializer() throws RecognitionException {
 		ArrayInitializerContext _localctx = new ArrayInitializerContext(_ctx, getState());
-		enterRule(_localctx, 252, RULE_arrayInitializer);
+		enterRule(_localctx, 260, RULE_arrayInitializer);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1494);
+			setState(1516);
 			match(LBRACE);
-			setState(1496);
+			setState(1518);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(1495);
+				setState(1517);
 				variableInitializerList();
 				}
 			}
 
-			setState(1499);
+			setState(1521);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(1498);
+				setState(1520);
 				match(COMMA);
 				}
 			}
 
-			setState(1501);
+			setState(1523);
 			match(RBRACE);
 			}
 		}
@@ -9138,28 +9320,28 @@ public class Java8Parser extends Parser {
 
 	public final VariableInitializerListContext variableInitializerList() throws RecognitionException {
 		VariableInitializerListContext _localctx = new VariableInitializerListContext(_ctx, getState());
-		enterRule(_localctx, 254, RULE_variableInitializerList);
+		enterRule(_localctx, 262, RULE_variableInitializerList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1503);
+			setState(1525);
 			variableInitializer();
-			setState(1508);
+			setState(1530);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,157,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1504);
+					setState(1526);
 					match(COMMA);
-					setState(1505);
+					setState(1527);
 					variableInitializer();
 					}
 					} 
 				}
-				setState(1510);
+				setState(1532);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,157,_ctx);
 			}
@@ -9201,23 +9383,23 @@ public class Java8Parser extends Parser {
 
 	public final BlockContext block() throws RecognitionException {
 		BlockContext _localctx = new BlockContext(_ctx, getState());
-		enterRule(_localctx, 256, RULE_block);
+		enterRule(_localctx, 264, RULE_block);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1511);
+			setState(1533);
 			match(LBRACE);
-			setState(1513);
+			setState(1535);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1512);
+				setState(1534);
 				blockStatements();
 				}
 			}
 
-			setState(1515);
+			setState(1537);
 			match(RBRACE);
 			}
 		}
@@ -9260,24 +9442,24 @@ public class Java8Parser extends Parser {
 
 	public final BlockStatementsContext blockStatements() throws RecognitionException {
 		BlockStatementsContext _localctx = new BlockStatementsContext(_ctx, getState());
-		enterRule(_localctx, 258, RULE_blockStatements);
+		enterRule(_localctx, 266, RULE_blockStatements);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1517);
+			setState(1539);
 			blockStatement();
-			setState(1521);
+			setState(1543);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
 				{
-				setState(1518);
+				setState(1540);
 				blockStatement();
 				}
 				}
-				setState(1523);
+				setState(1545);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -9325,28 +9507,28 @@ public class Java8Parser extends Parser {
 
 	public final BlockStatementContext blockStatement() throws RecognitionException {
 		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
-		enterRule(_localctx, 260, RULE_blockStatement);
+		enterRule(_localctx, 268, RULE_blockStatement);
 		try {
-			setState(1527);
+			setState(1549);
 			switch ( getInterpreter().adaptivePredict(_input,160,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1524);
+				setState(1546);
 				localVariableDeclarationStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1525);
+				setState(1547);
 				classDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1526);
+				setState(1548);
 				statement();
 				}
 				break;
@@ -9388,13 +9570,13 @@ public class Java8Parser extends Parser {
 
 	public final LocalVariableDeclarationStatementContext localVariableDeclarationStatement() throws RecognitionException {
 		LocalVariableDeclarationStatementContext _localctx = new LocalVariableDeclarationStatementContext(_ctx, getState());
-		enterRule(_localctx, 262, RULE_localVariableDeclarationStatement);
+		enterRule(_localctx, 270, RULE_localVariableDeclarationStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1529);
+			setState(1551);
 			localVariableDeclaration();
-			setState(1530);
+			setState(1552);
 			match(SEMI);
 			}
 		}
@@ -9443,28 +9625,28 @@ public class Java8Parser extends Parser {
 
 	public final LocalVariableDeclarationContext localVariableDeclaration() throws RecognitionException {
 		LocalVariableDeclarationContext _localctx = new LocalVariableDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 264, RULE_localVariableDeclaration);
+		enterRule(_localctx, 272, RULE_localVariableDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1535);
+			setState(1557);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1532);
+				setState(1554);
 				variableModifier();
 				}
 				}
-				setState(1537);
+				setState(1559);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1538);
+			setState(1560);
 			unannType();
-			setState(1539);
+			setState(1561);
 			variableDeclaratorList();
 			}
 		}
@@ -9519,49 +9701,49 @@ public class Java8Parser extends Parser {
 
 	public final StatementContext statement() throws RecognitionException {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
-		enterRule(_localctx, 266, RULE_statement);
+		enterRule(_localctx, 274, RULE_statement);
 		try {
-			setState(1547);
+			setState(1569);
 			switch ( getInterpreter().adaptivePredict(_input,162,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1541);
+				setState(1563);
 				statementWithoutTrailingSubstatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1542);
+				setState(1564);
 				labeledStatement();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1543);
+				setState(1565);
 				ifThenStatement();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1544);
+				setState(1566);
 				ifThenElseStatement();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1545);
+				setState(1567);
 				whileStatement();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1546);
+				setState(1568);
 				forStatement();
 				}
 				break;
@@ -9615,42 +9797,42 @@ public class Java8Parser extends Parser {
 
 	public final StatementNoShortIfContext statementNoShortIf() throws RecognitionException {
 		StatementNoShortIfContext _localctx = new StatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 268, RULE_statementNoShortIf);
+		enterRule(_localctx, 276, RULE_statementNoShortIf);
 		try {
-			setState(1554);
+			setState(1576);
 			switch ( getInterpreter().adaptivePredict(_input,163,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1549);
+				setState(1571);
 				statementWithoutTrailingSubstatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1550);
+				setState(1572);
 				labeledStatementNoShortIf();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1551);
+				setState(1573);
 				ifThenElseStatementNoShortIf();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1552);
+				setState(1574);
 				whileStatementNoShortIf();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1553);
+				setState(1575);
 				forStatementNoShortIf();
 				}
 				break;
@@ -9725,21 +9907,21 @@ public class Java8Parser extends Parser {
 
 	public final StatementWithoutTrailingSubstatementContext statementWithoutTrailingSubstatement() throws RecognitionException {
 		StatementWithoutTrailingSubstatementContext _localctx = new StatementWithoutTrailingSubstatementContext(_ctx, getState());
-		enterRule(_localctx, 270, RULE_statementWithoutTrailingSubstatement);
+		enterRule(_localctx, 278, RULE_statementWithoutTrailingSubstatement);
 		try {
-			setState(1568);
+			setState(1590);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1556);
+				setState(1578);
 				block();
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1557);
+				setState(1579);
 				emptyStatement();
 				}
 				break;
@@ -9768,70 +9950,70 @@ public class Java8Parser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1558);
+				setState(1580);
 				expressionStatement();
 				}
 				break;
 			case ASSERT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1559);
+				setState(1581);
 				assertStatement();
 				}
 				break;
 			case SWITCH:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1560);
+				setState(1582);
 				switchStatement();
 				}
 				break;
 			case DO:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1561);
+				setState(1583);
 				doStatement();
 				}
 				break;
 			case BREAK:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1562);
+				setState(1584);
 				breakStatement();
 				}
 				break;
 			case CONTINUE:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1563);
+				setState(1585);
 				continueStatement();
 				}
 				break;
 			case RETURN:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1564);
+				setState(1586);
 				returnStatement();
 				}
 				break;
 			case SYNCHRONIZED:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1565);
+				setState(1587);
 				synchronizedStatement();
 				}
 				break;
 			case THROW:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(1566);
+				setState(1588);
 				throwStatement();
 				}
 				break;
 			case TRY:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(1567);
+				setState(1589);
 				tryStatement();
 				}
 				break;
@@ -9872,11 +10054,11 @@ public class Java8Parser extends Parser {
 
 	public final EmptyStatementContext emptyStatement() throws RecognitionException {
 		EmptyStatementContext _localctx = new EmptyStatementContext(_ctx, getState());
-		enterRule(_localctx, 272, RULE_emptyStatement);
+		enterRule(_localctx, 280, RULE_emptyStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1570);
+			setState(1592);
 			match(SEMI);
 			}
 		}
@@ -9917,15 +10099,15 @@ public class Java8Parser extends Parser {
 
 	public final LabeledStatementContext labeledStatement() throws RecognitionException {
 		LabeledStatementContext _localctx = new LabeledStatementContext(_ctx, getState());
-		enterRule(_localctx, 274, RULE_labeledStatement);
+		enterRule(_localctx, 282, RULE_labeledStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1572);
+			setState(1594);
 			match(Identifier);
-			setState(1573);
+			setState(1595);
 			match(COLON);
-			setState(1574);
+			setState(1596);
 			statement();
 			}
 		}
@@ -9966,15 +10148,15 @@ public class Java8Parser extends Parser {
 
 	public final LabeledStatementNoShortIfContext labeledStatementNoShortIf() throws RecognitionException {
 		LabeledStatementNoShortIfContext _localctx = new LabeledStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 276, RULE_labeledStatementNoShortIf);
+		enterRule(_localctx, 284, RULE_labeledStatementNoShortIf);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1576);
+			setState(1598);
 			match(Identifier);
-			setState(1577);
+			setState(1599);
 			match(COLON);
-			setState(1578);
+			setState(1600);
 			statementNoShortIf();
 			}
 		}
@@ -10014,13 +10196,13 @@ public class Java8Parser extends Parser {
 
 	public final ExpressionStatementContext expressionStatement() throws RecognitionException {
 		ExpressionStatementContext _localctx = new ExpressionStatementContext(_ctx, getState());
-		enterRule(_localctx, 278, RULE_expressionStatement);
+		enterRule(_localctx, 286, RULE_expressionStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1580);
+			setState(1602);
 			statementExpression();
-			setState(1581);
+			setState(1603);
 			match(SEMI);
 			}
 		}
@@ -10078,56 +10260,56 @@ public class Java8Parser extends Parser {
 
 	public final StatementExpressionContext statementExpression() throws RecognitionException {
 		StatementExpressionContext _localctx = new StatementExpressionContext(_ctx, getState());
-		enterRule(_localctx, 280, RULE_statementExpression);
+		enterRule(_localctx, 288, RULE_statementExpression);
 		try {
-			setState(1590);
+			setState(1612);
 			switch ( getInterpreter().adaptivePredict(_input,165,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1583);
+				setState(1605);
 				assignment();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1584);
+				setState(1606);
 				preIncrementExpression();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1585);
+				setState(1607);
 				preDecrementExpression();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1586);
+				setState(1608);
 				postIncrementExpression();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1587);
+				setState(1609);
 				postDecrementExpression();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1588);
+				setState(1610);
 				methodInvocation();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1589);
+				setState(1611);
 				classInstanceCreationExpression();
 				}
 				break;
@@ -10172,19 +10354,19 @@ public class Java8Parser extends Parser {
 
 	public final IfThenStatementContext ifThenStatement() throws RecognitionException {
 		IfThenStatementContext _localctx = new IfThenStatementContext(_ctx, getState());
-		enterRule(_localctx, 282, RULE_ifThenStatement);
+		enterRule(_localctx, 290, RULE_ifThenStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1592);
+			setState(1614);
 			match(IF);
-			setState(1593);
+			setState(1615);
 			match(LPAREN);
-			setState(1594);
+			setState(1616);
 			expression();
-			setState(1595);
+			setState(1617);
 			match(RPAREN);
-			setState(1596);
+			setState(1618);
 			statement();
 			}
 		}
@@ -10230,23 +10412,23 @@ public class Java8Parser extends Parser {
 
 	public final IfThenElseStatementContext ifThenElseStatement() throws RecognitionException {
 		IfThenElseStatementContext _localctx = new IfThenElseStatementContext(_ctx, getState());
-		enterRule(_localctx, 284, RULE_ifThenElseStatement);
+		enterRule(_localctx, 292, RULE_ifThenElseStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1598);
+			setState(1620);
 			match(IF);
-			setState(1599);
+			setState(1621);
 			match(LPAREN);
-			setState(1600);
+			setState(1622);
 			expression();
-			setState(1601);
+			setState(1623);
 			match(RPAREN);
-			setState(1602);
+			setState(1624);
 			statementNoShortIf();
-			setState(1603);
+			setState(1625);
 			match(ELSE);
-			setState(1604);
+			setState(1626);
 			statement();
 			}
 		}
@@ -10292,23 +10474,23 @@ public class Java8Parser extends Parser {
 
 	public final IfThenElseStatementNoShortIfContext ifThenElseStatementNoShortIf() throws RecognitionException {
 		IfThenElseStatementNoShortIfContext _localctx = new IfThenElseStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 286, RULE_ifThenElseStatementNoShortIf);
+		enterRule(_localctx, 294, RULE_ifThenElseStatementNoShortIf);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1606);
+			setState(1628);
 			match(IF);
-			setState(1607);
+			setState(1629);
 			match(LPAREN);
-			setState(1608);
+			setState(1630);
 			expression();
-			setState(1609);
+			setState(1631);
 			match(RPAREN);
-			setState(1610);
+			setState(1632);
 			statementNoShortIf();
-			setState(1611);
+			setState(1633);
 			match(ELSE);
-			setState(1612);
+			setState(1634);
 			statementNoShortIf();
 			}
 		}
@@ -10351,33 +10533,33 @@ public class Java8Parser extends Parser {
 
 	public final AssertStatementContext assertStatement() throws RecognitionException {
 		AssertStatementContext _localctx = new AssertStatementContext(_ctx, getState());
-		enterRule(_localctx, 288, RULE_assertStatement);
+		enterRule(_localctx, 296, RULE_assertStatement);
 		try {
-			setState(1624);
+			setState(1646);
 			switch ( getInterpreter().adaptivePredict(_input,166,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1614);
+				setState(1636);
 				match(ASSERT);
-				setState(1615);
+				setState(1637);
 				expression();
-				setState(1616);
+				setState(1638);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1618);
+				setState(1640);
 				match(ASSERT);
-				setState(1619);
+				setState(1641);
 				expression();
-				setState(1620);
+				setState(1642);
 				match(COLON);
-				setState(1621);
+				setState(1643);
 				expression();
-				setState(1622);
+				setState(1644);
 				match(SEMI);
 				}
 				break;
@@ -10422,19 +10604,19 @@ public class Java8Parser extends Parser {
 
 	public final SwitchStatementContext switchStatement() throws RecognitionException {
 		SwitchStatementContext _localctx = new SwitchStatementContext(_ctx, getState());
-		enterRule(_localctx, 290, RULE_switchStatement);
+		enterRule(_localctx, 298, RULE_switchStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1626);
+			setState(1648);
 			match(SWITCH);
-			setState(1627);
+			setState(1649);
 			match(LPAREN);
-			setState(1628);
+			setState(1650);
 			expression();
-			setState(1629);
+			setState(1651);
 			match(RPAREN);
-			setState(1630);
+			setState(1652);
 			switchBlock();
 			}
 		}
@@ -10483,45 +10665,45 @@ public class Java8Parser extends Parser {
 
 	public final SwitchBlockContext switchBlock() throws RecognitionException {
 		SwitchBlockContext _localctx = new SwitchBlockContext(_ctx, getState());
-		enterRule(_localctx, 292, RULE_switchBlock);
+		enterRule(_localctx, 300, RULE_switchBlock);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1632);
+			setState(1654);
 			match(LBRACE);
-			setState(1636);
+			setState(1658);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,167,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1633);
+					setState(1655);
 					switchBlockStatementGroup();
 					}
 					} 
 				}
-				setState(1638);
+				setState(1660);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,167,_ctx);
 			}
-			setState(1642);
+			setState(1664);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CASE || _la==DEFAULT) {
 				{
 				{
-				setState(1639);
+				setState(1661);
 				switchLabel();
 				}
 				}
-				setState(1644);
+				setState(1666);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1645);
+			setState(1667);
 			match(RBRACE);
 			}
 		}
@@ -10564,13 +10746,13 @@ public class Java8Parser extends Parser {
 
 	public final SwitchBlockStatementGroupContext switchBlockStatementGroup() throws RecognitionException {
 		SwitchBlockStatementGroupContext _localctx = new SwitchBlockStatementGroupContext(_ctx, getState());
-		enterRule(_localctx, 294, RULE_switchBlockStatementGroup);
+		enterRule(_localctx, 302, RULE_switchBlockStatementGroup);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1647);
+			setState(1669);
 			switchLabels();
-			setState(1648);
+			setState(1670);
 			blockStatements();
 			}
 		}
@@ -10613,24 +10795,24 @@ public class Java8Parser extends Parser {
 
 	public final SwitchLabelsContext switchLabels() throws RecognitionException {
 		SwitchLabelsContext _localctx = new SwitchLabelsContext(_ctx, getState());
-		enterRule(_localctx, 296, RULE_switchLabels);
+		enterRule(_localctx, 304, RULE_switchLabels);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1650);
+			setState(1672);
 			switchLabel();
-			setState(1654);
+			setState(1676);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CASE || _la==DEFAULT) {
 				{
 				{
-				setState(1651);
+				setState(1673);
 				switchLabel();
 				}
 				}
-				setState(1656);
+				setState(1678);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -10675,38 +10857,38 @@ public class Java8Parser extends Parser {
 
 	public final SwitchLabelContext switchLabel() throws RecognitionException {
 		SwitchLabelContext _localctx = new SwitchLabelContext(_ctx, getState());
-		enterRule(_localctx, 298, RULE_switchLabel);
+		enterRule(_localctx, 306, RULE_switchLabel);
 		try {
-			setState(1667);
+			setState(1689);
 			switch ( getInterpreter().adaptivePredict(_input,170,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1657);
+				setState(1679);
 				match(CASE);
-				setState(1658);
+				setState(1680);
 				constantExpression();
-				setState(1659);
+				setState(1681);
 				match(COLON);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1661);
+				setState(1683);
 				match(CASE);
-				setState(1662);
+				setState(1684);
 				enumConstantName();
-				setState(1663);
+				setState(1685);
 				match(COLON);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1665);
+				setState(1687);
 				match(DEFAULT);
-				setState(1666);
+				setState(1688);
 				match(COLON);
 				}
 				break;
@@ -10746,11 +10928,11 @@ public class Java8Parser extends Parser {
 
 	public final EnumConstantNameContext enumConstantName() throws RecognitionException {
 		EnumConstantNameContext _localctx = new EnumConstantNameContext(_ctx, getState());
-		enterRule(_localctx, 300, RULE_enumConstantName);
+		enterRule(_localctx, 308, RULE_enumConstantName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1669);
+			setState(1691);
 			match(Identifier);
 			}
 		}
@@ -10793,19 +10975,19 @@ public class Java8Parser extends Parser {
 
 	public final WhileStatementContext whileStatement() throws RecognitionException {
 		WhileStatementContext _localctx = new WhileStatementContext(_ctx, getState());
-		enterRule(_localctx, 302, RULE_whileStatement);
+		enterRule(_localctx, 310, RULE_whileStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1671);
+			setState(1693);
 			match(WHILE);
-			setState(1672);
+			setState(1694);
 			match(LPAREN);
-			setState(1673);
+			setState(1695);
 			expression();
-			setState(1674);
+			setState(1696);
 			match(RPAREN);
-			setState(1675);
+			setState(1697);
 			statement();
 			}
 		}
@@ -10848,19 +11030,19 @@ public class Java8Parser extends Parser {
 
 	public final WhileStatementNoShortIfContext whileStatementNoShortIf() throws RecognitionException {
 		WhileStatementNoShortIfContext _localctx = new WhileStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 304, RULE_whileStatementNoShortIf);
+		enterRule(_localctx, 312, RULE_whileStatementNoShortIf);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1677);
+			setState(1699);
 			match(WHILE);
-			setState(1678);
+			setState(1700);
 			match(LPAREN);
-			setState(1679);
+			setState(1701);
 			expression();
-			setState(1680);
+			setState(1702);
 			match(RPAREN);
-			setState(1681);
+			setState(1703);
 			statementNoShortIf();
 			}
 		}
@@ -10903,23 +11085,23 @@ public class Java8Parser extends Parser {
 
 	public final DoStatementContext doStatement() throws RecognitionException {
 		DoStatementContext _localctx = new DoStatementContext(_ctx, getState());
-		enterRule(_localctx, 306, RULE_doStatement);
+		enterRule(_localctx, 314, RULE_doStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1683);
+			setState(1705);
 			match(DO);
-			setState(1684);
+			setState(1706);
 			statement();
-			setState(1685);
+			setState(1707);
 			match(WHILE);
-			setState(1686);
+			setState(1708);
 			match(LPAREN);
-			setState(1687);
+			setState(1709);
 			expression();
-			setState(1688);
+			setState(1710);
 			match(RPAREN);
-			setState(1689);
+			setState(1711);
 			match(SEMI);
 			}
 		}
@@ -10962,21 +11144,21 @@ public class Java8Parser extends Parser {
 
 	public final ForStatementContext forStatement() throws RecognitionException {
 		ForStatementContext _localctx = new ForStatementContext(_ctx, getState());
-		enterRule(_localctx, 308, RULE_forStatement);
+		enterRule(_localctx, 316, RULE_forStatement);
 		try {
-			setState(1693);
+			setState(1715);
 			switch ( getInterpreter().adaptivePredict(_input,171,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1691);
+				setState(1713);
 				basicForStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1692);
+				setState(1714);
 				enhancedForStatement();
 				}
 				break;
@@ -11021,21 +11203,21 @@ public class Java8Parser extends Parser {
 
 	public final ForStatementNoShortIfContext forStatementNoShortIf() throws RecognitionException {
 		ForStatementNoShortIfContext _localctx = new ForStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 310, RULE_forStatementNoShortIf);
+		enterRule(_localctx, 318, RULE_forStatementNoShortIf);
 		try {
-			setState(1697);
+			setState(1719);
 			switch ( getInterpreter().adaptivePredict(_input,172,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1695);
+				setState(1717);
 				basicForStatementNoShortIf();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1696);
+				setState(1718);
 				enhancedForStatementNoShortIf();
 				}
 				break;
@@ -11086,49 +11268,49 @@ public class Java8Parser extends Parser {
 
 	public final BasicForStatementContext basicForStatement() throws RecognitionException {
 		BasicForStatementContext _localctx = new BasicForStatementContext(_ctx, getState());
-		enterRule(_localctx, 312, RULE_basicForStatement);
+		enterRule(_localctx, 320, RULE_basicForStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1699);
+			setState(1721);
 			match(FOR);
-			setState(1700);
+			setState(1722);
 			match(LPAREN);
-			setState(1702);
+			setState(1724);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1701);
+				setState(1723);
 				forInit();
 				}
 			}
 
-			setState(1704);
+			setState(1726);
 			match(SEMI);
-			setState(1706);
+			setState(1728);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(1705);
+				setState(1727);
 				expression();
 				}
 			}
 
-			setState(1708);
+			setState(1730);
 			match(SEMI);
-			setState(1710);
+			setState(1732);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1709);
+				setState(1731);
 				forUpdate();
 				}
 			}
 
-			setState(1712);
+			setState(1734);
 			match(RPAREN);
-			setState(1713);
+			setState(1735);
 			statement();
 			}
 		}
@@ -11177,49 +11359,49 @@ public class Java8Parser extends Parser {
 
 	public final BasicForStatementNoShortIfContext basicForStatementNoShortIf() throws RecognitionException {
 		BasicForStatementNoShortIfContext _localctx = new BasicForStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 314, RULE_basicForStatementNoShortIf);
+		enterRule(_localctx, 322, RULE_basicForStatementNoShortIf);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1715);
+			setState(1737);
 			match(FOR);
-			setState(1716);
+			setState(1738);
 			match(LPAREN);
-			setState(1718);
+			setState(1740);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1717);
+				setState(1739);
 				forInit();
 				}
 			}
 
-			setState(1720);
+			setState(1742);
 			match(SEMI);
-			setState(1722);
+			setState(1744);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(1721);
+				setState(1743);
 				expression();
 				}
 			}
 
-			setState(1724);
+			setState(1746);
 			match(SEMI);
-			setState(1726);
+			setState(1748);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (Identifier - 79)) | (1L << (AT - 79)))) != 0)) {
 				{
-				setState(1725);
+				setState(1747);
 				forUpdate();
 				}
 			}
 
-			setState(1728);
+			setState(1750);
 			match(RPAREN);
-			setState(1729);
+			setState(1751);
 			statementNoShortIf();
 			}
 		}
@@ -11262,21 +11444,21 @@ public class Java8Parser extends Parser {
 
 	public final ForInitContext forInit() throws RecognitionException {
 		ForInitContext _localctx = new ForInitContext(_ctx, getState());
-		enterRule(_localctx, 316, RULE_forInit);
+		enterRule(_localctx, 324, RULE_forInit);
 		try {
-			setState(1733);
+			setState(1755);
 			switch ( getInterpreter().adaptivePredict(_input,179,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1731);
+				setState(1753);
 				statementExpressionList();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1732);
+				setState(1754);
 				localVariableDeclaration();
 				}
 				break;
@@ -11318,11 +11500,11 @@ public class Java8Parser extends Parser {
 
 	public final ForUpdateContext forUpdate() throws RecognitionException {
 		ForUpdateContext _localctx = new ForUpdateContext(_ctx, getState());
-		enterRule(_localctx, 318, RULE_forUpdate);
+		enterRule(_localctx, 326, RULE_forUpdate);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1735);
+			setState(1757);
 			statementExpressionList();
 			}
 		}
@@ -11365,26 +11547,26 @@ public class Java8Parser extends Parser {
 
 	public final StatementExpressionListContext statementExpressionList() throws RecognitionException {
 		StatementExpressionListContext _localctx = new StatementExpressionListContext(_ctx, getState());
-		enterRule(_localctx, 320, RULE_statementExpressionList);
+		enterRule(_localctx, 328, RULE_statementExpressionList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1737);
+			setState(1759);
 			statementExpression();
-			setState(1742);
+			setState(1764);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(1738);
+				setState(1760);
 				match(COMMA);
-				setState(1739);
+				setState(1761);
 				statementExpression();
 				}
 				}
-				setState(1744);
+				setState(1766);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -11441,40 +11623,40 @@ public class Java8Parser extends Parser {
 
 	public final EnhancedForStatementContext enhancedForStatement() throws RecognitionException {
 		EnhancedForStatementContext _localctx = new EnhancedForStatementContext(_ctx, getState());
-		enterRule(_localctx, 322, RULE_enhancedForStatement);
+		enterRule(_localctx, 330, RULE_enhancedForStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1745);
+			setState(1767);
 			match(FOR);
-			setState(1746);
+			setState(1768);
 			match(LPAREN);
-			setState(1750);
+			setState(1772);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1747);
+				setState(1769);
 				variableModifier();
 				}
 				}
-				setState(1752);
+				setState(1774);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1753);
+			setState(1775);
 			unannType();
-			setState(1754);
+			setState(1776);
 			variableDeclaratorId();
-			setState(1755);
+			setState(1777);
 			match(COLON);
-			setState(1756);
+			setState(1778);
 			expression();
-			setState(1757);
+			setState(1779);
 			match(RPAREN);
-			setState(1758);
+			setState(1780);
 			statement();
 			}
 		}
@@ -11529,40 +11711,40 @@ public class Java8Parser extends Parser {
 
 	public final EnhancedForStatementNoShortIfContext enhancedForStatementNoShortIf() throws RecognitionException {
 		EnhancedForStatementNoShortIfContext _localctx = new EnhancedForStatementNoShortIfContext(_ctx, getState());
-		enterRule(_localctx, 324, RULE_enhancedForStatementNoShortIf);
+		enterRule(_localctx, 332, RULE_enhancedForStatementNoShortIf);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1760);
+			setState(1782);
 			match(FOR);
-			setState(1761);
+			setState(1783);
 			match(LPAREN);
-			setState(1765);
+			setState(1787);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1762);
+				setState(1784);
 				variableModifier();
 				}
 				}
-				setState(1767);
+				setState(1789);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1768);
+			setState(1790);
 			unannType();
-			setState(1769);
+			setState(1791);
 			variableDeclaratorId();
-			setState(1770);
+			setState(1792);
 			match(COLON);
-			setState(1771);
+			setState(1793);
 			expression();
-			setState(1772);
+			setState(1794);
 			match(RPAREN);
-			setState(1773);
+			setState(1795);
 			statementNoShortIf();
 			}
 		}
@@ -11600,23 +11782,23 @@ public class Java8Parser extends Parser {
 
 	public final BreakStatementContext breakStatement() throws RecognitionException {
 		BreakStatementContext _localctx = new BreakStatementContext(_ctx, getState());
-		enterRule(_localctx, 326, RULE_breakStatement);
+		enterRule(_localctx, 334, RULE_breakStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1775);
+			setState(1797);
 			match(BREAK);
-			setState(1777);
+			setState(1799);
 			_la = _input.LA(1);
 			if (_la==Identifier) {
 				{
-				setState(1776);
+				setState(1798);
 				match(Identifier);
 				}
 			}
 
-			setState(1779);
+			setState(1801);
 			match(SEMI);
 			}
 		}
@@ -11654,23 +11836,23 @@ public class Java8Parser extends Parser {
 
 	public final ContinueStatementContext continueStatement() throws RecognitionException {
 		ContinueStatementContext _localctx = new ContinueStatementContext(_ctx, getState());
-		enterRule(_localctx, 328, RULE_continueStatement);
+		enterRule(_localctx, 336, RULE_continueStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1781);
+			setState(1803);
 			match(CONTINUE);
-			setState(1783);
+			setState(1805);
 			_la = _input.LA(1);
 			if (_la==Identifier) {
 				{
-				setState(1782);
+				setState(1804);
 				match(Identifier);
 				}
 			}
 
-			setState(1785);
+			setState(1807);
 			match(SEMI);
 			}
 		}
@@ -11710,23 +11892,23 @@ public class Java8Parser extends Parser {
 
 	public final ReturnStatementContext returnStatement() throws RecognitionException {
 		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
-		enterRule(_localctx, 330, RULE_returnStatement);
+		enterRule(_localctx, 338, RULE_returnStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1787);
+			setState(1809);
 			match(RETURN);
-			setState(1789);
+			setState(1811);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(1788);
+				setState(1810);
 				expression();
 				}
 			}
 
-			setState(1791);
+			setState(1813);
 			match(SEMI);
 			}
 		}
@@ -11766,15 +11948,15 @@ public class Java8Parser extends Parser {
 
 	public final ThrowStatementContext throwStatement() throws RecognitionException {
 		ThrowStatementContext _localctx = new ThrowStatementContext(_ctx, getState());
-		enterRule(_localctx, 332, RULE_throwStatement);
+		enterRule(_localctx, 340, RULE_throwStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1793);
+			setState(1815);
 			match(THROW);
-			setState(1794);
+			setState(1816);
 			expression();
-			setState(1795);
+			setState(1817);
 			match(SEMI);
 			}
 		}
@@ -11817,19 +11999,19 @@ public class Java8Parser extends Parser {
 
 	public final SynchronizedStatementContext synchronizedStatement() throws RecognitionException {
 		SynchronizedStatementContext _localctx = new SynchronizedStatementContext(_ctx, getState());
-		enterRule(_localctx, 334, RULE_synchronizedStatement);
+		enterRule(_localctx, 342, RULE_synchronizedStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1797);
+			setState(1819);
 			match(SYNCHRONIZED);
-			setState(1798);
+			setState(1820);
 			match(LPAREN);
-			setState(1799);
+			setState(1821);
 			expression();
-			setState(1800);
+			setState(1822);
 			match(RPAREN);
-			setState(1801);
+			setState(1823);
 			block();
 			}
 		}
@@ -11878,46 +12060,46 @@ public class Java8Parser extends Parser {
 
 	public final TryStatementContext tryStatement() throws RecognitionException {
 		TryStatementContext _localctx = new TryStatementContext(_ctx, getState());
-		enterRule(_localctx, 336, RULE_tryStatement);
+		enterRule(_localctx, 344, RULE_tryStatement);
 		int _la;
 		try {
-			setState(1815);
+			setState(1837);
 			switch ( getInterpreter().adaptivePredict(_input,187,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1803);
+				setState(1825);
 				match(TRY);
-				setState(1804);
+				setState(1826);
 				block();
-				setState(1805);
+				setState(1827);
 				catches();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1807);
+				setState(1829);
 				match(TRY);
-				setState(1808);
+				setState(1830);
 				block();
-				setState(1810);
+				setState(1832);
 				_la = _input.LA(1);
 				if (_la==CATCH) {
 					{
-					setState(1809);
+					setState(1831);
 					catches();
 					}
 				}
 
-				setState(1812);
+				setState(1834);
 				finally_();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1814);
+				setState(1836);
 				tryWithResourcesStatement();
 				}
 				break;
@@ -11962,24 +12144,24 @@ public class Java8Parser extends Parser {
 
 	public final CatchesContext catches() throws RecognitionException {
 		CatchesContext _localctx = new CatchesContext(_ctx, getState());
-		enterRule(_localctx, 338, RULE_catches);
+		enterRule(_localctx, 346, RULE_catches);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1817);
+			setState(1839);
 			catchClause();
-			setState(1821);
+			setState(1843);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CATCH) {
 				{
 				{
-				setState(1818);
+				setState(1840);
 				catchClause();
 				}
 				}
-				setState(1823);
+				setState(1845);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -12024,19 +12206,19 @@ public class Java8Parser extends Parser {
 
 	public final CatchClauseContext catchClause() throws RecognitionException {
 		CatchClauseContext _localctx = new CatchClauseContext(_ctx, getState());
-		enterRule(_localctx, 340, RULE_catchClause);
+		enterRule(_localctx, 348, RULE_catchClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1824);
+			setState(1846);
 			match(CATCH);
-			setState(1825);
+			setState(1847);
 			match(LPAREN);
-			setState(1826);
+			setState(1848);
 			catchFormalParameter();
-			setState(1827);
+			setState(1849);
 			match(RPAREN);
-			setState(1828);
+			setState(1850);
 			block();
 			}
 		}
@@ -12085,28 +12267,28 @@ public class Java8Parser extends Parser {
 
 	public final CatchFormalParameterContext catchFormalParameter() throws RecognitionException {
 		CatchFormalParameterContext _localctx = new CatchFormalParameterContext(_ctx, getState());
-		enterRule(_localctx, 342, RULE_catchFormalParameter);
+		enterRule(_localctx, 350, RULE_catchFormalParameter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1833);
+			setState(1855);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1830);
+				setState(1852);
 				variableModifier();
 				}
 				}
-				setState(1835);
+				setState(1857);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1836);
+			setState(1858);
 			catchType();
-			setState(1837);
+			setState(1859);
 			variableDeclaratorId();
 			}
 		}
@@ -12152,26 +12334,26 @@ public class Java8Parser extends Parser {
 
 	public final CatchTypeContext catchType() throws RecognitionException {
 		CatchTypeContext _localctx = new CatchTypeContext(_ctx, getState());
-		enterRule(_localctx, 344, RULE_catchType);
+		enterRule(_localctx, 352, RULE_catchType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1839);
+			setState(1861);
 			unannClassType();
-			setState(1844);
+			setState(1866);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==BITOR) {
 				{
 				{
-				setState(1840);
+				setState(1862);
 				match(BITOR);
-				setState(1841);
+				setState(1863);
 				classType();
 				}
 				}
-				setState(1846);
+				setState(1868);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -12213,13 +12395,13 @@ public class Java8Parser extends Parser {
 
 	public final Finally_Context finally_() throws RecognitionException {
 		Finally_Context _localctx = new Finally_Context(_ctx, getState());
-		enterRule(_localctx, 346, RULE_finally_);
+		enterRule(_localctx, 354, RULE_finally_);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1847);
+			setState(1869);
 			match(FINALLY);
-			setState(1848);
+			setState(1870);
 			block();
 			}
 		}
@@ -12268,31 +12450,31 @@ public class Java8Parser extends Parser {
 
 	public final TryWithResourcesStatementContext tryWithResourcesStatement() throws RecognitionException {
 		TryWithResourcesStatementContext _localctx = new TryWithResourcesStatementContext(_ctx, getState());
-		enterRule(_localctx, 348, RULE_tryWithResourcesStatement);
+		enterRule(_localctx, 356, RULE_tryWithResourcesStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1850);
+			setState(1872);
 			match(TRY);
-			setState(1851);
+			setState(1873);
 			resourceSpecification();
-			setState(1852);
+			setState(1874);
 			block();
-			setState(1854);
+			setState(1876);
 			_la = _input.LA(1);
 			if (_la==CATCH) {
 				{
-				setState(1853);
+				setState(1875);
 				catches();
 				}
 			}
 
-			setState(1857);
+			setState(1879);
 			_la = _input.LA(1);
 			if (_la==FINALLY) {
 				{
-				setState(1856);
+				setState(1878);
 				finally_();
 				}
 			}
@@ -12335,25 +12517,25 @@ public class Java8Parser extends Parser {
 
 	public final ResourceSpecificationContext resourceSpecification() throws RecognitionException {
 		ResourceSpecificationContext _localctx = new ResourceSpecificationContext(_ctx, getState());
-		enterRule(_localctx, 350, RULE_resourceSpecification);
+		enterRule(_localctx, 358, RULE_resourceSpecification);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1859);
+			setState(1881);
 			match(LPAREN);
-			setState(1860);
+			setState(1882);
 			resourceList();
-			setState(1862);
+			setState(1884);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(1861);
+				setState(1883);
 				match(SEMI);
 				}
 			}
 
-			setState(1864);
+			setState(1886);
 			match(RPAREN);
 			}
 		}
@@ -12396,28 +12578,28 @@ public class Java8Parser extends Parser {
 
 	public final ResourceListContext resourceList() throws RecognitionException {
 		ResourceListContext _localctx = new ResourceListContext(_ctx, getState());
-		enterRule(_localctx, 352, RULE_resourceList);
+		enterRule(_localctx, 360, RULE_resourceList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1866);
+			setState(1888);
 			resource();
-			setState(1871);
+			setState(1893);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,194,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1867);
+					setState(1889);
 					match(SEMI);
-					setState(1868);
+					setState(1890);
 					resource();
 					}
 					} 
 				}
-				setState(1873);
+				setState(1895);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,194,_ctx);
 			}
@@ -12471,32 +12653,32 @@ public class Java8Parser extends Parser {
 
 	public final ResourceContext resource() throws RecognitionException {
 		ResourceContext _localctx = new ResourceContext(_ctx, getState());
-		enterRule(_localctx, 354, RULE_resource);
+		enterRule(_localctx, 362, RULE_resource);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1877);
+			setState(1899);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==FINAL || _la==AT) {
 				{
 				{
-				setState(1874);
+				setState(1896);
 				variableModifier();
 				}
 				}
-				setState(1879);
+				setState(1901);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1880);
+			setState(1902);
 			unannType();
-			setState(1881);
+			setState(1903);
 			variableDeclaratorId();
-			setState(1882);
+			setState(1904);
 			match(ASSIGN);
-			setState(1883);
+			setState(1905);
 			expression();
 			}
 		}
@@ -12545,39 +12727,39 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryContext primary() throws RecognitionException {
 		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
-		enterRule(_localctx, 356, RULE_primary);
+		enterRule(_localctx, 364, RULE_primary);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1887);
+			setState(1909);
 			switch ( getInterpreter().adaptivePredict(_input,196,_ctx) ) {
 			case 1:
 				{
-				setState(1885);
+				setState(1907);
 				primaryNoNewArray_lfno_primary();
 				}
 				break;
 			case 2:
 				{
-				setState(1886);
+				setState(1908);
 				arrayCreationExpression();
 				}
 				break;
 			}
-			setState(1892);
+			setState(1914);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,197,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1889);
+					setState(1911);
 					primaryNoNewArray_lf_primary();
 					}
 					} 
 				}
-				setState(1894);
+				setState(1916);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,197,_ctx);
 			}
@@ -12640,117 +12822,117 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArrayContext primaryNoNewArray() throws RecognitionException {
 		PrimaryNoNewArrayContext _localctx = new PrimaryNoNewArrayContext(_ctx, getState());
-		enterRule(_localctx, 358, RULE_primaryNoNewArray);
+		enterRule(_localctx, 366, RULE_primaryNoNewArray);
 		int _la;
 		try {
-			setState(1924);
+			setState(1946);
 			switch ( getInterpreter().adaptivePredict(_input,199,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1895);
+				setState(1917);
 				literal();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1896);
+				setState(1918);
 				typeName();
-				setState(1901);
+				setState(1923);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(1897);
+					setState(1919);
 					match(LBRACK);
-					setState(1898);
+					setState(1920);
 					match(RBRACK);
 					}
 					}
-					setState(1903);
+					setState(1925);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1904);
+				setState(1926);
 				match(DOT);
-				setState(1905);
+				setState(1927);
 				match(CLASS);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1907);
+				setState(1929);
 				match(VOID);
-				setState(1908);
+				setState(1930);
 				match(DOT);
-				setState(1909);
+				setState(1931);
 				match(CLASS);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1910);
+				setState(1932);
 				match(THIS);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1911);
+				setState(1933);
 				typeName();
-				setState(1912);
+				setState(1934);
 				match(DOT);
-				setState(1913);
+				setState(1935);
 				match(THIS);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1915);
+				setState(1937);
 				match(LPAREN);
-				setState(1916);
+				setState(1938);
 				expression();
-				setState(1917);
+				setState(1939);
 				match(RPAREN);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1919);
+				setState(1941);
 				classInstanceCreationExpression();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1920);
+				setState(1942);
 				fieldAccess();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1921);
+				setState(1943);
 				arrayAccess();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1922);
+				setState(1944);
 				methodInvocation();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(1923);
+				setState(1945);
 				methodReference();
 				}
 				break;
@@ -12789,7 +12971,7 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lf_arrayAccessContext primaryNoNewArray_lf_arrayAccess() throws RecognitionException {
 		PrimaryNoNewArray_lf_arrayAccessContext _localctx = new PrimaryNoNewArray_lf_arrayAccessContext(_ctx, getState());
-		enterRule(_localctx, 360, RULE_primaryNoNewArray_lf_arrayAccess);
+		enterRule(_localctx, 368, RULE_primaryNoNewArray_lf_arrayAccess);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
@@ -12849,110 +13031,110 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lfno_arrayAccessContext primaryNoNewArray_lfno_arrayAccess() throws RecognitionException {
 		PrimaryNoNewArray_lfno_arrayAccessContext _localctx = new PrimaryNoNewArray_lfno_arrayAccessContext(_ctx, getState());
-		enterRule(_localctx, 362, RULE_primaryNoNewArray_lfno_arrayAccess);
+		enterRule(_localctx, 370, RULE_primaryNoNewArray_lfno_arrayAccess);
 		int _la;
 		try {
-			setState(1956);
+			setState(1978);
 			switch ( getInterpreter().adaptivePredict(_input,201,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1928);
+				setState(1950);
 				literal();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1929);
+				setState(1951);
 				typeName();
-				setState(1934);
+				setState(1956);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(1930);
+					setState(1952);
 					match(LBRACK);
-					setState(1931);
+					setState(1953);
 					match(RBRACK);
 					}
 					}
-					setState(1936);
+					setState(1958);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1937);
+				setState(1959);
 				match(DOT);
-				setState(1938);
+				setState(1960);
 				match(CLASS);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1940);
+				setState(1962);
 				match(VOID);
-				setState(1941);
+				setState(1963);
 				match(DOT);
-				setState(1942);
+				setState(1964);
 				match(CLASS);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1943);
+				setState(1965);
 				match(THIS);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1944);
+				setState(1966);
 				typeName();
-				setState(1945);
+				setState(1967);
 				match(DOT);
-				setState(1946);
+				setState(1968);
 				match(THIS);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1948);
+				setState(1970);
 				match(LPAREN);
-				setState(1949);
+				setState(1971);
 				expression();
-				setState(1950);
+				setState(1972);
 				match(RPAREN);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1952);
+				setState(1974);
 				classInstanceCreationExpression();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1953);
+				setState(1975);
 				fieldAccess();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1954);
+				setState(1976);
 				methodInvocation();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1955);
+				setState(1977);
 				methodReference();
 				}
 				break;
@@ -13006,42 +13188,42 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lf_primaryContext primaryNoNewArray_lf_primary() throws RecognitionException {
 		PrimaryNoNewArray_lf_primaryContext _localctx = new PrimaryNoNewArray_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 364, RULE_primaryNoNewArray_lf_primary);
+		enterRule(_localctx, 372, RULE_primaryNoNewArray_lf_primary);
 		try {
-			setState(1963);
+			setState(1985);
 			switch ( getInterpreter().adaptivePredict(_input,202,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1958);
+				setState(1980);
 				classInstanceCreationExpression_lf_primary();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1959);
+				setState(1981);
 				fieldAccess_lf_primary();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1960);
+				setState(1982);
 				arrayAccess_lf_primary();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1961);
+				setState(1983);
 				methodInvocation_lf_primary();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1962);
+				setState(1984);
 				methodReference_lf_primary();
 				}
 				break;
@@ -13080,7 +13262,7 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lf_primary_lf_arrayAccess_lf_primaryContext primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary() throws RecognitionException {
 		PrimaryNoNewArray_lf_primary_lf_arrayAccess_lf_primaryContext _localctx = new PrimaryNoNewArray_lf_primary_lf_arrayAccess_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 366, RULE_primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary);
+		enterRule(_localctx, 374, RULE_primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
@@ -13131,35 +13313,35 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primaryContext primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary() throws RecognitionException {
 		PrimaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primaryContext _localctx = new PrimaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 368, RULE_primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary);
+		enterRule(_localctx, 376, RULE_primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary);
 		try {
-			setState(1971);
+			setState(1993);
 			switch ( getInterpreter().adaptivePredict(_input,203,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1967);
+				setState(1989);
 				classInstanceCreationExpression_lf_primary();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1968);
+				setState(1990);
 				fieldAccess_lf_primary();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1969);
+				setState(1991);
 				methodInvocation_lf_primary();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1970);
+				setState(1992);
 				methodReference_lf_primary();
 				}
 				break;
@@ -13225,144 +13407,144 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lfno_primaryContext primaryNoNewArray_lfno_primary() throws RecognitionException {
 		PrimaryNoNewArray_lfno_primaryContext _localctx = new PrimaryNoNewArray_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 370, RULE_primaryNoNewArray_lfno_primary);
+		enterRule(_localctx, 378, RULE_primaryNoNewArray_lfno_primary);
 		int _la;
 		try {
-			setState(2013);
+			setState(2035);
 			switch ( getInterpreter().adaptivePredict(_input,206,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1973);
+				setState(1995);
 				literal();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1974);
+				setState(1996);
 				typeName();
-				setState(1979);
+				setState(2001);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(1975);
+					setState(1997);
 					match(LBRACK);
-					setState(1976);
+					setState(1998);
 					match(RBRACK);
 					}
 					}
-					setState(1981);
+					setState(2003);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1982);
+				setState(2004);
 				match(DOT);
-				setState(1983);
+				setState(2005);
 				match(CLASS);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1985);
+				setState(2007);
 				unannPrimitiveType();
-				setState(1990);
+				setState(2012);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(1986);
+					setState(2008);
 					match(LBRACK);
-					setState(1987);
+					setState(2009);
 					match(RBRACK);
 					}
 					}
-					setState(1992);
+					setState(2014);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1993);
+				setState(2015);
 				match(DOT);
-				setState(1994);
+				setState(2016);
 				match(CLASS);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1996);
+				setState(2018);
 				match(VOID);
-				setState(1997);
+				setState(2019);
 				match(DOT);
-				setState(1998);
+				setState(2020);
 				match(CLASS);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1999);
+				setState(2021);
 				match(THIS);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(2000);
+				setState(2022);
 				typeName();
-				setState(2001);
+				setState(2023);
 				match(DOT);
-				setState(2002);
+				setState(2024);
 				match(THIS);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(2004);
+				setState(2026);
 				match(LPAREN);
-				setState(2005);
+				setState(2027);
 				expression();
-				setState(2006);
+				setState(2028);
 				match(RPAREN);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(2008);
+				setState(2030);
 				classInstanceCreationExpression_lfno_primary();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(2009);
+				setState(2031);
 				fieldAccess_lfno_primary();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(2010);
+				setState(2032);
 				arrayAccess_lfno_primary();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(2011);
+				setState(2033);
 				methodInvocation_lfno_primary();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(2012);
+				setState(2034);
 				methodReference_lfno_primary();
 				}
 				break;
@@ -13401,7 +13583,7 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primaryContext primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary() throws RecognitionException {
 		PrimaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primaryContext _localctx = new PrimaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 372, RULE_primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary);
+		enterRule(_localctx, 380, RULE_primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
@@ -13464,137 +13646,137 @@ public class Java8Parser extends Parser {
 
 	public final PrimaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primaryContext primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary() throws RecognitionException {
 		PrimaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primaryContext _localctx = new PrimaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 374, RULE_primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary);
+		enterRule(_localctx, 382, RULE_primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary);
 		int _la;
 		try {
-			setState(2056);
+			setState(2078);
 			switch ( getInterpreter().adaptivePredict(_input,209,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2017);
+				setState(2039);
 				literal();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2018);
+				setState(2040);
 				typeName();
-				setState(2023);
+				setState(2045);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(2019);
+					setState(2041);
 					match(LBRACK);
-					setState(2020);
+					setState(2042);
 					match(RBRACK);
 					}
 					}
-					setState(2025);
+					setState(2047);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2026);
+				setState(2048);
 				match(DOT);
-				setState(2027);
+				setState(2049);
 				match(CLASS);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2029);
+				setState(2051);
 				unannPrimitiveType();
-				setState(2034);
+				setState(2056);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(2030);
+					setState(2052);
 					match(LBRACK);
-					setState(2031);
+					setState(2053);
 					match(RBRACK);
 					}
 					}
-					setState(2036);
+					setState(2058);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2037);
+				setState(2059);
 				match(DOT);
-				setState(2038);
+				setState(2060);
 				match(CLASS);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2040);
+				setState(2062);
 				match(VOID);
-				setState(2041);
+				setState(2063);
 				match(DOT);
-				setState(2042);
+				setState(2064);
 				match(CLASS);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2043);
+				setState(2065);
 				match(THIS);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(2044);
+				setState(2066);
 				typeName();
-				setState(2045);
+				setState(2067);
 				match(DOT);
-				setState(2046);
+				setState(2068);
 				match(THIS);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(2048);
+				setState(2070);
 				match(LPAREN);
-				setState(2049);
+				setState(2071);
 				expression();
-				setState(2050);
+				setState(2072);
 				match(RPAREN);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(2052);
+				setState(2074);
 				classInstanceCreationExpression_lfno_primary();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(2053);
+				setState(2075);
 				fieldAccess_lfno_primary();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(2054);
+				setState(2076);
 				methodInvocation_lfno_primary();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(2055);
+				setState(2077);
 				methodReference_lfno_primary();
 				}
 				break;
@@ -13661,98 +13843,98 @@ public class Java8Parser extends Parser {
 
 	public final ClassInstanceCreationExpressionContext classInstanceCreationExpression() throws RecognitionException {
 		ClassInstanceCreationExpressionContext _localctx = new ClassInstanceCreationExpressionContext(_ctx, getState());
-		enterRule(_localctx, 376, RULE_classInstanceCreationExpression);
+		enterRule(_localctx, 384, RULE_classInstanceCreationExpression);
 		int _la;
 		try {
-			setState(2141);
+			setState(2163);
 			switch ( getInterpreter().adaptivePredict(_input,227,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2058);
+				setState(2080);
 				match(NEW);
-				setState(2060);
+				setState(2082);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2059);
+					setState(2081);
 					typeArguments();
 					}
 				}
 
-				setState(2065);
+				setState(2087);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(2062);
+					setState(2084);
 					annotation();
 					}
 					}
-					setState(2067);
+					setState(2089);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2068);
+				setState(2090);
 				match(Identifier);
-				setState(2079);
+				setState(2101);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DOT) {
 					{
 					{
-					setState(2069);
+					setState(2091);
 					match(DOT);
-					setState(2073);
+					setState(2095);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==AT) {
 						{
 						{
-						setState(2070);
+						setState(2092);
 						annotation();
 						}
 						}
-						setState(2075);
+						setState(2097);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(2076);
+					setState(2098);
 					match(Identifier);
 					}
 					}
-					setState(2081);
+					setState(2103);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2083);
+				setState(2105);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2082);
+					setState(2104);
 					typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(2085);
+				setState(2107);
 				match(LPAREN);
-				setState(2087);
+				setState(2109);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2086);
+					setState(2108);
 					argumentList();
 					}
 				}
 
-				setState(2089);
+				setState(2111);
 				match(RPAREN);
-				setState(2091);
+				setState(2113);
 				_la = _input.LA(1);
 				if (_la==LBRACE) {
 					{
-					setState(2090);
+					setState(2112);
 					classBody();
 					}
 				}
@@ -13762,64 +13944,64 @@ public class Java8Parser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2093);
+				setState(2115);
 				expressionName();
-				setState(2094);
+				setState(2116);
 				match(DOT);
-				setState(2095);
+				setState(2117);
 				match(NEW);
-				setState(2097);
+				setState(2119);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2096);
+					setState(2118);
 					typeArguments();
 					}
 				}
 
-				setState(2102);
+				setState(2124);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(2099);
+					setState(2121);
 					annotation();
 					}
 					}
-					setState(2104);
+					setState(2126);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2105);
+				setState(2127);
 				match(Identifier);
-				setState(2107);
+				setState(2129);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2106);
+					setState(2128);
 					typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(2109);
+				setState(2131);
 				match(LPAREN);
-				setState(2111);
+				setState(2133);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2110);
+					setState(2132);
 					argumentList();
 					}
 				}
 
-				setState(2113);
+				setState(2135);
 				match(RPAREN);
-				setState(2115);
+				setState(2137);
 				_la = _input.LA(1);
 				if (_la==LBRACE) {
 					{
-					setState(2114);
+					setState(2136);
 					classBody();
 					}
 				}
@@ -13829,64 +14011,64 @@ public class Java8Parser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2117);
+				setState(2139);
 				primary();
-				setState(2118);
+				setState(2140);
 				match(DOT);
-				setState(2119);
+				setState(2141);
 				match(NEW);
-				setState(2121);
+				setState(2143);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2120);
+					setState(2142);
 					typeArguments();
 					}
 				}
 
-				setState(2126);
+				setState(2148);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(2123);
+					setState(2145);
 					annotation();
 					}
 					}
-					setState(2128);
+					setState(2150);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2129);
+				setState(2151);
 				match(Identifier);
-				setState(2131);
+				setState(2153);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2130);
+					setState(2152);
 					typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(2133);
+				setState(2155);
 				match(LPAREN);
-				setState(2135);
+				setState(2157);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2134);
+					setState(2156);
 					argumentList();
 					}
 				}
 
-				setState(2137);
+				setState(2159);
 				match(RPAREN);
-				setState(2139);
+				setState(2161);
 				_la = _input.LA(1);
 				if (_la==LBRACE) {
 					{
-					setState(2138);
+					setState(2160);
 					classBody();
 					}
 				}
@@ -13947,67 +14129,67 @@ public class Java8Parser extends Parser {
 
 	public final ClassInstanceCreationExpression_lf_primaryContext classInstanceCreationExpression_lf_primary() throws RecognitionException {
 		ClassInstanceCreationExpression_lf_primaryContext _localctx = new ClassInstanceCreationExpression_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 378, RULE_classInstanceCreationExpression_lf_primary);
+		enterRule(_localctx, 386, RULE_classInstanceCreationExpression_lf_primary);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2143);
+			setState(2165);
 			match(DOT);
-			setState(2144);
+			setState(2166);
 			match(NEW);
-			setState(2146);
+			setState(2168);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(2145);
+				setState(2167);
 				typeArguments();
 				}
 			}
 
-			setState(2151);
+			setState(2173);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(2148);
+				setState(2170);
 				annotation();
 				}
 				}
-				setState(2153);
+				setState(2175);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(2154);
+			setState(2176);
 			match(Identifier);
-			setState(2156);
+			setState(2178);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(2155);
+				setState(2177);
 				typeArgumentsOrDiamond();
 				}
 			}
 
-			setState(2158);
+			setState(2180);
 			match(LPAREN);
-			setState(2160);
+			setState(2182);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(2159);
+				setState(2181);
 				argumentList();
 				}
 			}
 
-			setState(2162);
+			setState(2184);
 			match(RPAREN);
-			setState(2164);
+			setState(2186);
 			switch ( getInterpreter().adaptivePredict(_input,232,_ctx) ) {
 			case 1:
 				{
-				setState(2163);
+				setState(2185);
 				classBody();
 				}
 				break;
@@ -14072,98 +14254,98 @@ public class Java8Parser extends Parser {
 
 	public final ClassInstanceCreationExpression_lfno_primaryContext classInstanceCreationExpression_lfno_primary() throws RecognitionException {
 		ClassInstanceCreationExpression_lfno_primaryContext _localctx = new ClassInstanceCreationExpression_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 380, RULE_classInstanceCreationExpression_lfno_primary);
+		enterRule(_localctx, 388, RULE_classInstanceCreationExpression_lfno_primary);
 		int _la;
 		try {
-			setState(2225);
+			setState(2247);
 			switch (_input.LA(1)) {
 			case NEW:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2166);
+				setState(2188);
 				match(NEW);
-				setState(2168);
+				setState(2190);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2167);
+					setState(2189);
 					typeArguments();
 					}
 				}
 
-				setState(2173);
+				setState(2195);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(2170);
+					setState(2192);
 					annotation();
 					}
 					}
-					setState(2175);
+					setState(2197);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2176);
+				setState(2198);
 				match(Identifier);
-				setState(2187);
+				setState(2209);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DOT) {
 					{
 					{
-					setState(2177);
+					setState(2199);
 					match(DOT);
-					setState(2181);
+					setState(2203);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==AT) {
 						{
 						{
-						setState(2178);
+						setState(2200);
 						annotation();
 						}
 						}
-						setState(2183);
+						setState(2205);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(2184);
+					setState(2206);
 					match(Identifier);
 					}
 					}
-					setState(2189);
+					setState(2211);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2191);
+				setState(2213);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2190);
+					setState(2212);
 					typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(2193);
+				setState(2215);
 				match(LPAREN);
-				setState(2195);
+				setState(2217);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2194);
+					setState(2216);
 					argumentList();
 					}
 				}
 
-				setState(2197);
+				setState(2219);
 				match(RPAREN);
-				setState(2199);
+				setState(2221);
 				switch ( getInterpreter().adaptivePredict(_input,239,_ctx) ) {
 				case 1:
 					{
-					setState(2198);
+					setState(2220);
 					classBody();
 					}
 					break;
@@ -14173,64 +14355,64 @@ public class Java8Parser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2201);
+				setState(2223);
 				expressionName();
-				setState(2202);
+				setState(2224);
 				match(DOT);
-				setState(2203);
+				setState(2225);
 				match(NEW);
-				setState(2205);
+				setState(2227);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2204);
+					setState(2226);
 					typeArguments();
 					}
 				}
 
-				setState(2210);
+				setState(2232);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==AT) {
 					{
 					{
-					setState(2207);
+					setState(2229);
 					annotation();
 					}
 					}
-					setState(2212);
+					setState(2234);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2213);
+				setState(2235);
 				match(Identifier);
-				setState(2215);
+				setState(2237);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2214);
+					setState(2236);
 					typeArgumentsOrDiamond();
 					}
 				}
 
-				setState(2217);
+				setState(2239);
 				match(LPAREN);
-				setState(2219);
+				setState(2241);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2218);
+					setState(2240);
 					argumentList();
 					}
 				}
 
-				setState(2221);
+				setState(2243);
 				match(RPAREN);
-				setState(2223);
+				setState(2245);
 				switch ( getInterpreter().adaptivePredict(_input,244,_ctx) ) {
 				case 1:
 					{
-					setState(2222);
+					setState(2244);
 					classBody();
 					}
 					break;
@@ -14277,23 +14459,23 @@ public class Java8Parser extends Parser {
 
 	public final TypeArgumentsOrDiamondContext typeArgumentsOrDiamond() throws RecognitionException {
 		TypeArgumentsOrDiamondContext _localctx = new TypeArgumentsOrDiamondContext(_ctx, getState());
-		enterRule(_localctx, 382, RULE_typeArgumentsOrDiamond);
+		enterRule(_localctx, 390, RULE_typeArgumentsOrDiamond);
 		try {
-			setState(2230);
+			setState(2252);
 			switch ( getInterpreter().adaptivePredict(_input,246,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2227);
+				setState(2249);
 				typeArguments();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2228);
+				setState(2250);
 				match(LT);
-				setState(2229);
+				setState(2251);
 				match(GT);
 				}
 				break;
@@ -14339,44 +14521,44 @@ public class Java8Parser extends Parser {
 
 	public final FieldAccessContext fieldAccess() throws RecognitionException {
 		FieldAccessContext _localctx = new FieldAccessContext(_ctx, getState());
-		enterRule(_localctx, 384, RULE_fieldAccess);
+		enterRule(_localctx, 392, RULE_fieldAccess);
 		try {
-			setState(2245);
+			setState(2267);
 			switch ( getInterpreter().adaptivePredict(_input,247,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2232);
+				setState(2254);
 				primary();
-				setState(2233);
+				setState(2255);
 				match(DOT);
-				setState(2234);
+				setState(2256);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2236);
+				setState(2258);
 				match(SUPER);
-				setState(2237);
+				setState(2259);
 				match(DOT);
-				setState(2238);
+				setState(2260);
 				match(Identifier);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2239);
+				setState(2261);
 				typeName();
-				setState(2240);
+				setState(2262);
 				match(DOT);
-				setState(2241);
+				setState(2263);
 				match(SUPER);
-				setState(2242);
+				setState(2264);
 				match(DOT);
-				setState(2243);
+				setState(2265);
 				match(Identifier);
 				}
 				break;
@@ -14416,13 +14598,13 @@ public class Java8Parser extends Parser {
 
 	public final FieldAccess_lf_primaryContext fieldAccess_lf_primary() throws RecognitionException {
 		FieldAccess_lf_primaryContext _localctx = new FieldAccess_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 386, RULE_fieldAccess_lf_primary);
+		enterRule(_localctx, 394, RULE_fieldAccess_lf_primary);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2247);
+			setState(2269);
 			match(DOT);
-			setState(2248);
+			setState(2270);
 			match(Identifier);
 			}
 		}
@@ -14463,33 +14645,33 @@ public class Java8Parser extends Parser {
 
 	public final FieldAccess_lfno_primaryContext fieldAccess_lfno_primary() throws RecognitionException {
 		FieldAccess_lfno_primaryContext _localctx = new FieldAccess_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 388, RULE_fieldAccess_lfno_primary);
+		enterRule(_localctx, 396, RULE_fieldAccess_lfno_primary);
 		try {
-			setState(2259);
+			setState(2281);
 			switch (_input.LA(1)) {
 			case SUPER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2250);
+				setState(2272);
 				match(SUPER);
-				setState(2251);
+				setState(2273);
 				match(DOT);
-				setState(2252);
+				setState(2274);
 				match(Identifier);
 				}
 				break;
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2253);
+				setState(2275);
 				typeName();
-				setState(2254);
+				setState(2276);
 				match(DOT);
-				setState(2255);
+				setState(2277);
 				match(SUPER);
-				setState(2256);
+				setState(2278);
 				match(DOT);
-				setState(2257);
+				setState(2279);
 				match(Identifier);
 				}
 				break;
@@ -14548,55 +14730,55 @@ public class Java8Parser extends Parser {
 
 	public final ArrayAccessContext arrayAccess() throws RecognitionException {
 		ArrayAccessContext _localctx = new ArrayAccessContext(_ctx, getState());
-		enterRule(_localctx, 390, RULE_arrayAccess);
+		enterRule(_localctx, 398, RULE_arrayAccess);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2271);
+			setState(2293);
 			switch ( getInterpreter().adaptivePredict(_input,249,_ctx) ) {
 			case 1:
 				{
-				setState(2261);
+				setState(2283);
 				expressionName();
-				setState(2262);
+				setState(2284);
 				match(LBRACK);
-				setState(2263);
+				setState(2285);
 				expression();
-				setState(2264);
+				setState(2286);
 				match(RBRACK);
 				}
 				break;
 			case 2:
 				{
-				setState(2266);
+				setState(2288);
 				primaryNoNewArray_lfno_arrayAccess();
-				setState(2267);
+				setState(2289);
 				match(LBRACK);
-				setState(2268);
+				setState(2290);
 				expression();
-				setState(2269);
+				setState(2291);
 				match(RBRACK);
 				}
 				break;
 			}
-			setState(2280);
+			setState(2302);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(2273);
+				setState(2295);
 				primaryNoNewArray_lf_arrayAccess();
-				setState(2274);
+				setState(2296);
 				match(LBRACK);
-				setState(2275);
+				setState(2297);
 				expression();
-				setState(2276);
+				setState(2298);
 				match(RBRACK);
 				}
 				}
-				setState(2282);
+				setState(2304);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -14650,40 +14832,40 @@ public class Java8Parser extends Parser {
 
 	public final ArrayAccess_lf_primaryContext arrayAccess_lf_primary() throws RecognitionException {
 		ArrayAccess_lf_primaryContext _localctx = new ArrayAccess_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 392, RULE_arrayAccess_lf_primary);
+		enterRule(_localctx, 400, RULE_arrayAccess_lf_primary);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2283);
+			setState(2305);
 			primaryNoNewArray_lf_primary_lfno_arrayAccess_lf_primary();
-			setState(2284);
+			setState(2306);
 			match(LBRACK);
-			setState(2285);
+			setState(2307);
 			expression();
-			setState(2286);
+			setState(2308);
 			match(RBRACK);
 			}
-			setState(2295);
+			setState(2317);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,251,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(2288);
+					setState(2310);
 					primaryNoNewArray_lf_primary_lf_arrayAccess_lf_primary();
-					setState(2289);
+					setState(2311);
 					match(LBRACK);
-					setState(2290);
+					setState(2312);
 					expression();
-					setState(2291);
+					setState(2313);
 					match(RBRACK);
 					}
 					} 
 				}
-				setState(2297);
+				setState(2319);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,251,_ctx);
 			}
@@ -14740,57 +14922,57 @@ public class Java8Parser extends Parser {
 
 	public final ArrayAccess_lfno_primaryContext arrayAccess_lfno_primary() throws RecognitionException {
 		ArrayAccess_lfno_primaryContext _localctx = new ArrayAccess_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 394, RULE_arrayAccess_lfno_primary);
+		enterRule(_localctx, 402, RULE_arrayAccess_lfno_primary);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2308);
+			setState(2330);
 			switch ( getInterpreter().adaptivePredict(_input,252,_ctx) ) {
 			case 1:
 				{
-				setState(2298);
+				setState(2320);
 				expressionName();
-				setState(2299);
+				setState(2321);
 				match(LBRACK);
-				setState(2300);
+				setState(2322);
 				expression();
-				setState(2301);
+				setState(2323);
 				match(RBRACK);
 				}
 				break;
 			case 2:
 				{
-				setState(2303);
+				setState(2325);
 				primaryNoNewArray_lfno_primary_lfno_arrayAccess_lfno_primary();
-				setState(2304);
+				setState(2326);
 				match(LBRACK);
-				setState(2305);
+				setState(2327);
 				expression();
-				setState(2306);
+				setState(2328);
 				match(RBRACK);
 				}
 				break;
 			}
-			setState(2317);
+			setState(2339);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,253,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(2310);
+					setState(2332);
 					primaryNoNewArray_lfno_primary_lf_arrayAccess_lfno_primary();
-					setState(2311);
+					setState(2333);
 					match(LBRACK);
-					setState(2312);
+					setState(2334);
 					expression();
-					setState(2313);
+					setState(2335);
 					match(RBRACK);
 					}
 					} 
 				}
-				setState(2319);
+				setState(2341);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,253,_ctx);
 			}
@@ -14848,197 +15030,197 @@ public class Java8Parser extends Parser {
 
 	public final MethodInvocationContext methodInvocation() throws RecognitionException {
 		MethodInvocationContext _localctx = new MethodInvocationContext(_ctx, getState());
-		enterRule(_localctx, 396, RULE_methodInvocation);
+		enterRule(_localctx, 404, RULE_methodInvocation);
 		int _la;
 		try {
-			setState(2388);
+			setState(2410);
 			switch ( getInterpreter().adaptivePredict(_input,265,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2320);
+				setState(2342);
 				methodName();
-				setState(2321);
+				setState(2343);
 				match(LPAREN);
-				setState(2323);
+				setState(2345);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2322);
+					setState(2344);
 					argumentList();
 					}
 				}
 
-				setState(2325);
+				setState(2347);
 				match(RPAREN);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2327);
+				setState(2349);
 				typeName();
-				setState(2328);
+				setState(2350);
 				match(DOT);
-				setState(2330);
+				setState(2352);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2329);
+					setState(2351);
 					typeArguments();
 					}
 				}
 
-				setState(2332);
+				setState(2354);
 				match(Identifier);
-				setState(2333);
+				setState(2355);
 				match(LPAREN);
-				setState(2335);
+				setState(2357);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2334);
+					setState(2356);
 					argumentList();
 					}
 				}
 
-				setState(2337);
+				setState(2359);
 				match(RPAREN);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2339);
+				setState(2361);
 				expressionName();
-				setState(2340);
+				setState(2362);
 				match(DOT);
-				setState(2342);
+				setState(2364);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2341);
+					setState(2363);
 					typeArguments();
 					}
 				}
 
-				setState(2344);
+				setState(2366);
 				match(Identifier);
-				setState(2345);
+				setState(2367);
 				match(LPAREN);
-				setState(2347);
+				setState(2369);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2346);
+					setState(2368);
 					argumentList();
 					}
 				}
 
-				setState(2349);
+				setState(2371);
 				match(RPAREN);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2351);
+				setState(2373);
 				primary();
-				setState(2352);
+				setState(2374);
 				match(DOT);
-				setState(2354);
+				setState(2376);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2353);
+					setState(2375);
 					typeArguments();
 					}
 				}
 
-				setState(2356);
+				setState(2378);
 				match(Identifier);
-				setState(2357);
+				setState(2379);
 				match(LPAREN);
-				setState(2359);
+				setState(2381);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2358);
+					setState(2380);
 					argumentList();
 					}
 				}
 
-				setState(2361);
+				setState(2383);
 				match(RPAREN);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2363);
+				setState(2385);
 				match(SUPER);
-				setState(2364);
+				setState(2386);
 				match(DOT);
-				setState(2366);
+				setState(2388);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2365);
+					setState(2387);
 					typeArguments();
 					}
 				}
 
-				setState(2368);
+				setState(2390);
 				match(Identifier);
-				setState(2369);
+				setState(2391);
 				match(LPAREN);
-				setState(2371);
+				setState(2393);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2370);
+					setState(2392);
 					argumentList();
 					}
 				}
 
-				setState(2373);
+				setState(2395);
 				match(RPAREN);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(2374);
+				setState(2396);
 				typeName();
-				setState(2375);
+				setState(2397);
 				match(DOT);
-				setState(2376);
+				setState(2398);
 				match(SUPER);
-				setState(2377);
+				setState(2399);
 				match(DOT);
-				setState(2379);
+				setState(2401);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2378);
+					setState(2400);
 					typeArguments();
 					}
 				}
 
-				setState(2381);
+				setState(2403);
 				match(Identifier);
-				setState(2382);
+				setState(2404);
 				match(LPAREN);
-				setState(2384);
+				setState(2406);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2383);
+					setState(2405);
 					argumentList();
 					}
 				}
 
-				setState(2386);
+				setState(2408);
 				match(RPAREN);
 				}
 				break;
@@ -15084,36 +15266,36 @@ public class Java8Parser extends Parser {
 
 	public final MethodInvocation_lf_primaryContext methodInvocation_lf_primary() throws RecognitionException {
 		MethodInvocation_lf_primaryContext _localctx = new MethodInvocation_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 398, RULE_methodInvocation_lf_primary);
+		enterRule(_localctx, 406, RULE_methodInvocation_lf_primary);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2390);
+			setState(2412);
 			match(DOT);
-			setState(2392);
+			setState(2414);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(2391);
+				setState(2413);
 				typeArguments();
 				}
 			}
 
-			setState(2394);
+			setState(2416);
 			match(Identifier);
-			setState(2395);
+			setState(2417);
 			match(LPAREN);
-			setState(2397);
+			setState(2419);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 				{
-				setState(2396);
+				setState(2418);
 				argumentList();
 				}
 			}
 
-			setState(2399);
+			setState(2421);
 			match(RPAREN);
 			}
 		}
@@ -15166,164 +15348,164 @@ public class Java8Parser extends Parser {
 
 	public final MethodInvocation_lfno_primaryContext methodInvocation_lfno_primary() throws RecognitionException {
 		MethodInvocation_lfno_primaryContext _localctx = new MethodInvocation_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 400, RULE_methodInvocation_lfno_primary);
+		enterRule(_localctx, 408, RULE_methodInvocation_lfno_primary);
 		int _la;
 		try {
-			setState(2457);
+			setState(2479);
 			switch ( getInterpreter().adaptivePredict(_input,277,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2401);
+				setState(2423);
 				methodName();
-				setState(2402);
+				setState(2424);
 				match(LPAREN);
-				setState(2404);
+				setState(2426);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2403);
+					setState(2425);
 					argumentList();
 					}
 				}
 
-				setState(2406);
+				setState(2428);
 				match(RPAREN);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2408);
+				setState(2430);
 				typeName();
-				setState(2409);
+				setState(2431);
 				match(DOT);
-				setState(2411);
+				setState(2433);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2410);
+					setState(2432);
 					typeArguments();
 					}
 				}
 
-				setState(2413);
+				setState(2435);
 				match(Identifier);
-				setState(2414);
+				setState(2436);
 				match(LPAREN);
-				setState(2416);
+				setState(2438);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2415);
+					setState(2437);
 					argumentList();
 					}
 				}
 
-				setState(2418);
+				setState(2440);
 				match(RPAREN);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2420);
+				setState(2442);
 				expressionName();
-				setState(2421);
+				setState(2443);
 				match(DOT);
-				setState(2423);
+				setState(2445);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2422);
+					setState(2444);
 					typeArguments();
 					}
 				}
 
-				setState(2425);
+				setState(2447);
 				match(Identifier);
-				setState(2426);
+				setState(2448);
 				match(LPAREN);
-				setState(2428);
+				setState(2450);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2427);
+					setState(2449);
 					argumentList();
 					}
 				}
 
-				setState(2430);
+				setState(2452);
 				match(RPAREN);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2432);
+				setState(2454);
 				match(SUPER);
-				setState(2433);
+				setState(2455);
 				match(DOT);
-				setState(2435);
+				setState(2457);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2434);
+					setState(2456);
 					typeArguments();
 					}
 				}
 
-				setState(2437);
+				setState(2459);
 				match(Identifier);
-				setState(2438);
+				setState(2460);
 				match(LPAREN);
-				setState(2440);
+				setState(2462);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2439);
+					setState(2461);
 					argumentList();
 					}
 				}
 
-				setState(2442);
+				setState(2464);
 				match(RPAREN);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2443);
+				setState(2465);
 				typeName();
-				setState(2444);
+				setState(2466);
 				match(DOT);
-				setState(2445);
+				setState(2467);
 				match(SUPER);
-				setState(2446);
+				setState(2468);
 				match(DOT);
-				setState(2448);
+				setState(2470);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2447);
+					setState(2469);
 					typeArguments();
 					}
 				}
 
-				setState(2450);
+				setState(2472);
 				match(Identifier);
-				setState(2451);
+				setState(2473);
 				match(LPAREN);
-				setState(2453);
+				setState(2475);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (BANG - 69)) | (1L << (TILDE - 69)) | (1L << (INC - 69)) | (1L << (DEC - 69)) | (1L << (ADD - 69)) | (1L << (SUB - 69)) | (1L << (Identifier - 69)) | (1L << (AT - 69)))) != 0)) {
 					{
-					setState(2452);
+					setState(2474);
 					argumentList();
 					}
 				}
 
-				setState(2455);
+				setState(2477);
 				match(RPAREN);
 				}
 				break;
@@ -15368,26 +15550,26 @@ public class Java8Parser extends Parser {
 
 	public final ArgumentListContext argumentList() throws RecognitionException {
 		ArgumentListContext _localctx = new ArgumentListContext(_ctx, getState());
-		enterRule(_localctx, 402, RULE_argumentList);
+		enterRule(_localctx, 410, RULE_argumentList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2459);
+			setState(2481);
 			expression();
-			setState(2464);
+			setState(2486);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(2460);
+				setState(2482);
 				match(COMMA);
-				setState(2461);
+				setState(2483);
 				expression();
 				}
 				}
-				setState(2466);
+				setState(2488);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -15448,143 +15630,143 @@ public class Java8Parser extends Parser {
 
 	public final MethodReferenceContext methodReference() throws RecognitionException {
 		MethodReferenceContext _localctx = new MethodReferenceContext(_ctx, getState());
-		enterRule(_localctx, 404, RULE_methodReference);
+		enterRule(_localctx, 412, RULE_methodReference);
 		int _la;
 		try {
-			setState(2514);
+			setState(2536);
 			switch ( getInterpreter().adaptivePredict(_input,285,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2467);
+				setState(2489);
 				expressionName();
-				setState(2468);
+				setState(2490);
 				match(COLONCOLON);
-				setState(2470);
+				setState(2492);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2469);
+					setState(2491);
 					typeArguments();
 					}
 				}
 
-				setState(2472);
+				setState(2494);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2474);
+				setState(2496);
 				referenceType();
-				setState(2475);
+				setState(2497);
 				match(COLONCOLON);
-				setState(2477);
+				setState(2499);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2476);
+					setState(2498);
 					typeArguments();
 					}
 				}
 
-				setState(2479);
+				setState(2501);
 				match(Identifier);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2481);
+				setState(2503);
 				primary();
-				setState(2482);
+				setState(2504);
 				match(COLONCOLON);
-				setState(2484);
+				setState(2506);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2483);
+					setState(2505);
 					typeArguments();
 					}
 				}
 
-				setState(2486);
+				setState(2508);
 				match(Identifier);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2488);
+				setState(2510);
 				match(SUPER);
-				setState(2489);
+				setState(2511);
 				match(COLONCOLON);
-				setState(2491);
+				setState(2513);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2490);
+					setState(2512);
 					typeArguments();
 					}
 				}
 
-				setState(2493);
+				setState(2515);
 				match(Identifier);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2494);
+				setState(2516);
 				typeName();
-				setState(2495);
+				setState(2517);
 				match(DOT);
-				setState(2496);
+				setState(2518);
 				match(SUPER);
-				setState(2497);
+				setState(2519);
 				match(COLONCOLON);
-				setState(2499);
+				setState(2521);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2498);
+					setState(2520);
 					typeArguments();
 					}
 				}
 
-				setState(2501);
+				setState(2523);
 				match(Identifier);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(2503);
+				setState(2525);
 				classType();
-				setState(2504);
+				setState(2526);
 				match(COLONCOLON);
-				setState(2506);
+				setState(2528);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2505);
+					setState(2527);
 					typeArguments();
 					}
 				}
 
-				setState(2508);
+				setState(2530);
 				match(NEW);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(2510);
+				setState(2532);
 				arrayType();
-				setState(2511);
+				setState(2533);
 				match(COLONCOLON);
-				setState(2512);
+				setState(2534);
 				match(NEW);
 				}
 				break;
@@ -15627,23 +15809,23 @@ public class Java8Parser extends Parser {
 
 	public final MethodReference_lf_primaryContext methodReference_lf_primary() throws RecognitionException {
 		MethodReference_lf_primaryContext _localctx = new MethodReference_lf_primaryContext(_ctx, getState());
-		enterRule(_localctx, 406, RULE_methodReference_lf_primary);
+		enterRule(_localctx, 414, RULE_methodReference_lf_primary);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2516);
+			setState(2538);
 			match(COLONCOLON);
-			setState(2518);
+			setState(2540);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(2517);
+				setState(2539);
 				typeArguments();
 				}
 			}
 
-			setState(2520);
+			setState(2542);
 			match(Identifier);
 			}
 		}
@@ -15699,123 +15881,123 @@ public class Java8Parser extends Parser {
 
 	public final MethodReference_lfno_primaryContext methodReference_lfno_primary() throws RecognitionException {
 		MethodReference_lfno_primaryContext _localctx = new MethodReference_lfno_primaryContext(_ctx, getState());
-		enterRule(_localctx, 408, RULE_methodReference_lfno_primary);
+		enterRule(_localctx, 416, RULE_methodReference_lfno_primary);
 		int _la;
 		try {
-			setState(2562);
+			setState(2584);
 			switch ( getInterpreter().adaptivePredict(_input,292,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2522);
+				setState(2544);
 				expressionName();
-				setState(2523);
+				setState(2545);
 				match(COLONCOLON);
-				setState(2525);
+				setState(2547);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2524);
+					setState(2546);
 					typeArguments();
 					}
 				}
 
-				setState(2527);
+				setState(2549);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2529);
+				setState(2551);
 				referenceType();
-				setState(2530);
+				setState(2552);
 				match(COLONCOLON);
-				setState(2532);
+				setState(2554);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2531);
+					setState(2553);
 					typeArguments();
 					}
 				}
 
-				setState(2534);
+				setState(2556);
 				match(Identifier);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2536);
+				setState(2558);
 				match(SUPER);
-				setState(2537);
+				setState(2559);
 				match(COLONCOLON);
-				setState(2539);
+				setState(2561);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2538);
+					setState(2560);
 					typeArguments();
 					}
 				}
 
-				setState(2541);
+				setState(2563);
 				match(Identifier);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2542);
+				setState(2564);
 				typeName();
-				setState(2543);
+				setState(2565);
 				match(DOT);
-				setState(2544);
+				setState(2566);
 				match(SUPER);
-				setState(2545);
+				setState(2567);
 				match(COLONCOLON);
-				setState(2547);
+				setState(2569);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2546);
+					setState(2568);
 					typeArguments();
 					}
 				}
 
-				setState(2549);
+				setState(2571);
 				match(Identifier);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2551);
+				setState(2573);
 				classType();
-				setState(2552);
+				setState(2574);
 				match(COLONCOLON);
-				setState(2554);
+				setState(2576);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(2553);
+					setState(2575);
 					typeArguments();
 					}
 				}
 
-				setState(2556);
+				setState(2578);
 				match(NEW);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(2558);
+				setState(2580);
 				arrayType();
-				setState(2559);
+				setState(2581);
 				match(COLONCOLON);
-				setState(2560);
+				setState(2582);
 				match(NEW);
 				}
 				break;
@@ -15869,24 +16051,24 @@ public class Java8Parser extends Parser {
 
 	public final ArrayCreationExpressionContext arrayCreationExpression() throws RecognitionException {
 		ArrayCreationExpressionContext _localctx = new ArrayCreationExpressionContext(_ctx, getState());
-		enterRule(_localctx, 410, RULE_arrayCreationExpression);
+		enterRule(_localctx, 418, RULE_arrayCreationExpression);
 		try {
-			setState(2586);
+			setState(2608);
 			switch ( getInterpreter().adaptivePredict(_input,295,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2564);
+				setState(2586);
 				match(NEW);
-				setState(2565);
+				setState(2587);
 				primitiveType();
-				setState(2566);
+				setState(2588);
 				dimExprs();
-				setState(2568);
+				setState(2590);
 				switch ( getInterpreter().adaptivePredict(_input,293,_ctx) ) {
 				case 1:
 					{
-					setState(2567);
+					setState(2589);
 					dims();
 					}
 					break;
@@ -15896,17 +16078,17 @@ public class Java8Parser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2570);
+				setState(2592);
 				match(NEW);
-				setState(2571);
+				setState(2593);
 				classOrInterfaceType();
-				setState(2572);
+				setState(2594);
 				dimExprs();
-				setState(2574);
+				setState(2596);
 				switch ( getInterpreter().adaptivePredict(_input,294,_ctx) ) {
 				case 1:
 					{
-					setState(2573);
+					setState(2595);
 					dims();
 					}
 					break;
@@ -15916,26 +16098,26 @@ public class Java8Parser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2576);
+				setState(2598);
 				match(NEW);
-				setState(2577);
+				setState(2599);
 				primitiveType();
-				setState(2578);
+				setState(2600);
 				dims();
-				setState(2579);
+				setState(2601);
 				arrayInitializer();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2581);
+				setState(2603);
 				match(NEW);
-				setState(2582);
+				setState(2604);
 				classOrInterfaceType();
-				setState(2583);
+				setState(2605);
 				dims();
-				setState(2584);
+				setState(2606);
 				arrayInitializer();
 				}
 				break;
@@ -15980,26 +16162,26 @@ public class Java8Parser extends Parser {
 
 	public final DimExprsContext dimExprs() throws RecognitionException {
 		DimExprsContext _localctx = new DimExprsContext(_ctx, getState());
-		enterRule(_localctx, 412, RULE_dimExprs);
+		enterRule(_localctx, 420, RULE_dimExprs);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2588);
+			setState(2610);
 			dimExpr();
-			setState(2592);
+			setState(2614);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,296,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(2589);
+					setState(2611);
 					dimExpr();
 					}
 					} 
 				}
-				setState(2594);
+				setState(2616);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,296,_ctx);
 			}
@@ -16047,30 +16229,30 @@ public class Java8Parser extends Parser {
 
 	public final DimExprContext dimExpr() throws RecognitionException {
 		DimExprContext _localctx = new DimExprContext(_ctx, getState());
-		enterRule(_localctx, 414, RULE_dimExpr);
+		enterRule(_localctx, 422, RULE_dimExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2598);
+			setState(2620);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AT) {
 				{
 				{
-				setState(2595);
+				setState(2617);
 				annotation();
 				}
 				}
-				setState(2600);
+				setState(2622);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(2601);
+			setState(2623);
 			match(LBRACK);
-			setState(2602);
+			setState(2624);
 			expression();
-			setState(2603);
+			setState(2625);
 			match(RBRACK);
 			}
 		}
@@ -16110,11 +16292,11 @@ public class Java8Parser extends Parser {
 
 	public final ConstantExpressionContext constantExpression() throws RecognitionException {
 		ConstantExpressionContext _localctx = new ConstantExpressionContext(_ctx, getState());
-		enterRule(_localctx, 416, RULE_constantExpression);
+		enterRule(_localctx, 424, RULE_constantExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2605);
+			setState(2627);
 			expression();
 			}
 		}
@@ -16157,21 +16339,21 @@ public class Java8Parser extends Parser {
 
 	public final ExpressionContext expression() throws RecognitionException {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 418, RULE_expression);
+		enterRule(_localctx, 426, RULE_expression);
 		try {
-			setState(2609);
+			setState(2631);
 			switch ( getInterpreter().adaptivePredict(_input,298,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2607);
+				setState(2629);
 				lambdaExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2608);
+				setState(2630);
 				assignmentExpression();
 				}
 				break;
@@ -16216,15 +16398,15 @@ public class Java8Parser extends Parser {
 
 	public final LambdaExpressionContext lambdaExpression() throws RecognitionException {
 		LambdaExpressionContext _localctx = new LambdaExpressionContext(_ctx, getState());
-		enterRule(_localctx, 420, RULE_lambdaExpression);
+		enterRule(_localctx, 428, RULE_lambdaExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2611);
+			setState(2633);
 			lambdaParameters();
-			setState(2612);
+			setState(2634);
 			match(ARROW);
-			setState(2613);
+			setState(2635);
 			lambdaBody();
 			}
 		}
@@ -16268,44 +16450,44 @@ public class Java8Parser extends Parser {
 
 	public final LambdaParametersContext lambdaParameters() throws RecognitionException {
 		LambdaParametersContext _localctx = new LambdaParametersContext(_ctx, getState());
-		enterRule(_localctx, 422, RULE_lambdaParameters);
+		enterRule(_localctx, 430, RULE_lambdaParameters);
 		int _la;
 		try {
-			setState(2625);
+			setState(2647);
 			switch ( getInterpreter().adaptivePredict(_input,300,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2615);
+				setState(2637);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2616);
+				setState(2638);
 				match(LPAREN);
-				setState(2618);
+				setState(2640);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
 					{
-					setState(2617);
+					setState(2639);
 					formalParameterList();
 					}
 				}
 
-				setState(2620);
+				setState(2642);
 				match(RPAREN);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2621);
+				setState(2643);
 				match(LPAREN);
-				setState(2622);
+				setState(2644);
 				inferredFormalParameterList();
-				setState(2623);
+				setState(2645);
 				match(RPAREN);
 				}
 				break;
@@ -16348,26 +16530,26 @@ public class Java8Parser extends Parser {
 
 	public final InferredFormalParameterListContext inferredFormalParameterList() throws RecognitionException {
 		InferredFormalParameterListContext _localctx = new InferredFormalParameterListContext(_ctx, getState());
-		enterRule(_localctx, 424, RULE_inferredFormalParameterList);
+		enterRule(_localctx, 432, RULE_inferredFormalParameterList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2627);
+			setState(2649);
 			match(Identifier);
-			setState(2632);
+			setState(2654);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(2628);
+				setState(2650);
 				match(COMMA);
-				setState(2629);
+				setState(2651);
 				match(Identifier);
 				}
 				}
-				setState(2634);
+				setState(2656);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -16412,9 +16594,9 @@ public class Java8Parser extends Parser {
 
 	public final LambdaBodyContext lambdaBody() throws RecognitionException {
 		LambdaBodyContext _localctx = new LambdaBodyContext(_ctx, getState());
-		enterRule(_localctx, 426, RULE_lambdaBody);
+		enterRule(_localctx, 434, RULE_lambdaBody);
 		try {
-			setState(2637);
+			setState(2659);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 			case BYTE:
@@ -16445,14 +16627,14 @@ public class Java8Parser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2635);
+				setState(2657);
 				expression();
 				}
 				break;
 			case LBRACE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2636);
+				setState(2658);
 				block();
 				}
 				break;
@@ -16499,21 +16681,21 @@ public class Java8Parser extends Parser {
 
 	public final AssignmentExpressionContext assignmentExpression() throws RecognitionException {
 		AssignmentExpressionContext _localctx = new AssignmentExpressionContext(_ctx, getState());
-		enterRule(_localctx, 428, RULE_assignmentExpression);
+		enterRule(_localctx, 436, RULE_assignmentExpression);
 		try {
-			setState(2641);
+			setState(2663);
 			switch ( getInterpreter().adaptivePredict(_input,303,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2639);
+				setState(2661);
 				conditionalExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2640);
+				setState(2662);
 				assignment();
 				}
 				break;
@@ -16561,15 +16743,15 @@ public class Java8Parser extends Parser {
 
 	public final AssignmentContext assignment() throws RecognitionException {
 		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
-		enterRule(_localctx, 430, RULE_assignment);
+		enterRule(_localctx, 438, RULE_assignment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2643);
+			setState(2665);
 			leftHandSide();
-			setState(2644);
+			setState(2666);
 			assignmentOperator();
-			setState(2645);
+			setState(2667);
 			expression();
 			}
 		}
@@ -16615,28 +16797,28 @@ public class Java8Parser extends Parser {
 
 	public final LeftHandSideContext leftHandSide() throws RecognitionException {
 		LeftHandSideContext _localctx = new LeftHandSideContext(_ctx, getState());
-		enterRule(_localctx, 432, RULE_leftHandSide);
+		enterRule(_localctx, 440, RULE_leftHandSide);
 		try {
-			setState(2650);
+			setState(2672);
 			switch ( getInterpreter().adaptivePredict(_input,304,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2647);
+				setState(2669);
 				expressionName();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2648);
+				setState(2670);
 				fieldAccess();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2649);
+				setState(2671);
 				arrayAccess();
 				}
 				break;
@@ -16675,12 +16857,12 @@ public class Java8Parser extends Parser {
 
 	public final AssignmentOperatorContext assignmentOperator() throws RecognitionException {
 		AssignmentOperatorContext _localctx = new AssignmentOperatorContext(_ctx, getState());
-		enterRule(_localctx, 434, RULE_assignmentOperator);
+		enterRule(_localctx, 442, RULE_assignmentOperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2652);
+			setState(2674);
 			_la = _input.LA(1);
 			if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (ASSIGN - 66)) | (1L << (ADD_ASSIGN - 66)) | (1L << (SUB_ASSIGN - 66)) | (1L << (MUL_ASSIGN - 66)) | (1L << (DIV_ASSIGN - 66)) | (1L << (AND_ASSIGN - 66)) | (1L << (OR_ASSIGN - 66)) | (1L << (XOR_ASSIGN - 66)) | (1L << (MOD_ASSIGN - 66)) | (1L << (LSHIFT_ASSIGN - 66)) | (1L << (RSHIFT_ASSIGN - 66)) | (1L << (URSHIFT_ASSIGN - 66)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -16731,29 +16913,29 @@ public class Java8Parser extends Parser {
 
 	public final ConditionalExpressionContext conditionalExpression() throws RecognitionException {
 		ConditionalExpressionContext _localctx = new ConditionalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 436, RULE_conditionalExpression);
+		enterRule(_localctx, 444, RULE_conditionalExpression);
 		try {
-			setState(2661);
+			setState(2683);
 			switch ( getInterpreter().adaptivePredict(_input,305,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2654);
+				setState(2676);
 				conditionalOrExpression(0);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2655);
+				setState(2677);
 				conditionalOrExpression(0);
-				setState(2656);
+				setState(2678);
 				match(QUESTION);
-				setState(2657);
+				setState(2679);
 				expression();
-				setState(2658);
+				setState(2680);
 				match(COLON);
-				setState(2659);
+				setState(2681);
 				conditionalExpression();
 				}
 				break;
@@ -16805,18 +16987,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		ConditionalOrExpressionContext _localctx = new ConditionalOrExpressionContext(_ctx, _parentState);
 		ConditionalOrExpressionContext _prevctx = _localctx;
-		int _startState = 438;
-		enterRecursionRule(_localctx, 438, RULE_conditionalOrExpression, _p);
+		int _startState = 446;
+		enterRecursionRule(_localctx, 446, RULE_conditionalOrExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2664);
+			setState(2686);
 			conditionalAndExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2671);
+			setState(2693);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,306,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -16827,16 +17009,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new ConditionalOrExpressionContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_conditionalOrExpression);
-					setState(2666);
+					setState(2688);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(2667);
+					setState(2689);
 					match(OR);
-					setState(2668);
+					setState(2690);
 					conditionalAndExpression(0);
 					}
 					} 
 				}
-				setState(2673);
+				setState(2695);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,306,_ctx);
 			}
@@ -16888,18 +17070,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		ConditionalAndExpressionContext _localctx = new ConditionalAndExpressionContext(_ctx, _parentState);
 		ConditionalAndExpressionContext _prevctx = _localctx;
-		int _startState = 440;
-		enterRecursionRule(_localctx, 440, RULE_conditionalAndExpression, _p);
+		int _startState = 448;
+		enterRecursionRule(_localctx, 448, RULE_conditionalAndExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2675);
+			setState(2697);
 			inclusiveOrExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2682);
+			setState(2704);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,307,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -16910,16 +17092,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new ConditionalAndExpressionContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_conditionalAndExpression);
-					setState(2677);
+					setState(2699);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(2678);
+					setState(2700);
 					match(AND);
-					setState(2679);
+					setState(2701);
 					inclusiveOrExpression(0);
 					}
 					} 
 				}
-				setState(2684);
+				setState(2706);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,307,_ctx);
 			}
@@ -16971,18 +17153,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		InclusiveOrExpressionContext _localctx = new InclusiveOrExpressionContext(_ctx, _parentState);
 		InclusiveOrExpressionContext _prevctx = _localctx;
-		int _startState = 442;
-		enterRecursionRule(_localctx, 442, RULE_inclusiveOrExpression, _p);
+		int _startState = 450;
+		enterRecursionRule(_localctx, 450, RULE_inclusiveOrExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2686);
+			setState(2708);
 			exclusiveOrExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2693);
+			setState(2715);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,308,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -16993,16 +17175,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new InclusiveOrExpressionContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_inclusiveOrExpression);
-					setState(2688);
+					setState(2710);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(2689);
+					setState(2711);
 					match(BITOR);
-					setState(2690);
+					setState(2712);
 					exclusiveOrExpression(0);
 					}
 					} 
 				}
-				setState(2695);
+				setState(2717);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,308,_ctx);
 			}
@@ -17054,18 +17236,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		ExclusiveOrExpressionContext _localctx = new ExclusiveOrExpressionContext(_ctx, _parentState);
 		ExclusiveOrExpressionContext _prevctx = _localctx;
-		int _startState = 444;
-		enterRecursionRule(_localctx, 444, RULE_exclusiveOrExpression, _p);
+		int _startState = 452;
+		enterRecursionRule(_localctx, 452, RULE_exclusiveOrExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2697);
+			setState(2719);
 			andExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2704);
+			setState(2726);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,309,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17076,16 +17258,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new ExclusiveOrExpressionContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_exclusiveOrExpression);
-					setState(2699);
+					setState(2721);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(2700);
+					setState(2722);
 					match(CARET);
-					setState(2701);
+					setState(2723);
 					andExpression(0);
 					}
 					} 
 				}
-				setState(2706);
+				setState(2728);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,309,_ctx);
 			}
@@ -17137,18 +17319,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		AndExpressionContext _localctx = new AndExpressionContext(_ctx, _parentState);
 		AndExpressionContext _prevctx = _localctx;
-		int _startState = 446;
-		enterRecursionRule(_localctx, 446, RULE_andExpression, _p);
+		int _startState = 454;
+		enterRecursionRule(_localctx, 454, RULE_andExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2708);
+			setState(2730);
 			equalityExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2715);
+			setState(2737);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,310,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17159,16 +17341,16 @@ public class Java8Parser extends Parser {
 					{
 					_localctx = new AndExpressionContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_andExpression);
-					setState(2710);
+					setState(2732);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(2711);
+					setState(2733);
 					match(BITAND);
-					setState(2712);
+					setState(2734);
 					equalityExpression(0);
 					}
 					} 
 				}
-				setState(2717);
+				setState(2739);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,310,_ctx);
 			}
@@ -17220,18 +17402,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, _parentState);
 		EqualityExpressionContext _prevctx = _localctx;
-		int _startState = 448;
-		enterRecursionRule(_localctx, 448, RULE_equalityExpression, _p);
+		int _startState = 456;
+		enterRecursionRule(_localctx, 456, RULE_equalityExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2719);
+			setState(2741);
 			relationalExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2729);
+			setState(2751);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,312,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17239,17 +17421,17 @@ public class Java8Parser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(2727);
+					setState(2749);
 					switch ( getInterpreter().adaptivePredict(_input,311,_ctx) ) {
 					case 1:
 						{
 						_localctx = new EqualityExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_equalityExpression);
-						setState(2721);
+						setState(2743);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(2722);
+						setState(2744);
 						match(EQUAL);
-						setState(2723);
+						setState(2745);
 						relationalExpression(0);
 						}
 						break;
@@ -17257,18 +17439,18 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new EqualityExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_equalityExpression);
-						setState(2724);
+						setState(2746);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(2725);
+						setState(2747);
 						match(NOTEQUAL);
-						setState(2726);
+						setState(2748);
 						relationalExpression(0);
 						}
 						break;
 					}
 					} 
 				}
-				setState(2731);
+				setState(2753);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,312,_ctx);
 			}
@@ -17323,18 +17505,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, _parentState);
 		RelationalExpressionContext _prevctx = _localctx;
-		int _startState = 450;
-		enterRecursionRule(_localctx, 450, RULE_relationalExpression, _p);
+		int _startState = 458;
+		enterRecursionRule(_localctx, 458, RULE_relationalExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2733);
+			setState(2755);
 			shiftExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2752);
+			setState(2774);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,314,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17342,17 +17524,17 @@ public class Java8Parser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(2750);
+					setState(2772);
 					switch ( getInterpreter().adaptivePredict(_input,313,_ctx) ) {
 					case 1:
 						{
 						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-						setState(2735);
+						setState(2757);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(2736);
+						setState(2758);
 						match(LT);
-						setState(2737);
+						setState(2759);
 						shiftExpression(0);
 						}
 						break;
@@ -17360,11 +17542,11 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-						setState(2738);
+						setState(2760);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(2739);
+						setState(2761);
 						match(GT);
-						setState(2740);
+						setState(2762);
 						shiftExpression(0);
 						}
 						break;
@@ -17372,11 +17554,11 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-						setState(2741);
+						setState(2763);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(2742);
+						setState(2764);
 						match(LE);
-						setState(2743);
+						setState(2765);
 						shiftExpression(0);
 						}
 						break;
@@ -17384,11 +17566,11 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-						setState(2744);
+						setState(2766);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(2745);
+						setState(2767);
 						match(GE);
-						setState(2746);
+						setState(2768);
 						shiftExpression(0);
 						}
 						break;
@@ -17396,18 +17578,18 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-						setState(2747);
+						setState(2769);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(2748);
+						setState(2770);
 						match(INSTANCEOF);
-						setState(2749);
+						setState(2771);
 						referenceType();
 						}
 						break;
 					}
 					} 
 				}
-				setState(2754);
+				setState(2776);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,314,_ctx);
 			}
@@ -17459,18 +17641,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		ShiftExpressionContext _localctx = new ShiftExpressionContext(_ctx, _parentState);
 		ShiftExpressionContext _prevctx = _localctx;
-		int _startState = 452;
-		enterRecursionRule(_localctx, 452, RULE_shiftExpression, _p);
+		int _startState = 460;
+		enterRecursionRule(_localctx, 460, RULE_shiftExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2756);
+			setState(2778);
 			additiveExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2773);
+			setState(2795);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,316,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17478,19 +17660,19 @@ public class Java8Parser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(2771);
+					setState(2793);
 					switch ( getInterpreter().adaptivePredict(_input,315,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ShiftExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_shiftExpression);
-						setState(2758);
+						setState(2780);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(2759);
+						setState(2781);
 						match(LT);
-						setState(2760);
+						setState(2782);
 						match(LT);
-						setState(2761);
+						setState(2783);
 						additiveExpression(0);
 						}
 						break;
@@ -17498,13 +17680,13 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new ShiftExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_shiftExpression);
-						setState(2762);
+						setState(2784);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(2763);
+						setState(2785);
 						match(GT);
-						setState(2764);
+						setState(2786);
 						match(GT);
-						setState(2765);
+						setState(2787);
 						additiveExpression(0);
 						}
 						break;
@@ -17512,22 +17694,22 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new ShiftExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_shiftExpression);
-						setState(2766);
+						setState(2788);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(2767);
+						setState(2789);
 						match(GT);
-						setState(2768);
+						setState(2790);
 						match(GT);
-						setState(2769);
+						setState(2791);
 						match(GT);
-						setState(2770);
+						setState(2792);
 						additiveExpression(0);
 						}
 						break;
 					}
 					} 
 				}
-				setState(2775);
+				setState(2797);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,316,_ctx);
 			}
@@ -17579,18 +17761,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, _parentState);
 		AdditiveExpressionContext _prevctx = _localctx;
-		int _startState = 454;
-		enterRecursionRule(_localctx, 454, RULE_additiveExpression, _p);
+		int _startState = 462;
+		enterRecursionRule(_localctx, 462, RULE_additiveExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2777);
+			setState(2799);
 			multiplicativeExpression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2787);
+			setState(2809);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,318,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17598,17 +17780,17 @@ public class Java8Parser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(2785);
+					setState(2807);
 					switch ( getInterpreter().adaptivePredict(_input,317,_ctx) ) {
 					case 1:
 						{
 						_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
-						setState(2779);
+						setState(2801);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(2780);
+						setState(2802);
 						match(ADD);
-						setState(2781);
+						setState(2803);
 						multiplicativeExpression(0);
 						}
 						break;
@@ -17616,18 +17798,18 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
-						setState(2782);
+						setState(2804);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(2783);
+						setState(2805);
 						match(SUB);
-						setState(2784);
+						setState(2806);
 						multiplicativeExpression(0);
 						}
 						break;
 					}
 					} 
 				}
-				setState(2789);
+				setState(2811);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,318,_ctx);
 			}
@@ -17679,18 +17861,18 @@ public class Java8Parser extends Parser {
 		int _parentState = getState();
 		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, _parentState);
 		MultiplicativeExpressionContext _prevctx = _localctx;
-		int _startState = 456;
-		enterRecursionRule(_localctx, 456, RULE_multiplicativeExpression, _p);
+		int _startState = 464;
+		enterRecursionRule(_localctx, 464, RULE_multiplicativeExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(2791);
+			setState(2813);
 			unaryExpression();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(2804);
+			setState(2826);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,320,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -17698,17 +17880,17 @@ public class Java8Parser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(2802);
+					setState(2824);
 					switch ( getInterpreter().adaptivePredict(_input,319,_ctx) ) {
 					case 1:
 						{
 						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
-						setState(2793);
+						setState(2815);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(2794);
+						setState(2816);
 						match(MUL);
-						setState(2795);
+						setState(2817);
 						unaryExpression();
 						}
 						break;
@@ -17716,11 +17898,11 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
-						setState(2796);
+						setState(2818);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(2797);
+						setState(2819);
 						match(DIV);
-						setState(2798);
+						setState(2820);
 						unaryExpression();
 						}
 						break;
@@ -17728,18 +17910,18 @@ public class Java8Parser extends Parser {
 						{
 						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
-						setState(2799);
+						setState(2821);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(2800);
+						setState(2822);
 						match(MOD);
-						setState(2801);
+						setState(2823);
 						unaryExpression();
 						}
 						break;
 					}
 					} 
 				}
-				setState(2806);
+				setState(2828);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,320,_ctx);
 			}
@@ -17790,39 +17972,39 @@ public class Java8Parser extends Parser {
 
 	public final UnaryExpressionContext unaryExpression() throws RecognitionException {
 		UnaryExpressionContext _localctx = new UnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 458, RULE_unaryExpression);
+		enterRule(_localctx, 466, RULE_unaryExpression);
 		try {
-			setState(2814);
+			setState(2836);
 			switch (_input.LA(1)) {
 			case INC:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2807);
+				setState(2829);
 				preIncrementExpression();
 				}
 				break;
 			case DEC:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2808);
+				setState(2830);
 				preDecrementExpression();
 				}
 				break;
 			case ADD:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2809);
+				setState(2831);
 				match(ADD);
-				setState(2810);
+				setState(2832);
 				unaryExpression();
 				}
 				break;
 			case SUB:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2811);
+				setState(2833);
 				match(SUB);
-				setState(2812);
+				setState(2834);
 				unaryExpression();
 				}
 				break;
@@ -17851,7 +18033,7 @@ public class Java8Parser extends Parser {
 			case AT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(2813);
+				setState(2835);
 				unaryExpressionNotPlusMinus();
 				}
 				break;
@@ -17895,13 +18077,13 @@ public class Java8Parser extends Parser {
 
 	public final PreIncrementExpressionContext preIncrementExpression() throws RecognitionException {
 		PreIncrementExpressionContext _localctx = new PreIncrementExpressionContext(_ctx, getState());
-		enterRule(_localctx, 460, RULE_preIncrementExpression);
+		enterRule(_localctx, 468, RULE_preIncrementExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2816);
+			setState(2838);
 			match(INC);
-			setState(2817);
+			setState(2839);
 			unaryExpression();
 			}
 		}
@@ -17941,13 +18123,13 @@ public class Java8Parser extends Parser {
 
 	public final PreDecrementExpressionContext preDecrementExpression() throws RecognitionException {
 		PreDecrementExpressionContext _localctx = new PreDecrementExpressionContext(_ctx, getState());
-		enterRule(_localctx, 462, RULE_preDecrementExpression);
+		enterRule(_localctx, 470, RULE_preDecrementExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2819);
+			setState(2841);
 			match(DEC);
-			setState(2820);
+			setState(2842);
 			unaryExpression();
 			}
 		}
@@ -17993,39 +18175,39 @@ public class Java8Parser extends Parser {
 
 	public final UnaryExpressionNotPlusMinusContext unaryExpressionNotPlusMinus() throws RecognitionException {
 		UnaryExpressionNotPlusMinusContext _localctx = new UnaryExpressionNotPlusMinusContext(_ctx, getState());
-		enterRule(_localctx, 464, RULE_unaryExpressionNotPlusMinus);
+		enterRule(_localctx, 472, RULE_unaryExpressionNotPlusMinus);
 		try {
-			setState(2828);
+			setState(2850);
 			switch ( getInterpreter().adaptivePredict(_input,322,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2822);
+				setState(2844);
 				postfixExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2823);
+				setState(2845);
 				match(TILDE);
-				setState(2824);
+				setState(2846);
 				unaryExpression();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2825);
+				setState(2847);
 				match(BANG);
-				setState(2826);
+				setState(2848);
 				unaryExpression();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(2827);
+				setState(2849);
 				castExpression();
 				}
 				break;
@@ -18082,43 +18264,43 @@ public class Java8Parser extends Parser {
 
 	public final PostfixExpressionContext postfixExpression() throws RecognitionException {
 		PostfixExpressionContext _localctx = new PostfixExpressionContext(_ctx, getState());
-		enterRule(_localctx, 466, RULE_postfixExpression);
+		enterRule(_localctx, 474, RULE_postfixExpression);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2832);
+			setState(2854);
 			switch ( getInterpreter().adaptivePredict(_input,323,_ctx) ) {
 			case 1:
 				{
-				setState(2830);
+				setState(2852);
 				primary();
 				}
 				break;
 			case 2:
 				{
-				setState(2831);
+				setState(2853);
 				expressionName();
 				}
 				break;
 			}
-			setState(2838);
+			setState(2860);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,325,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(2836);
+					setState(2858);
 					switch (_input.LA(1)) {
 					case INC:
 						{
-						setState(2834);
+						setState(2856);
 						postIncrementExpression_lf_postfixExpression();
 						}
 						break;
 					case DEC:
 						{
-						setState(2835);
+						setState(2857);
 						postDecrementExpression_lf_postfixExpression();
 						}
 						break;
@@ -18127,7 +18309,7 @@ public class Java8Parser extends Parser {
 					}
 					} 
 				}
-				setState(2840);
+				setState(2862);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,325,_ctx);
 			}
@@ -18169,13 +18351,13 @@ public class Java8Parser extends Parser {
 
 	public final PostIncrementExpressionContext postIncrementExpression() throws RecognitionException {
 		PostIncrementExpressionContext _localctx = new PostIncrementExpressionContext(_ctx, getState());
-		enterRule(_localctx, 468, RULE_postIncrementExpression);
+		enterRule(_localctx, 476, RULE_postIncrementExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2841);
+			setState(2863);
 			postfixExpression();
-			setState(2842);
+			setState(2864);
 			match(INC);
 			}
 		}
@@ -18212,11 +18394,11 @@ public class Java8Parser extends Parser {
 
 	public final PostIncrementExpression_lf_postfixExpressionContext postIncrementExpression_lf_postfixExpression() throws RecognitionException {
 		PostIncrementExpression_lf_postfixExpressionContext _localctx = new PostIncrementExpression_lf_postfixExpressionContext(_ctx, getState());
-		enterRule(_localctx, 470, RULE_postIncrementExpression_lf_postfixExpression);
+		enterRule(_localctx, 478, RULE_postIncrementExpression_lf_postfixExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2844);
+			setState(2866);
 			match(INC);
 			}
 		}
@@ -18256,13 +18438,13 @@ public class Java8Parser extends Parser {
 
 	public final PostDecrementExpressionContext postDecrementExpression() throws RecognitionException {
 		PostDecrementExpressionContext _localctx = new PostDecrementExpressionContext(_ctx, getState());
-		enterRule(_localctx, 472, RULE_postDecrementExpression);
+		enterRule(_localctx, 480, RULE_postDecrementExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2846);
+			setState(2868);
 			postfixExpression();
-			setState(2847);
+			setState(2869);
 			match(DEC);
 			}
 		}
@@ -18299,11 +18481,11 @@ public class Java8Parser extends Parser {
 
 	public final PostDecrementExpression_lf_postfixExpressionContext postDecrementExpression_lf_postfixExpression() throws RecognitionException {
 		PostDecrementExpression_lf_postfixExpressionContext _localctx = new PostDecrementExpression_lf_postfixExpressionContext(_ctx, getState());
-		enterRule(_localctx, 474, RULE_postDecrementExpression_lf_postfixExpression);
+		enterRule(_localctx, 482, RULE_postDecrementExpression_lf_postfixExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2849);
+			setState(2871);
 			match(DEC);
 			}
 		}
@@ -18361,75 +18543,75 @@ public class Java8Parser extends Parser {
 
 	public final CastExpressionContext castExpression() throws RecognitionException {
 		CastExpressionContext _localctx = new CastExpressionContext(_ctx, getState());
-		enterRule(_localctx, 476, RULE_castExpression);
+		enterRule(_localctx, 484, RULE_castExpression);
 		int _la;
 		try {
-			setState(2878);
+			setState(2900);
 			switch ( getInterpreter().adaptivePredict(_input,328,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(2851);
+				setState(2873);
 				match(LPAREN);
-				setState(2852);
+				setState(2874);
 				primitiveType();
-				setState(2853);
+				setState(2875);
 				match(RPAREN);
-				setState(2854);
+				setState(2876);
 				unaryExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(2856);
+				setState(2878);
 				match(LPAREN);
-				setState(2857);
+				setState(2879);
 				referenceType();
-				setState(2861);
+				setState(2883);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==BITAND) {
 					{
 					{
-					setState(2858);
+					setState(2880);
 					additionalBound();
 					}
 					}
-					setState(2863);
+					setState(2885);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2864);
+				setState(2886);
 				match(RPAREN);
-				setState(2865);
+				setState(2887);
 				unaryExpressionNotPlusMinus();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(2867);
+				setState(2889);
 				match(LPAREN);
-				setState(2868);
+				setState(2890);
 				referenceType();
-				setState(2872);
+				setState(2894);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==BITAND) {
 					{
 					{
-					setState(2869);
+					setState(2891);
 					additionalBound();
 					}
 					}
-					setState(2874);
+					setState(2896);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(2875);
+				setState(2897);
 				match(RPAREN);
-				setState(2876);
+				setState(2898);
 				lambdaExpression();
 				}
 				break;
@@ -18454,25 +18636,25 @@ public class Java8Parser extends Parser {
 			return packageOrTypeName_sempred((PackageOrTypeNameContext)_localctx, predIndex);
 		case 31:
 			return ambiguousName_sempred((AmbiguousNameContext)_localctx, predIndex);
-		case 219:
+		case 223:
 			return conditionalOrExpression_sempred((ConditionalOrExpressionContext)_localctx, predIndex);
-		case 220:
+		case 224:
 			return conditionalAndExpression_sempred((ConditionalAndExpressionContext)_localctx, predIndex);
-		case 221:
+		case 225:
 			return inclusiveOrExpression_sempred((InclusiveOrExpressionContext)_localctx, predIndex);
-		case 222:
+		case 226:
 			return exclusiveOrExpression_sempred((ExclusiveOrExpressionContext)_localctx, predIndex);
-		case 223:
+		case 227:
 			return andExpression_sempred((AndExpressionContext)_localctx, predIndex);
-		case 224:
+		case 228:
 			return equalityExpression_sempred((EqualityExpressionContext)_localctx, predIndex);
-		case 225:
+		case 229:
 			return relationalExpression_sempred((RelationalExpressionContext)_localctx, predIndex);
-		case 226:
+		case 230:
 			return shiftExpression_sempred((ShiftExpressionContext)_localctx, predIndex);
-		case 227:
+		case 231:
 			return additiveExpression_sempred((AdditiveExpressionContext)_localctx, predIndex);
-		case 228:
+		case 232:
 			return multiplicativeExpression_sempred((MultiplicativeExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -18591,7 +18773,7 @@ public class Java8Parser extends Parser {
 
 	private static final int _serializedATNSegments = 2;
 	private static final String _serializedATNSegment0 =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3m\u0b43\4\2\t\2\4"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3m\u0b59\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -18629,1206 +18811,1216 @@ public class Java8Parser extends Parser {
 		"\t\u00df\4\u00e0\t\u00e0\4\u00e1\t\u00e1\4\u00e2\t\u00e2\4\u00e3\t\u00e3"+
 		"\4\u00e4\t\u00e4\4\u00e5\t\u00e5\4\u00e6\t\u00e6\4\u00e7\t\u00e7\4\u00e8"+
 		"\t\u00e8\4\u00e9\t\u00e9\4\u00ea\t\u00ea\4\u00eb\t\u00eb\4\u00ec\t\u00ec"+
-		"\4\u00ed\t\u00ed\4\u00ee\t\u00ee\4\u00ef\t\u00ef\4\u00f0\t\u00f0\3\2\3"+
-		"\2\3\3\3\3\5\3\u01e5\n\3\3\4\7\4\u01e8\n\4\f\4\16\4\u01eb\13\4\3\4\3\4"+
-		"\7\4\u01ef\n\4\f\4\16\4\u01f2\13\4\3\4\5\4\u01f5\n\4\3\5\3\5\5\5\u01f9"+
-		"\n\5\3\6\3\6\3\7\3\7\3\b\3\b\3\b\5\b\u0202\n\b\3\t\3\t\5\t\u0206\n\t\3"+
-		"\t\3\t\7\t\u020a\n\t\f\t\16\t\u020d\13\t\3\n\7\n\u0210\n\n\f\n\16\n\u0213"+
-		"\13\n\3\n\3\n\5\n\u0217\n\n\3\n\3\n\3\n\7\n\u021c\n\n\f\n\16\n\u021f\13"+
-		"\n\3\n\3\n\5\n\u0223\n\n\5\n\u0225\n\n\3\13\3\13\7\13\u0229\n\13\f\13"+
-		"\16\13\u022c\13\13\3\13\3\13\5\13\u0230\n\13\3\f\7\f\u0233\n\f\f\f\16"+
-		"\f\u0236\13\f\3\f\3\f\5\f\u023a\n\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\7"+
-		"\20\u0243\n\20\f\20\16\20\u0246\13\20\3\20\3\20\3\21\3\21\3\21\3\21\3"+
-		"\21\3\21\3\21\3\21\3\21\5\21\u0253\n\21\3\22\7\22\u0256\n\22\f\22\16\22"+
-		"\u0259\13\22\3\22\3\22\3\22\7\22\u025e\n\22\f\22\16\22\u0261\13\22\3\22"+
-		"\3\22\7\22\u0265\n\22\f\22\16\22\u0268\13\22\3\23\7\23\u026b\n\23\f\23"+
-		"\16\23\u026e\13\23\3\23\3\23\5\23\u0272\n\23\3\24\3\24\3\25\3\25\3\25"+
-		"\3\25\3\25\7\25\u027b\n\25\f\25\16\25\u027e\13\25\5\25\u0280\n\25\3\26"+
-		"\3\26\3\26\3\27\3\27\3\27\3\27\3\30\3\30\3\30\7\30\u028c\n\30\f\30\16"+
-		"\30\u028f\13\30\3\31\3\31\5\31\u0293\n\31\3\32\7\32\u0296\n\32\f\32\16"+
-		"\32\u0299\13\32\3\32\3\32\5\32\u029d\n\32\3\33\3\33\3\33\3\33\5\33\u02a3"+
-		"\n\33\3\34\3\34\3\34\3\34\3\34\3\34\7\34\u02ab\n\34\f\34\16\34\u02ae\13"+
-		"\34\3\35\3\35\3\35\3\35\3\35\5\35\u02b5\n\35\3\36\3\36\3\36\3\36\3\36"+
-		"\3\36\7\36\u02bd\n\36\f\36\16\36\u02c0\13\36\3\37\3\37\3\37\3\37\3\37"+
-		"\5\37\u02c7\n\37\3 \3 \3!\3!\3!\3!\3!\3!\7!\u02d1\n!\f!\16!\u02d4\13!"+
-		"\3\"\6\"\u02d7\n\"\r\"\16\"\u02d8\3\"\6\"\u02dc\n\"\r\"\16\"\u02dd\3\""+
-		"\5\"\u02e1\n\"\3\"\7\"\u02e4\n\"\f\"\16\"\u02e7\13\"\3\"\7\"\u02ea\n\""+
-		"\f\"\16\"\u02ed\13\"\3\"\5\"\u02f0\n\"\3#\3#\5#\u02f4\n#\3$\3$\5$\u02f8"+
-		"\n$\3%\7%\u02fb\n%\f%\16%\u02fe\13%\3%\3%\3%\3%\7%\u0304\n%\f%\16%\u0307"+
-		"\13%\3%\3%\3&\3&\3\'\3\'\3\'\3\'\5\'\u0311\n\'\3(\3(\3(\3(\3)\3)\3)\3"+
-		")\3)\3)\3*\3*\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3+\3+\3,\3,\3,\5,\u032e\n"+
-		",\3-\3-\5-\u0332\n-\3.\7.\u0335\n.\f.\16.\u0338\13.\3.\3.\3.\5.\u033d"+
-		"\n.\3.\5.\u0340\n.\3.\5.\u0343\n.\3.\3.\3/\3/\3/\3/\3/\3/\3/\3/\5/\u034f"+
-		"\n/\3\60\3\60\3\60\3\60\3\61\3\61\3\61\7\61\u0358\n\61\f\61\16\61\u035b"+
-		"\13\61\3\62\3\62\3\62\3\63\3\63\3\63\3\64\3\64\3\64\7\64\u0366\n\64\f"+
-		"\64\16\64\u0369\13\64\3\65\3\65\7\65\u036d\n\65\f\65\16\65\u0370\13\65"+
-		"\3\65\3\65\3\66\3\66\3\66\3\66\5\66\u0378\n\66\3\67\3\67\3\67\3\67\3\67"+
-		"\5\67\u037f\n\67\38\78\u0382\n8\f8\168\u0385\138\38\38\38\38\39\39\39"+
-		"\39\39\39\39\39\59\u0393\n9\3:\3:\3:\7:\u0398\n:\f:\16:\u039b\13:\3;\3"+
-		";\3;\5;\u03a0\n;\3<\3<\5<\u03a4\n<\3=\3=\5=\u03a8\n=\3>\3>\5>\u03ac\n"+
-		">\3?\3?\5?\u03b0\n?\3@\3@\3@\5@\u03b5\n@\3A\3A\5A\u03b9\nA\3A\3A\7A\u03bd"+
-		"\nA\fA\16A\u03c0\13A\3B\3B\5B\u03c4\nB\3B\3B\3B\7B\u03c9\nB\fB\16B\u03cc"+
-		"\13B\3B\3B\5B\u03d0\nB\5B\u03d2\nB\3C\3C\7C\u03d6\nC\fC\16C\u03d9\13C"+
-		"\3C\3C\5C\u03dd\nC\3D\3D\5D\u03e1\nD\3E\3E\3F\3F\3G\3G\3H\3H\3I\3I\3I"+
-		"\3I\3I\3I\3I\3I\3I\5I\u03f4\nI\3J\7J\u03f7\nJ\fJ\16J\u03fa\13J\3J\3J\3"+
-		"J\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\5K\u0409\nK\3L\3L\3L\5L\u040e\nL\3L\3"+
-		"L\7L\u0412\nL\fL\16L\u0415\13L\3L\3L\3L\5L\u041a\nL\5L\u041c\nL\3M\3M"+
-		"\5M\u0420\nM\3N\3N\3N\5N\u0425\nN\3N\3N\5N\u0429\nN\3O\3O\3O\3O\3O\5O"+
-		"\u0430\nO\3P\3P\3P\7P\u0435\nP\fP\16P\u0438\13P\3P\3P\3P\7P\u043d\nP\f"+
-		"P\16P\u0440\13P\5P\u0442\nP\3Q\7Q\u0445\nQ\fQ\16Q\u0448\13Q\3Q\3Q\3Q\3"+
-		"R\3R\5R\u044f\nR\3S\7S\u0452\nS\fS\16S\u0455\13S\3S\3S\7S\u0459\nS\fS"+
-		"\16S\u045c\13S\3S\3S\3S\3S\5S\u0462\nS\3T\7T\u0465\nT\fT\16T\u0468\13"+
-		"T\3T\3T\3T\5T\u046d\nT\3T\3T\3U\3U\3U\3V\3V\3V\7V\u0477\nV\fV\16V\u047a"+
-		"\13V\3W\3W\5W\u047e\nW\3X\3X\5X\u0482\nX\3Y\3Y\3Z\3Z\3Z\3[\7[\u048a\n"+
-		"[\f[\16[\u048d\13[\3[\3[\5[\u0491\n[\3[\3[\3\\\3\\\3\\\3\\\5\\\u0499\n"+
-		"\\\3]\5]\u049c\n]\3]\3]\3]\5]\u04a1\n]\3]\3]\3^\3^\3_\3_\5_\u04a9\n_\3"+
-		"_\5_\u04ac\n_\3_\3_\3`\5`\u04b1\n`\3`\3`\3`\5`\u04b6\n`\3`\3`\3`\5`\u04bb"+
-		"\n`\3`\3`\3`\5`\u04c0\n`\3`\3`\3`\3`\3`\5`\u04c7\n`\3`\3`\3`\5`\u04cc"+
-		"\n`\3`\3`\3`\3`\3`\3`\5`\u04d4\n`\3`\3`\3`\5`\u04d9\n`\3`\3`\3`\5`\u04de"+
-		"\n`\3a\7a\u04e1\na\fa\16a\u04e4\13a\3a\3a\3a\5a\u04e9\na\3a\3a\3b\3b\5"+
-		"b\u04ef\nb\3b\5b\u04f2\nb\3b\5b\u04f5\nb\3b\3b\3c\3c\3c\7c\u04fc\nc\f"+
-		"c\16c\u04ff\13c\3d\7d\u0502\nd\fd\16d\u0505\13d\3d\3d\3d\5d\u050a\nd\3"+
-		"d\5d\u050d\nd\3d\5d\u0510\nd\3e\3e\3f\3f\7f\u0516\nf\ff\16f\u0519\13f"+
-		"\3g\3g\5g\u051d\ng\3h\7h\u0520\nh\fh\16h\u0523\13h\3h\3h\3h\5h\u0528\n"+
-		"h\3h\5h\u052b\nh\3h\3h\3i\3i\3i\3i\3i\3i\3i\5i\u0536\ni\3j\3j\3j\3k\3"+
-		"k\7k\u053d\nk\fk\16k\u0540\13k\3k\3k\3l\3l\3l\3l\3l\5l\u0549\nl\3m\7m"+
-		"\u054c\nm\fm\16m\u054f\13m\3m\3m\3m\3m\3n\3n\3n\3n\5n\u0559\nn\3o\7o\u055c"+
-		"\no\fo\16o\u055f\13o\3o\3o\3o\3p\3p\3p\3p\3p\3p\5p\u056a\np\3q\7q\u056d"+
-		"\nq\fq\16q\u0570\13q\3q\3q\3q\3q\3q\3r\3r\7r\u0579\nr\fr\16r\u057c\13"+
-		"r\3r\3r\3s\3s\3s\3s\3s\5s\u0585\ns\3t\7t\u0588\nt\ft\16t\u058b\13t\3t"+
-		"\3t\3t\3t\3t\5t\u0592\nt\3t\5t\u0595\nt\3t\3t\3u\3u\3u\5u\u059c\nu\3v"+
-		"\3v\3v\3w\3w\3w\5w\u05a4\nw\3x\3x\3x\3x\5x\u05aa\nx\3x\3x\3y\3y\3y\7y"+
-		"\u05b1\ny\fy\16y\u05b4\13y\3z\3z\3z\3z\3{\3{\3{\5{\u05bd\n{\3|\3|\5|\u05c1"+
-		"\n|\3|\5|\u05c4\n|\3|\3|\3}\3}\3}\7}\u05cb\n}\f}\16}\u05ce\13}\3~\3~\3"+
-		"~\3\177\3\177\3\177\3\177\3\177\3\177\3\u0080\3\u0080\5\u0080\u05db\n"+
-		"\u0080\3\u0080\5\u0080\u05de\n\u0080\3\u0080\3\u0080\3\u0081\3\u0081\3"+
-		"\u0081\7\u0081\u05e5\n\u0081\f\u0081\16\u0081\u05e8\13\u0081\3\u0082\3"+
-		"\u0082\5\u0082\u05ec\n\u0082\3\u0082\3\u0082\3\u0083\3\u0083\7\u0083\u05f2"+
-		"\n\u0083\f\u0083\16\u0083\u05f5\13\u0083\3\u0084\3\u0084\3\u0084\5\u0084"+
-		"\u05fa\n\u0084\3\u0085\3\u0085\3\u0085\3\u0086\7\u0086\u0600\n\u0086\f"+
-		"\u0086\16\u0086\u0603\13\u0086\3\u0086\3\u0086\3\u0086\3\u0087\3\u0087"+
-		"\3\u0087\3\u0087\3\u0087\3\u0087\5\u0087\u060e\n\u0087\3\u0088\3\u0088"+
-		"\3\u0088\3\u0088\3\u0088\5\u0088\u0615\n\u0088\3\u0089\3\u0089\3\u0089"+
-		"\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089"+
-		"\5\u0089\u0623\n\u0089\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b"+
-		"\3\u008c\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e"+
-		"\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\5\u008e\u0639\n\u008e\3\u008f"+
-		"\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090\3\u0090"+
-		"\3\u0090\3\u0090\3\u0090\3\u0090\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091"+
-		"\3\u0091\3\u0091\3\u0091\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092"+
-		"\3\u0092\3\u0092\3\u0092\3\u0092\5\u0092\u065b\n\u0092\3\u0093\3\u0093"+
-		"\3\u0093\3\u0093\3\u0093\3\u0093\3\u0094\3\u0094\7\u0094\u0665\n\u0094"+
-		"\f\u0094\16\u0094\u0668\13\u0094\3\u0094\7\u0094\u066b\n\u0094\f\u0094"+
-		"\16\u0094\u066e\13\u0094\3\u0094\3\u0094\3\u0095\3\u0095\3\u0095\3\u0096"+
-		"\3\u0096\7\u0096\u0677\n\u0096\f\u0096\16\u0096\u067a\13\u0096\3\u0097"+
-		"\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097"+
-		"\5\u0097\u0686\n\u0097\3\u0098\3\u0098\3\u0099\3\u0099\3\u0099\3\u0099"+
-		"\3\u0099\3\u0099\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009b"+
-		"\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009c\3\u009c"+
-		"\5\u009c\u06a0\n\u009c\3\u009d\3\u009d\5\u009d\u06a4\n\u009d\3\u009e\3"+
-		"\u009e\3\u009e\5\u009e\u06a9\n\u009e\3\u009e\3\u009e\5\u009e\u06ad\n\u009e"+
-		"\3\u009e\3\u009e\5\u009e\u06b1\n\u009e\3\u009e\3\u009e\3\u009e\3\u009f"+
-		"\3\u009f\3\u009f\5\u009f\u06b9\n\u009f\3\u009f\3\u009f\5\u009f\u06bd\n"+
-		"\u009f\3\u009f\3\u009f\5\u009f\u06c1\n\u009f\3\u009f\3\u009f\3\u009f\3"+
-		"\u00a0\3\u00a0\5\u00a0\u06c8\n\u00a0\3\u00a1\3\u00a1\3\u00a2\3\u00a2\3"+
-		"\u00a2\7\u00a2\u06cf\n\u00a2\f\u00a2\16\u00a2\u06d2\13\u00a2\3\u00a3\3"+
-		"\u00a3\3\u00a3\7\u00a3\u06d7\n\u00a3\f\u00a3\16\u00a3\u06da\13\u00a3\3"+
-		"\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a4\3\u00a4"+
-		"\3\u00a4\7\u00a4\u06e6\n\u00a4\f\u00a4\16\u00a4\u06e9\13\u00a4\3\u00a4"+
-		"\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a5\3\u00a5\5\u00a5"+
-		"\u06f4\n\u00a5\3\u00a5\3\u00a5\3\u00a6\3\u00a6\5\u00a6\u06fa\n\u00a6\3"+
-		"\u00a6\3\u00a6\3\u00a7\3\u00a7\5\u00a7\u0700\n\u00a7\3\u00a7\3\u00a7\3"+
-		"\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9"+
-		"\3\u00a9\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\5\u00aa"+
-		"\u0715\n\u00aa\3\u00aa\3\u00aa\3\u00aa\5\u00aa\u071a\n\u00aa\3\u00ab\3"+
-		"\u00ab\7\u00ab\u071e\n\u00ab\f\u00ab\16\u00ab\u0721\13\u00ab\3\u00ac\3"+
-		"\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ad\7\u00ad\u072a\n\u00ad\f"+
-		"\u00ad\16\u00ad\u072d\13\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ae\3\u00ae"+
-		"\3\u00ae\7\u00ae\u0735\n\u00ae\f\u00ae\16\u00ae\u0738\13\u00ae\3\u00af"+
-		"\3\u00af\3\u00af\3\u00b0\3\u00b0\3\u00b0\3\u00b0\5\u00b0\u0741\n\u00b0"+
-		"\3\u00b0\5\u00b0\u0744\n\u00b0\3\u00b1\3\u00b1\3\u00b1\5\u00b1\u0749\n"+
-		"\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2\3\u00b2\7\u00b2\u0750\n\u00b2\f"+
-		"\u00b2\16\u00b2\u0753\13\u00b2\3\u00b3\7\u00b3\u0756\n\u00b3\f\u00b3\16"+
-		"\u00b3\u0759\13\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b4"+
-		"\3\u00b4\5\u00b4\u0762\n\u00b4\3\u00b4\7\u00b4\u0765\n\u00b4\f\u00b4\16"+
-		"\u00b4\u0768\13\u00b4\3\u00b5\3\u00b5\3\u00b5\3\u00b5\7\u00b5\u076e\n"+
-		"\u00b5\f\u00b5\16\u00b5\u0771\13\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5"+
-		"\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5"+
-		"\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\5\u00b5\u0787"+
-		"\n\u00b5\3\u00b6\3\u00b6\3\u00b7\3\u00b7\3\u00b7\3\u00b7\7\u00b7\u078f"+
-		"\n\u00b7\f\u00b7\16\u00b7\u0792\13\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7"+
-		"\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7"+
-		"\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\5\u00b7\u07a7\n\u00b7"+
-		"\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\5\u00b8\u07ae\n\u00b8\3\u00b9"+
-		"\3\u00b9\3\u00ba\3\u00ba\3\u00ba\3\u00ba\5\u00ba\u07b6\n\u00ba\3\u00bb"+
-		"\3\u00bb\3\u00bb\3\u00bb\7\u00bb\u07bc\n\u00bb\f\u00bb\16\u00bb\u07bf"+
-		"\13\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\7\u00bb\u07c7"+
-		"\n\u00bb\f\u00bb\16\u00bb\u07ca\13\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb"+
+		"\4\u00ed\t\u00ed\4\u00ee\t\u00ee\4\u00ef\t\u00ef\4\u00f0\t\u00f0\4\u00f1"+
+		"\t\u00f1\4\u00f2\t\u00f2\4\u00f3\t\u00f3\4\u00f4\t\u00f4\3\2\3\2\3\3\3"+
+		"\3\5\3\u01ed\n\3\3\4\7\4\u01f0\n\4\f\4\16\4\u01f3\13\4\3\4\3\4\7\4\u01f7"+
+		"\n\4\f\4\16\4\u01fa\13\4\3\4\5\4\u01fd\n\4\3\5\3\5\5\5\u0201\n\5\3\6\3"+
+		"\6\3\7\3\7\3\b\3\b\3\b\5\b\u020a\n\b\3\t\3\t\5\t\u020e\n\t\3\t\3\t\7\t"+
+		"\u0212\n\t\f\t\16\t\u0215\13\t\3\n\7\n\u0218\n\n\f\n\16\n\u021b\13\n\3"+
+		"\n\3\n\5\n\u021f\n\n\3\n\3\n\3\n\7\n\u0224\n\n\f\n\16\n\u0227\13\n\3\n"+
+		"\3\n\5\n\u022b\n\n\5\n\u022d\n\n\3\13\3\13\7\13\u0231\n\13\f\13\16\13"+
+		"\u0234\13\13\3\13\3\13\5\13\u0238\n\13\3\f\7\f\u023b\n\f\f\f\16\f\u023e"+
+		"\13\f\3\f\3\f\5\f\u0242\n\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\7\20\u024b"+
+		"\n\20\f\20\16\20\u024e\13\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\5\21\u025b\n\21\3\22\7\22\u025e\n\22\f\22\16\22\u0261\13"+
+		"\22\3\22\3\22\3\22\7\22\u0266\n\22\f\22\16\22\u0269\13\22\3\22\3\22\7"+
+		"\22\u026d\n\22\f\22\16\22\u0270\13\22\3\23\7\23\u0273\n\23\f\23\16\23"+
+		"\u0276\13\23\3\23\3\23\5\23\u027a\n\23\3\24\3\24\3\25\3\25\3\25\3\25\3"+
+		"\25\7\25\u0283\n\25\f\25\16\25\u0286\13\25\5\25\u0288\n\25\3\26\3\26\3"+
+		"\26\3\27\3\27\3\27\3\27\3\30\3\30\3\30\7\30\u0294\n\30\f\30\16\30\u0297"+
+		"\13\30\3\31\3\31\5\31\u029b\n\31\3\32\7\32\u029e\n\32\f\32\16\32\u02a1"+
+		"\13\32\3\32\3\32\5\32\u02a5\n\32\3\33\3\33\3\33\3\33\5\33\u02ab\n\33\3"+
+		"\34\3\34\3\34\3\34\3\34\3\34\7\34\u02b3\n\34\f\34\16\34\u02b6\13\34\3"+
+		"\35\3\35\3\35\3\35\3\35\5\35\u02bd\n\35\3\36\3\36\3\36\3\36\3\36\3\36"+
+		"\7\36\u02c5\n\36\f\36\16\36\u02c8\13\36\3\37\3\37\3\37\3\37\3\37\5\37"+
+		"\u02cf\n\37\3 \3 \3!\3!\3!\3!\3!\3!\7!\u02d9\n!\f!\16!\u02dc\13!\3\"\5"+
+		"\"\u02df\n\"\3\"\7\"\u02e2\n\"\f\"\16\"\u02e5\13\"\3\"\7\"\u02e8\n\"\f"+
+		"\"\16\"\u02eb\13\"\3\"\3\"\3#\6#\u02f0\n#\r#\16#\u02f1\3#\3#\3$\6$\u02f7"+
+		"\n$\r$\16$\u02f8\3$\3$\3%\3%\3%\3&\7&\u0301\n&\f&\16&\u0304\13&\3&\3&"+
+		"\3\'\3\'\5\'\u030a\n\'\3(\3(\5(\u030e\n(\3)\7)\u0311\n)\f)\16)\u0314\13"+
+		")\3)\3)\3)\3)\7)\u031a\n)\f)\16)\u031d\13)\3)\3)\3*\3*\3+\3+\3+\3+\5+"+
+		"\u0327\n+\3,\3,\3,\3,\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3/\3/\3/"+
+		"\3/\3/\3/\3/\3\60\3\60\3\60\5\60\u0344\n\60\3\61\3\61\5\61\u0348\n\61"+
+		"\3\62\7\62\u034b\n\62\f\62\16\62\u034e\13\62\3\62\3\62\3\62\5\62\u0353"+
+		"\n\62\3\62\5\62\u0356\n\62\3\62\5\62\u0359\n\62\3\62\3\62\3\63\3\63\3"+
+		"\63\3\63\3\63\3\63\3\63\3\63\5\63\u0365\n\63\3\64\3\64\3\64\3\64\3\65"+
+		"\3\65\3\65\7\65\u036e\n\65\f\65\16\65\u0371\13\65\3\66\3\66\3\66\3\67"+
+		"\3\67\3\67\38\38\38\78\u037c\n8\f8\168\u037f\138\39\39\79\u0383\n9\f9"+
+		"\169\u0386\139\39\39\3:\3:\3:\3:\5:\u038e\n:\3;\3;\3;\3;\3;\5;\u0395\n"+
+		";\3<\7<\u0398\n<\f<\16<\u039b\13<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3=\3=\3="+
+		"\5=\u03a9\n=\3>\3>\3>\7>\u03ae\n>\f>\16>\u03b1\13>\3?\3?\3?\5?\u03b6\n"+
+		"?\3@\3@\5@\u03ba\n@\3A\3A\5A\u03be\nA\3B\3B\5B\u03c2\nB\3C\3C\5C\u03c6"+
+		"\nC\3D\3D\3D\5D\u03cb\nD\3E\3E\5E\u03cf\nE\3E\3E\7E\u03d3\nE\fE\16E\u03d6"+
+		"\13E\3F\3F\5F\u03da\nF\3F\3F\3F\7F\u03df\nF\fF\16F\u03e2\13F\3F\3F\5F"+
+		"\u03e6\nF\5F\u03e8\nF\3G\3G\7G\u03ec\nG\fG\16G\u03ef\13G\3G\3G\5G\u03f3"+
+		"\nG\3H\3H\5H\u03f7\nH\3I\3I\3J\3J\3K\3K\3L\3L\3M\3M\3M\3M\3M\3M\3M\3M"+
+		"\3M\5M\u040a\nM\3N\7N\u040d\nN\fN\16N\u0410\13N\3N\3N\3N\3O\3O\3O\3O\3"+
+		"O\3O\3O\3O\3O\3O\5O\u041f\nO\3P\3P\3P\5P\u0424\nP\3P\3P\7P\u0428\nP\f"+
+		"P\16P\u042b\13P\3P\3P\3P\5P\u0430\nP\5P\u0432\nP\3Q\3Q\5Q\u0436\nQ\3R"+
+		"\3R\3R\5R\u043b\nR\3R\3R\5R\u043f\nR\3S\3S\3S\3S\3S\5S\u0446\nS\3T\3T"+
+		"\3T\7T\u044b\nT\fT\16T\u044e\13T\3T\3T\3T\7T\u0453\nT\fT\16T\u0456\13"+
+		"T\5T\u0458\nT\3U\7U\u045b\nU\fU\16U\u045e\13U\3U\3U\3U\3V\3V\5V\u0465"+
+		"\nV\3W\7W\u0468\nW\fW\16W\u046b\13W\3W\3W\7W\u046f\nW\fW\16W\u0472\13"+
+		"W\3W\3W\3W\3W\5W\u0478\nW\3X\7X\u047b\nX\fX\16X\u047e\13X\3X\3X\3X\5X"+
+		"\u0483\nX\3X\3X\3Y\3Y\3Y\3Z\3Z\3Z\7Z\u048d\nZ\fZ\16Z\u0490\13Z\3[\3[\5"+
+		"[\u0494\n[\3\\\3\\\5\\\u0498\n\\\3]\3]\3^\3^\3^\3_\7_\u04a0\n_\f_\16_"+
+		"\u04a3\13_\3_\3_\5_\u04a7\n_\3_\3_\3`\3`\3`\3`\5`\u04af\n`\3a\5a\u04b2"+
+		"\na\3a\3a\3a\5a\u04b7\na\3a\3a\3b\3b\3c\3c\5c\u04bf\nc\3c\5c\u04c2\nc"+
+		"\3c\3c\3d\5d\u04c7\nd\3d\3d\3d\5d\u04cc\nd\3d\3d\3d\5d\u04d1\nd\3d\3d"+
+		"\3d\5d\u04d6\nd\3d\3d\3d\3d\3d\5d\u04dd\nd\3d\3d\3d\5d\u04e2\nd\3d\3d"+
+		"\3d\3d\3d\3d\5d\u04ea\nd\3d\3d\3d\5d\u04ef\nd\3d\3d\3d\5d\u04f4\nd\3e"+
+		"\7e\u04f7\ne\fe\16e\u04fa\13e\3e\3e\3e\5e\u04ff\ne\3e\3e\3f\3f\5f\u0505"+
+		"\nf\3f\5f\u0508\nf\3f\5f\u050b\nf\3f\3f\3g\3g\3g\7g\u0512\ng\fg\16g\u0515"+
+		"\13g\3h\7h\u0518\nh\fh\16h\u051b\13h\3h\3h\3h\5h\u0520\nh\3h\5h\u0523"+
+		"\nh\3h\5h\u0526\nh\3i\3i\3j\3j\7j\u052c\nj\fj\16j\u052f\13j\3k\3k\5k\u0533"+
+		"\nk\3l\7l\u0536\nl\fl\16l\u0539\13l\3l\3l\3l\5l\u053e\nl\3l\5l\u0541\n"+
+		"l\3l\3l\3m\3m\3m\3m\3m\3m\3m\5m\u054c\nm\3n\3n\3n\3o\3o\7o\u0553\no\f"+
+		"o\16o\u0556\13o\3o\3o\3p\3p\3p\3p\3p\5p\u055f\np\3q\7q\u0562\nq\fq\16"+
+		"q\u0565\13q\3q\3q\3q\3q\3r\3r\3r\3r\5r\u056f\nr\3s\7s\u0572\ns\fs\16s"+
+		"\u0575\13s\3s\3s\3s\3t\3t\3t\3t\3t\3t\5t\u0580\nt\3u\7u\u0583\nu\fu\16"+
+		"u\u0586\13u\3u\3u\3u\3u\3u\3v\3v\7v\u058f\nv\fv\16v\u0592\13v\3v\3v\3"+
+		"w\3w\3w\3w\3w\5w\u059b\nw\3x\7x\u059e\nx\fx\16x\u05a1\13x\3x\3x\3x\3x"+
+		"\3x\5x\u05a8\nx\3x\5x\u05ab\nx\3x\3x\3y\3y\3y\5y\u05b2\ny\3z\3z\3z\3{"+
+		"\3{\3{\5{\u05ba\n{\3|\3|\3|\3|\5|\u05c0\n|\3|\3|\3}\3}\3}\7}\u05c7\n}"+
+		"\f}\16}\u05ca\13}\3~\3~\3~\3~\3\177\3\177\3\177\5\177\u05d3\n\177\3\u0080"+
+		"\3\u0080\5\u0080\u05d7\n\u0080\3\u0080\5\u0080\u05da\n\u0080\3\u0080\3"+
+		"\u0080\3\u0081\3\u0081\3\u0081\7\u0081\u05e1\n\u0081\f\u0081\16\u0081"+
+		"\u05e4\13\u0081\3\u0082\3\u0082\3\u0082\3\u0083\3\u0083\3\u0083\3\u0083"+
+		"\3\u0083\3\u0083\3\u0084\3\u0084\5\u0084\u05f1\n\u0084\3\u0084\5\u0084"+
+		"\u05f4\n\u0084\3\u0084\3\u0084\3\u0085\3\u0085\3\u0085\7\u0085\u05fb\n"+
+		"\u0085\f\u0085\16\u0085\u05fe\13\u0085\3\u0086\3\u0086\5\u0086\u0602\n"+
+		"\u0086\3\u0086\3\u0086\3\u0087\3\u0087\7\u0087\u0608\n\u0087\f\u0087\16"+
+		"\u0087\u060b\13\u0087\3\u0088\3\u0088\3\u0088\5\u0088\u0610\n\u0088\3"+
+		"\u0089\3\u0089\3\u0089\3\u008a\7\u008a\u0616\n\u008a\f\u008a\16\u008a"+
+		"\u0619\13\u008a\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b"+
+		"\3\u008b\3\u008b\5\u008b\u0624\n\u008b\3\u008c\3\u008c\3\u008c\3\u008c"+
+		"\3\u008c\5\u008c\u062b\n\u008c\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d"+
+		"\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\5\u008d\u0639"+
+		"\n\u008d\3\u008e\3\u008e\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090"+
+		"\3\u0090\3\u0090\3\u0091\3\u0091\3\u0091\3\u0092\3\u0092\3\u0092\3\u0092"+
+		"\3\u0092\3\u0092\3\u0092\5\u0092\u064f\n\u0092\3\u0093\3\u0093\3\u0093"+
+		"\3\u0093\3\u0093\3\u0093\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094"+
+		"\3\u0094\3\u0094\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095"+
+		"\3\u0095\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096"+
+		"\3\u0096\3\u0096\5\u0096\u0671\n\u0096\3\u0097\3\u0097\3\u0097\3\u0097"+
+		"\3\u0097\3\u0097\3\u0098\3\u0098\7\u0098\u067b\n\u0098\f\u0098\16\u0098"+
+		"\u067e\13\u0098\3\u0098\7\u0098\u0681\n\u0098\f\u0098\16\u0098\u0684\13"+
+		"\u0098\3\u0098\3\u0098\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a\7\u009a"+
+		"\u068d\n\u009a\f\u009a\16\u009a\u0690\13\u009a\3\u009b\3\u009b\3\u009b"+
+		"\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\5\u009b\u069c"+
+		"\n\u009b\3\u009c\3\u009c\3\u009d\3\u009d\3\u009d\3\u009d\3\u009d\3\u009d"+
+		"\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f"+
+		"\3\u009f\3\u009f\3\u009f\3\u009f\3\u009f\3\u00a0\3\u00a0\5\u00a0\u06b6"+
+		"\n\u00a0\3\u00a1\3\u00a1\5\u00a1\u06ba\n\u00a1\3\u00a2\3\u00a2\3\u00a2"+
+		"\5\u00a2\u06bf\n\u00a2\3\u00a2\3\u00a2\5\u00a2\u06c3\n\u00a2\3\u00a2\3"+
+		"\u00a2\5\u00a2\u06c7\n\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a3\3\u00a3\3"+
+		"\u00a3\5\u00a3\u06cf\n\u00a3\3\u00a3\3\u00a3\5\u00a3\u06d3\n\u00a3\3\u00a3"+
+		"\3\u00a3\5\u00a3\u06d7\n\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a4\3\u00a4"+
+		"\5\u00a4\u06de\n\u00a4\3\u00a5\3\u00a5\3\u00a6\3\u00a6\3\u00a6\7\u00a6"+
+		"\u06e5\n\u00a6\f\u00a6\16\u00a6\u06e8\13\u00a6\3\u00a7\3\u00a7\3\u00a7"+
+		"\7\u00a7\u06ed\n\u00a7\f\u00a7\16\u00a7\u06f0\13\u00a7\3\u00a7\3\u00a7"+
+		"\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a8\3\u00a8\3\u00a8\7\u00a8"+
+		"\u06fc\n\u00a8\f\u00a8\16\u00a8\u06ff\13\u00a8\3\u00a8\3\u00a8\3\u00a8"+
+		"\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9\5\u00a9\u070a\n\u00a9"+
+		"\3\u00a9\3\u00a9\3\u00aa\3\u00aa\5\u00aa\u0710\n\u00aa\3\u00aa\3\u00aa"+
+		"\3\u00ab\3\u00ab\5\u00ab\u0716\n\u00ab\3\u00ab\3\u00ab\3\u00ac\3\u00ac"+
+		"\3\u00ac\3\u00ac\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ae"+
+		"\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\5\u00ae\u072b\n\u00ae"+
+		"\3\u00ae\3\u00ae\3\u00ae\5\u00ae\u0730\n\u00ae\3\u00af\3\u00af\7\u00af"+
+		"\u0734\n\u00af\f\u00af\16\u00af\u0737\13\u00af\3\u00b0\3\u00b0\3\u00b0"+
+		"\3\u00b0\3\u00b0\3\u00b0\3\u00b1\7\u00b1\u0740\n\u00b1\f\u00b1\16\u00b1"+
+		"\u0743\13\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2\3\u00b2\7\u00b2"+
+		"\u074b\n\u00b2\f\u00b2\16\u00b2\u074e\13\u00b2\3\u00b3\3\u00b3\3\u00b3"+
+		"\3\u00b4\3\u00b4\3\u00b4\3\u00b4\5\u00b4\u0757\n\u00b4\3\u00b4\5\u00b4"+
+		"\u075a\n\u00b4\3\u00b5\3\u00b5\3\u00b5\5\u00b5\u075f\n\u00b5\3\u00b5\3"+
+		"\u00b5\3\u00b6\3\u00b6\3\u00b6\7\u00b6\u0766\n\u00b6\f\u00b6\16\u00b6"+
+		"\u0769\13\u00b6\3\u00b7\7\u00b7\u076c\n\u00b7\f\u00b7\16\u00b7\u076f\13"+
+		"\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b8\3\u00b8\5\u00b8"+
+		"\u0778\n\u00b8\3\u00b8\7\u00b8\u077b\n\u00b8\f\u00b8\16\u00b8\u077e\13"+
+		"\u00b8\3\u00b9\3\u00b9\3\u00b9\3\u00b9\7\u00b9\u0784\n\u00b9\f\u00b9\16"+
+		"\u00b9\u0787\13\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9"+
+		"\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9"+
+		"\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\5\u00b9\u079d\n\u00b9\3\u00ba"+
+		"\3\u00ba\3\u00bb\3\u00bb\3\u00bb\3\u00bb\7\u00bb\u07a5\n\u00bb\f\u00bb"+
+		"\16\u00bb\u07a8\13\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb"+
 		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb"+
-		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\5\u00bb\u07e0"+
-		"\n\u00bb\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u00bd\3\u00bd\7\u00bd\u07e8"+
-		"\n\u00bd\f\u00bd\16\u00bd\u07eb\13\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
-		"\3\u00bd\3\u00bd\7\u00bd\u07f3\n\u00bd\f\u00bd\16\u00bd\u07f6\13\u00bd"+
-		"\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
-		"\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
-		"\3\u00bd\5\u00bd\u080b\n\u00bd\3\u00be\3\u00be\5\u00be\u080f\n\u00be\3"+
-		"\u00be\7\u00be\u0812\n\u00be\f\u00be\16\u00be\u0815\13\u00be\3\u00be\3"+
-		"\u00be\3\u00be\7\u00be\u081a\n\u00be\f\u00be\16\u00be\u081d\13\u00be\3"+
-		"\u00be\7\u00be\u0820\n\u00be\f\u00be\16\u00be\u0823\13\u00be\3\u00be\5"+
-		"\u00be\u0826\n\u00be\3\u00be\3\u00be\5\u00be\u082a\n\u00be\3\u00be\3\u00be"+
-		"\5\u00be\u082e\n\u00be\3\u00be\3\u00be\3\u00be\3\u00be\5\u00be\u0834\n"+
-		"\u00be\3\u00be\7\u00be\u0837\n\u00be\f\u00be\16\u00be\u083a\13\u00be\3"+
-		"\u00be\3\u00be\5\u00be\u083e\n\u00be\3\u00be\3\u00be\5\u00be\u0842\n\u00be"+
-		"\3\u00be\3\u00be\5\u00be\u0846\n\u00be\3\u00be\3\u00be\3\u00be\3\u00be"+
-		"\5\u00be\u084c\n\u00be\3\u00be\7\u00be\u084f\n\u00be\f\u00be\16\u00be"+
-		"\u0852\13\u00be\3\u00be\3\u00be\5\u00be\u0856\n\u00be\3\u00be\3\u00be"+
-		"\5\u00be\u085a\n\u00be\3\u00be\3\u00be\5\u00be\u085e\n\u00be\5\u00be\u0860"+
-		"\n\u00be\3\u00bf\3\u00bf\3\u00bf\5\u00bf\u0865\n\u00bf\3\u00bf\7\u00bf"+
-		"\u0868\n\u00bf\f\u00bf\16\u00bf\u086b\13\u00bf\3\u00bf\3\u00bf\5\u00bf"+
-		"\u086f\n\u00bf\3\u00bf\3\u00bf\5\u00bf\u0873\n\u00bf\3\u00bf\3\u00bf\5"+
-		"\u00bf\u0877\n\u00bf\3\u00c0\3\u00c0\5\u00c0\u087b\n\u00c0\3\u00c0\7\u00c0"+
-		"\u087e\n\u00c0\f\u00c0\16\u00c0\u0881\13\u00c0\3\u00c0\3\u00c0\3\u00c0"+
-		"\7\u00c0\u0886\n\u00c0\f\u00c0\16\u00c0\u0889\13\u00c0\3\u00c0\7\u00c0"+
-		"\u088c\n\u00c0\f\u00c0\16\u00c0\u088f\13\u00c0\3\u00c0\5\u00c0\u0892\n"+
-		"\u00c0\3\u00c0\3\u00c0\5\u00c0\u0896\n\u00c0\3\u00c0\3\u00c0\5\u00c0\u089a"+
-		"\n\u00c0\3\u00c0\3\u00c0\3\u00c0\3\u00c0\5\u00c0\u08a0\n\u00c0\3\u00c0"+
-		"\7\u00c0\u08a3\n\u00c0\f\u00c0\16\u00c0\u08a6\13\u00c0\3\u00c0\3\u00c0"+
-		"\5\u00c0\u08aa\n\u00c0\3\u00c0\3\u00c0\5\u00c0\u08ae\n\u00c0\3\u00c0\3"+
-		"\u00c0\5\u00c0\u08b2\n\u00c0\5\u00c0\u08b4\n\u00c0\3\u00c1\3\u00c1\3\u00c1"+
-		"\5\u00c1\u08b9\n\u00c1\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2"+
-		"\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\5\u00c2\u08c8"+
-		"\n\u00c2\3\u00c3\3\u00c3\3\u00c3\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4"+
-		"\3\u00c4\3\u00c4\3\u00c4\3\u00c4\5\u00c4\u08d6\n\u00c4\3\u00c5\3\u00c5"+
-		"\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\5\u00c5"+
-		"\u08e2\n\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\7\u00c5\u08e9\n"+
-		"\u00c5\f\u00c5\16\u00c5\u08ec\13\u00c5\3\u00c6\3\u00c6\3\u00c6\3\u00c6"+
-		"\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\7\u00c6\u08f8\n\u00c6"+
-		"\f\u00c6\16\u00c6\u08fb\13\u00c6\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7"+
-		"\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7\5\u00c7\u0907\n\u00c7\3\u00c7"+
-		"\3\u00c7\3\u00c7\3\u00c7\3\u00c7\7\u00c7\u090e\n\u00c7\f\u00c7\16\u00c7"+
-		"\u0911\13\u00c7\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u0916\n\u00c8\3\u00c8"+
-		"\3\u00c8\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u091d\n\u00c8\3\u00c8\3\u00c8"+
-		"\3\u00c8\5\u00c8\u0922\n\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8"+
-		"\5\u00c8\u0929\n\u00c8\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u092e\n\u00c8\3"+
-		"\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u0935\n\u00c8\3\u00c8\3"+
-		"\u00c8\3\u00c8\5\u00c8\u093a\n\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3"+
-		"\u00c8\5\u00c8\u0941\n\u00c8\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u0946\n\u00c8"+
-		"\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u094e\n\u00c8"+
-		"\3\u00c8\3\u00c8\3\u00c8\5\u00c8\u0953\n\u00c8\3\u00c8\3\u00c8\5\u00c8"+
-		"\u0957\n\u00c8\3\u00c9\3\u00c9\5\u00c9\u095b\n\u00c9\3\u00c9\3\u00c9\3"+
-		"\u00c9\5\u00c9\u0960\n\u00c9\3\u00c9\3\u00c9\3\u00ca\3\u00ca\3\u00ca\5"+
-		"\u00ca\u0967\n\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\5\u00ca\u096e"+
-		"\n\u00ca\3\u00ca\3\u00ca\3\u00ca\5\u00ca\u0973\n\u00ca\3\u00ca\3\u00ca"+
-		"\3\u00ca\3\u00ca\3\u00ca\5\u00ca\u097a\n\u00ca\3\u00ca\3\u00ca\3\u00ca"+
-		"\5\u00ca\u097f\n\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\5\u00ca"+
-		"\u0986\n\u00ca\3\u00ca\3\u00ca\3\u00ca\5\u00ca\u098b\n\u00ca\3\u00ca\3"+
-		"\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\5\u00ca\u0993\n\u00ca\3\u00ca\3"+
-		"\u00ca\3\u00ca\5\u00ca\u0998\n\u00ca\3\u00ca\3\u00ca\5\u00ca\u099c\n\u00ca"+
-		"\3\u00cb\3\u00cb\3\u00cb\7\u00cb\u09a1\n\u00cb\f\u00cb\16\u00cb\u09a4"+
-		"\13\u00cb\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u09a9\n\u00cc\3\u00cc\3\u00cc"+
-		"\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u09b0\n\u00cc\3\u00cc\3\u00cc\3\u00cc"+
-		"\3\u00cc\3\u00cc\5\u00cc\u09b7\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
-		"\3\u00cc\5\u00cc\u09be\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
-		"\3\u00cc\5\u00cc\u09c6\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
-		"\5\u00cc\u09cd\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
-		"\5\u00cc\u09d5\n\u00cc\3\u00cd\3\u00cd\5\u00cd\u09d9\n\u00cd\3\u00cd\3"+
-		"\u00cd\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u09e0\n\u00ce\3\u00ce\3\u00ce\3"+
-		"\u00ce\3\u00ce\3\u00ce\5\u00ce\u09e7\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3"+
-		"\u00ce\3\u00ce\5\u00ce\u09ee\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3"+
-		"\u00ce\3\u00ce\5\u00ce\u09f6\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3"+
-		"\u00ce\5\u00ce\u09fd\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3"+
-		"\u00ce\5\u00ce\u0a05\n\u00ce\3\u00cf\3\u00cf\3\u00cf\3\u00cf\5\u00cf\u0a0b"+
-		"\n\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\5\u00cf\u0a11\n\u00cf\3\u00cf"+
-		"\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf"+
-		"\5\u00cf\u0a1d\n\u00cf\3\u00d0\3\u00d0\7\u00d0\u0a21\n\u00d0\f\u00d0\16"+
-		"\u00d0\u0a24\13\u00d0\3\u00d1\7\u00d1\u0a27\n\u00d1\f\u00d1\16\u00d1\u0a2a"+
-		"\13\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d2\3\u00d2\3\u00d3\3\u00d3"+
-		"\5\u00d3\u0a34\n\u00d3\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d5\3\u00d5"+
-		"\3\u00d5\5\u00d5\u0a3d\n\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5"+
-		"\5\u00d5\u0a44\n\u00d5\3\u00d6\3\u00d6\3\u00d6\7\u00d6\u0a49\n\u00d6\f"+
-		"\u00d6\16\u00d6\u0a4c\13\u00d6\3\u00d7\3\u00d7\5\u00d7\u0a50\n\u00d7\3"+
-		"\u00d8\3\u00d8\5\u00d8\u0a54\n\u00d8\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3"+
-		"\u00da\3\u00da\3\u00da\5\u00da\u0a5d\n\u00da\3\u00db\3\u00db\3\u00dc\3"+
-		"\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\5\u00dc\u0a68\n\u00dc\3"+
-		"\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\7\u00dd\u0a70\n\u00dd\f"+
-		"\u00dd\16\u00dd\u0a73\13\u00dd\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de"+
-		"\3\u00de\7\u00de\u0a7b\n\u00de\f\u00de\16\u00de\u0a7e\13\u00de\3\u00df"+
-		"\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\7\u00df\u0a86\n\u00df\f\u00df"+
-		"\16\u00df\u0a89\13\u00df\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e0"+
-		"\7\u00e0\u0a91\n\u00e0\f\u00e0\16\u00e0\u0a94\13\u00e0\3\u00e1\3\u00e1"+
-		"\3\u00e1\3\u00e1\3\u00e1\3\u00e1\7\u00e1\u0a9c\n\u00e1\f\u00e1\16\u00e1"+
-		"\u0a9f\13\u00e1\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2"+
-		"\3\u00e2\3\u00e2\7\u00e2\u0aaa\n\u00e2\f\u00e2\16\u00e2\u0aad\13\u00e2"+
-		"\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3"+
-		"\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3"+
-		"\7\u00e3\u0ac1\n\u00e3\f\u00e3\16\u00e3\u0ac4\13\u00e3\3\u00e4\3\u00e4"+
-		"\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4"+
-		"\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\7\u00e4\u0ad6\n\u00e4\f\u00e4"+
-		"\16\u00e4\u0ad9\13\u00e4\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5"+
-		"\3\u00e5\3\u00e5\3\u00e5\7\u00e5\u0ae4\n\u00e5\f\u00e5\16\u00e5\u0ae7"+
-		"\13\u00e5\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6"+
-		"\3\u00e6\3\u00e6\3\u00e6\3\u00e6\7\u00e6\u0af5\n\u00e6\f\u00e6\16\u00e6"+
-		"\u0af8\13\u00e6\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7"+
-		"\5\u00e7\u0b01\n\u00e7\3\u00e8\3\u00e8\3\u00e8\3\u00e9\3\u00e9\3\u00e9"+
-		"\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\5\u00ea\u0b0f\n\u00ea"+
-		"\3\u00eb\3\u00eb\5\u00eb\u0b13\n\u00eb\3\u00eb\3\u00eb\7\u00eb\u0b17\n"+
-		"\u00eb\f\u00eb\16\u00eb\u0b1a\13\u00eb\3\u00ec\3\u00ec\3\u00ec\3\u00ed"+
-		"\3\u00ed\3\u00ee\3\u00ee\3\u00ee\3\u00ef\3\u00ef\3\u00f0\3\u00f0\3\u00f0"+
-		"\3\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f0\7\u00f0\u0b2e\n\u00f0\f\u00f0"+
-		"\16\u00f0\u0b31\13\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f0"+
-		"\7\u00f0\u0b39\n\u00f0\f\u00f0\16\u00f0\u0b3c\13\u00f0\3\u00f0\3\u00f0"+
-		"\3\u00f0\5\u00f0\u0b41\n\u00f0\3\u00f0\2\17\66:@\u01b8\u01ba\u01bc\u01be"+
-		"\u01c0\u01c2\u01c4\u01c6\u01c8\u01ca\u00f1\2\4\6\b\n\f\16\20\22\24\26"+
-		"\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|"+
-		"~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096"+
-		"\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae"+
-		"\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6"+
-		"\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2\u00d4\u00d6\u00d8\u00da\u00dc\u00de"+
-		"\u00e0\u00e2\u00e4\u00e6\u00e8\u00ea\u00ec\u00ee\u00f0\u00f2\u00f4\u00f6"+
-		"\u00f8\u00fa\u00fc\u00fe\u0100\u0102\u0104\u0106\u0108\u010a\u010c\u010e"+
-		"\u0110\u0112\u0114\u0116\u0118\u011a\u011c\u011e\u0120\u0122\u0124\u0126"+
-		"\u0128\u012a\u012c\u012e\u0130\u0132\u0134\u0136\u0138\u013a\u013c\u013e"+
-		"\u0140\u0142\u0144\u0146\u0148\u014a\u014c\u014e\u0150\u0152\u0154\u0156"+
-		"\u0158\u015a\u015c\u015e\u0160\u0162\u0164\u0166\u0168\u016a\u016c\u016e"+
-		"\u0170\u0172\u0174\u0176\u0178\u017a\u017c\u017e\u0180\u0182\u0184\u0186"+
-		"\u0188\u018a\u018c\u018e\u0190\u0192\u0194\u0196\u0198\u019a\u019c\u019e"+
-		"\u01a0\u01a2\u01a4\u01a6\u01a8\u01aa\u01ac\u01ae\u01b0\u01b2\u01b4\u01b6"+
-		"\u01b8\u01ba\u01bc\u01be\u01c0\u01c2\u01c4\u01c6\u01c8\u01ca\u01cc\u01ce"+
-		"\u01d0\u01d2\u01d4\u01d6\u01d8\u01da\u01dc\u01de\2\6\3\2\65:\7\2\7\7\n"+
-		"\n\35\35\37\37\'\'\4\2\20\20\26\26\4\2DD]g\u0c38\2\u01e0\3\2\2\2\4\u01e4"+
-		"\3\2\2\2\6\u01f4\3\2\2\2\b\u01f8\3\2\2\2\n\u01fa\3\2\2\2\f\u01fc\3\2\2"+
-		"\2\16\u0201\3\2\2\2\20\u0205\3\2\2\2\22\u0224\3\2\2\2\24\u0226\3\2\2\2"+
-		"\26\u0234\3\2\2\2\30\u023b\3\2\2\2\32\u023d\3\2\2\2\34\u023f\3\2\2\2\36"+
-		"\u0244\3\2\2\2 \u0252\3\2\2\2\"\u0257\3\2\2\2$\u026c\3\2\2\2&\u0273\3"+
-		"\2\2\2(\u027f\3\2\2\2*\u0281\3\2\2\2,\u0284\3\2\2\2.\u0288\3\2\2\2\60"+
-		"\u0292\3\2\2\2\62\u0297\3\2\2\2\64\u02a2\3\2\2\2\66\u02a4\3\2\2\28\u02b4"+
-		"\3\2\2\2:\u02b6\3\2\2\2<\u02c6\3\2\2\2>\u02c8\3\2\2\2@\u02ca\3\2\2\2B"+
-		"\u02ef\3\2\2\2D\u02f3\3\2\2\2F\u02f7\3\2\2\2H\u02fc\3\2\2\2J\u030a\3\2"+
-		"\2\2L\u0310\3\2\2\2N\u0312\3\2\2\2P\u0316\3\2\2\2R\u031c\3\2\2\2T\u0323"+
-		"\3\2\2\2V\u032d\3\2\2\2X\u0331\3\2\2\2Z\u0336\3\2\2\2\\\u034e\3\2\2\2"+
-		"^\u0350\3\2\2\2`\u0354\3\2\2\2b\u035c\3\2\2\2d\u035f\3\2\2\2f\u0362\3"+
-		"\2\2\2h\u036a\3\2\2\2j\u0377\3\2\2\2l\u037e\3\2\2\2n\u0383\3\2\2\2p\u0392"+
-		"\3\2\2\2r\u0394\3\2\2\2t\u039c\3\2\2\2v\u03a1\3\2\2\2x\u03a7\3\2\2\2z"+
-		"\u03ab\3\2\2\2|\u03af\3\2\2\2~\u03b4\3\2\2\2\u0080\u03b8\3\2\2\2\u0082"+
-		"\u03d1\3\2\2\2\u0084\u03d3\3\2\2\2\u0086\u03de\3\2\2\2\u0088\u03e2\3\2"+
-		"\2\2\u008a\u03e4\3\2\2\2\u008c\u03e6\3\2\2\2\u008e\u03e8\3\2\2\2\u0090"+
-		"\u03f3\3\2\2\2\u0092\u03f8\3\2\2\2\u0094\u0408\3\2\2\2\u0096\u041b\3\2"+
-		"\2\2\u0098\u041f\3\2\2\2\u009a\u0421\3\2\2\2\u009c\u042f\3\2\2\2\u009e"+
-		"\u0441\3\2\2\2\u00a0\u0446\3\2\2\2\u00a2\u044e\3\2\2\2\u00a4\u0461\3\2"+
-		"\2\2\u00a6\u0466\3\2\2\2\u00a8\u0470\3\2\2\2\u00aa\u0473\3\2\2\2\u00ac"+
-		"\u047d\3\2\2\2\u00ae\u0481\3\2\2\2\u00b0\u0483\3\2\2\2\u00b2\u0485\3\2"+
-		"\2\2\u00b4\u048b\3\2\2\2\u00b6\u0498\3\2\2\2\u00b8\u049b\3\2\2\2\u00ba"+
-		"\u04a4\3\2\2\2\u00bc\u04a6\3\2\2\2\u00be\u04dd\3\2\2\2\u00c0\u04e2\3\2"+
-		"\2\2\u00c2\u04ec\3\2\2\2\u00c4\u04f8\3\2\2\2\u00c6\u0503\3\2\2\2\u00c8"+
-		"\u0511\3\2\2\2\u00ca\u0513\3\2\2\2\u00cc\u051c\3\2\2\2\u00ce\u0521\3\2"+
-		"\2\2\u00d0\u0535\3\2\2\2\u00d2\u0537\3\2\2\2\u00d4\u053a\3\2\2\2\u00d6"+
-		"\u0548\3\2\2\2\u00d8\u054d\3\2\2\2\u00da\u0558\3\2\2\2\u00dc\u055d\3\2"+
-		"\2\2\u00de\u0569\3\2\2\2\u00e0\u056e\3\2\2\2\u00e2\u0576\3\2\2\2\u00e4"+
-		"\u0584\3\2\2\2\u00e6\u0589\3\2\2\2\u00e8\u059b\3\2\2\2\u00ea\u059d\3\2"+
-		"\2\2\u00ec\u05a3\3\2\2\2\u00ee\u05a5\3\2\2\2\u00f0\u05ad\3\2\2\2\u00f2"+
-		"\u05b5\3\2\2\2\u00f4\u05bc\3\2\2\2\u00f6\u05be\3\2\2\2\u00f8\u05c7\3\2"+
-		"\2\2\u00fa\u05cf\3\2\2\2\u00fc\u05d2\3\2\2\2\u00fe\u05d8\3\2\2\2\u0100"+
-		"\u05e1\3\2\2\2\u0102\u05e9\3\2\2\2\u0104\u05ef\3\2\2\2\u0106\u05f9\3\2"+
-		"\2\2\u0108\u05fb\3\2\2\2\u010a\u0601\3\2\2\2\u010c\u060d\3\2\2\2\u010e"+
-		"\u0614\3\2\2\2\u0110\u0622\3\2\2\2\u0112\u0624\3\2\2\2\u0114\u0626\3\2"+
-		"\2\2\u0116\u062a\3\2\2\2\u0118\u062e\3\2\2\2\u011a\u0638\3\2\2\2\u011c"+
-		"\u063a\3\2\2\2\u011e\u0640\3\2\2\2\u0120\u0648\3\2\2\2\u0122\u065a\3\2"+
-		"\2\2\u0124\u065c\3\2\2\2\u0126\u0662\3\2\2\2\u0128\u0671\3\2\2\2\u012a"+
-		"\u0674\3\2\2\2\u012c\u0685\3\2\2\2\u012e\u0687\3\2\2\2\u0130\u0689\3\2"+
-		"\2\2\u0132\u068f\3\2\2\2\u0134\u0695\3\2\2\2\u0136\u069f\3\2\2\2\u0138"+
-		"\u06a3\3\2\2\2\u013a\u06a5\3\2\2\2\u013c\u06b5\3\2\2\2\u013e\u06c7\3\2"+
-		"\2\2\u0140\u06c9\3\2\2\2\u0142\u06cb\3\2\2\2\u0144\u06d3\3\2\2\2\u0146"+
-		"\u06e2\3\2\2\2\u0148\u06f1\3\2\2\2\u014a\u06f7\3\2\2\2\u014c\u06fd\3\2"+
-		"\2\2\u014e\u0703\3\2\2\2\u0150\u0707\3\2\2\2\u0152\u0719\3\2\2\2\u0154"+
-		"\u071b\3\2\2\2\u0156\u0722\3\2\2\2\u0158\u072b\3\2\2\2\u015a\u0731\3\2"+
-		"\2\2\u015c\u0739\3\2\2\2\u015e\u073c\3\2\2\2\u0160\u0745\3\2\2\2\u0162"+
-		"\u074c\3\2\2\2\u0164\u0757\3\2\2\2\u0166\u0761\3\2\2\2\u0168\u0786\3\2"+
-		"\2\2\u016a\u0788\3\2\2\2\u016c\u07a6\3\2\2\2\u016e\u07ad\3\2\2\2\u0170"+
-		"\u07af\3\2\2\2\u0172\u07b5\3\2\2\2\u0174\u07df\3\2\2\2\u0176\u07e1\3\2"+
-		"\2\2\u0178\u080a\3\2\2\2\u017a\u085f\3\2\2\2\u017c\u0861\3\2\2\2\u017e"+
-		"\u08b3\3\2\2\2\u0180\u08b8\3\2\2\2\u0182\u08c7\3\2\2\2\u0184\u08c9\3\2"+
-		"\2\2\u0186\u08d5\3\2\2\2\u0188\u08e1\3\2\2\2\u018a\u08ed\3\2\2\2\u018c"+
-		"\u0906\3\2\2\2\u018e\u0956\3\2\2\2\u0190\u0958\3\2\2\2\u0192\u099b\3\2"+
-		"\2\2\u0194\u099d\3\2\2\2\u0196\u09d4\3\2\2\2\u0198\u09d6\3\2\2\2\u019a"+
-		"\u0a04\3\2\2\2\u019c\u0a1c\3\2\2\2\u019e\u0a1e\3\2\2\2\u01a0\u0a28\3\2"+
-		"\2\2\u01a2\u0a2f\3\2\2\2\u01a4\u0a33\3\2\2\2\u01a6\u0a35\3\2\2\2\u01a8"+
-		"\u0a43\3\2\2\2\u01aa\u0a45\3\2\2\2\u01ac\u0a4f\3\2\2\2\u01ae\u0a53\3\2"+
-		"\2\2\u01b0\u0a55\3\2\2\2\u01b2\u0a5c\3\2\2\2\u01b4\u0a5e\3\2\2\2\u01b6"+
-		"\u0a67\3\2\2\2\u01b8\u0a69\3\2\2\2\u01ba\u0a74\3\2\2\2\u01bc\u0a7f\3\2"+
-		"\2\2\u01be\u0a8a\3\2\2\2\u01c0\u0a95\3\2\2\2\u01c2\u0aa0\3\2\2\2\u01c4"+
-		"\u0aae\3\2\2\2\u01c6\u0ac5\3\2\2\2\u01c8\u0ada\3\2\2\2\u01ca\u0ae8\3\2"+
-		"\2\2\u01cc\u0b00\3\2\2\2\u01ce\u0b02\3\2\2\2\u01d0\u0b05\3\2\2\2\u01d2"+
-		"\u0b0e\3\2\2\2\u01d4\u0b12\3\2\2\2\u01d6\u0b1b\3\2\2\2\u01d8\u0b1e\3\2"+
-		"\2\2\u01da\u0b20\3\2\2\2\u01dc\u0b23\3\2\2\2\u01de\u0b40\3\2\2\2\u01e0"+
-		"\u01e1\t\2\2\2\u01e1\3\3\2\2\2\u01e2\u01e5\5\6\4\2\u01e3\u01e5\5\16\b"+
-		"\2\u01e4\u01e2\3\2\2\2\u01e4\u01e3\3\2\2\2\u01e5\5\3\2\2\2\u01e6\u01e8"+
-		"\5\u00ecw\2\u01e7\u01e6\3\2\2\2\u01e8\u01eb\3\2\2\2\u01e9\u01e7\3\2\2"+
-		"\2\u01e9\u01ea\3\2\2\2\u01ea\u01ec\3\2\2\2\u01eb\u01e9\3\2\2\2\u01ec\u01f5"+
-		"\5\b\5\2\u01ed\u01ef\5\u00ecw\2\u01ee\u01ed\3\2\2\2\u01ef\u01f2\3\2\2"+
-		"\2\u01f0\u01ee\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1\u01f3\3\2\2\2\u01f2\u01f0"+
-		"\3\2\2\2\u01f3\u01f5\7\5\2\2\u01f4\u01e9\3\2\2\2\u01f4\u01f0\3\2\2\2\u01f5"+
-		"\7\3\2\2\2\u01f6\u01f9\5\n\6\2\u01f7\u01f9\5\f\7\2\u01f8\u01f6\3\2\2\2"+
-		"\u01f8\u01f7\3\2\2\2\u01f9\t\3\2\2\2\u01fa\u01fb\t\3\2\2\u01fb\13\3\2"+
-		"\2\2\u01fc\u01fd\t\4\2\2\u01fd\r\3\2\2\2\u01fe\u0202\5\20\t\2\u01ff\u0202"+
-		"\5\36\20\2\u0200\u0202\5 \21\2\u0201\u01fe\3\2\2\2\u0201\u01ff\3\2\2\2"+
-		"\u0201\u0200\3\2\2\2\u0202\17\3\2\2\2\u0203\u0206\5\26\f\2\u0204\u0206"+
-		"\5\34\17\2\u0205\u0203\3\2\2\2\u0205\u0204\3\2\2\2\u0206\u020b\3\2\2\2"+
-		"\u0207\u020a\5\24\13\2\u0208\u020a\5\32\16\2\u0209\u0207\3\2\2\2\u0209"+
-		"\u0208\3\2\2\2\u020a\u020d\3\2\2\2\u020b\u0209\3\2\2\2\u020b\u020c\3\2"+
-		"\2\2\u020c\21\3\2\2\2\u020d\u020b\3\2\2\2\u020e\u0210\5\u00ecw\2\u020f"+
-		"\u020e\3\2\2\2\u0210\u0213\3\2\2\2\u0211\u020f\3\2\2\2\u0211\u0212\3\2"+
-		"\2\2\u0212\u0214\3\2\2\2\u0213\u0211\3\2\2\2\u0214\u0216\7h\2\2\u0215"+
-		"\u0217\5,\27\2\u0216\u0215\3\2\2\2\u0216\u0217\3\2\2\2\u0217\u0225\3\2"+
-		"\2\2\u0218\u0219\5\20\t\2\u0219\u021d\7C\2\2\u021a\u021c\5\u00ecw\2\u021b"+
-		"\u021a\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b\3\2\2\2\u021d\u021e\3\2"+
-		"\2\2\u021e\u0220\3\2\2\2\u021f\u021d\3\2\2\2\u0220\u0222\7h\2\2\u0221"+
-		"\u0223\5,\27\2\u0222\u0221\3\2\2\2\u0222\u0223\3\2\2\2\u0223\u0225\3\2"+
-		"\2\2\u0224\u0211\3\2\2\2\u0224\u0218\3\2\2\2\u0225\23\3\2\2\2\u0226\u022a"+
-		"\7C\2\2\u0227\u0229\5\u00ecw\2\u0228\u0227\3\2\2\2\u0229\u022c\3\2\2\2"+
-		"\u022a\u0228\3\2\2\2\u022a\u022b\3\2\2\2\u022b\u022d\3\2\2\2\u022c\u022a"+
-		"\3\2\2\2\u022d\u022f\7h\2\2\u022e\u0230\5,\27\2\u022f\u022e\3\2\2\2\u022f"+
-		"\u0230\3\2\2\2\u0230\25\3\2\2\2\u0231\u0233\5\u00ecw\2\u0232\u0231\3\2"+
-		"\2\2\u0233\u0236\3\2\2\2\u0234\u0232\3\2\2\2\u0234\u0235\3\2\2\2\u0235"+
-		"\u0237\3\2\2\2\u0236\u0234\3\2\2\2\u0237\u0239\7h\2\2\u0238\u023a\5,\27"+
-		"\2\u0239\u0238\3\2\2\2\u0239\u023a\3\2\2\2\u023a\27\3\2\2\2\u023b\u023c"+
-		"\5\22\n\2\u023c\31\3\2\2\2\u023d\u023e\5\24\13\2\u023e\33\3\2\2\2\u023f"+
-		"\u0240\5\26\f\2\u0240\35\3\2\2\2\u0241\u0243\5\u00ecw\2\u0242\u0241\3"+
-		"\2\2\2\u0243\u0246\3\2\2\2\u0244\u0242\3\2\2\2\u0244\u0245\3\2\2\2\u0245"+
-		"\u0247\3\2\2\2\u0246\u0244\3\2\2\2\u0247\u0248\7h\2\2\u0248\37\3\2\2\2"+
-		"\u0249\u024a\5\6\4\2\u024a\u024b\5\"\22\2\u024b\u0253\3\2\2\2\u024c\u024d"+
-		"\5\20\t\2\u024d\u024e\5\"\22\2\u024e\u0253\3\2\2\2\u024f\u0250\5\36\20"+
-		"\2\u0250\u0251\5\"\22\2\u0251\u0253\3\2\2\2\u0252\u0249\3\2\2\2\u0252"+
-		"\u024c\3\2\2\2\u0252\u024f\3\2\2\2\u0253!\3\2\2\2\u0254\u0256\5\u00ec"+
-		"w\2\u0255\u0254\3\2\2\2\u0256\u0259\3\2\2\2\u0257\u0255\3\2\2\2\u0257"+
-		"\u0258\3\2\2\2\u0258\u025a\3\2\2\2\u0259\u0257\3\2\2\2\u025a\u025b\7?"+
-		"\2\2\u025b\u0266\7@\2\2\u025c\u025e\5\u00ecw\2\u025d\u025c\3\2\2\2\u025e"+
-		"\u0261\3\2\2\2\u025f\u025d\3\2\2\2\u025f\u0260\3\2\2\2\u0260\u0262\3\2"+
-		"\2\2\u0261\u025f\3\2\2\2\u0262\u0263\7?\2\2\u0263\u0265\7@\2\2\u0264\u025f"+
-		"\3\2\2\2\u0265\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266\u0267\3\2\2\2\u0267"+
-		"#\3\2\2\2\u0268\u0266\3\2\2\2\u0269\u026b\5&\24\2\u026a\u0269\3\2\2\2"+
-		"\u026b\u026e\3\2\2\2\u026c\u026a\3\2\2\2\u026c\u026d\3\2\2\2\u026d\u026f"+
-		"\3\2\2\2\u026e\u026c\3\2\2\2\u026f\u0271\7h\2\2\u0270\u0272\5(\25\2\u0271"+
-		"\u0270\3\2\2\2\u0271\u0272\3\2\2\2\u0272%\3\2\2\2\u0273\u0274\5\u00ec"+
-		"w\2\u0274\'\3\2\2\2\u0275\u0276\7\23\2\2\u0276\u0280\5\36\20\2\u0277\u0278"+
-		"\7\23\2\2\u0278\u027c\5\20\t\2\u0279\u027b\5*\26\2\u027a\u0279\3\2\2\2"+
-		"\u027b\u027e\3\2\2\2\u027c\u027a\3\2\2\2\u027c\u027d\3\2\2\2\u027d\u0280"+
-		"\3\2\2\2\u027e\u027c\3\2\2\2\u027f\u0275\3\2\2\2\u027f\u0277\3\2\2\2\u0280"+
-		")\3\2\2\2\u0281\u0282\7W\2\2\u0282\u0283\5\30\r\2\u0283+\3\2\2\2\u0284"+
-		"\u0285\7F\2\2\u0285\u0286\5.\30\2\u0286\u0287\7E\2\2\u0287-\3\2\2\2\u0288"+
-		"\u028d\5\60\31\2\u0289\u028a\7B\2\2\u028a\u028c\5\60\31\2\u028b\u0289"+
-		"\3\2\2\2\u028c\u028f\3\2\2\2\u028d\u028b\3\2\2\2\u028d\u028e\3\2\2\2\u028e"+
-		"/\3\2\2\2\u028f\u028d\3\2\2\2\u0290\u0293\5\16\b\2\u0291\u0293\5\62\32"+
-		"\2\u0292\u0290\3\2\2\2\u0292\u0291\3\2\2\2\u0293\61\3\2\2\2\u0294\u0296"+
-		"\5\u00ecw\2\u0295\u0294\3\2\2\2\u0296\u0299\3\2\2\2\u0297\u0295\3\2\2"+
-		"\2\u0297\u0298\3\2\2\2\u0298\u029a\3\2\2\2\u0299\u0297\3\2\2\2\u029a\u029c"+
-		"\7I\2\2\u029b\u029d\5\64\33\2\u029c\u029b\3\2\2\2\u029c\u029d\3\2\2\2"+
-		"\u029d\63\3\2\2\2\u029e\u029f\7\23\2\2\u029f\u02a3\5\16\b\2\u02a0\u02a1"+
-		"\7*\2\2\u02a1\u02a3\5\16\b\2\u02a2\u029e\3\2\2\2\u02a2\u02a0\3\2\2\2\u02a3"+
-		"\65\3\2\2\2\u02a4\u02a5\b\34\1\2\u02a5\u02a6\7h\2\2\u02a6\u02ac\3\2\2"+
-		"\2\u02a7\u02a8\f\3\2\2\u02a8\u02a9\7C\2\2\u02a9\u02ab\7h\2\2\u02aa\u02a7"+
-		"\3\2\2\2\u02ab\u02ae\3\2\2\2\u02ac\u02aa\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ad"+
-		"\67\3\2\2\2\u02ae\u02ac\3\2\2\2\u02af\u02b5\7h\2\2\u02b0\u02b1\5:\36\2"+
-		"\u02b1\u02b2\7C\2\2\u02b2\u02b3\7h\2\2\u02b3\u02b5\3\2\2\2\u02b4\u02af"+
-		"\3\2\2\2\u02b4\u02b0\3\2\2\2\u02b59\3\2\2\2\u02b6\u02b7\b\36\1\2\u02b7"+
-		"\u02b8\7h\2\2\u02b8\u02be\3\2\2\2\u02b9\u02ba\f\3\2\2\u02ba\u02bb\7C\2"+
-		"\2\u02bb\u02bd\7h\2\2\u02bc\u02b9\3\2\2\2\u02bd\u02c0\3\2\2\2\u02be\u02bc"+
-		"\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf;\3\2\2\2\u02c0\u02be\3\2\2\2\u02c1"+
-		"\u02c7\7h\2\2\u02c2\u02c3\5@!\2\u02c3\u02c4\7C\2\2\u02c4\u02c5\7h\2\2"+
-		"\u02c5\u02c7\3\2\2\2\u02c6\u02c1\3\2\2\2\u02c6\u02c2\3\2\2\2\u02c7=\3"+
-		"\2\2\2\u02c8\u02c9\7h\2\2\u02c9?\3\2\2\2\u02ca\u02cb\b!\1\2\u02cb\u02cc"+
-		"\7h\2\2\u02cc\u02d2\3\2\2\2\u02cd\u02ce\f\3\2\2\u02ce\u02cf\7C\2\2\u02cf"+
-		"\u02d1\7h\2\2\u02d0\u02cd\3\2\2\2\u02d1\u02d4\3\2\2\2\u02d2\u02d0\3\2"+
-		"\2\2\u02d2\u02d3\3\2\2\2\u02d3A\3\2\2\2\u02d4\u02d2\3\2\2\2\u02d5\u02d7"+
-		"\5D#\2\u02d6\u02d5\3\2\2\2\u02d7\u02d8\3\2\2\2\u02d8\u02d6\3\2\2\2\u02d8"+
-		"\u02d9\3\2\2\2\u02d9\u02f0\3\2\2\2\u02da\u02dc\5F$\2\u02db\u02da\3\2\2"+
-		"\2\u02dc\u02dd\3\2\2\2\u02dd\u02db\3\2\2\2\u02dd\u02de\3\2\2\2\u02de\u02f0"+
-		"\3\2\2\2\u02df\u02e1\5H%\2\u02e0\u02df\3\2\2\2\u02e0\u02e1\3\2\2\2\u02e1"+
-		"\u02e5\3\2\2\2\u02e2\u02e4\5L\'\2\u02e3\u02e2\3\2\2\2\u02e4\u02e7\3\2"+
-		"\2\2\u02e5\u02e3\3\2\2\2\u02e5\u02e6\3\2\2\2\u02e6\u02eb\3\2\2\2\u02e7"+
-		"\u02e5\3\2\2\2\u02e8\u02ea\5V,\2\u02e9\u02e8\3\2\2\2\u02ea\u02ed\3\2\2"+
-		"\2\u02eb\u02e9\3\2\2\2\u02eb\u02ec\3\2\2\2\u02ec\u02ee\3\2\2\2\u02ed\u02eb"+
-		"\3\2\2\2\u02ee\u02f0\7\2\2\3\u02ef\u02d6\3\2\2\2\u02ef\u02db\3\2\2\2\u02ef"+
-		"\u02e0\3\2\2\2\u02f0C\3\2\2\2\u02f1\u02f4\5\u0092J\2\u02f2\u02f4\5n8\2"+
-		"\u02f3\u02f1\3\2\2\2\u02f3\u02f2\3\2\2\2\u02f4E\3\2\2\2\u02f5\u02f8\5"+
-		"\u010c\u0087\2\u02f6\u02f8\5\u0108\u0085\2\u02f7\u02f5\3\2\2\2\u02f7\u02f6"+
-		"\3\2\2\2\u02f8G\3\2\2\2\u02f9\u02fb\5J&\2\u02fa\u02f9\3\2\2\2\u02fb\u02fe"+
-		"\3\2\2\2\u02fc\u02fa\3\2\2\2\u02fc\u02fd\3\2\2\2\u02fd\u02ff\3\2\2\2\u02fe"+
-		"\u02fc\3\2\2\2\u02ff\u0300\7\"\2\2\u0300\u0305\7h\2\2\u0301\u0302\7C\2"+
-		"\2\u0302\u0304\7h\2\2\u0303\u0301\3\2\2\2\u0304\u0307\3\2\2\2\u0305\u0303"+
-		"\3\2\2\2\u0305\u0306\3\2\2\2\u0306\u0308\3\2\2\2\u0307\u0305\3\2\2\2\u0308"+
-		"\u0309\7A\2\2\u0309I\3\2\2\2\u030a\u030b\5\u00ecw\2\u030bK\3\2\2\2\u030c"+
-		"\u0311\5N(\2\u030d\u0311\5P)\2\u030e\u0311\5R*\2\u030f\u0311\5T+\2\u0310"+
-		"\u030c\3\2\2\2\u0310\u030d\3\2\2\2\u0310\u030e\3\2\2\2\u0310\u030f\3\2"+
-		"\2\2\u0311M\3\2\2\2\u0312\u0313\7\33\2\2\u0313\u0314\58\35\2\u0314\u0315"+
-		"\7A\2\2\u0315O\3\2\2\2\u0316\u0317\7\33\2\2\u0317\u0318\5:\36\2\u0318"+
-		"\u0319\7C\2\2\u0319\u031a\7U\2\2\u031a\u031b\7A\2\2\u031bQ\3\2\2\2\u031c"+
-		"\u031d\7\33\2\2\u031d\u031e\7(\2\2\u031e\u031f\58\35\2\u031f\u0320\7C"+
-		"\2\2\u0320\u0321\7h\2\2\u0321\u0322\7A\2\2\u0322S\3\2\2\2\u0323\u0324"+
-		"\7\33\2\2\u0324\u0325\7(\2\2\u0325\u0326\58\35\2\u0326\u0327\7C\2\2\u0327"+
-		"\u0328\7U\2\2\u0328\u0329\7A\2\2\u0329U\3\2\2\2\u032a\u032e\5X-\2\u032b"+
-		"\u032e\5\u00ccg\2\u032c\u032e\7A\2\2\u032d\u032a\3\2\2\2\u032d\u032b\3"+
-		"\2\2\2\u032d\u032c\3\2\2\2\u032eW\3\2\2\2\u032f\u0332\5Z.\2\u0330\u0332"+
-		"\5\u00c0a\2\u0331\u032f\3\2\2\2\u0331\u0330\3\2\2\2\u0332Y\3\2\2\2\u0333"+
-		"\u0335\5\\/\2\u0334\u0333\3\2\2\2\u0335\u0338\3\2\2\2\u0336\u0334\3\2"+
-		"\2\2\u0336\u0337\3\2\2\2\u0337\u0339\3\2\2\2\u0338\u0336\3\2\2\2\u0339"+
-		"\u033a\7\13\2\2\u033a\u033c\7h\2\2\u033b\u033d\5^\60\2\u033c\u033b\3\2"+
-		"\2\2\u033c\u033d\3\2\2\2\u033d\u033f\3\2\2\2\u033e\u0340\5b\62\2\u033f"+
-		"\u033e\3\2\2\2\u033f\u0340\3\2\2\2\u0340\u0342\3\2\2\2\u0341\u0343\5d"+
-		"\63\2\u0342\u0341\3\2\2\2\u0342\u0343\3\2\2\2\u0343\u0344\3\2\2\2\u0344"+
-		"\u0345\5h\65\2\u0345[\3\2\2\2\u0346\u034f\5\u00ecw\2\u0347\u034f\7%\2"+
-		"\2\u0348\u034f\7$\2\2\u0349\u034f\7#\2\2\u034a\u034f\7\3\2\2\u034b\u034f"+
-		"\7(\2\2\u034c\u034f\7\24\2\2\u034d\u034f\7)\2\2\u034e\u0346\3\2\2\2\u034e"+
-		"\u0347\3\2\2\2\u034e\u0348\3\2\2\2\u034e\u0349\3\2\2\2\u034e\u034a\3\2"+
-		"\2\2\u034e\u034b\3\2\2\2\u034e\u034c\3\2\2\2\u034e\u034d\3\2\2\2\u034f"+
-		"]\3\2\2\2\u0350\u0351\7F\2\2\u0351\u0352\5`\61\2\u0352\u0353\7E\2\2\u0353"+
-		"_\3\2\2\2\u0354\u0359\5$\23\2\u0355\u0356\7B\2\2\u0356\u0358\5$\23\2\u0357"+
-		"\u0355\3\2\2\2\u0358\u035b\3\2\2\2\u0359\u0357\3\2\2\2\u0359\u035a\3\2"+
-		"\2\2\u035aa\3\2\2\2\u035b\u0359\3\2\2\2\u035c\u035d\7\23\2\2\u035d\u035e"+
-		"\5\22\n\2\u035ec\3\2\2\2\u035f\u0360\7\32\2\2\u0360\u0361\5f\64\2\u0361"+
-		"e\3\2\2\2\u0362\u0367\5\30\r\2\u0363\u0364\7B\2\2\u0364\u0366\5\30\r\2"+
-		"\u0365\u0363\3\2\2\2\u0366\u0369\3\2\2\2\u0367\u0365\3\2\2\2\u0367\u0368"+
-		"\3\2\2\2\u0368g\3\2\2\2\u0369\u0367\3\2\2\2\u036a\u036e\7=\2\2\u036b\u036d"+
-		"\5j\66\2\u036c\u036b\3\2\2\2\u036d\u0370\3\2\2\2\u036e\u036c\3\2\2\2\u036e"+
-		"\u036f\3\2\2\2\u036f\u0371\3\2\2\2\u0370\u036e\3\2\2\2\u0371\u0372\7>"+
-		"\2\2\u0372i\3\2\2\2\u0373\u0378\5l\67\2\u0374\u0378\5\u00b0Y\2\u0375\u0378"+
-		"\5\u00b2Z\2\u0376\u0378\5\u00b4[\2\u0377\u0373\3\2\2\2\u0377\u0374\3\2"+
-		"\2\2\u0377\u0375\3\2\2\2\u0377\u0376\3\2\2\2\u0378k\3\2\2\2\u0379\u037f"+
-		"\5n8\2\u037a\u037f\5\u0092J\2\u037b\u037f\5X-\2\u037c\u037f\5\u00ccg\2"+
-		"\u037d\u037f\7A\2\2\u037e\u0379\3\2\2\2\u037e\u037a\3\2\2\2\u037e\u037b"+
-		"\3\2\2\2\u037e\u037c\3\2\2\2\u037e\u037d\3\2\2\2\u037fm\3\2\2\2\u0380"+
-		"\u0382\5p9\2\u0381\u0380\3\2\2\2\u0382\u0385\3\2\2\2\u0383\u0381\3\2\2"+
-		"\2\u0383\u0384\3\2\2\2\u0384\u0386\3\2\2\2\u0385\u0383\3\2\2\2\u0386\u0387"+
-		"\5z>\2\u0387\u0388\5r:\2\u0388\u0389\7A\2\2\u0389o\3\2\2\2\u038a\u0393"+
-		"\5\u00ecw\2\u038b\u0393\7%\2\2\u038c\u0393\7$\2\2\u038d\u0393\7#\2\2\u038e"+
-		"\u0393\7(\2\2\u038f\u0393\7\24\2\2\u0390\u0393\7\60\2\2\u0391\u0393\7"+
-		"\63\2\2\u0392\u038a\3\2\2\2\u0392\u038b\3\2\2\2\u0392\u038c\3\2\2\2\u0392"+
-		"\u038d\3\2\2\2\u0392\u038e\3\2\2\2\u0392\u038f\3\2\2\2\u0392\u0390\3\2"+
-		"\2\2\u0392\u0391\3\2\2\2\u0393q\3\2\2\2\u0394\u0399\5t;\2\u0395\u0396"+
-		"\7B\2\2\u0396\u0398\5t;\2\u0397\u0395\3\2\2\2\u0398\u039b\3\2\2\2\u0399"+
-		"\u0397\3\2\2\2\u0399\u039a\3\2\2\2\u039as\3\2\2\2\u039b\u0399\3\2\2\2"+
-		"\u039c\u039f\5v<\2\u039d\u039e\7D\2\2\u039e\u03a0\5x=\2\u039f\u039d\3"+
-		"\2\2\2\u039f\u03a0\3\2\2\2\u03a0u\3\2\2\2\u03a1\u03a3\7h\2\2\u03a2\u03a4"+
-		"\5\"\22\2\u03a3\u03a2\3\2\2\2\u03a3\u03a4\3\2\2\2\u03a4w\3\2\2\2\u03a5"+
-		"\u03a8\5\u01a4\u00d3\2\u03a6\u03a8\5\u00fe\u0080\2\u03a7\u03a5\3\2\2\2"+
-		"\u03a7\u03a6\3\2\2\2\u03a8y\3\2\2\2\u03a9\u03ac\5|?\2\u03aa\u03ac\5~@"+
-		"\2\u03ab\u03a9\3\2\2\2\u03ab\u03aa\3\2\2\2\u03ac{\3\2\2\2\u03ad\u03b0"+
-		"\5\b\5\2\u03ae\u03b0\7\5\2\2\u03af\u03ad\3\2\2\2\u03af\u03ae\3\2\2\2\u03b0"+
-		"}\3\2\2\2\u03b1\u03b5\5\u0080A\2\u03b2\u03b5\5\u008eH\2\u03b3\u03b5\5"+
-		"\u0090I\2\u03b4\u03b1\3\2\2\2\u03b4\u03b2\3\2\2\2\u03b4\u03b3\3\2\2\2"+
-		"\u03b5\177\3\2\2\2\u03b6\u03b9\5\u0086D\2\u03b7\u03b9\5\u008cG\2\u03b8"+
-		"\u03b6\3\2\2\2\u03b8\u03b7\3\2\2\2\u03b9\u03be\3\2\2\2\u03ba\u03bd\5\u0084"+
-		"C\2\u03bb\u03bd\5\u008aF\2\u03bc\u03ba\3\2\2\2\u03bc\u03bb\3\2\2\2\u03bd"+
-		"\u03c0\3\2\2\2\u03be\u03bc\3\2\2\2\u03be\u03bf\3\2\2\2\u03bf\u0081\3\2"+
-		"\2\2\u03c0\u03be\3\2\2\2\u03c1\u03c3\7h\2\2\u03c2\u03c4\5,\27\2\u03c3"+
-		"\u03c2\3\2\2\2\u03c3\u03c4\3\2\2\2\u03c4\u03d2\3\2\2\2\u03c5\u03c6\5\u0080"+
-		"A\2\u03c6\u03ca\7C\2\2\u03c7\u03c9\5\u00ecw\2\u03c8\u03c7\3\2\2\2\u03c9"+
-		"\u03cc\3\2\2\2\u03ca\u03c8\3\2\2\2\u03ca\u03cb\3\2\2\2\u03cb\u03cd\3\2"+
-		"\2\2\u03cc\u03ca\3\2\2\2\u03cd\u03cf\7h\2\2\u03ce\u03d0\5,\27\2\u03cf"+
-		"\u03ce\3\2\2\2\u03cf\u03d0\3\2\2\2\u03d0\u03d2\3\2\2\2\u03d1\u03c1\3\2"+
-		"\2\2\u03d1\u03c5\3\2\2\2\u03d2\u0083\3\2\2\2\u03d3\u03d7\7C\2\2\u03d4"+
-		"\u03d6\5\u00ecw\2\u03d5\u03d4\3\2\2\2\u03d6\u03d9\3\2\2\2\u03d7\u03d5"+
-		"\3\2\2\2\u03d7\u03d8\3\2\2\2\u03d8\u03da\3\2\2\2\u03d9\u03d7\3\2\2\2\u03da"+
-		"\u03dc\7h\2\2\u03db\u03dd\5,\27\2\u03dc\u03db\3\2\2\2\u03dc\u03dd\3\2"+
-		"\2\2\u03dd\u0085\3\2\2\2\u03de\u03e0\7h\2\2\u03df\u03e1\5,\27\2\u03e0"+
-		"\u03df\3\2\2\2\u03e0\u03e1\3\2\2\2\u03e1\u0087\3\2\2\2\u03e2\u03e3\5\u0082"+
-		"B\2\u03e3\u0089\3\2\2\2\u03e4\u03e5\5\u0084C\2\u03e5\u008b\3\2\2\2\u03e6"+
-		"\u03e7\5\u0086D\2\u03e7\u008d\3\2\2\2\u03e8\u03e9\7h\2\2\u03e9\u008f\3"+
-		"\2\2\2\u03ea\u03eb\5|?\2\u03eb\u03ec\5\"\22\2\u03ec\u03f4\3\2\2\2\u03ed"+
-		"\u03ee\5\u0080A\2\u03ee\u03ef\5\"\22\2\u03ef\u03f4\3\2\2\2\u03f0\u03f1"+
-		"\5\u008eH\2\u03f1\u03f2\5\"\22\2\u03f2\u03f4\3\2\2\2\u03f3\u03ea\3\2\2"+
-		"\2\u03f3\u03ed\3\2\2\2\u03f3\u03f0\3\2\2\2\u03f4\u0091\3\2\2\2\u03f5\u03f7"+
-		"\5\u0094K\2\u03f6\u03f5\3\2\2\2\u03f7\u03fa\3\2\2\2\u03f8\u03f6\3\2\2"+
-		"\2\u03f8\u03f9\3\2\2\2\u03f9\u03fb\3\2\2\2\u03fa\u03f8\3\2\2\2\u03fb\u03fc"+
-		"\5\u0096L\2\u03fc\u03fd\5\u00aeX\2\u03fd\u0093\3\2\2\2\u03fe\u0409\5\u00ec"+
-		"w\2\u03ff\u0409\7%\2\2\u0400\u0409\7$\2\2\u0401\u0409\7#\2\2\u0402\u0409"+
-		"\7\3\2\2\u0403\u0409\7(\2\2\u0404\u0409\7\24\2\2\u0405\u0409\7,\2\2\u0406"+
-		"\u0409\7 \2\2\u0407\u0409\7)\2\2\u0408\u03fe\3\2\2\2\u0408\u03ff\3\2\2"+
-		"\2\u0408\u0400\3\2\2\2\u0408\u0401\3\2\2\2\u0408\u0402\3\2\2\2\u0408\u0403"+
-		"\3\2\2\2\u0408\u0404\3\2\2\2\u0408\u0405\3\2\2\2\u0408\u0406\3\2\2\2\u0408"+
-		"\u0407\3\2\2\2\u0409\u0095\3\2\2\2\u040a\u040b\5\u0098M\2\u040b\u040d"+
-		"\5\u009aN\2\u040c\u040e\5\u00a8U\2\u040d\u040c\3\2\2\2\u040d\u040e\3\2"+
-		"\2\2\u040e\u041c\3\2\2\2\u040f\u0413\5^\60\2\u0410\u0412\5\u00ecw\2\u0411"+
-		"\u0410\3\2\2\2\u0412\u0415\3\2\2\2\u0413\u0411\3\2\2\2\u0413\u0414\3\2"+
-		"\2\2\u0414\u0416\3\2\2\2\u0415\u0413\3\2\2\2\u0416\u0417\5\u0098M\2\u0417"+
-		"\u0419\5\u009aN\2\u0418\u041a\5\u00a8U\2\u0419\u0418\3\2\2\2\u0419\u041a"+
-		"\3\2\2\2\u041a\u041c\3\2\2\2\u041b\u040a\3\2\2\2\u041b\u040f\3\2\2\2\u041c"+
-		"\u0097\3\2\2\2\u041d\u0420\5z>\2\u041e\u0420\7\62\2\2\u041f\u041d\3\2"+
-		"\2\2\u041f\u041e\3\2\2\2\u0420\u0099\3\2\2\2\u0421\u0422\7h\2\2\u0422"+
-		"\u0424\7;\2\2\u0423\u0425\5\u009cO\2\u0424\u0423\3\2\2\2\u0424\u0425\3"+
-		"\2\2\2\u0425\u0426\3\2\2\2\u0426\u0428\7<\2\2\u0427\u0429\5\"\22\2\u0428"+
-		"\u0427\3\2\2\2\u0428\u0429\3\2\2\2\u0429\u009b\3\2\2\2\u042a\u042b\5\u009e"+
-		"P\2\u042b\u042c\7B\2\2\u042c\u042d\5\u00a4S\2\u042d\u0430\3\2\2\2\u042e"+
-		"\u0430\5\u00a4S\2\u042f\u042a\3\2\2\2\u042f\u042e\3\2\2\2\u0430\u009d"+
-		"\3\2\2\2\u0431\u0436\5\u00a0Q\2\u0432\u0433\7B\2\2\u0433\u0435\5\u00a0"+
-		"Q\2\u0434\u0432\3\2\2\2\u0435\u0438\3\2\2\2\u0436\u0434\3\2\2\2\u0436"+
-		"\u0437\3\2\2\2\u0437\u0442\3\2\2\2\u0438\u0436\3\2\2\2\u0439\u043e\5\u00a6"+
-		"T\2\u043a\u043b\7B\2\2\u043b\u043d\5\u00a0Q\2\u043c\u043a\3\2\2\2\u043d"+
-		"\u0440\3\2\2\2\u043e\u043c\3\2\2\2\u043e\u043f\3\2\2\2\u043f\u0442\3\2"+
-		"\2\2\u0440\u043e\3\2\2\2\u0441\u0431\3\2\2\2\u0441\u0439\3\2\2\2\u0442"+
-		"\u009f\3\2\2\2\u0443\u0445\5\u00a2R\2\u0444\u0443\3\2\2\2\u0445\u0448"+
-		"\3\2\2\2\u0446\u0444\3\2\2\2\u0446\u0447\3\2\2\2\u0447\u0449\3\2\2\2\u0448"+
-		"\u0446\3\2\2\2\u0449\u044a\5z>\2\u044a\u044b\5v<\2\u044b\u00a1\3\2\2\2"+
-		"\u044c\u044f\5\u00ecw\2\u044d\u044f\7\24\2\2\u044e\u044c\3\2\2\2\u044e"+
-		"\u044d\3\2\2\2\u044f\u00a3\3\2\2\2\u0450\u0452\5\u00a2R\2\u0451\u0450"+
-		"\3\2\2\2\u0452\u0455\3\2\2\2\u0453\u0451\3\2\2\2\u0453\u0454\3\2\2\2\u0454"+
-		"\u0456\3\2\2\2\u0455\u0453\3\2\2\2\u0456\u045a\5z>\2\u0457\u0459\5\u00ec"+
-		"w\2\u0458\u0457\3\2\2\2\u0459\u045c\3\2\2\2\u045a\u0458\3\2\2\2\u045a"+
-		"\u045b\3\2\2\2\u045b\u045d\3\2\2\2\u045c\u045a\3\2\2\2\u045d\u045e\7j"+
-		"\2\2\u045e\u045f\5v<\2\u045f\u0462\3\2\2\2\u0460\u0462\5\u00a0Q\2\u0461"+
-		"\u0453\3\2\2\2\u0461\u0460\3\2\2\2\u0462\u00a5\3\2\2\2\u0463\u0465\5\u00ec"+
-		"w\2\u0464\u0463\3\2\2\2\u0465\u0468\3\2\2\2\u0466\u0464\3\2\2\2\u0466"+
-		"\u0467\3\2\2\2\u0467\u0469\3\2\2\2\u0468\u0466\3\2\2\2\u0469\u046c\5z"+
-		">\2\u046a\u046b\7h\2\2\u046b\u046d\7C\2\2\u046c\u046a\3\2\2\2\u046c\u046d"+
-		"\3\2\2\2\u046d\u046e\3\2\2\2\u046e\u046f\7-\2\2\u046f\u00a7\3\2\2\2\u0470"+
-		"\u0471\7/\2\2\u0471\u0472\5\u00aaV\2\u0472\u00a9\3\2\2\2\u0473\u0478\5"+
-		"\u00acW\2\u0474\u0475\7B\2\2\u0475\u0477\5\u00acW\2\u0476\u0474\3\2\2"+
-		"\2\u0477\u047a\3\2\2\2\u0478\u0476\3\2\2\2\u0478\u0479\3\2\2\2\u0479\u00ab"+
-		"\3\2\2\2\u047a\u0478\3\2\2\2\u047b\u047e\5\22\n\2\u047c\u047e\5\36\20"+
-		"\2\u047d\u047b\3\2\2\2\u047d\u047c\3\2\2\2\u047e\u00ad\3\2\2\2\u047f\u0482"+
-		"\5\u0102\u0082\2\u0480\u0482\7A\2\2\u0481\u047f\3\2\2\2\u0481\u0480\3"+
-		"\2\2\2\u0482\u00af\3\2\2\2\u0483\u0484\5\u0102\u0082\2\u0484\u00b1\3\2"+
-		"\2\2\u0485\u0486\7(\2\2\u0486\u0487\5\u0102\u0082\2\u0487\u00b3\3\2\2"+
-		"\2\u0488\u048a\5\u00b6\\\2\u0489\u0488\3\2\2\2\u048a\u048d\3\2\2\2\u048b"+
-		"\u0489\3\2\2\2\u048b\u048c\3\2\2\2\u048c\u048e\3\2\2\2\u048d\u048b\3\2"+
-		"\2\2\u048e\u0490\5\u00b8]\2\u048f\u0491\5\u00a8U\2\u0490\u048f\3\2\2\2"+
-		"\u0490\u0491\3\2\2\2\u0491\u0492\3\2\2\2\u0492\u0493\5\u00bc_\2\u0493"+
-		"\u00b5\3\2\2\2\u0494\u0499\5\u00ecw\2\u0495\u0499\7%\2\2\u0496\u0499\7"+
-		"$\2\2\u0497\u0499\7#\2\2\u0498\u0494\3\2\2\2\u0498\u0495\3\2\2\2\u0498"+
-		"\u0496\3\2\2\2\u0498\u0497\3\2\2\2\u0499\u00b7\3\2\2\2\u049a\u049c\5^"+
-		"\60\2\u049b\u049a\3\2\2\2\u049b\u049c\3\2\2\2\u049c\u049d\3\2\2\2\u049d"+
-		"\u049e\5\u00ba^\2\u049e\u04a0\7;\2\2\u049f\u04a1\5\u009cO\2\u04a0\u049f"+
-		"\3\2\2\2\u04a0\u04a1\3\2\2\2\u04a1\u04a2\3\2\2\2\u04a2\u04a3\7<\2\2\u04a3"+
-		"\u00b9\3\2\2\2\u04a4\u04a5\7h\2\2\u04a5\u00bb\3\2\2\2\u04a6\u04a8\7=\2"+
-		"\2\u04a7\u04a9\5\u00be`\2\u04a8\u04a7\3\2\2\2\u04a8\u04a9\3\2\2\2\u04a9"+
-		"\u04ab\3\2\2\2\u04aa\u04ac\5\u0104\u0083\2\u04ab\u04aa\3\2\2\2\u04ab\u04ac"+
-		"\3\2\2\2\u04ac\u04ad\3\2\2\2\u04ad\u04ae\7>\2\2\u04ae\u00bd\3\2\2\2\u04af"+
-		"\u04b1\5,\27\2\u04b0\u04af\3\2\2\2\u04b0\u04b1\3\2\2\2\u04b1\u04b2\3\2"+
-		"\2\2\u04b2\u04b3\7-\2\2\u04b3\u04b5\7;\2\2\u04b4\u04b6\5\u0194\u00cb\2"+
-		"\u04b5\u04b4\3\2\2\2\u04b5\u04b6\3\2\2\2\u04b6\u04b7\3\2\2\2\u04b7\u04b8"+
-		"\7<\2\2\u04b8\u04de\7A\2\2\u04b9\u04bb\5,\27\2\u04ba\u04b9\3\2\2\2\u04ba"+
-		"\u04bb\3\2\2\2\u04bb\u04bc\3\2\2\2\u04bc\u04bd\7*\2\2\u04bd\u04bf\7;\2"+
-		"\2\u04be\u04c0\5\u0194\u00cb\2\u04bf\u04be\3\2\2\2\u04bf\u04c0\3\2\2\2"+
-		"\u04c0\u04c1\3\2\2\2\u04c1\u04c2\7<\2\2\u04c2\u04de\7A\2\2\u04c3\u04c4"+
-		"\5<\37\2\u04c4\u04c6\7C\2\2\u04c5\u04c7\5,\27\2\u04c6\u04c5\3\2\2\2\u04c6"+
-		"\u04c7\3\2\2\2\u04c7\u04c8\3\2\2\2\u04c8\u04c9\7*\2\2\u04c9\u04cb\7;\2"+
-		"\2\u04ca\u04cc\5\u0194\u00cb\2\u04cb\u04ca\3\2\2\2\u04cb\u04cc\3\2\2\2"+
-		"\u04cc\u04cd\3\2\2\2\u04cd\u04ce\7<\2\2\u04ce\u04cf\7A\2\2\u04cf\u04de"+
-		"\3\2\2\2\u04d0\u04d1\5\u0166\u00b4\2\u04d1\u04d3\7C\2\2\u04d2\u04d4\5"+
-		",\27\2\u04d3\u04d2\3\2\2\2\u04d3\u04d4\3\2\2\2\u04d4\u04d5\3\2\2\2\u04d5"+
-		"\u04d6\7*\2\2\u04d6\u04d8\7;\2\2\u04d7\u04d9\5\u0194\u00cb\2\u04d8\u04d7"+
-		"\3\2\2\2\u04d8\u04d9\3\2\2\2\u04d9\u04da\3\2\2\2\u04da\u04db\7<\2\2\u04db"+
-		"\u04dc\7A\2\2\u04dc\u04de\3\2\2\2\u04dd\u04b0\3\2\2\2\u04dd\u04ba\3\2"+
-		"\2\2\u04dd\u04c3\3\2\2\2\u04dd\u04d0\3\2\2\2\u04de\u00bf\3\2\2\2\u04df"+
-		"\u04e1\5\\/\2\u04e0\u04df\3\2\2\2\u04e1\u04e4\3\2\2\2\u04e2\u04e0\3\2"+
-		"\2\2\u04e2\u04e3\3\2\2\2\u04e3\u04e5\3\2\2\2\u04e4\u04e2\3\2\2\2\u04e5"+
-		"\u04e6\7\22\2\2\u04e6\u04e8\7h\2\2\u04e7\u04e9\5d\63\2\u04e8\u04e7\3\2"+
-		"\2\2\u04e8\u04e9\3\2\2\2\u04e9\u04ea\3\2\2\2\u04ea\u04eb\5\u00c2b\2\u04eb"+
-		"\u00c1\3\2\2\2\u04ec\u04ee\7=\2\2\u04ed\u04ef\5\u00c4c\2\u04ee\u04ed\3"+
-		"\2\2\2\u04ee\u04ef\3\2\2\2\u04ef\u04f1\3\2\2\2\u04f0\u04f2\7B\2\2\u04f1"+
-		"\u04f0\3\2\2\2\u04f1\u04f2\3\2\2\2\u04f2\u04f4\3\2\2\2\u04f3\u04f5\5\u00ca"+
-		"f\2\u04f4\u04f3\3\2\2\2\u04f4\u04f5\3\2\2\2\u04f5\u04f6\3\2\2\2\u04f6"+
-		"\u04f7\7>\2\2\u04f7\u00c3\3\2\2\2\u04f8\u04fd\5\u00c6d\2\u04f9\u04fa\7"+
-		"B\2\2\u04fa\u04fc\5\u00c6d\2\u04fb\u04f9\3\2\2\2\u04fc\u04ff\3\2\2\2\u04fd"+
-		"\u04fb\3\2\2\2\u04fd\u04fe\3\2\2\2\u04fe\u00c5\3\2\2\2\u04ff\u04fd\3\2"+
-		"\2\2\u0500\u0502\5\u00c8e\2\u0501\u0500\3\2\2\2\u0502\u0505\3\2\2\2\u0503"+
-		"\u0501\3\2\2\2\u0503\u0504\3\2\2\2\u0504\u0506\3\2\2\2\u0505\u0503\3\2"+
-		"\2\2\u0506\u050c\7h\2\2\u0507\u0509\7;\2\2\u0508\u050a\5\u0194\u00cb\2"+
-		"\u0509\u0508\3\2\2\2\u0509\u050a\3\2\2\2\u050a\u050b\3\2\2\2\u050b\u050d"+
-		"\7<\2\2\u050c\u0507\3\2\2\2\u050c\u050d\3\2\2\2\u050d\u050f\3\2\2\2\u050e"+
-		"\u0510\5h\65\2\u050f\u050e\3\2\2\2\u050f\u0510\3\2\2\2\u0510\u00c7\3\2"+
-		"\2\2\u0511\u0512\5\u00ecw\2\u0512\u00c9\3\2\2\2\u0513\u0517\7A\2\2\u0514"+
-		"\u0516\5j\66\2\u0515\u0514\3\2\2\2\u0516\u0519\3\2\2\2\u0517\u0515\3\2"+
-		"\2\2\u0517\u0518\3\2\2\2\u0518\u00cb\3\2\2\2\u0519\u0517\3\2\2\2\u051a"+
-		"\u051d\5\u00ceh\2\u051b\u051d\5\u00e0q\2\u051c\u051a\3\2\2\2\u051c\u051b"+
-		"\3\2\2\2\u051d\u00cd\3\2\2\2\u051e\u0520\5\u00d0i\2\u051f\u051e\3\2\2"+
-		"\2\u0520\u0523\3\2\2\2\u0521\u051f\3\2\2\2\u0521\u0522\3\2\2\2\u0522\u0524"+
-		"\3\2\2\2\u0523\u0521\3\2\2\2\u0524\u0525\7\36\2\2\u0525\u0527\7h\2\2\u0526"+
-		"\u0528\5^\60\2\u0527\u0526\3\2\2\2\u0527\u0528\3\2\2\2\u0528\u052a\3\2"+
-		"\2\2\u0529\u052b\5\u00d2j\2\u052a\u0529\3\2\2\2\u052a\u052b\3\2\2\2\u052b"+
-		"\u052c\3\2\2\2\u052c\u052d\5\u00d4k\2\u052d\u00cf\3\2\2\2\u052e\u0536"+
-		"\5\u00ecw\2\u052f\u0536\7%\2\2\u0530\u0536\7$\2\2\u0531\u0536\7#\2\2\u0532"+
-		"\u0536\7\3\2\2\u0533\u0536\7(\2\2\u0534\u0536\7)\2\2\u0535\u052e\3\2\2"+
-		"\2\u0535\u052f\3\2\2\2\u0535\u0530\3\2\2\2\u0535\u0531\3\2\2\2\u0535\u0532"+
-		"\3\2\2\2\u0535\u0533\3\2\2\2\u0535\u0534\3\2\2\2\u0536\u00d1\3\2\2\2\u0537"+
-		"\u0538\7\23\2\2\u0538\u0539\5f\64\2\u0539\u00d3\3\2\2\2\u053a\u053e\7"+
-		"=\2\2\u053b\u053d\5\u00d6l\2\u053c\u053b\3\2\2\2\u053d\u0540\3\2\2\2\u053e"+
-		"\u053c\3\2\2\2\u053e\u053f\3\2\2\2\u053f\u0541\3\2\2\2\u0540\u053e\3\2"+
-		"\2\2\u0541\u0542\7>\2\2\u0542\u00d5\3\2\2\2\u0543\u0549\5\u00d8m\2\u0544"+
-		"\u0549\5\u00dco\2\u0545\u0549\5X-\2\u0546\u0549\5\u00ccg\2\u0547\u0549"+
-		"\7A\2\2\u0548\u0543\3\2\2\2\u0548\u0544\3\2\2\2\u0548\u0545\3\2\2\2\u0548"+
-		"\u0546\3\2\2\2\u0548\u0547\3\2\2\2\u0549\u00d7\3\2\2\2\u054a\u054c\5\u00da"+
-		"n\2\u054b\u054a\3\2\2\2\u054c\u054f\3\2\2\2\u054d\u054b\3\2\2\2\u054d"+
-		"\u054e\3\2\2\2\u054e\u0550\3\2\2\2\u054f\u054d\3\2\2\2\u0550\u0551\5z"+
-		">\2\u0551\u0552\5r:\2\u0552\u0553\7A\2\2\u0553\u00d9\3\2\2\2\u0554\u0559"+
-		"\5\u00ecw\2\u0555\u0559\7%\2\2\u0556\u0559\7(\2\2\u0557\u0559\7\24\2\2"+
-		"\u0558\u0554\3\2\2\2\u0558\u0555\3\2\2\2\u0558\u0556\3\2\2\2\u0558\u0557"+
-		"\3\2\2\2\u0559\u00db\3\2\2\2\u055a\u055c\5\u00dep\2\u055b\u055a\3\2\2"+
-		"\2\u055c\u055f\3\2\2\2\u055d\u055b\3\2\2\2\u055d\u055e\3\2\2\2\u055e\u0560"+
-		"\3\2\2\2\u055f\u055d\3\2\2\2\u0560\u0561\5\u0096L\2\u0561\u0562\5\u00ae"+
-		"X\2\u0562\u00dd\3\2\2\2\u0563\u056a\5\u00ecw\2\u0564\u056a\7%\2\2\u0565"+
-		"\u056a\7\3\2\2\u0566\u056a\7\16\2\2\u0567\u056a\7(\2\2\u0568\u056a\7)"+
-		"\2\2\u0569\u0563\3\2\2\2\u0569\u0564\3\2\2\2\u0569\u0565\3\2\2\2\u0569"+
-		"\u0566\3\2\2\2\u0569\u0567\3\2\2\2\u0569\u0568\3\2\2\2\u056a\u00df\3\2"+
-		"\2\2\u056b\u056d\5\u00d0i\2\u056c\u056b\3\2\2\2\u056d\u0570\3\2\2\2\u056e"+
-		"\u056c\3\2\2\2\u056e\u056f\3\2\2\2\u056f\u0571\3\2\2\2\u0570\u056e\3\2"+
-		"\2\2\u0571\u0572\7i\2\2\u0572\u0573\7\36\2\2\u0573\u0574\7h\2\2\u0574"+
-		"\u0575\5\u00e2r\2\u0575\u00e1\3\2\2\2\u0576\u057a\7=\2\2\u0577\u0579\5"+
-		"\u00e4s\2\u0578\u0577\3\2\2\2\u0579\u057c\3\2\2\2\u057a\u0578\3\2\2\2"+
-		"\u057a\u057b\3\2\2\2\u057b\u057d\3\2\2\2\u057c\u057a\3\2\2\2\u057d\u057e"+
-		"\7>\2\2\u057e\u00e3\3\2\2\2\u057f\u0585\5\u00e6t\2\u0580\u0585\5\u00d8"+
-		"m\2\u0581\u0585\5X-\2\u0582\u0585\5\u00ccg\2\u0583\u0585\7A\2\2\u0584"+
-		"\u057f\3\2\2\2\u0584\u0580\3\2\2\2\u0584\u0581\3\2\2\2\u0584\u0582\3\2"+
-		"\2\2\u0584\u0583\3\2\2\2\u0585\u00e5\3\2\2\2\u0586\u0588\5\u00e8u\2\u0587"+
-		"\u0586\3\2\2\2\u0588\u058b\3\2\2\2\u0589\u0587\3\2\2\2\u0589\u058a\3\2"+
-		"\2\2\u058a\u058c\3\2\2\2\u058b\u0589\3\2\2\2\u058c\u058d\5z>\2\u058d\u058e"+
-		"\7h\2\2\u058e\u058f\7;\2\2\u058f\u0591\7<\2\2\u0590\u0592\5\"\22\2\u0591"+
-		"\u0590\3\2\2\2\u0591\u0592\3\2\2\2\u0592\u0594\3\2\2\2\u0593\u0595\5\u00ea"+
-		"v\2\u0594\u0593\3\2\2\2\u0594\u0595\3\2\2\2\u0595\u0596\3\2\2\2\u0596"+
-		"\u0597\7A\2\2\u0597\u00e7\3\2\2\2\u0598\u059c\5\u00ecw\2\u0599\u059c\7"+
-		"%\2\2\u059a\u059c\7\3\2\2\u059b\u0598\3\2\2\2\u059b\u0599\3\2\2\2\u059b"+
-		"\u059a\3\2\2\2\u059c\u00e9\3\2\2\2\u059d\u059e\7\16\2\2\u059e\u059f\5"+
-		"\u00f4{\2\u059f\u00eb\3\2\2\2\u05a0\u05a4\5\u00eex\2\u05a1\u05a4\5\u00fa"+
-		"~\2\u05a2\u05a4\5\u00fc\177\2\u05a3\u05a0\3\2\2\2\u05a3\u05a1\3\2\2\2"+
-		"\u05a3\u05a2\3\2\2\2\u05a4\u00ed\3\2\2\2\u05a5\u05a6\7i\2\2\u05a6\u05a7"+
-		"\58\35\2\u05a7\u05a9\7;\2\2\u05a8\u05aa\5\u00f0y\2\u05a9\u05a8\3\2\2\2"+
-		"\u05a9\u05aa\3\2\2\2\u05aa\u05ab\3\2\2\2\u05ab\u05ac\7<\2\2\u05ac\u00ef"+
-		"\3\2\2\2\u05ad\u05b2\5\u00f2z\2\u05ae\u05af\7B\2\2\u05af\u05b1\5\u00f2"+
-		"z\2\u05b0\u05ae\3\2\2\2\u05b1\u05b4\3\2\2\2\u05b2\u05b0\3\2\2\2\u05b2"+
-		"\u05b3\3\2\2\2\u05b3\u00f1\3\2\2\2\u05b4\u05b2\3\2\2\2\u05b5\u05b6\7h"+
-		"\2\2\u05b6\u05b7\7D\2\2\u05b7\u05b8\5\u00f4{\2\u05b8\u00f3\3\2\2\2\u05b9"+
-		"\u05bd\5\u01b6\u00dc\2\u05ba\u05bd\5\u00f6|\2\u05bb\u05bd\5\u00ecw\2\u05bc"+
-		"\u05b9\3\2\2\2\u05bc\u05ba\3\2\2\2\u05bc\u05bb\3\2\2\2\u05bd\u00f5\3\2"+
-		"\2\2\u05be\u05c0\7=\2\2\u05bf\u05c1\5\u00f8}\2\u05c0\u05bf\3\2\2\2\u05c0"+
-		"\u05c1\3\2\2\2\u05c1\u05c3\3\2\2\2\u05c2\u05c4\7B\2\2\u05c3\u05c2\3\2"+
-		"\2\2\u05c3\u05c4\3\2\2\2\u05c4\u05c5\3\2\2\2\u05c5\u05c6\7>\2\2\u05c6"+
-		"\u00f7\3\2\2\2\u05c7\u05cc\5\u00f4{\2\u05c8\u05c9\7B\2\2\u05c9\u05cb\5"+
-		"\u00f4{\2\u05ca\u05c8\3\2\2\2\u05cb\u05ce\3\2\2\2\u05cc\u05ca\3\2\2\2"+
-		"\u05cc\u05cd\3\2\2\2\u05cd\u00f9\3\2\2\2\u05ce\u05cc\3\2\2\2\u05cf\u05d0"+
-		"\7i\2\2\u05d0\u05d1\58\35\2\u05d1\u00fb\3\2\2\2\u05d2\u05d3\7i\2\2\u05d3"+
-		"\u05d4\58\35\2\u05d4\u05d5\7;\2\2\u05d5\u05d6\5\u00f4{\2\u05d6\u05d7\7"+
-		"<\2\2\u05d7\u00fd\3\2\2\2\u05d8\u05da\7=\2\2\u05d9\u05db\5\u0100\u0081"+
-		"\2\u05da\u05d9\3\2\2\2\u05da\u05db\3\2\2\2\u05db\u05dd\3\2\2\2\u05dc\u05de"+
-		"\7B\2\2\u05dd\u05dc\3\2\2\2\u05dd\u05de\3\2\2\2\u05de\u05df\3\2\2\2\u05df"+
-		"\u05e0\7>\2\2\u05e0\u00ff\3\2\2\2\u05e1\u05e6\5x=\2\u05e2\u05e3\7B\2\2"+
-		"\u05e3\u05e5\5x=\2\u05e4\u05e2\3\2\2\2\u05e5\u05e8\3\2\2\2\u05e6\u05e4"+
-		"\3\2\2\2\u05e6\u05e7\3\2\2\2\u05e7\u0101\3\2\2\2\u05e8\u05e6\3\2\2\2\u05e9"+
-		"\u05eb\7=\2\2\u05ea\u05ec\5\u0104\u0083\2\u05eb\u05ea\3\2\2\2\u05eb\u05ec"+
-		"\3\2\2\2\u05ec\u05ed\3\2\2\2\u05ed\u05ee\7>\2\2\u05ee\u0103\3\2\2\2\u05ef"+
-		"\u05f3\5\u0106\u0084\2\u05f0\u05f2\5\u0106\u0084\2\u05f1\u05f0\3\2\2\2"+
-		"\u05f2\u05f5\3\2\2\2\u05f3\u05f1\3\2\2\2\u05f3\u05f4\3\2\2\2\u05f4\u0105"+
-		"\3\2\2\2\u05f5\u05f3\3\2\2\2\u05f6\u05fa\5\u0108\u0085\2\u05f7\u05fa\5"+
-		"X-\2\u05f8\u05fa\5\u010c\u0087\2\u05f9\u05f6\3\2\2\2\u05f9\u05f7\3\2\2"+
-		"\2\u05f9\u05f8\3\2\2\2\u05fa\u0107\3\2\2\2\u05fb\u05fc\5\u010a\u0086\2"+
-		"\u05fc\u05fd\7A\2\2\u05fd\u0109\3\2\2\2\u05fe\u0600\5\u00a2R\2\u05ff\u05fe"+
-		"\3\2\2\2\u0600\u0603\3\2\2\2\u0601\u05ff\3\2\2\2\u0601\u0602\3\2\2\2\u0602"+
-		"\u0604\3\2\2\2\u0603\u0601\3\2\2\2\u0604\u0605\5z>\2\u0605\u0606\5r:\2"+
-		"\u0606\u010b\3\2\2\2\u0607\u060e\5\u0110\u0089\2\u0608\u060e\5\u0114\u008b"+
-		"\2\u0609\u060e\5\u011c\u008f\2\u060a\u060e\5\u011e\u0090\2\u060b\u060e"+
-		"\5\u0130\u0099\2\u060c\u060e\5\u0136\u009c\2\u060d\u0607\3\2\2\2\u060d"+
-		"\u0608\3\2\2\2\u060d\u0609\3\2\2\2\u060d\u060a\3\2\2\2\u060d\u060b\3\2"+
-		"\2\2\u060d\u060c\3\2\2\2\u060e\u010d\3\2\2\2\u060f\u0615\5\u0110\u0089"+
-		"\2\u0610\u0615\5\u0116\u008c\2\u0611\u0615\5\u0120\u0091\2\u0612\u0615"+
-		"\5\u0132\u009a\2\u0613\u0615\5\u0138\u009d\2\u0614\u060f\3\2\2\2\u0614"+
-		"\u0610\3\2\2\2\u0614\u0611\3\2\2\2\u0614\u0612\3\2\2\2\u0614\u0613\3\2"+
-		"\2\2\u0615\u010f\3\2\2\2\u0616\u0623\5\u0102\u0082\2\u0617\u0623\5\u0112"+
-		"\u008a\2\u0618\u0623\5\u0118\u008d\2\u0619\u0623\5\u0122\u0092\2\u061a"+
-		"\u0623\5\u0124\u0093\2\u061b\u0623\5\u0134\u009b\2\u061c\u0623\5\u0148"+
-		"\u00a5\2\u061d\u0623\5\u014a\u00a6\2\u061e\u0623\5\u014c\u00a7\2\u061f"+
-		"\u0623\5\u0150\u00a9\2\u0620\u0623\5\u014e\u00a8\2\u0621\u0623\5\u0152"+
-		"\u00aa\2\u0622\u0616\3\2\2\2\u0622\u0617\3\2\2\2\u0622\u0618\3\2\2\2\u0622"+
-		"\u0619\3\2\2\2\u0622\u061a\3\2\2\2\u0622\u061b\3\2\2\2\u0622\u061c\3\2"+
-		"\2\2\u0622\u061d\3\2\2\2\u0622\u061e\3\2\2\2\u0622\u061f\3\2\2\2\u0622"+
-		"\u0620\3\2\2\2\u0622\u0621\3\2\2\2\u0623\u0111\3\2\2\2\u0624\u0625\7A"+
-		"\2\2\u0625\u0113\3\2\2\2\u0626\u0627\7h\2\2\u0627\u0628\7J\2\2\u0628\u0629"+
-		"\5\u010c\u0087\2\u0629\u0115\3\2\2\2\u062a\u062b\7h\2\2\u062b\u062c\7"+
-		"J\2\2\u062c\u062d\5\u010e\u0088\2\u062d\u0117\3\2\2\2\u062e\u062f\5\u011a"+
-		"\u008e\2\u062f\u0630\7A\2\2\u0630\u0119\3\2\2\2\u0631\u0639\5\u01b0\u00d9"+
-		"\2\u0632\u0639\5\u01ce\u00e8\2\u0633\u0639\5\u01d0\u00e9\2\u0634\u0639"+
-		"\5\u01d6\u00ec\2\u0635\u0639\5\u01da\u00ee\2\u0636\u0639\5\u018e\u00c8"+
-		"\2\u0637\u0639\5\u017a\u00be\2\u0638\u0631\3\2\2\2\u0638\u0632\3\2\2\2"+
-		"\u0638\u0633\3\2\2\2\u0638\u0634\3\2\2\2\u0638\u0635\3\2\2\2\u0638\u0636"+
-		"\3\2\2\2\u0638\u0637\3\2\2\2\u0639\u011b\3\2\2\2\u063a\u063b\7\30\2\2"+
-		"\u063b\u063c\7;\2\2\u063c\u063d\5\u01a4\u00d3\2\u063d\u063e\7<\2\2\u063e"+
-		"\u063f\5\u010c\u0087\2\u063f\u011d\3\2\2\2\u0640\u0641\7\30\2\2\u0641"+
-		"\u0642\7;\2\2\u0642\u0643\5\u01a4\u00d3\2\u0643\u0644\7<\2\2\u0644\u0645"+
-		"\5\u010e\u0088\2\u0645\u0646\7\21\2\2\u0646\u0647\5\u010c\u0087\2\u0647"+
-		"\u011f\3\2\2\2\u0648\u0649\7\30\2\2\u0649\u064a\7;\2\2\u064a\u064b\5\u01a4"+
-		"\u00d3\2\u064b\u064c\7<\2\2\u064c\u064d\5\u010e\u0088\2\u064d\u064e\7"+
-		"\21\2\2\u064e\u064f\5\u010e\u0088\2\u064f\u0121\3\2\2\2\u0650\u0651\7"+
-		"\4\2\2\u0651\u0652\5\u01a4\u00d3\2\u0652\u0653\7A\2\2\u0653\u065b\3\2"+
-		"\2\2\u0654\u0655\7\4\2\2\u0655\u0656\5\u01a4\u00d3\2\u0656\u0657\7J\2"+
-		"\2\u0657\u0658\5\u01a4\u00d3\2\u0658\u0659\7A\2\2\u0659\u065b\3\2\2\2"+
-		"\u065a\u0650\3\2\2\2\u065a\u0654\3\2\2\2\u065b\u0123\3\2\2\2\u065c\u065d"+
-		"\7+\2\2\u065d\u065e\7;\2\2\u065e\u065f\5\u01a4\u00d3\2\u065f\u0660\7<"+
-		"\2\2\u0660\u0661\5\u0126\u0094\2\u0661\u0125\3\2\2\2\u0662\u0666\7=\2"+
-		"\2\u0663\u0665\5\u0128\u0095\2\u0664\u0663\3\2\2\2\u0665\u0668\3\2\2\2"+
-		"\u0666\u0664\3\2\2\2\u0666\u0667\3\2\2\2\u0667\u066c\3\2\2\2\u0668\u0666"+
-		"\3\2\2\2\u0669\u066b\5\u012c\u0097\2\u066a\u0669\3\2\2\2\u066b\u066e\3"+
-		"\2\2\2\u066c\u066a\3\2\2\2\u066c\u066d\3\2\2\2\u066d\u066f\3\2\2\2\u066e"+
-		"\u066c\3\2\2\2\u066f\u0670\7>\2\2\u0670\u0127\3\2\2\2\u0671\u0672\5\u012a"+
-		"\u0096\2\u0672\u0673\5\u0104\u0083\2\u0673\u0129\3\2\2\2\u0674\u0678\5"+
-		"\u012c\u0097\2\u0675\u0677\5\u012c\u0097\2\u0676\u0675\3\2\2\2\u0677\u067a"+
-		"\3\2\2\2\u0678\u0676\3\2\2\2\u0678\u0679\3\2\2\2\u0679\u012b\3\2\2\2\u067a"+
-		"\u0678\3\2\2\2\u067b\u067c\7\b\2\2\u067c\u067d\5\u01a2\u00d2\2\u067d\u067e"+
-		"\7J\2\2\u067e\u0686\3\2\2\2\u067f\u0680\7\b\2\2\u0680\u0681\5\u012e\u0098"+
-		"\2\u0681\u0682\7J\2\2\u0682\u0686\3\2\2\2\u0683\u0684\7\16\2\2\u0684\u0686"+
-		"\7J\2\2\u0685\u067b\3\2\2\2\u0685\u067f\3\2\2\2\u0685\u0683\3\2\2\2\u0686"+
-		"\u012d\3\2\2\2\u0687\u0688\7h\2\2\u0688\u012f\3\2\2\2\u0689\u068a\7\64"+
-		"\2\2\u068a\u068b\7;\2\2\u068b\u068c\5\u01a4\u00d3\2\u068c\u068d\7<\2\2"+
-		"\u068d\u068e\5\u010c\u0087\2\u068e\u0131\3\2\2\2\u068f\u0690\7\64\2\2"+
-		"\u0690\u0691\7;\2\2\u0691\u0692\5\u01a4\u00d3\2\u0692\u0693\7<\2\2\u0693"+
-		"\u0694\5\u010e\u0088\2\u0694\u0133\3\2\2\2\u0695\u0696\7\17\2\2\u0696"+
-		"\u0697\5\u010c\u0087\2\u0697\u0698\7\64\2\2\u0698\u0699\7;\2\2\u0699\u069a"+
-		"\5\u01a4\u00d3\2\u069a\u069b\7<\2\2\u069b\u069c\7A\2\2\u069c\u0135\3\2"+
-		"\2\2\u069d\u06a0\5\u013a\u009e\2\u069e\u06a0\5\u0144\u00a3\2\u069f\u069d"+
-		"\3\2\2\2\u069f\u069e\3\2\2\2\u06a0\u0137\3\2\2\2\u06a1\u06a4\5\u013c\u009f"+
-		"\2\u06a2\u06a4\5\u0146\u00a4\2\u06a3\u06a1\3\2\2\2\u06a3\u06a2\3\2\2\2"+
-		"\u06a4\u0139\3\2\2\2\u06a5\u06a6\7\27\2\2\u06a6\u06a8\7;\2\2\u06a7\u06a9"+
-		"\5\u013e\u00a0\2\u06a8\u06a7\3\2\2\2\u06a8\u06a9\3\2\2\2\u06a9\u06aa\3"+
-		"\2\2\2\u06aa\u06ac\7A\2\2\u06ab\u06ad\5\u01a4\u00d3\2\u06ac\u06ab\3\2"+
-		"\2\2\u06ac\u06ad\3\2\2\2\u06ad\u06ae\3\2\2\2\u06ae\u06b0\7A\2\2\u06af"+
-		"\u06b1\5\u0140\u00a1\2\u06b0\u06af\3\2\2\2\u06b0\u06b1\3\2\2\2\u06b1\u06b2"+
-		"\3\2\2\2\u06b2\u06b3\7<\2\2\u06b3\u06b4\5\u010c\u0087\2\u06b4\u013b\3"+
-		"\2\2\2\u06b5\u06b6\7\27\2\2\u06b6\u06b8\7;\2\2\u06b7\u06b9\5\u013e\u00a0"+
-		"\2\u06b8\u06b7\3\2\2\2\u06b8\u06b9\3\2\2\2\u06b9\u06ba\3\2\2\2\u06ba\u06bc"+
-		"\7A\2\2\u06bb\u06bd\5\u01a4\u00d3\2\u06bc\u06bb\3\2\2\2\u06bc\u06bd\3"+
-		"\2\2\2\u06bd\u06be\3\2\2\2\u06be\u06c0\7A\2\2\u06bf\u06c1\5\u0140\u00a1"+
-		"\2\u06c0\u06bf\3\2\2\2\u06c0\u06c1\3\2\2\2\u06c1\u06c2\3\2\2\2\u06c2\u06c3"+
-		"\7<\2\2\u06c3\u06c4\5\u010e\u0088\2\u06c4\u013d\3\2\2\2\u06c5\u06c8\5"+
-		"\u0142\u00a2\2\u06c6\u06c8\5\u010a\u0086\2\u06c7\u06c5\3\2\2\2\u06c7\u06c6"+
-		"\3\2\2\2\u06c8\u013f\3\2\2\2\u06c9\u06ca\5\u0142\u00a2\2\u06ca\u0141\3"+
-		"\2\2\2\u06cb\u06d0\5\u011a\u008e\2\u06cc\u06cd\7B\2\2\u06cd\u06cf\5\u011a"+
-		"\u008e\2\u06ce\u06cc\3\2\2\2\u06cf\u06d2\3\2\2\2\u06d0\u06ce\3\2\2\2\u06d0"+
-		"\u06d1\3\2\2\2\u06d1\u0143\3\2\2\2\u06d2\u06d0\3\2\2\2\u06d3\u06d4\7\27"+
-		"\2\2\u06d4\u06d8\7;\2\2\u06d5\u06d7\5\u00a2R\2\u06d6\u06d5\3\2\2\2\u06d7"+
-		"\u06da\3\2\2\2\u06d8\u06d6\3\2\2\2\u06d8\u06d9\3\2\2\2\u06d9\u06db\3\2"+
-		"\2\2\u06da\u06d8\3\2\2\2\u06db\u06dc\5z>\2\u06dc\u06dd\5v<\2\u06dd\u06de"+
-		"\7J\2\2\u06de\u06df\5\u01a4\u00d3\2\u06df\u06e0\7<\2\2\u06e0\u06e1\5\u010c"+
-		"\u0087\2\u06e1\u0145\3\2\2\2\u06e2\u06e3\7\27\2\2\u06e3\u06e7\7;\2\2\u06e4"+
-		"\u06e6\5\u00a2R\2\u06e5\u06e4\3\2\2\2\u06e6\u06e9\3\2\2\2\u06e7\u06e5"+
-		"\3\2\2\2\u06e7\u06e8\3\2\2\2\u06e8\u06ea\3\2\2\2\u06e9\u06e7\3\2\2\2\u06ea"+
-		"\u06eb\5z>\2\u06eb\u06ec\5v<\2\u06ec\u06ed\7J\2\2\u06ed\u06ee\5\u01a4"+
-		"\u00d3\2\u06ee\u06ef\7<\2\2\u06ef\u06f0\5\u010e\u0088\2\u06f0\u0147\3"+
-		"\2\2\2\u06f1\u06f3\7\6\2\2\u06f2\u06f4\7h\2\2\u06f3\u06f2\3\2\2\2\u06f3"+
-		"\u06f4\3\2\2\2\u06f4\u06f5\3\2\2\2\u06f5\u06f6\7A\2\2\u06f6\u0149\3\2"+
-		"\2\2\u06f7\u06f9\7\r\2\2\u06f8\u06fa\7h\2\2\u06f9\u06f8\3\2\2\2\u06f9"+
-		"\u06fa\3\2\2\2\u06fa\u06fb\3\2\2\2\u06fb\u06fc\7A\2\2\u06fc\u014b\3\2"+
-		"\2\2\u06fd\u06ff\7&\2\2\u06fe\u0700\5\u01a4\u00d3\2\u06ff\u06fe\3\2\2"+
-		"\2\u06ff\u0700\3\2\2\2\u0700\u0701\3\2\2\2\u0701\u0702\7A\2\2\u0702\u014d"+
-		"\3\2\2\2\u0703\u0704\7.\2\2\u0704\u0705\5\u01a4\u00d3\2\u0705\u0706\7"+
-		"A\2\2\u0706\u014f\3\2\2\2\u0707\u0708\7,\2\2\u0708\u0709\7;\2\2\u0709"+
-		"\u070a\5\u01a4\u00d3\2\u070a\u070b\7<\2\2\u070b\u070c\5\u0102\u0082\2"+
-		"\u070c\u0151\3\2\2\2\u070d\u070e\7\61\2\2\u070e\u070f\5\u0102\u0082\2"+
-		"\u070f\u0710\5\u0154\u00ab\2\u0710\u071a\3\2\2\2\u0711\u0712\7\61\2\2"+
-		"\u0712\u0714\5\u0102\u0082\2\u0713\u0715\5\u0154\u00ab\2\u0714\u0713\3"+
-		"\2\2\2\u0714\u0715\3\2\2\2\u0715\u0716\3\2\2\2\u0716\u0717\5\u015c\u00af"+
-		"\2\u0717\u071a\3\2\2\2\u0718\u071a\5\u015e\u00b0\2\u0719\u070d\3\2\2\2"+
-		"\u0719\u0711\3\2\2\2\u0719\u0718\3\2\2\2\u071a\u0153\3\2\2\2\u071b\u071f"+
-		"\5\u0156\u00ac\2\u071c\u071e\5\u0156\u00ac\2\u071d\u071c\3\2\2\2\u071e"+
-		"\u0721\3\2\2\2\u071f\u071d\3\2\2\2\u071f\u0720\3\2\2\2\u0720\u0155\3\2"+
-		"\2\2\u0721\u071f\3\2\2\2\u0722\u0723\7\t\2\2\u0723\u0724\7;\2\2\u0724"+
-		"\u0725\5\u0158\u00ad\2\u0725\u0726\7<\2\2\u0726\u0727\5\u0102\u0082\2"+
-		"\u0727\u0157\3\2\2\2\u0728\u072a\5\u00a2R\2\u0729\u0728\3\2\2\2\u072a"+
-		"\u072d\3\2\2\2\u072b\u0729\3\2\2\2\u072b\u072c\3\2\2\2\u072c\u072e\3\2"+
-		"\2\2\u072d\u072b\3\2\2\2\u072e\u072f\5\u015a\u00ae\2\u072f\u0730\5v<\2"+
-		"\u0730\u0159\3\2\2\2\u0731\u0736\5\u0082B\2\u0732\u0733\7X\2\2\u0733\u0735"+
-		"\5\22\n\2\u0734\u0732\3\2\2\2\u0735\u0738\3\2\2\2\u0736\u0734\3\2\2\2"+
-		"\u0736\u0737\3\2\2\2\u0737\u015b\3\2\2\2\u0738\u0736\3\2\2\2\u0739\u073a"+
-		"\7\25\2\2\u073a\u073b\5\u0102\u0082\2\u073b\u015d\3\2\2\2\u073c\u073d"+
-		"\7\61\2\2\u073d\u073e\5\u0160\u00b1\2\u073e\u0740\5\u0102\u0082\2\u073f"+
-		"\u0741\5\u0154\u00ab\2\u0740\u073f\3\2\2\2\u0740\u0741\3\2\2\2\u0741\u0743"+
-		"\3\2\2\2\u0742\u0744\5\u015c\u00af\2\u0743\u0742\3\2\2\2\u0743\u0744\3"+
-		"\2\2\2\u0744\u015f\3\2\2\2\u0745\u0746\7;\2\2\u0746\u0748\5\u0162\u00b2"+
-		"\2\u0747\u0749\7A\2\2\u0748\u0747\3\2\2\2\u0748\u0749\3\2\2\2\u0749\u074a"+
-		"\3\2\2\2\u074a\u074b\7<\2\2\u074b\u0161\3\2\2\2\u074c\u0751\5\u0164\u00b3"+
-		"\2\u074d\u074e\7A\2\2\u074e\u0750\5\u0164\u00b3\2\u074f\u074d\3\2\2\2"+
-		"\u0750\u0753\3\2\2\2\u0751\u074f\3\2\2\2\u0751\u0752\3\2\2\2\u0752\u0163"+
-		"\3\2\2\2\u0753\u0751\3\2\2\2\u0754\u0756\5\u00a2R\2\u0755\u0754\3\2\2"+
-		"\2\u0756\u0759\3\2\2\2\u0757\u0755\3\2\2\2\u0757\u0758\3\2\2\2\u0758\u075a"+
-		"\3\2\2\2\u0759\u0757\3\2\2\2\u075a\u075b\5z>\2\u075b\u075c\5v<\2\u075c"+
-		"\u075d\7D\2\2\u075d\u075e\5\u01a4\u00d3\2\u075e\u0165\3\2\2\2\u075f\u0762"+
-		"\5\u0174\u00bb\2\u0760\u0762\5\u019c\u00cf\2\u0761\u075f\3\2\2\2\u0761"+
-		"\u0760\3\2\2\2\u0762\u0766\3\2\2\2\u0763\u0765\5\u016e\u00b8\2\u0764\u0763"+
-		"\3\2\2\2\u0765\u0768\3\2\2\2\u0766\u0764\3\2\2\2\u0766\u0767\3\2\2\2\u0767"+
-		"\u0167\3\2\2\2\u0768\u0766\3\2\2\2\u0769\u0787\5\2\2\2\u076a\u076f\58"+
-		"\35\2\u076b\u076c\7?\2\2\u076c\u076e\7@\2\2\u076d\u076b\3\2\2\2\u076e"+
-		"\u0771\3\2\2\2\u076f\u076d\3\2\2\2\u076f\u0770\3\2\2\2\u0770\u0772\3\2"+
-		"\2\2\u0771\u076f\3\2\2\2\u0772\u0773\7C\2\2\u0773\u0774\7\13\2\2\u0774"+
-		"\u0787\3\2\2\2\u0775\u0776\7\62\2\2\u0776\u0777\7C\2\2\u0777\u0787\7\13"+
-		"\2\2\u0778\u0787\7-\2\2\u0779\u077a\58\35\2\u077a\u077b\7C\2\2\u077b\u077c"+
-		"\7-\2\2\u077c\u0787\3\2\2\2\u077d\u077e\7;\2\2\u077e\u077f\5\u01a4\u00d3"+
-		"\2\u077f\u0780\7<\2\2\u0780\u0787\3\2\2\2\u0781\u0787\5\u017a\u00be\2"+
-		"\u0782\u0787\5\u0182\u00c2\2\u0783\u0787\5\u0188\u00c5\2\u0784\u0787\5"+
-		"\u018e\u00c8\2\u0785\u0787\5\u0196\u00cc\2\u0786\u0769\3\2\2\2\u0786\u076a"+
-		"\3\2\2\2\u0786\u0775\3\2\2\2\u0786\u0778\3\2\2\2\u0786\u0779\3\2\2\2\u0786"+
-		"\u077d\3\2\2\2\u0786\u0781\3\2\2\2\u0786\u0782\3\2\2\2\u0786\u0783\3\2"+
-		"\2\2\u0786\u0784\3\2\2\2\u0786\u0785\3\2\2\2\u0787\u0169\3\2\2\2\u0788"+
-		"\u0789\3\2\2\2\u0789\u016b\3\2\2\2\u078a\u07a7\5\2\2\2\u078b\u0790\58"+
-		"\35\2\u078c\u078d\7?\2\2\u078d\u078f\7@\2\2\u078e\u078c\3\2\2\2\u078f"+
-		"\u0792\3\2\2\2\u0790\u078e\3\2\2\2\u0790\u0791\3\2\2\2\u0791\u0793\3\2"+
-		"\2\2\u0792\u0790\3\2\2\2\u0793\u0794\7C\2\2\u0794\u0795\7\13\2\2\u0795"+
-		"\u07a7\3\2\2\2\u0796\u0797\7\62\2\2\u0797\u0798\7C\2\2\u0798\u07a7\7\13"+
-		"\2\2\u0799\u07a7\7-\2\2\u079a\u079b\58\35\2\u079b\u079c\7C\2\2\u079c\u079d"+
-		"\7-\2\2\u079d\u07a7\3\2\2\2\u079e\u079f\7;\2\2\u079f\u07a0\5\u01a4\u00d3"+
-		"\2\u07a0\u07a1\7<\2\2\u07a1\u07a7\3\2\2\2\u07a2\u07a7\5\u017a\u00be\2"+
-		"\u07a3\u07a7\5\u0182\u00c2\2\u07a4\u07a7\5\u018e\u00c8\2\u07a5\u07a7\5"+
-		"\u0196\u00cc\2\u07a6\u078a\3\2\2\2\u07a6\u078b\3\2\2\2\u07a6\u0796\3\2"+
-		"\2\2\u07a6\u0799\3\2\2\2\u07a6\u079a\3\2\2\2\u07a6\u079e\3\2\2\2\u07a6"+
-		"\u07a2\3\2\2\2\u07a6\u07a3\3\2\2\2\u07a6\u07a4\3\2\2\2\u07a6\u07a5\3\2"+
-		"\2\2\u07a7\u016d\3\2\2\2\u07a8\u07ae\5\u017c\u00bf\2\u07a9\u07ae\5\u0184"+
-		"\u00c3\2\u07aa\u07ae\5\u018a\u00c6\2\u07ab\u07ae\5\u0190\u00c9\2\u07ac"+
-		"\u07ae\5\u0198\u00cd\2\u07ad\u07a8\3\2\2\2\u07ad\u07a9\3\2\2\2\u07ad\u07aa"+
-		"\3\2\2\2\u07ad\u07ab\3\2\2\2\u07ad\u07ac\3\2\2\2\u07ae\u016f\3\2\2\2\u07af"+
-		"\u07b0\3\2\2\2\u07b0\u0171\3\2\2\2\u07b1\u07b6\5\u017c\u00bf\2\u07b2\u07b6"+
-		"\5\u0184\u00c3\2\u07b3\u07b6\5\u0190\u00c9\2\u07b4\u07b6\5\u0198\u00cd"+
-		"\2\u07b5\u07b1\3\2\2\2\u07b5\u07b2\3\2\2\2\u07b5\u07b3\3\2\2\2\u07b5\u07b4"+
-		"\3\2\2\2\u07b6\u0173\3\2\2\2\u07b7\u07e0\5\2\2\2\u07b8\u07bd\58\35\2\u07b9"+
-		"\u07ba\7?\2\2\u07ba\u07bc\7@\2\2\u07bb\u07b9\3\2\2\2\u07bc\u07bf\3\2\2"+
-		"\2\u07bd\u07bb\3\2\2\2\u07bd\u07be\3\2\2\2\u07be\u07c0\3\2\2\2\u07bf\u07bd"+
-		"\3\2\2\2\u07c0\u07c1\7C\2\2\u07c1\u07c2\7\13\2\2\u07c2\u07e0\3\2\2\2\u07c3"+
-		"\u07c8\5|?\2\u07c4\u07c5\7?\2\2\u07c5\u07c7\7@\2\2\u07c6\u07c4\3\2\2\2"+
-		"\u07c7\u07ca\3\2\2\2\u07c8\u07c6\3\2\2\2\u07c8\u07c9\3\2\2\2\u07c9\u07cb"+
-		"\3\2\2\2\u07ca\u07c8\3\2\2\2\u07cb\u07cc\7C\2\2\u07cc\u07cd\7\13\2\2\u07cd"+
-		"\u07e0\3\2\2\2\u07ce\u07cf\7\62\2\2\u07cf\u07d0\7C\2\2\u07d0\u07e0\7\13"+
-		"\2\2\u07d1\u07e0\7-\2\2\u07d2\u07d3\58\35\2\u07d3\u07d4\7C\2\2\u07d4\u07d5"+
-		"\7-\2\2\u07d5\u07e0\3\2\2\2\u07d6\u07d7\7;\2\2\u07d7\u07d8\5\u01a4\u00d3"+
-		"\2\u07d8\u07d9\7<\2\2\u07d9\u07e0\3\2\2\2\u07da\u07e0\5\u017e\u00c0\2"+
-		"\u07db\u07e0\5\u0186\u00c4\2\u07dc\u07e0\5\u018c\u00c7\2\u07dd\u07e0\5"+
-		"\u0192\u00ca\2\u07de\u07e0\5\u019a\u00ce\2\u07df\u07b7\3\2\2\2\u07df\u07b8"+
-		"\3\2\2\2\u07df\u07c3\3\2\2\2\u07df\u07ce\3\2\2\2\u07df\u07d1\3\2\2\2\u07df"+
-		"\u07d2\3\2\2\2\u07df\u07d6\3\2\2\2\u07df\u07da\3\2\2\2\u07df\u07db\3\2"+
-		"\2\2\u07df\u07dc\3\2\2\2\u07df\u07dd\3\2\2\2\u07df\u07de\3\2\2\2\u07e0"+
-		"\u0175\3\2\2\2\u07e1\u07e2\3\2\2\2\u07e2\u0177\3\2\2\2\u07e3\u080b\5\2"+
-		"\2\2\u07e4\u07e9\58\35\2\u07e5\u07e6\7?\2\2\u07e6\u07e8\7@\2\2\u07e7\u07e5"+
-		"\3\2\2\2\u07e8\u07eb\3\2\2\2\u07e9\u07e7\3\2\2\2\u07e9\u07ea\3\2\2\2\u07ea"+
-		"\u07ec\3\2\2\2\u07eb\u07e9\3\2\2\2\u07ec\u07ed\7C\2\2\u07ed\u07ee\7\13"+
-		"\2\2\u07ee\u080b\3\2\2\2\u07ef\u07f4\5|?\2\u07f0\u07f1\7?\2\2\u07f1\u07f3"+
-		"\7@\2\2\u07f2\u07f0\3\2\2\2\u07f3\u07f6\3\2\2\2\u07f4\u07f2\3\2\2\2\u07f4"+
-		"\u07f5\3\2\2\2\u07f5\u07f7\3\2\2\2\u07f6\u07f4\3\2\2\2\u07f7\u07f8\7C"+
-		"\2\2\u07f8\u07f9\7\13\2\2\u07f9\u080b\3\2\2\2\u07fa\u07fb\7\62\2\2\u07fb"+
-		"\u07fc\7C\2\2\u07fc\u080b\7\13\2\2\u07fd\u080b\7-\2\2\u07fe\u07ff\58\35"+
-		"\2\u07ff\u0800\7C\2\2\u0800\u0801\7-\2\2\u0801\u080b\3\2\2\2\u0802\u0803"+
-		"\7;\2\2\u0803\u0804\5\u01a4\u00d3\2\u0804\u0805\7<\2\2\u0805\u080b\3\2"+
-		"\2\2\u0806\u080b\5\u017e\u00c0\2\u0807\u080b\5\u0186\u00c4\2\u0808\u080b"+
-		"\5\u0192\u00ca\2\u0809\u080b\5\u019a\u00ce\2\u080a\u07e3\3\2\2\2\u080a"+
-		"\u07e4\3\2\2\2\u080a\u07ef\3\2\2\2\u080a\u07fa\3\2\2\2\u080a\u07fd\3\2"+
-		"\2\2\u080a\u07fe\3\2\2\2\u080a\u0802\3\2\2\2\u080a\u0806\3\2\2\2\u080a"+
-		"\u0807\3\2\2\2\u080a\u0808\3\2\2\2\u080a\u0809\3\2\2\2\u080b\u0179\3\2"+
-		"\2\2\u080c\u080e\7!\2\2\u080d\u080f\5,\27\2\u080e\u080d\3\2\2\2\u080e"+
-		"\u080f\3\2\2\2\u080f\u0813\3\2\2\2\u0810\u0812\5\u00ecw\2\u0811\u0810"+
-		"\3\2\2\2\u0812\u0815\3\2\2\2\u0813\u0811\3\2\2\2\u0813\u0814\3\2\2\2\u0814"+
-		"\u0816\3\2\2\2\u0815\u0813\3\2\2\2\u0816\u0821\7h\2\2\u0817\u081b\7C\2"+
-		"\2\u0818\u081a\5\u00ecw\2\u0819\u0818\3\2\2\2\u081a\u081d\3\2\2\2\u081b"+
-		"\u0819\3\2\2\2\u081b\u081c\3\2\2\2\u081c\u081e\3\2\2\2\u081d\u081b\3\2"+
-		"\2\2\u081e\u0820\7h\2\2\u081f\u0817\3\2\2\2\u0820\u0823\3\2\2\2\u0821"+
-		"\u081f\3\2\2\2\u0821\u0822\3\2\2\2\u0822\u0825\3\2\2\2\u0823\u0821\3\2"+
-		"\2\2\u0824\u0826\5\u0180\u00c1\2\u0825\u0824\3\2\2\2\u0825\u0826\3\2\2"+
-		"\2\u0826\u0827\3\2\2\2\u0827\u0829\7;\2\2\u0828\u082a\5\u0194\u00cb\2"+
-		"\u0829\u0828\3\2\2\2\u0829\u082a\3\2\2\2\u082a\u082b\3\2\2\2\u082b\u082d"+
-		"\7<\2\2\u082c\u082e\5h\65\2\u082d\u082c\3\2\2\2\u082d\u082e\3\2\2\2\u082e"+
-		"\u0860\3\2\2\2\u082f\u0830\5<\37\2\u0830\u0831\7C\2\2\u0831\u0833\7!\2"+
-		"\2\u0832\u0834\5,\27\2\u0833\u0832\3\2\2\2\u0833\u0834\3\2\2\2\u0834\u0838"+
-		"\3\2\2\2\u0835\u0837\5\u00ecw\2\u0836\u0835\3\2\2\2\u0837\u083a\3\2\2"+
-		"\2\u0838\u0836\3\2\2\2\u0838\u0839\3\2\2\2\u0839\u083b\3\2\2\2\u083a\u0838"+
-		"\3\2\2\2\u083b\u083d\7h\2\2\u083c\u083e\5\u0180\u00c1\2\u083d\u083c\3"+
-		"\2\2\2\u083d\u083e\3\2\2\2\u083e\u083f\3\2\2\2\u083f\u0841\7;\2\2\u0840"+
-		"\u0842\5\u0194\u00cb\2\u0841\u0840\3\2\2\2\u0841\u0842\3\2\2\2\u0842\u0843"+
-		"\3\2\2\2\u0843\u0845\7<\2\2\u0844\u0846\5h\65\2\u0845\u0844\3\2\2\2\u0845"+
-		"\u0846\3\2\2\2\u0846\u0860\3\2\2\2\u0847\u0848\5\u0166\u00b4\2\u0848\u0849"+
-		"\7C\2\2\u0849\u084b\7!\2\2\u084a\u084c\5,\27\2\u084b\u084a\3\2\2\2\u084b"+
-		"\u084c\3\2\2\2\u084c\u0850\3\2\2\2\u084d\u084f\5\u00ecw\2\u084e\u084d"+
-		"\3\2\2\2\u084f\u0852\3\2\2\2\u0850\u084e\3\2\2\2\u0850\u0851\3\2\2\2\u0851"+
-		"\u0853\3\2\2\2\u0852\u0850\3\2\2\2\u0853\u0855\7h\2\2\u0854\u0856\5\u0180"+
-		"\u00c1\2\u0855\u0854\3\2\2\2\u0855\u0856\3\2\2\2\u0856\u0857\3\2\2\2\u0857"+
-		"\u0859\7;\2\2\u0858\u085a\5\u0194\u00cb\2\u0859\u0858\3\2\2\2\u0859\u085a"+
-		"\3\2\2\2\u085a\u085b\3\2\2\2\u085b\u085d\7<\2\2\u085c\u085e\5h\65\2\u085d"+
-		"\u085c\3\2\2\2\u085d\u085e\3\2\2\2\u085e\u0860\3\2\2\2\u085f\u080c\3\2"+
-		"\2\2\u085f\u082f\3\2\2\2\u085f\u0847\3\2\2\2\u0860\u017b\3\2\2\2\u0861"+
-		"\u0862\7C\2\2\u0862\u0864\7!\2\2\u0863\u0865\5,\27\2\u0864\u0863\3\2\2"+
-		"\2\u0864\u0865\3\2\2\2\u0865\u0869\3\2\2\2\u0866\u0868\5\u00ecw\2\u0867"+
-		"\u0866\3\2\2\2\u0868\u086b\3\2\2\2\u0869\u0867\3\2\2\2\u0869\u086a\3\2"+
-		"\2\2\u086a\u086c\3\2\2\2\u086b\u0869\3\2\2\2\u086c\u086e\7h\2\2\u086d"+
-		"\u086f\5\u0180\u00c1\2\u086e\u086d\3\2\2\2\u086e\u086f\3\2\2\2\u086f\u0870"+
-		"\3\2\2\2\u0870\u0872\7;\2\2\u0871\u0873\5\u0194\u00cb\2\u0872\u0871\3"+
-		"\2\2\2\u0872\u0873\3\2\2\2\u0873\u0874\3\2\2\2\u0874\u0876\7<\2\2\u0875"+
-		"\u0877\5h\65\2\u0876\u0875\3\2\2\2\u0876\u0877\3\2\2\2\u0877\u017d\3\2"+
-		"\2\2\u0878\u087a\7!\2\2\u0879\u087b\5,\27\2\u087a\u0879\3\2\2\2\u087a"+
-		"\u087b\3\2\2\2\u087b\u087f\3\2\2\2\u087c\u087e\5\u00ecw\2\u087d\u087c"+
-		"\3\2\2\2\u087e\u0881\3\2\2\2\u087f\u087d\3\2\2\2\u087f\u0880\3\2\2\2\u0880"+
-		"\u0882\3\2\2\2\u0881\u087f\3\2\2\2\u0882\u088d\7h\2\2\u0883\u0887\7C\2"+
-		"\2\u0884\u0886\5\u00ecw\2\u0885\u0884\3\2\2\2\u0886\u0889\3\2\2\2\u0887"+
-		"\u0885\3\2\2\2\u0887\u0888\3\2\2\2\u0888\u088a\3\2\2\2\u0889\u0887\3\2"+
-		"\2\2\u088a\u088c\7h\2\2\u088b\u0883\3\2\2\2\u088c\u088f\3\2\2\2\u088d"+
-		"\u088b\3\2\2\2\u088d\u088e\3\2\2\2\u088e\u0891\3\2\2\2\u088f\u088d\3\2"+
-		"\2\2\u0890\u0892\5\u0180\u00c1\2\u0891\u0890\3\2\2\2\u0891\u0892\3\2\2"+
-		"\2\u0892\u0893\3\2\2\2\u0893\u0895\7;\2\2\u0894\u0896\5\u0194\u00cb\2"+
-		"\u0895\u0894\3\2\2\2\u0895\u0896\3\2\2\2\u0896\u0897\3\2\2\2\u0897\u0899"+
-		"\7<\2\2\u0898\u089a\5h\65\2\u0899\u0898\3\2\2\2\u0899\u089a\3\2\2\2\u089a"+
-		"\u08b4\3\2\2\2\u089b\u089c\5<\37\2\u089c\u089d\7C\2\2\u089d\u089f\7!\2"+
-		"\2\u089e\u08a0\5,\27\2\u089f\u089e\3\2\2\2\u089f\u08a0\3\2\2\2\u08a0\u08a4"+
-		"\3\2\2\2\u08a1\u08a3\5\u00ecw\2\u08a2\u08a1\3\2\2\2\u08a3\u08a6\3\2\2"+
-		"\2\u08a4\u08a2\3\2\2\2\u08a4\u08a5\3\2\2\2\u08a5\u08a7\3\2\2\2\u08a6\u08a4"+
-		"\3\2\2\2\u08a7\u08a9\7h\2\2\u08a8\u08aa\5\u0180\u00c1\2\u08a9\u08a8\3"+
-		"\2\2\2\u08a9\u08aa\3\2\2\2\u08aa\u08ab\3\2\2\2\u08ab\u08ad\7;\2\2\u08ac"+
-		"\u08ae\5\u0194\u00cb\2\u08ad\u08ac\3\2\2\2\u08ad\u08ae\3\2\2\2\u08ae\u08af"+
-		"\3\2\2\2\u08af\u08b1\7<\2\2\u08b0\u08b2\5h\65\2\u08b1\u08b0\3\2\2\2\u08b1"+
-		"\u08b2\3\2\2\2\u08b2\u08b4\3\2\2\2\u08b3\u0878\3\2\2\2\u08b3\u089b\3\2"+
-		"\2\2\u08b4\u017f\3\2\2\2\u08b5\u08b9\5,\27\2\u08b6\u08b7\7F\2\2\u08b7"+
-		"\u08b9\7E\2\2\u08b8\u08b5\3\2\2\2\u08b8\u08b6\3\2\2\2\u08b9\u0181\3\2"+
-		"\2\2\u08ba\u08bb\5\u0166\u00b4\2\u08bb\u08bc\7C\2\2\u08bc\u08bd\7h\2\2"+
-		"\u08bd\u08c8\3\2\2\2\u08be\u08bf\7*\2\2\u08bf\u08c0\7C\2\2\u08c0\u08c8"+
-		"\7h\2\2\u08c1\u08c2\58\35\2\u08c2\u08c3\7C\2\2\u08c3\u08c4\7*\2\2\u08c4"+
-		"\u08c5\7C\2\2\u08c5\u08c6\7h\2\2\u08c6\u08c8\3\2\2\2\u08c7\u08ba\3\2\2"+
-		"\2\u08c7\u08be\3\2\2\2\u08c7\u08c1\3\2\2\2\u08c8\u0183\3\2\2\2\u08c9\u08ca"+
-		"\7C\2\2\u08ca\u08cb\7h\2\2\u08cb\u0185\3\2\2\2\u08cc\u08cd\7*\2\2\u08cd"+
-		"\u08ce\7C\2\2\u08ce\u08d6\7h\2\2\u08cf\u08d0\58\35\2\u08d0\u08d1\7C\2"+
-		"\2\u08d1\u08d2\7*\2\2\u08d2\u08d3\7C\2\2\u08d3\u08d4\7h\2\2\u08d4\u08d6"+
-		"\3\2\2\2\u08d5\u08cc\3\2\2\2\u08d5\u08cf\3\2\2\2\u08d6\u0187\3\2\2\2\u08d7"+
-		"\u08d8\5<\37\2\u08d8\u08d9\7?\2\2\u08d9\u08da\5\u01a4\u00d3\2\u08da\u08db"+
-		"\7@\2\2\u08db\u08e2\3\2\2\2\u08dc\u08dd\5\u016c\u00b7\2\u08dd\u08de\7"+
-		"?\2\2\u08de\u08df\5\u01a4\u00d3\2\u08df\u08e0\7@\2\2\u08e0\u08e2\3\2\2"+
-		"\2\u08e1\u08d7\3\2\2\2\u08e1\u08dc\3\2\2\2\u08e2\u08ea\3\2\2\2\u08e3\u08e4"+
-		"\5\u016a\u00b6\2\u08e4\u08e5\7?\2\2\u08e5\u08e6\5\u01a4\u00d3\2\u08e6"+
-		"\u08e7\7@\2\2\u08e7\u08e9\3\2\2\2\u08e8\u08e3\3\2\2\2\u08e9\u08ec\3\2"+
-		"\2\2\u08ea\u08e8\3\2\2\2\u08ea\u08eb\3\2\2\2\u08eb\u0189\3\2\2\2\u08ec"+
-		"\u08ea\3\2\2\2\u08ed\u08ee\5\u0172\u00ba\2\u08ee\u08ef\7?\2\2\u08ef\u08f0"+
-		"\5\u01a4\u00d3\2\u08f0\u08f1\7@\2\2\u08f1\u08f9\3\2\2\2\u08f2\u08f3\5"+
-		"\u0170\u00b9\2\u08f3\u08f4\7?\2\2\u08f4\u08f5\5\u01a4\u00d3\2\u08f5\u08f6"+
-		"\7@\2\2\u08f6\u08f8\3\2\2\2\u08f7\u08f2\3\2\2\2\u08f8\u08fb\3\2\2\2\u08f9"+
-		"\u08f7\3\2\2\2\u08f9\u08fa\3\2\2\2\u08fa\u018b\3\2\2\2\u08fb\u08f9\3\2"+
-		"\2\2\u08fc\u08fd\5<\37\2\u08fd\u08fe\7?\2\2\u08fe\u08ff\5\u01a4\u00d3"+
-		"\2\u08ff\u0900\7@\2\2\u0900\u0907\3\2\2\2\u0901\u0902\5\u0178\u00bd\2"+
-		"\u0902\u0903\7?\2\2\u0903\u0904\5\u01a4\u00d3\2\u0904\u0905\7@\2\2\u0905"+
-		"\u0907\3\2\2\2\u0906\u08fc\3\2\2\2\u0906\u0901\3\2\2\2\u0907\u090f\3\2"+
-		"\2\2\u0908\u0909\5\u0176\u00bc\2\u0909\u090a\7?\2\2\u090a\u090b\5\u01a4"+
-		"\u00d3\2\u090b\u090c\7@\2\2\u090c\u090e\3\2\2\2\u090d\u0908\3\2\2\2\u090e"+
-		"\u0911\3\2\2\2\u090f\u090d\3\2\2\2\u090f\u0910\3\2\2\2\u0910\u018d\3\2"+
-		"\2\2\u0911\u090f\3\2\2\2\u0912\u0913\5> \2\u0913\u0915\7;\2\2\u0914\u0916"+
-		"\5\u0194\u00cb\2\u0915\u0914\3\2\2\2\u0915\u0916\3\2\2\2\u0916\u0917\3"+
-		"\2\2\2\u0917\u0918\7<\2\2\u0918\u0957\3\2\2\2\u0919\u091a\58\35\2\u091a"+
-		"\u091c\7C\2\2\u091b\u091d\5,\27\2\u091c\u091b\3\2\2\2\u091c\u091d\3\2"+
-		"\2\2\u091d\u091e\3\2\2\2\u091e\u091f\7h\2\2\u091f\u0921\7;\2\2\u0920\u0922"+
-		"\5\u0194\u00cb\2\u0921\u0920\3\2\2\2\u0921\u0922\3\2\2\2\u0922\u0923\3"+
-		"\2\2\2\u0923\u0924\7<\2\2\u0924\u0957\3\2\2\2\u0925\u0926\5<\37\2\u0926"+
-		"\u0928\7C\2\2\u0927\u0929\5,\27\2\u0928\u0927\3\2\2\2\u0928\u0929\3\2"+
-		"\2\2\u0929\u092a\3\2\2\2\u092a\u092b\7h\2\2\u092b\u092d\7;\2\2\u092c\u092e"+
-		"\5\u0194\u00cb\2\u092d\u092c\3\2\2\2\u092d\u092e\3\2\2\2\u092e\u092f\3"+
-		"\2\2\2\u092f\u0930\7<\2\2\u0930\u0957\3\2\2\2\u0931\u0932\5\u0166\u00b4"+
-		"\2\u0932\u0934\7C\2\2\u0933\u0935\5,\27\2\u0934\u0933\3\2\2\2\u0934\u0935"+
-		"\3\2\2\2\u0935\u0936\3\2\2\2\u0936\u0937\7h\2\2\u0937\u0939\7;\2\2\u0938"+
-		"\u093a\5\u0194\u00cb\2\u0939\u0938\3\2\2\2\u0939\u093a\3\2\2\2\u093a\u093b"+
-		"\3\2\2\2\u093b\u093c\7<\2\2\u093c\u0957\3\2\2\2\u093d\u093e\7*\2\2\u093e"+
-		"\u0940\7C\2\2\u093f\u0941\5,\27\2\u0940\u093f\3\2\2\2\u0940\u0941\3\2"+
-		"\2\2\u0941\u0942\3\2\2\2\u0942\u0943\7h\2\2\u0943\u0945\7;\2\2\u0944\u0946"+
-		"\5\u0194\u00cb\2\u0945\u0944\3\2\2\2\u0945\u0946\3\2\2\2\u0946\u0947\3"+
-		"\2\2\2\u0947\u0957\7<\2\2\u0948\u0949\58\35\2\u0949\u094a\7C\2\2\u094a"+
-		"\u094b\7*\2\2\u094b\u094d\7C\2\2\u094c\u094e\5,\27\2\u094d\u094c\3\2\2"+
-		"\2\u094d\u094e\3\2\2\2\u094e\u094f\3\2\2\2\u094f\u0950\7h\2\2\u0950\u0952"+
-		"\7;\2\2\u0951\u0953\5\u0194\u00cb\2\u0952\u0951\3\2\2\2\u0952\u0953\3"+
-		"\2\2\2\u0953\u0954\3\2\2\2\u0954\u0955\7<\2\2\u0955\u0957\3\2\2\2\u0956"+
-		"\u0912\3\2\2\2\u0956\u0919\3\2\2\2\u0956\u0925\3\2\2\2\u0956\u0931\3\2"+
-		"\2\2\u0956\u093d\3\2\2\2\u0956\u0948\3\2\2\2\u0957\u018f\3\2\2\2\u0958"+
-		"\u095a\7C\2\2\u0959\u095b\5,\27\2\u095a\u0959\3\2\2\2\u095a\u095b\3\2"+
-		"\2\2\u095b\u095c\3\2\2\2\u095c\u095d\7h\2\2\u095d\u095f\7;\2\2\u095e\u0960"+
-		"\5\u0194\u00cb\2\u095f\u095e\3\2\2\2\u095f\u0960\3\2\2\2\u0960\u0961\3"+
-		"\2\2\2\u0961\u0962\7<\2\2\u0962\u0191\3\2\2\2\u0963\u0964\5";
+		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\5\u00bb\u07bd\n\u00bb\3\u00bc\3\u00bc"+
+		"\3\u00bc\3\u00bc\3\u00bc\5\u00bc\u07c4\n\u00bc\3\u00bd\3\u00bd\3\u00be"+
+		"\3\u00be\3\u00be\3\u00be\5\u00be\u07cc\n\u00be\3\u00bf\3\u00bf\3\u00bf"+
+		"\3\u00bf\7\u00bf\u07d2\n\u00bf\f\u00bf\16\u00bf\u07d5\13\u00bf\3\u00bf"+
+		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\7\u00bf\u07dd\n\u00bf\f\u00bf"+
+		"\16\u00bf\u07e0\13\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf"+
+		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf"+
+		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\5\u00bf\u07f6\n\u00bf\3\u00c0"+
+		"\3\u00c0\3\u00c1\3\u00c1\3\u00c1\3\u00c1\7\u00c1\u07fe\n\u00c1\f\u00c1"+
+		"\16\u00c1\u0801\13\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1"+
+		"\7\u00c1\u0809\n\u00c1\f\u00c1\16\u00c1\u080c\13\u00c1\3\u00c1\3\u00c1"+
+		"\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1"+
+		"\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\5\u00c1"+
+		"\u0821\n\u00c1\3\u00c2\3\u00c2\5\u00c2\u0825\n\u00c2\3\u00c2\7\u00c2\u0828"+
+		"\n\u00c2\f\u00c2\16\u00c2\u082b\13\u00c2\3\u00c2\3\u00c2\3\u00c2\7\u00c2"+
+		"\u0830\n\u00c2\f\u00c2\16\u00c2\u0833\13\u00c2\3\u00c2\7\u00c2\u0836\n"+
+		"\u00c2\f\u00c2\16\u00c2\u0839\13\u00c2\3\u00c2\5\u00c2\u083c\n\u00c2\3"+
+		"\u00c2\3\u00c2\5\u00c2\u0840\n\u00c2\3\u00c2\3\u00c2\5\u00c2\u0844\n\u00c2"+
+		"\3\u00c2\3\u00c2\3\u00c2\3\u00c2\5\u00c2\u084a\n\u00c2\3\u00c2\7\u00c2"+
+		"\u084d\n\u00c2\f\u00c2\16\u00c2\u0850\13\u00c2\3\u00c2\3\u00c2\5\u00c2"+
+		"\u0854\n\u00c2\3\u00c2\3\u00c2\5\u00c2\u0858\n\u00c2\3\u00c2\3\u00c2\5"+
+		"\u00c2\u085c\n\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\5\u00c2\u0862\n\u00c2"+
+		"\3\u00c2\7\u00c2\u0865\n\u00c2\f\u00c2\16\u00c2\u0868\13\u00c2\3\u00c2"+
+		"\3\u00c2\5\u00c2\u086c\n\u00c2\3\u00c2\3\u00c2\5\u00c2\u0870\n\u00c2\3"+
+		"\u00c2\3\u00c2\5\u00c2\u0874\n\u00c2\5\u00c2\u0876\n\u00c2\3\u00c3\3\u00c3"+
+		"\3\u00c3\5\u00c3\u087b\n\u00c3\3\u00c3\7\u00c3\u087e\n\u00c3\f\u00c3\16"+
+		"\u00c3\u0881\13\u00c3\3\u00c3\3\u00c3\5\u00c3\u0885\n\u00c3\3\u00c3\3"+
+		"\u00c3\5\u00c3\u0889\n\u00c3\3\u00c3\3\u00c3\5\u00c3\u088d\n\u00c3\3\u00c4"+
+		"\3\u00c4\5\u00c4\u0891\n\u00c4\3\u00c4\7\u00c4\u0894\n\u00c4\f\u00c4\16"+
+		"\u00c4\u0897\13\u00c4\3\u00c4\3\u00c4\3\u00c4\7\u00c4\u089c\n\u00c4\f"+
+		"\u00c4\16\u00c4\u089f\13\u00c4\3\u00c4\7\u00c4\u08a2\n\u00c4\f\u00c4\16"+
+		"\u00c4\u08a5\13\u00c4\3\u00c4\5\u00c4\u08a8\n\u00c4\3\u00c4\3\u00c4\5"+
+		"\u00c4\u08ac\n\u00c4\3\u00c4\3\u00c4\5\u00c4\u08b0\n\u00c4\3\u00c4\3\u00c4"+
+		"\3\u00c4\3\u00c4\5\u00c4\u08b6\n\u00c4\3\u00c4\7\u00c4\u08b9\n\u00c4\f"+
+		"\u00c4\16\u00c4\u08bc\13\u00c4\3\u00c4\3\u00c4\5\u00c4\u08c0\n\u00c4\3"+
+		"\u00c4\3\u00c4\5\u00c4\u08c4\n\u00c4\3\u00c4\3\u00c4\5\u00c4\u08c8\n\u00c4"+
+		"\5\u00c4\u08ca\n\u00c4\3\u00c5\3\u00c5\3\u00c5\5\u00c5\u08cf\n\u00c5\3"+
+		"\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6"+
+		"\3\u00c6\3\u00c6\3\u00c6\3\u00c6\5\u00c6\u08de\n\u00c6\3\u00c7\3\u00c7"+
+		"\3\u00c7\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8"+
+		"\3\u00c8\5\u00c8\u08ec\n\u00c8\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9"+
+		"\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\5\u00c9\u08f8\n\u00c9\3\u00c9"+
+		"\3\u00c9\3\u00c9\3\u00c9\3\u00c9\7\u00c9\u08ff\n\u00c9\f\u00c9\16\u00c9"+
+		"\u0902\13\u00c9\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca"+
+		"\3\u00ca\3\u00ca\3\u00ca\7\u00ca\u090e\n\u00ca\f\u00ca\16\u00ca\u0911"+
+		"\13\u00ca\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb"+
+		"\3\u00cb\3\u00cb\5\u00cb\u091d\n\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb"+
+		"\3\u00cb\7\u00cb\u0924\n\u00cb\f\u00cb\16\u00cb\u0927\13\u00cb\3\u00cc"+
+		"\3\u00cc\3\u00cc\5\u00cc\u092c\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
+		"\3\u00cc\5\u00cc\u0933\n\u00cc\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u0938\n"+
+		"\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u093f\n\u00cc\3"+
+		"\u00cc\3\u00cc\3\u00cc\5\u00cc\u0944\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3"+
+		"\u00cc\3\u00cc\5\u00cc\u094b\n\u00cc\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u0950"+
+		"\n\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u0957\n\u00cc"+
+		"\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u095c\n\u00cc\3\u00cc\3\u00cc\3\u00cc"+
+		"\3\u00cc\3\u00cc\3\u00cc\5\u00cc\u0964\n\u00cc\3\u00cc\3\u00cc\3\u00cc"+
+		"\5\u00cc\u0969\n\u00cc\3\u00cc\3\u00cc\5\u00cc\u096d\n\u00cc\3\u00cd\3"+
+		"\u00cd\5\u00cd\u0971\n\u00cd\3\u00cd\3\u00cd\3\u00cd\5\u00cd\u0976\n\u00cd"+
+		"\3\u00cd\3\u00cd\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u097d\n\u00ce\3\u00ce"+
+		"\3\u00ce\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u0984\n\u00ce\3\u00ce\3\u00ce"+
+		"\3\u00ce\5\u00ce\u0989\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce"+
+		"\5\u00ce\u0990\n\u00ce\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u0995\n\u00ce\3"+
+		"\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u099c\n\u00ce\3\u00ce\3"+
+		"\u00ce\3\u00ce\5\u00ce\u09a1\n\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3"+
+		"\u00ce\3\u00ce\5\u00ce\u09a9\n\u00ce\3\u00ce\3\u00ce\3\u00ce\5\u00ce\u09ae"+
+		"\n\u00ce\3\u00ce\3\u00ce\5\u00ce\u09b2\n\u00ce\3\u00cf\3\u00cf\3\u00cf"+
+		"\7\u00cf\u09b7\n\u00cf\f\u00cf\16\u00cf\u09ba\13\u00cf\3\u00d0\3\u00d0"+
+		"\3\u00d0\5\u00d0\u09bf\n\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0"+
+		"\5\u00d0\u09c6\n\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\5\u00d0"+
+		"\u09cd\n\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\5\u00d0\u09d4\n"+
+		"\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\5\u00d0\u09dc\n"+
+		"\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\5\u00d0\u09e3\n\u00d0\3"+
+		"\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\5\u00d0\u09eb\n\u00d0\3"+
+		"\u00d1\3\u00d1\5\u00d1\u09ef\n\u00d1\3\u00d1\3\u00d1\3\u00d2\3\u00d2\3"+
+		"\u00d2\5\u00d2\u09f6\n\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\5"+
+		"\u00d2\u09fd\n\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\5\u00d2\u0a04"+
+		"\n\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\5\u00d2\u0a0c"+
+		"\n\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\5\u00d2\u0a13\n\u00d2"+
+		"\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\5\u00d2\u0a1b\n\u00d2"+
+		"\3\u00d3\3\u00d3\3\u00d3\3\u00d3\5\u00d3\u0a21\n\u00d3\3\u00d3\3\u00d3"+
+		"\3\u00d3\3\u00d3\5\u00d3\u0a27\n\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3"+
+		"\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3\5\u00d3\u0a33\n\u00d3"+
+		"\3\u00d4\3\u00d4\7\u00d4\u0a37\n\u00d4\f\u00d4\16\u00d4\u0a3a\13\u00d4"+
+		"\3\u00d5\7\u00d5\u0a3d\n\u00d5\f\u00d5\16\u00d5\u0a40\13\u00d5\3\u00d5"+
+		"\3\u00d5\3\u00d5\3\u00d5\3\u00d6\3\u00d6\3\u00d7\3\u00d7\5\u00d7\u0a4a"+
+		"\n\u00d7\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d9\3\u00d9\3\u00d9\5\u00d9"+
+		"\u0a53\n\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00d9\5\u00d9\u0a5a\n"+
+		"\u00d9\3\u00da\3\u00da\3\u00da\7\u00da\u0a5f\n\u00da\f\u00da\16\u00da"+
+		"\u0a62\13\u00da\3\u00db\3\u00db\5\u00db\u0a66\n\u00db\3\u00dc\3\u00dc"+
+		"\5\u00dc\u0a6a\n\u00dc\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00de\3\u00de"+
+		"\3\u00de\5\u00de\u0a73\n\u00de\3\u00df\3\u00df\3\u00e0\3\u00e0\3\u00e0"+
+		"\3\u00e0\3\u00e0\3\u00e0\3\u00e0\5\u00e0\u0a7e\n\u00e0\3\u00e1\3\u00e1"+
+		"\3\u00e1\3\u00e1\3\u00e1\3\u00e1\7\u00e1\u0a86\n\u00e1\f\u00e1\16\u00e1"+
+		"\u0a89\13\u00e1\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\7\u00e2"+
+		"\u0a91\n\u00e2\f\u00e2\16\u00e2\u0a94\13\u00e2\3\u00e3\3\u00e3\3\u00e3"+
+		"\3\u00e3\3\u00e3\3\u00e3\7\u00e3\u0a9c\n\u00e3\f\u00e3\16\u00e3\u0a9f"+
+		"\13\u00e3\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\7\u00e4\u0aa7"+
+		"\n\u00e4\f\u00e4\16\u00e4\u0aaa\13\u00e4\3\u00e5\3\u00e5\3\u00e5\3\u00e5"+
+		"\3\u00e5\3\u00e5\7\u00e5\u0ab2\n\u00e5\f\u00e5\16\u00e5\u0ab5\13\u00e5"+
+		"\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6"+
+		"\7\u00e6\u0ac0\n\u00e6\f\u00e6\16\u00e6\u0ac3\13\u00e6\3\u00e7\3\u00e7"+
+		"\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7"+
+		"\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\7\u00e7\u0ad7"+
+		"\n\u00e7\f\u00e7\16\u00e7\u0ada\13\u00e7\3\u00e8\3\u00e8\3\u00e8\3\u00e8"+
+		"\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8"+
+		"\3\u00e8\3\u00e8\3\u00e8\7\u00e8\u0aec\n\u00e8\f\u00e8\16\u00e8\u0aef"+
+		"\13\u00e8\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9"+
+		"\3\u00e9\7\u00e9\u0afa\n\u00e9\f\u00e9\16\u00e9\u0afd\13\u00e9\3\u00ea"+
+		"\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00ea"+
+		"\3\u00ea\3\u00ea\7\u00ea\u0b0b\n\u00ea\f\u00ea\16\u00ea\u0b0e\13\u00ea"+
+		"\3\u00eb\3\u00eb\3\u00eb\3\u00eb\3\u00eb\3\u00eb\3\u00eb\5\u00eb\u0b17"+
+		"\n\u00eb\3\u00ec\3\u00ec\3\u00ec\3\u00ed\3\u00ed\3\u00ed\3\u00ee\3\u00ee"+
+		"\3\u00ee\3\u00ee\3\u00ee\3\u00ee\5\u00ee\u0b25\n\u00ee\3\u00ef\3\u00ef"+
+		"\5\u00ef\u0b29\n\u00ef\3\u00ef\3\u00ef\7\u00ef\u0b2d\n\u00ef\f\u00ef\16"+
+		"\u00ef\u0b30\13\u00ef\3\u00f0\3\u00f0\3\u00f0\3\u00f1\3\u00f1\3\u00f2"+
+		"\3\u00f2\3\u00f2\3\u00f3\3\u00f3\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4"+
+		"\3\u00f4\3\u00f4\3\u00f4\7\u00f4\u0b44\n\u00f4\f\u00f4\16\u00f4\u0b47"+
+		"\13\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\7\u00f4\u0b4f"+
+		"\n\u00f4\f\u00f4\16\u00f4\u0b52\13\u00f4\3\u00f4\3\u00f4\3\u00f4\5\u00f4"+
+		"\u0b57\n\u00f4\3\u00f4\2\17\66:@\u01c0\u01c2\u01c4\u01c6\u01c8\u01ca\u01cc"+
+		"\u01ce\u01d0\u01d2\u00f5\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&("+
+		"*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084"+
+		"\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c"+
+		"\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4"+
+		"\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc"+
+		"\u00ce\u00d0\u00d2\u00d4\u00d6\u00d8\u00da\u00dc\u00de\u00e0\u00e2\u00e4"+
+		"\u00e6\u00e8\u00ea\u00ec\u00ee\u00f0\u00f2\u00f4\u00f6\u00f8\u00fa\u00fc"+
+		"\u00fe\u0100\u0102\u0104\u0106\u0108\u010a\u010c\u010e\u0110\u0112\u0114"+
+		"\u0116\u0118\u011a\u011c\u011e\u0120\u0122\u0124\u0126\u0128\u012a\u012c"+
+		"\u012e\u0130\u0132\u0134\u0136\u0138\u013a\u013c\u013e\u0140\u0142\u0144"+
+		"\u0146\u0148\u014a\u014c\u014e\u0150\u0152\u0154\u0156\u0158\u015a\u015c"+
+		"\u015e\u0160\u0162\u0164\u0166\u0168\u016a\u016c\u016e\u0170\u0172\u0174"+
+		"\u0176\u0178\u017a\u017c\u017e\u0180\u0182\u0184\u0186\u0188\u018a\u018c"+
+		"\u018e\u0190\u0192\u0194\u0196\u0198\u019a\u019c\u019e\u01a0\u01a2\u01a4"+
+		"\u01a6\u01a8\u01aa\u01ac\u01ae\u01b0\u01b2\u01b4\u01b6\u01b8\u01ba\u01bc"+
+		"\u01be\u01c0\u01c2\u01c4\u01c6\u01c8\u01ca\u01cc\u01ce\u01d0\u01d2\u01d4"+
+		"\u01d6\u01d8\u01da\u01dc\u01de\u01e0\u01e2\u01e4\u01e6\2\6\3\2\65:\7\2"+
+		"\7\7\n\n\35\35\37\37\'\'\4\2\20\20\26\26\4\2DD]g\u0c49\2\u01e8\3\2\2\2"+
+		"\4\u01ec\3\2\2\2\6\u01fc\3\2\2\2\b\u0200\3\2\2\2\n\u0202\3\2\2\2\f\u0204"+
+		"\3\2\2\2\16\u0209\3\2\2\2\20\u020d\3\2\2\2\22\u022c\3\2\2\2\24\u022e\3"+
+		"\2\2\2\26\u023c\3\2\2\2\30\u0243\3\2\2\2\32\u0245\3\2\2\2\34\u0247\3\2"+
+		"\2\2\36\u024c\3\2\2\2 \u025a\3\2\2\2\"\u025f\3\2\2\2$\u0274\3\2\2\2&\u027b"+
+		"\3\2\2\2(\u0287\3\2\2\2*\u0289\3\2\2\2,\u028c\3\2\2\2.\u0290\3\2\2\2\60"+
+		"\u029a\3\2\2\2\62\u029f\3\2\2\2\64\u02aa\3\2\2\2\66\u02ac\3\2\2\28\u02bc"+
+		"\3\2\2\2:\u02be\3\2\2\2<\u02ce\3\2\2\2>\u02d0\3\2\2\2@\u02d2\3\2\2\2B"+
+		"\u02de\3\2\2\2D\u02ef\3\2\2\2F\u02f6\3\2\2\2H\u02fc\3\2\2\2J\u0302\3\2"+
+		"\2\2L\u0309\3\2\2\2N\u030d\3\2\2\2P\u0312\3\2\2\2R\u0320\3\2\2\2T\u0326"+
+		"\3\2\2\2V\u0328\3\2\2\2X\u032c\3\2\2\2Z\u0332\3\2\2\2\\\u0339\3\2\2\2"+
+		"^\u0343\3\2\2\2`\u0347\3\2\2\2b\u034c\3\2\2\2d\u0364\3\2\2\2f\u0366\3"+
+		"\2\2\2h\u036a\3\2\2\2j\u0372\3\2\2\2l\u0375\3\2\2\2n\u0378\3\2\2\2p\u0380"+
+		"\3\2\2\2r\u038d\3\2\2\2t\u0394\3\2\2\2v\u0399\3\2\2\2x\u03a8\3\2\2\2z"+
+		"\u03aa\3\2\2\2|\u03b2\3\2\2\2~\u03b7\3\2\2\2\u0080\u03bd\3\2\2\2\u0082"+
+		"\u03c1\3\2\2\2\u0084\u03c5\3\2\2\2\u0086\u03ca\3\2\2\2\u0088\u03ce\3\2"+
+		"\2\2\u008a\u03e7\3\2\2\2\u008c\u03e9\3\2\2\2\u008e\u03f4\3\2\2\2\u0090"+
+		"\u03f8\3\2\2\2\u0092\u03fa\3\2\2\2\u0094\u03fc\3\2\2\2\u0096\u03fe\3\2"+
+		"\2\2\u0098\u0409\3\2\2\2\u009a\u040e\3\2\2\2\u009c\u041e\3\2\2\2\u009e"+
+		"\u0431\3\2\2\2\u00a0\u0435\3\2\2\2\u00a2\u0437\3\2\2\2\u00a4\u0445\3\2"+
+		"\2\2\u00a6\u0457\3\2\2\2\u00a8\u045c\3\2\2\2\u00aa\u0464\3\2\2\2\u00ac"+
+		"\u0477\3\2\2\2\u00ae\u047c\3\2\2\2\u00b0\u0486\3\2\2\2\u00b2\u0489\3\2"+
+		"\2\2\u00b4\u0493\3\2\2\2\u00b6\u0497\3\2\2\2\u00b8\u0499\3\2\2\2\u00ba"+
+		"\u049b\3\2\2\2\u00bc\u04a1\3\2\2\2\u00be\u04ae\3\2\2\2\u00c0\u04b1\3\2"+
+		"\2\2\u00c2\u04ba\3\2\2\2\u00c4\u04bc\3\2\2\2\u00c6\u04f3\3\2\2\2\u00c8"+
+		"\u04f8\3\2\2\2\u00ca\u0502\3\2\2\2\u00cc\u050e\3\2\2\2\u00ce\u0519\3\2"+
+		"\2\2\u00d0\u0527\3\2\2\2\u00d2\u0529\3\2\2\2\u00d4\u0532\3\2\2\2\u00d6"+
+		"\u0537\3\2\2\2\u00d8\u054b\3\2\2\2\u00da\u054d\3\2\2\2\u00dc\u0550\3\2"+
+		"\2\2\u00de\u055e\3\2\2\2\u00e0\u0563\3\2\2\2\u00e2\u056e\3\2\2\2\u00e4"+
+		"\u0573\3\2\2\2\u00e6\u057f\3\2\2\2\u00e8\u0584\3\2\2\2\u00ea\u058c\3\2"+
+		"\2\2\u00ec\u059a\3\2\2\2\u00ee\u059f\3\2\2\2\u00f0\u05b1\3\2\2\2\u00f2"+
+		"\u05b3\3\2\2\2\u00f4\u05b9\3\2\2\2\u00f6\u05bb\3\2\2\2\u00f8\u05c3\3\2"+
+		"\2\2\u00fa\u05cb\3\2\2\2\u00fc\u05d2\3\2\2\2\u00fe\u05d4\3\2\2\2\u0100"+
+		"\u05dd\3\2\2\2\u0102\u05e5\3\2\2\2\u0104\u05e8\3\2\2\2\u0106\u05ee\3\2"+
+		"\2\2\u0108\u05f7\3\2\2\2\u010a\u05ff\3\2\2\2\u010c\u0605\3\2\2\2\u010e"+
+		"\u060f\3\2\2\2\u0110\u0611\3\2\2\2\u0112\u0617\3\2\2\2\u0114\u0623\3\2"+
+		"\2\2\u0116\u062a\3\2\2\2\u0118\u0638\3\2\2\2\u011a\u063a\3\2\2\2\u011c"+
+		"\u063c\3\2\2\2\u011e\u0640\3\2\2\2\u0120\u0644\3\2\2\2\u0122\u064e\3\2"+
+		"\2\2\u0124\u0650\3\2\2\2\u0126\u0656\3\2\2\2\u0128\u065e\3\2\2\2\u012a"+
+		"\u0670\3\2\2\2\u012c\u0672\3\2\2\2\u012e\u0678\3\2\2\2\u0130\u0687\3\2"+
+		"\2\2\u0132\u068a\3\2\2\2\u0134\u069b\3\2\2\2\u0136\u069d\3\2\2\2\u0138"+
+		"\u069f\3\2\2\2\u013a\u06a5\3\2\2\2\u013c\u06ab\3\2\2\2\u013e\u06b5\3\2"+
+		"\2\2\u0140\u06b9\3\2\2\2\u0142\u06bb\3\2\2\2\u0144\u06cb\3\2\2\2\u0146"+
+		"\u06dd\3\2\2\2\u0148\u06df\3\2\2\2\u014a\u06e1\3\2\2\2\u014c\u06e9\3\2"+
+		"\2\2\u014e\u06f8\3\2\2\2\u0150\u0707\3\2\2\2\u0152\u070d\3\2\2\2\u0154"+
+		"\u0713\3\2\2\2\u0156\u0719\3\2\2\2\u0158\u071d\3\2\2\2\u015a\u072f\3\2"+
+		"\2\2\u015c\u0731\3\2\2\2\u015e\u0738\3\2\2\2\u0160\u0741\3\2\2\2\u0162"+
+		"\u0747\3\2\2\2\u0164\u074f\3\2\2\2\u0166\u0752\3\2\2\2\u0168\u075b\3\2"+
+		"\2\2\u016a\u0762\3\2\2\2\u016c\u076d\3\2\2\2\u016e\u0777\3\2\2\2\u0170"+
+		"\u079c\3\2\2\2\u0172\u079e\3\2\2\2\u0174\u07bc\3\2\2\2\u0176\u07c3\3\2"+
+		"\2\2\u0178\u07c5\3\2\2\2\u017a\u07cb\3\2\2\2\u017c\u07f5\3\2\2\2\u017e"+
+		"\u07f7\3\2\2\2\u0180\u0820\3\2\2\2\u0182\u0875\3\2\2\2\u0184\u0877\3\2"+
+		"\2\2\u0186\u08c9\3\2\2\2\u0188\u08ce\3\2\2\2\u018a\u08dd\3\2\2\2\u018c"+
+		"\u08df\3\2\2\2\u018e\u08eb\3\2\2\2\u0190\u08f7\3\2\2\2\u0192\u0903\3\2"+
+		"\2\2\u0194\u091c\3\2\2\2\u0196\u096c\3\2\2\2\u0198\u096e\3\2\2\2\u019a"+
+		"\u09b1\3\2\2\2\u019c\u09b3\3\2\2\2\u019e\u09ea\3\2\2\2\u01a0\u09ec\3\2"+
+		"\2\2\u01a2\u0a1a\3\2\2\2\u01a4\u0a32\3\2\2\2\u01a6\u0a34\3\2\2\2\u01a8"+
+		"\u0a3e\3\2\2\2\u01aa\u0a45\3\2\2\2\u01ac\u0a49\3\2\2\2\u01ae\u0a4b\3\2"+
+		"\2\2\u01b0\u0a59\3\2\2\2\u01b2\u0a5b\3\2\2\2\u01b4\u0a65\3\2\2\2\u01b6"+
+		"\u0a69\3\2\2\2\u01b8\u0a6b\3\2\2\2\u01ba\u0a72\3\2\2\2\u01bc\u0a74\3\2"+
+		"\2\2\u01be\u0a7d\3\2\2\2\u01c0\u0a7f\3\2\2\2\u01c2\u0a8a\3\2\2\2\u01c4"+
+		"\u0a95\3\2\2\2\u01c6\u0aa0\3\2\2\2\u01c8\u0aab\3\2\2\2\u01ca\u0ab6\3\2"+
+		"\2\2\u01cc\u0ac4\3\2\2\2\u01ce\u0adb\3\2\2\2\u01d0\u0af0\3\2\2\2\u01d2"+
+		"\u0afe\3\2\2\2\u01d4\u0b16\3\2\2\2\u01d6\u0b18\3\2\2\2\u01d8\u0b1b\3\2"+
+		"\2\2\u01da\u0b24\3\2\2\2\u01dc\u0b28\3\2\2\2\u01de\u0b31\3\2\2\2\u01e0"+
+		"\u0b34\3\2\2\2\u01e2\u0b36\3\2\2\2\u01e4\u0b39\3\2\2\2\u01e6\u0b56\3\2"+
+		"\2\2\u01e8\u01e9\t\2\2\2\u01e9\3\3\2\2\2\u01ea\u01ed\5\6\4\2\u01eb\u01ed"+
+		"\5\16\b\2\u01ec\u01ea\3\2\2\2\u01ec\u01eb\3\2\2\2\u01ed\5\3\2\2\2\u01ee"+
+		"\u01f0\5\u00f4{\2\u01ef\u01ee\3\2\2\2\u01f0\u01f3\3\2\2\2\u01f1\u01ef"+
+		"\3\2\2\2\u01f1\u01f2\3\2\2\2\u01f2\u01f4\3\2\2\2\u01f3\u01f1\3\2\2\2\u01f4"+
+		"\u01fd\5\b\5\2\u01f5\u01f7\5\u00f4{\2\u01f6\u01f5\3\2\2\2\u01f7\u01fa"+
+		"\3\2\2\2\u01f8\u01f6\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fb\3\2\2\2\u01fa"+
+		"\u01f8\3\2\2\2\u01fb\u01fd\7\5\2\2\u01fc\u01f1\3\2\2\2\u01fc\u01f8\3\2"+
+		"\2\2\u01fd\7\3\2\2\2\u01fe\u0201\5\n\6\2\u01ff\u0201\5\f\7\2\u0200\u01fe"+
+		"\3\2\2\2\u0200\u01ff\3\2\2\2\u0201\t\3\2\2\2\u0202\u0203\t\3\2\2\u0203"+
+		"\13\3\2\2\2\u0204\u0205\t\4\2\2\u0205\r\3\2\2\2\u0206\u020a\5\20\t\2\u0207"+
+		"\u020a\5\36\20\2\u0208\u020a\5 \21\2\u0209\u0206\3\2\2\2\u0209\u0207\3"+
+		"\2\2\2\u0209\u0208\3\2\2\2\u020a\17\3\2\2\2\u020b\u020e\5\26\f\2\u020c"+
+		"\u020e\5\34\17\2\u020d\u020b\3\2\2\2\u020d\u020c\3\2\2\2\u020e\u0213\3"+
+		"\2\2\2\u020f\u0212\5\24\13\2\u0210\u0212\5\32\16\2\u0211\u020f\3\2\2\2"+
+		"\u0211\u0210\3\2\2\2\u0212\u0215\3\2\2\2\u0213\u0211\3\2\2\2\u0213\u0214"+
+		"\3\2\2\2\u0214\21\3\2\2\2\u0215\u0213\3\2\2\2\u0216\u0218\5\u00f4{\2\u0217"+
+		"\u0216\3\2\2\2\u0218\u021b\3\2\2\2\u0219\u0217\3\2\2\2\u0219\u021a\3\2"+
+		"\2\2\u021a\u021c\3\2\2\2\u021b\u0219\3\2\2\2\u021c\u021e\7h\2\2\u021d"+
+		"\u021f\5,\27\2\u021e\u021d\3\2\2\2\u021e\u021f\3\2\2\2\u021f\u022d\3\2"+
+		"\2\2\u0220\u0221\5\20\t\2\u0221\u0225\7C\2\2\u0222\u0224\5\u00f4{\2\u0223"+
+		"\u0222\3\2\2\2\u0224\u0227\3\2\2\2\u0225\u0223\3\2\2\2\u0225\u0226\3\2"+
+		"\2\2\u0226\u0228\3\2\2\2\u0227\u0225\3\2\2\2\u0228\u022a\7h\2\2\u0229"+
+		"\u022b\5,\27\2\u022a\u0229\3\2\2\2\u022a\u022b\3\2\2\2\u022b\u022d\3\2"+
+		"\2\2\u022c\u0219\3\2\2\2\u022c\u0220\3\2\2\2\u022d\23\3\2\2\2\u022e\u0232"+
+		"\7C\2\2\u022f\u0231\5\u00f4{\2\u0230\u022f\3\2\2\2\u0231\u0234\3\2\2\2"+
+		"\u0232\u0230\3\2\2\2\u0232\u0233\3\2\2\2\u0233\u0235\3\2\2\2\u0234\u0232"+
+		"\3\2\2\2\u0235\u0237\7h\2\2\u0236\u0238\5,\27\2\u0237\u0236\3\2\2\2\u0237"+
+		"\u0238\3\2\2\2\u0238\25\3\2\2\2\u0239\u023b\5\u00f4{\2\u023a\u0239\3\2"+
+		"\2\2\u023b\u023e\3\2\2\2\u023c\u023a\3\2\2\2\u023c\u023d\3\2\2\2\u023d"+
+		"\u023f\3\2\2\2\u023e\u023c\3\2\2\2\u023f\u0241\7h\2\2\u0240\u0242\5,\27"+
+		"\2\u0241\u0240\3\2\2\2\u0241\u0242\3\2\2\2\u0242\27\3\2\2\2\u0243\u0244"+
+		"\5\22\n\2\u0244\31\3\2\2\2\u0245\u0246\5\24\13\2\u0246\33\3\2\2\2\u0247"+
+		"\u0248\5\26\f\2\u0248\35\3\2\2\2\u0249\u024b\5\u00f4{\2\u024a\u0249\3"+
+		"\2\2\2\u024b\u024e\3\2\2\2\u024c\u024a\3\2\2\2\u024c\u024d\3\2\2\2\u024d"+
+		"\u024f\3\2\2\2\u024e\u024c\3\2\2\2\u024f\u0250\7h\2\2\u0250\37\3\2\2\2"+
+		"\u0251\u0252\5\6\4\2\u0252\u0253\5\"\22\2\u0253\u025b\3\2\2\2\u0254\u0255"+
+		"\5\20\t\2\u0255\u0256\5\"\22\2\u0256\u025b\3\2\2\2\u0257\u0258\5\36\20"+
+		"\2\u0258\u0259\5\"\22\2\u0259\u025b\3\2\2\2\u025a\u0251\3\2\2\2\u025a"+
+		"\u0254\3\2\2\2\u025a\u0257\3\2\2\2\u025b!\3\2\2\2\u025c\u025e\5\u00f4"+
+		"{\2\u025d\u025c\3\2\2\2\u025e\u0261\3\2\2\2\u025f\u025d\3\2\2\2\u025f"+
+		"\u0260\3\2\2\2\u0260\u0262\3\2\2\2\u0261\u025f\3\2\2\2\u0262\u0263\7?"+
+		"\2\2\u0263\u026e\7@\2\2\u0264\u0266\5\u00f4{\2\u0265\u0264\3\2\2\2\u0266"+
+		"\u0269\3\2\2\2\u0267\u0265\3\2\2\2\u0267\u0268\3\2\2\2\u0268\u026a\3\2"+
+		"\2\2\u0269\u0267\3\2\2\2\u026a\u026b\7?\2\2\u026b\u026d\7@\2\2\u026c\u0267"+
+		"\3\2\2\2\u026d\u0270\3\2\2\2\u026e\u026c\3\2\2\2\u026e\u026f\3\2\2\2\u026f"+
+		"#\3\2\2\2\u0270\u026e\3\2\2\2\u0271\u0273\5&\24\2\u0272\u0271\3\2\2\2"+
+		"\u0273\u0276\3\2\2\2\u0274\u0272\3\2\2\2\u0274\u0275\3\2\2\2\u0275\u0277"+
+		"\3\2\2\2\u0276\u0274\3\2\2\2\u0277\u0279\7h\2\2\u0278\u027a\5(\25\2\u0279"+
+		"\u0278\3\2\2\2\u0279\u027a\3\2\2\2\u027a%\3\2\2\2\u027b\u027c\5\u00f4"+
+		"{\2\u027c\'\3\2\2\2\u027d\u027e\7\23\2\2\u027e\u0288\5\36\20\2\u027f\u0280"+
+		"\7\23\2\2\u0280\u0284\5\20\t\2\u0281\u0283\5*\26\2\u0282\u0281\3\2\2\2"+
+		"\u0283\u0286\3\2\2\2\u0284\u0282\3\2\2\2\u0284\u0285\3\2\2\2\u0285\u0288"+
+		"\3\2\2\2\u0286\u0284\3\2\2\2\u0287\u027d\3\2\2\2\u0287\u027f\3\2\2\2\u0288"+
+		")\3\2\2\2\u0289\u028a\7W\2\2\u028a\u028b\5\30\r\2\u028b+\3\2\2\2\u028c"+
+		"\u028d\7F\2\2\u028d\u028e\5.\30\2\u028e\u028f\7E\2\2\u028f-\3\2\2\2\u0290"+
+		"\u0295\5\60\31\2\u0291\u0292\7B\2\2\u0292\u0294\5\60\31\2\u0293\u0291"+
+		"\3\2\2\2\u0294\u0297\3\2\2\2\u0295\u0293\3\2\2\2\u0295\u0296\3\2\2\2\u0296"+
+		"/\3\2\2\2\u0297\u0295\3\2\2\2\u0298\u029b\5\16\b\2\u0299\u029b\5\62\32"+
+		"\2\u029a\u0298\3\2\2\2\u029a\u0299\3\2\2\2\u029b\61\3\2\2\2\u029c\u029e"+
+		"\5\u00f4{\2\u029d\u029c\3\2\2\2\u029e\u02a1\3\2\2\2\u029f\u029d\3\2\2"+
+		"\2\u029f\u02a0\3\2\2\2\u02a0\u02a2\3\2\2\2\u02a1\u029f\3\2\2\2\u02a2\u02a4"+
+		"\7I\2\2\u02a3\u02a5\5\64\33\2\u02a4\u02a3\3\2\2\2\u02a4\u02a5\3\2\2\2"+
+		"\u02a5\63\3\2\2\2\u02a6\u02a7\7\23\2\2\u02a7\u02ab\5\16\b\2\u02a8\u02a9"+
+		"\7*\2\2\u02a9\u02ab\5\16\b\2\u02aa\u02a6\3\2\2\2\u02aa\u02a8\3\2\2\2\u02ab"+
+		"\65\3\2\2\2\u02ac\u02ad\b\34\1\2\u02ad\u02ae\7h\2\2\u02ae\u02b4\3\2\2"+
+		"\2\u02af\u02b0\f\3\2\2\u02b0\u02b1\7C\2\2\u02b1\u02b3\7h\2\2\u02b2\u02af"+
+		"\3\2\2\2\u02b3\u02b6\3\2\2\2\u02b4\u02b2\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5"+
+		"\67\3\2\2\2\u02b6\u02b4\3\2\2\2\u02b7\u02bd\7h\2\2\u02b8\u02b9\5:\36\2"+
+		"\u02b9\u02ba\7C\2\2\u02ba\u02bb\7h\2\2\u02bb\u02bd\3\2\2\2\u02bc\u02b7"+
+		"\3\2\2\2\u02bc\u02b8\3\2\2\2\u02bd9\3\2\2\2\u02be\u02bf\b\36\1\2\u02bf"+
+		"\u02c0\7h\2\2\u02c0\u02c6\3\2\2\2\u02c1\u02c2\f\3\2\2\u02c2\u02c3\7C\2"+
+		"\2\u02c3\u02c5\7h\2\2\u02c4\u02c1\3\2\2\2\u02c5\u02c8\3\2\2\2\u02c6\u02c4"+
+		"\3\2\2\2\u02c6\u02c7\3\2\2\2\u02c7;\3\2\2\2\u02c8\u02c6\3\2\2\2\u02c9"+
+		"\u02cf\7h\2\2\u02ca\u02cb\5@!\2\u02cb\u02cc\7C\2\2\u02cc\u02cd\7h\2\2"+
+		"\u02cd\u02cf\3\2\2\2\u02ce\u02c9\3\2\2\2\u02ce\u02ca\3\2\2\2\u02cf=\3"+
+		"\2\2\2\u02d0\u02d1\7h\2\2\u02d1?\3\2\2\2\u02d2\u02d3\b!\1\2\u02d3\u02d4"+
+		"\7h\2\2\u02d4\u02da\3\2\2\2\u02d5\u02d6\f\3\2\2\u02d6\u02d7\7C\2\2\u02d7"+
+		"\u02d9\7h\2\2\u02d8\u02d5\3\2\2\2\u02d9\u02dc\3\2\2\2\u02da\u02d8\3\2"+
+		"\2\2\u02da\u02db\3\2\2\2\u02dbA\3\2\2\2\u02dc\u02da\3\2\2\2\u02dd\u02df"+
+		"\5P)\2\u02de\u02dd\3\2\2\2\u02de\u02df\3\2\2\2\u02df\u02e3\3\2\2\2\u02e0"+
+		"\u02e2\5T+\2\u02e1\u02e0\3\2\2\2\u02e2\u02e5\3\2\2\2\u02e3\u02e1\3\2\2"+
+		"\2\u02e3\u02e4\3\2\2\2\u02e4\u02e9\3\2\2\2\u02e5\u02e3\3\2\2\2\u02e6\u02e8"+
+		"\5^\60\2\u02e7\u02e6\3\2\2\2\u02e8\u02eb\3\2\2\2\u02e9\u02e7\3\2\2\2\u02e9"+
+		"\u02ea\3\2\2\2\u02ea\u02ec\3\2\2\2\u02eb\u02e9\3\2\2\2\u02ec\u02ed\7\2"+
+		"\2\3\u02edC\3\2\2\2\u02ee\u02f0\5L\'\2\u02ef\u02ee\3\2\2\2\u02f0\u02f1"+
+		"\3\2\2\2\u02f1\u02ef\3\2\2\2\u02f1\u02f2\3\2\2\2\u02f2\u02f3\3\2\2\2\u02f3"+
+		"\u02f4\7\2\2\3\u02f4E\3\2\2\2\u02f5\u02f7\5N(\2\u02f6\u02f5\3\2\2\2\u02f7"+
+		"\u02f8\3\2\2\2\u02f8\u02f6\3\2\2\2\u02f8\u02f9\3\2\2\2\u02f9\u02fa\3\2"+
+		"\2\2\u02fa\u02fb\7\2\2\3\u02fbG\3\2\2\2\u02fc\u02fd\5\u01ac\u00d7\2\u02fd"+
+		"\u02fe\7\2\2\3\u02feI\3\2\2\2\u02ff\u0301\5r:\2\u0300\u02ff\3\2\2\2\u0301"+
+		"\u0304\3\2\2\2\u0302\u0300\3\2\2\2\u0302\u0303\3\2\2\2\u0303\u0305\3\2"+
+		"\2\2\u0304\u0302\3\2\2\2\u0305\u0306\7\2\2\3\u0306K\3\2\2\2\u0307\u030a"+
+		"\5\u009aN\2\u0308\u030a\5v<\2\u0309\u0307\3\2\2\2\u0309\u0308\3\2\2\2"+
+		"\u030aM\3\2\2\2\u030b\u030e\5\u0114\u008b\2\u030c\u030e\5\u0110\u0089"+
+		"\2\u030d\u030b\3\2\2\2\u030d\u030c\3\2\2\2\u030eO\3\2\2\2\u030f\u0311"+
+		"\5R*\2\u0310\u030f\3\2\2\2\u0311\u0314\3\2\2\2\u0312\u0310\3\2\2\2\u0312"+
+		"\u0313\3\2\2\2\u0313\u0315\3\2\2\2\u0314\u0312\3\2\2\2\u0315\u0316\7\""+
+		"\2\2\u0316\u031b\7h\2\2\u0317\u0318\7C\2\2\u0318\u031a\7h\2\2\u0319\u0317"+
+		"\3\2\2\2\u031a\u031d\3\2\2\2\u031b\u0319\3\2\2\2\u031b\u031c\3\2\2\2\u031c"+
+		"\u031e\3\2\2\2\u031d\u031b\3\2\2\2\u031e\u031f\7A\2\2\u031fQ\3\2\2\2\u0320"+
+		"\u0321\5\u00f4{\2\u0321S\3\2\2\2\u0322\u0327\5V,\2\u0323\u0327\5X-\2\u0324"+
+		"\u0327\5Z.\2\u0325\u0327\5\\/\2\u0326\u0322\3\2\2\2\u0326\u0323\3\2\2"+
+		"\2\u0326\u0324\3\2\2\2\u0326\u0325\3\2\2\2\u0327U\3\2\2\2\u0328\u0329"+
+		"\7\33\2\2\u0329\u032a\58\35\2\u032a\u032b\7A\2\2\u032bW\3\2\2\2\u032c"+
+		"\u032d\7\33\2\2\u032d\u032e\5:\36\2\u032e\u032f\7C\2\2\u032f\u0330\7U"+
+		"\2\2\u0330\u0331\7A\2\2\u0331Y\3\2\2\2\u0332\u0333\7\33\2\2\u0333\u0334"+
+		"\7(\2\2\u0334\u0335\58\35\2\u0335\u0336\7C\2\2\u0336\u0337\7h\2\2\u0337"+
+		"\u0338\7A\2\2\u0338[\3\2\2\2\u0339\u033a\7\33\2\2\u033a\u033b\7(\2\2\u033b"+
+		"\u033c\58\35\2\u033c\u033d\7C\2\2\u033d\u033e\7U\2\2\u033e\u033f\7A\2"+
+		"\2\u033f]\3\2\2\2\u0340\u0344\5`\61\2\u0341\u0344\5\u00d4k\2\u0342\u0344"+
+		"\7A\2\2\u0343\u0340\3\2\2\2\u0343\u0341\3\2\2\2\u0343\u0342\3\2\2\2\u0344"+
+		"_\3\2\2\2\u0345\u0348\5b\62\2\u0346\u0348\5\u00c8e\2\u0347\u0345\3\2\2"+
+		"\2\u0347\u0346\3\2\2\2\u0348a\3\2\2\2\u0349\u034b\5d\63\2\u034a\u0349"+
+		"\3\2\2\2\u034b\u034e\3\2\2\2\u034c\u034a\3\2\2\2\u034c\u034d\3\2\2\2\u034d"+
+		"\u034f\3\2\2\2\u034e\u034c\3\2\2\2\u034f\u0350\7\13\2\2\u0350\u0352\7"+
+		"h\2\2\u0351\u0353\5f\64\2\u0352\u0351\3\2\2\2\u0352\u0353\3\2\2\2\u0353"+
+		"\u0355\3\2\2\2\u0354\u0356\5j\66\2\u0355\u0354\3\2\2\2\u0355\u0356\3\2"+
+		"\2\2\u0356\u0358\3\2\2\2\u0357\u0359\5l\67\2\u0358\u0357\3\2\2\2\u0358"+
+		"\u0359\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u035b\5p9\2\u035bc\3\2\2\2\u035c"+
+		"\u0365\5\u00f4{\2\u035d\u0365\7%\2\2\u035e\u0365\7$\2\2\u035f\u0365\7"+
+		"#\2\2\u0360\u0365\7\3\2\2\u0361\u0365\7(\2\2\u0362\u0365\7\24\2\2\u0363"+
+		"\u0365\7)\2\2\u0364\u035c\3\2\2\2\u0364\u035d\3\2\2\2\u0364\u035e\3\2"+
+		"\2\2\u0364\u035f\3\2\2\2\u0364\u0360\3\2\2\2\u0364\u0361\3\2\2\2\u0364"+
+		"\u0362\3\2\2\2\u0364\u0363\3\2\2\2\u0365e\3\2\2\2\u0366\u0367\7F\2\2\u0367"+
+		"\u0368\5h\65\2\u0368\u0369\7E\2\2\u0369g\3\2\2\2\u036a\u036f\5$\23\2\u036b"+
+		"\u036c\7B\2\2\u036c\u036e\5$\23\2\u036d\u036b\3\2\2\2\u036e\u0371\3\2"+
+		"\2\2\u036f\u036d\3\2\2\2\u036f\u0370\3\2\2\2\u0370i\3\2\2\2\u0371\u036f"+
+		"\3\2\2\2\u0372\u0373\7\23\2\2\u0373\u0374\5\22\n\2\u0374k\3\2\2\2\u0375"+
+		"\u0376\7\32\2\2\u0376\u0377\5n8\2\u0377m\3\2\2\2\u0378\u037d\5\30\r\2"+
+		"\u0379\u037a\7B\2\2\u037a\u037c\5\30\r\2\u037b\u0379\3\2\2\2\u037c\u037f"+
+		"\3\2\2\2\u037d\u037b\3\2\2\2\u037d\u037e\3\2\2\2\u037eo\3\2\2\2\u037f"+
+		"\u037d\3\2\2\2\u0380\u0384\7=\2\2\u0381\u0383\5r:\2\u0382\u0381\3\2\2"+
+		"\2\u0383\u0386\3\2\2\2\u0384\u0382\3\2\2\2\u0384\u0385\3\2\2\2\u0385\u0387"+
+		"\3\2\2\2\u0386\u0384\3\2\2\2\u0387\u0388\7>\2\2\u0388q\3\2\2\2\u0389\u038e"+
+		"\5t;\2\u038a\u038e\5\u00b8]\2\u038b\u038e\5\u00ba^\2\u038c\u038e\5\u00bc"+
+		"_\2\u038d\u0389\3\2\2\2\u038d\u038a\3\2\2\2\u038d\u038b\3\2\2\2\u038d"+
+		"\u038c\3\2\2\2\u038es\3\2\2\2\u038f\u0395\5v<\2\u0390\u0395\5\u009aN\2"+
+		"\u0391\u0395\5`\61\2\u0392\u0395\5\u00d4k\2\u0393\u0395\7A\2\2\u0394\u038f"+
+		"\3\2\2\2\u0394\u0390\3\2\2\2\u0394\u0391\3\2\2\2\u0394\u0392\3\2\2\2\u0394"+
+		"\u0393\3\2\2\2\u0395u\3\2\2\2\u0396\u0398\5x=\2\u0397\u0396\3\2\2\2\u0398"+
+		"\u039b\3\2\2\2\u0399\u0397\3\2\2\2\u0399\u039a\3\2\2\2\u039a\u039c\3\2"+
+		"\2\2\u039b\u0399\3\2\2\2\u039c\u039d\5\u0082B\2\u039d\u039e\5z>\2\u039e"+
+		"\u039f\7A\2\2\u039fw\3\2\2\2\u03a0\u03a9\5\u00f4{\2\u03a1\u03a9\7%\2\2"+
+		"\u03a2\u03a9\7$\2\2\u03a3\u03a9\7#\2\2\u03a4\u03a9\7(\2\2\u03a5\u03a9"+
+		"\7\24\2\2\u03a6\u03a9\7\60\2\2\u03a7\u03a9\7\63\2\2\u03a8\u03a0\3\2\2"+
+		"\2\u03a8\u03a1\3\2\2\2\u03a8\u03a2\3\2\2\2\u03a8\u03a3\3\2\2\2\u03a8\u03a4"+
+		"\3\2\2\2\u03a8\u03a5\3\2\2\2\u03a8\u03a6\3\2\2\2\u03a8\u03a7\3\2\2\2\u03a9"+
+		"y\3\2\2\2\u03aa\u03af\5|?\2\u03ab\u03ac\7B\2\2\u03ac\u03ae\5|?\2\u03ad"+
+		"\u03ab\3\2\2\2\u03ae\u03b1\3\2\2\2\u03af\u03ad\3\2\2\2\u03af\u03b0\3\2"+
+		"\2\2\u03b0{\3\2\2\2\u03b1\u03af\3\2\2\2\u03b2\u03b5\5~@\2\u03b3\u03b4"+
+		"\7D\2\2\u03b4\u03b6\5\u0080A\2\u03b5\u03b3\3\2\2\2\u03b5\u03b6\3\2\2\2"+
+		"\u03b6}\3\2\2\2\u03b7\u03b9\7h\2\2\u03b8\u03ba\5\"\22\2\u03b9\u03b8\3"+
+		"\2\2\2\u03b9\u03ba\3\2\2\2\u03ba\177\3\2\2\2\u03bb\u03be\5\u01ac\u00d7"+
+		"\2\u03bc\u03be\5\u0106\u0084\2\u03bd\u03bb\3\2\2\2\u03bd\u03bc\3\2\2\2"+
+		"\u03be\u0081\3\2\2\2\u03bf\u03c2\5\u0084C\2\u03c0\u03c2\5\u0086D\2\u03c1"+
+		"\u03bf\3\2\2\2\u03c1\u03c0\3\2\2\2\u03c2\u0083\3\2\2\2\u03c3\u03c6\5\b"+
+		"\5\2\u03c4\u03c6\7\5\2\2\u03c5\u03c3\3\2\2\2\u03c5\u03c4\3\2\2\2\u03c6"+
+		"\u0085\3\2\2\2\u03c7\u03cb\5\u0088E\2\u03c8\u03cb\5\u0096L\2\u03c9\u03cb"+
+		"\5\u0098M\2\u03ca\u03c7\3\2\2\2\u03ca\u03c8\3\2\2\2\u03ca\u03c9\3\2\2"+
+		"\2\u03cb\u0087\3\2\2\2\u03cc\u03cf\5\u008eH\2\u03cd\u03cf\5\u0094K\2\u03ce"+
+		"\u03cc\3\2\2\2\u03ce\u03cd\3\2\2\2\u03cf\u03d4\3\2\2\2\u03d0\u03d3\5\u008c"+
+		"G\2\u03d1\u03d3\5\u0092J\2\u03d2\u03d0\3\2\2\2\u03d2\u03d1\3\2\2\2\u03d3"+
+		"\u03d6\3\2\2\2\u03d4\u03d2\3\2\2\2\u03d4\u03d5\3\2\2\2\u03d5\u0089\3\2"+
+		"\2\2\u03d6\u03d4\3\2\2\2\u03d7\u03d9\7h\2\2\u03d8\u03da\5,\27\2\u03d9"+
+		"\u03d8\3\2\2\2\u03d9\u03da\3\2\2\2\u03da\u03e8\3\2\2\2\u03db\u03dc\5\u0088"+
+		"E\2\u03dc\u03e0\7C\2\2\u03dd\u03df\5\u00f4{\2\u03de\u03dd\3\2\2\2\u03df"+
+		"\u03e2\3\2\2\2\u03e0\u03de\3\2\2\2\u03e0\u03e1\3\2\2\2\u03e1\u03e3\3\2"+
+		"\2\2\u03e2\u03e0\3\2\2\2\u03e3\u03e5\7h\2\2\u03e4\u03e6\5,\27\2\u03e5"+
+		"\u03e4\3\2\2\2\u03e5\u03e6\3\2\2\2\u03e6\u03e8\3\2\2\2\u03e7\u03d7\3\2"+
+		"\2\2\u03e7\u03db\3\2\2\2\u03e8\u008b\3\2\2\2\u03e9\u03ed\7C\2\2\u03ea"+
+		"\u03ec\5\u00f4{\2\u03eb\u03ea\3\2\2\2\u03ec\u03ef\3\2\2\2\u03ed\u03eb"+
+		"\3\2\2\2\u03ed\u03ee\3\2\2\2\u03ee\u03f0\3\2\2\2\u03ef\u03ed\3\2\2\2\u03f0"+
+		"\u03f2\7h\2\2\u03f1\u03f3\5,\27\2\u03f2\u03f1\3\2\2\2\u03f2\u03f3\3\2"+
+		"\2\2\u03f3\u008d\3\2\2\2\u03f4\u03f6\7h\2\2\u03f5\u03f7\5,\27\2\u03f6"+
+		"\u03f5\3\2\2\2\u03f6\u03f7\3\2\2\2\u03f7\u008f\3\2\2\2\u03f8\u03f9\5\u008a"+
+		"F\2\u03f9\u0091\3\2\2\2\u03fa\u03fb\5\u008cG\2\u03fb\u0093\3\2\2\2\u03fc"+
+		"\u03fd\5\u008eH\2\u03fd\u0095\3\2\2\2\u03fe\u03ff\7h\2\2\u03ff\u0097\3"+
+		"\2\2\2\u0400\u0401\5\u0084C\2\u0401\u0402\5\"\22\2\u0402\u040a\3\2\2\2"+
+		"\u0403\u0404\5\u0088E\2\u0404\u0405\5\"\22\2\u0405\u040a\3\2\2\2\u0406"+
+		"\u0407\5\u0096L\2\u0407\u0408\5\"\22\2\u0408\u040a\3\2\2\2\u0409\u0400"+
+		"\3\2\2\2\u0409\u0403\3\2\2\2\u0409\u0406\3\2\2\2\u040a\u0099\3\2\2\2\u040b"+
+		"\u040d\5\u009cO\2\u040c\u040b\3\2\2\2\u040d\u0410\3\2\2\2\u040e\u040c"+
+		"\3\2\2\2\u040e\u040f\3\2\2\2\u040f\u0411\3\2\2\2\u0410\u040e\3\2\2\2\u0411"+
+		"\u0412\5\u009eP\2\u0412\u0413\5\u00b6\\\2\u0413\u009b\3\2\2\2\u0414\u041f"+
+		"\5\u00f4{\2\u0415\u041f\7%\2\2\u0416\u041f\7$\2\2\u0417\u041f\7#\2\2\u0418"+
+		"\u041f\7\3\2\2\u0419\u041f\7(\2\2\u041a\u041f\7\24\2\2\u041b\u041f\7,"+
+		"\2\2\u041c\u041f\7 \2\2\u041d\u041f\7)\2\2\u041e\u0414\3\2\2\2\u041e\u0415"+
+		"\3\2\2\2\u041e\u0416\3\2\2\2\u041e\u0417\3\2\2\2\u041e\u0418\3\2\2\2\u041e"+
+		"\u0419\3\2\2\2\u041e\u041a\3\2\2\2\u041e\u041b\3\2\2\2\u041e\u041c\3\2"+
+		"\2\2\u041e\u041d\3\2\2\2\u041f\u009d\3\2\2\2\u0420\u0421\5\u00a0Q\2\u0421"+
+		"\u0423\5\u00a2R\2\u0422\u0424\5\u00b0Y\2\u0423\u0422\3\2\2\2\u0423\u0424"+
+		"\3\2\2\2\u0424\u0432\3\2\2\2\u0425\u0429\5f\64\2\u0426\u0428\5\u00f4{"+
+		"\2\u0427\u0426\3\2\2\2\u0428\u042b\3\2\2\2\u0429\u0427\3\2\2\2\u0429\u042a"+
+		"\3\2\2\2\u042a\u042c\3\2\2\2\u042b\u0429\3\2\2\2\u042c\u042d\5\u00a0Q"+
+		"\2\u042d\u042f\5\u00a2R\2\u042e\u0430\5\u00b0Y\2\u042f\u042e\3\2\2\2\u042f"+
+		"\u0430\3\2\2\2\u0430\u0432\3\2\2\2\u0431\u0420\3\2\2\2\u0431\u0425\3\2"+
+		"\2\2\u0432\u009f\3\2\2\2\u0433\u0436\5\u0082B\2\u0434\u0436\7\62\2\2\u0435"+
+		"\u0433\3\2\2\2\u0435\u0434\3\2\2\2\u0436\u00a1\3\2\2\2\u0437\u0438\7h"+
+		"\2\2\u0438\u043a\7;\2\2\u0439\u043b\5\u00a4S\2\u043a\u0439\3\2\2\2\u043a"+
+		"\u043b\3\2\2\2\u043b\u043c\3\2\2\2\u043c\u043e\7<\2\2\u043d\u043f\5\""+
+		"\22\2\u043e\u043d\3\2\2\2\u043e\u043f\3\2\2\2\u043f\u00a3\3\2\2\2\u0440"+
+		"\u0441\5\u00a6T\2\u0441\u0442\7B\2\2\u0442\u0443\5\u00acW\2\u0443\u0446"+
+		"\3\2\2\2\u0444\u0446\5\u00acW\2\u0445\u0440\3\2\2\2\u0445\u0444\3\2\2"+
+		"\2\u0446\u00a5\3\2\2\2\u0447\u044c\5\u00a8U\2\u0448\u0449\7B\2\2\u0449"+
+		"\u044b\5\u00a8U\2\u044a\u0448\3\2\2\2\u044b\u044e\3\2\2\2\u044c\u044a"+
+		"\3\2\2\2\u044c\u044d\3\2\2\2\u044d\u0458\3\2\2\2\u044e\u044c\3\2\2\2\u044f"+
+		"\u0454\5\u00aeX\2\u0450\u0451\7B\2\2\u0451\u0453\5\u00a8U\2\u0452\u0450"+
+		"\3\2\2\2\u0453\u0456\3\2\2\2\u0454\u0452\3\2\2\2\u0454\u0455\3\2\2\2\u0455"+
+		"\u0458\3\2\2\2\u0456\u0454\3\2\2\2\u0457\u0447\3\2\2\2\u0457\u044f\3\2"+
+		"\2\2\u0458\u00a7\3\2\2\2\u0459\u045b\5\u00aaV\2\u045a\u0459\3\2\2\2\u045b"+
+		"\u045e\3\2\2\2\u045c\u045a\3\2\2\2\u045c\u045d\3\2\2\2\u045d\u045f\3\2"+
+		"\2\2\u045e\u045c\3\2\2\2\u045f\u0460\5\u0082B\2\u0460\u0461\5~@\2\u0461"+
+		"\u00a9\3\2\2\2\u0462\u0465\5\u00f4{\2\u0463\u0465\7\24\2\2\u0464\u0462"+
+		"\3\2\2\2\u0464\u0463\3\2\2\2\u0465\u00ab\3\2\2\2\u0466\u0468\5\u00aaV"+
+		"\2\u0467\u0466\3\2\2\2\u0468\u046b\3\2\2\2\u0469\u0467\3\2\2\2\u0469\u046a"+
+		"\3\2\2\2\u046a\u046c\3\2\2\2\u046b\u0469\3\2\2\2\u046c\u0470\5\u0082B"+
+		"\2\u046d\u046f\5\u00f4{\2\u046e\u046d\3\2\2\2\u046f\u0472\3\2\2\2\u0470"+
+		"\u046e\3\2\2\2\u0470\u0471\3\2\2\2\u0471\u0473\3\2\2\2\u0472\u0470\3\2"+
+		"\2\2\u0473\u0474\7j\2\2\u0474\u0475\5~@\2\u0475\u0478\3\2\2\2\u0476\u0478"+
+		"\5\u00a8U\2\u0477\u0469\3\2\2\2\u0477\u0476\3\2\2\2\u0478\u00ad\3\2\2"+
+		"\2\u0479\u047b\5\u00f4{\2\u047a\u0479\3\2\2\2\u047b\u047e\3\2\2\2\u047c"+
+		"\u047a\3\2\2\2\u047c\u047d\3\2\2\2\u047d\u047f\3\2\2\2\u047e\u047c\3\2"+
+		"\2\2\u047f\u0482\5\u0082B\2\u0480\u0481\7h\2\2\u0481\u0483\7C\2\2\u0482"+
+		"\u0480\3\2\2\2\u0482\u0483\3\2\2\2\u0483\u0484\3\2\2\2\u0484\u0485\7-"+
+		"\2\2\u0485\u00af\3\2\2\2\u0486\u0487\7/\2\2\u0487\u0488\5\u00b2Z\2\u0488"+
+		"\u00b1\3\2\2\2\u0489\u048e\5\u00b4[\2\u048a\u048b\7B\2\2\u048b\u048d\5"+
+		"\u00b4[\2\u048c\u048a\3\2\2\2\u048d\u0490\3\2\2\2\u048e\u048c\3\2\2\2"+
+		"\u048e\u048f\3\2\2\2\u048f\u00b3\3\2\2\2\u0490\u048e\3\2\2\2\u0491\u0494"+
+		"\5\22\n\2\u0492\u0494\5\36\20\2\u0493\u0491\3\2\2\2\u0493\u0492\3\2\2"+
+		"\2\u0494\u00b5\3\2\2\2\u0495\u0498\5\u010a\u0086\2\u0496\u0498\7A\2\2"+
+		"\u0497\u0495\3\2\2\2\u0497\u0496\3\2\2\2\u0498\u00b7\3\2\2\2\u0499\u049a"+
+		"\5\u010a\u0086\2\u049a\u00b9\3\2\2\2\u049b\u049c\7(\2\2\u049c\u049d\5"+
+		"\u010a\u0086\2\u049d\u00bb\3\2\2\2\u049e\u04a0\5\u00be`\2\u049f\u049e"+
+		"\3\2\2\2\u04a0\u04a3\3\2\2\2\u04a1\u049f\3\2\2\2\u04a1\u04a2\3\2\2\2\u04a2"+
+		"\u04a4\3\2\2\2\u04a3\u04a1\3\2\2\2\u04a4\u04a6\5\u00c0a\2\u04a5\u04a7"+
+		"\5\u00b0Y\2\u04a6\u04a5\3\2\2\2\u04a6\u04a7\3\2\2\2\u04a7\u04a8\3\2\2"+
+		"\2\u04a8\u04a9\5\u00c4c\2\u04a9\u00bd\3\2\2\2\u04aa\u04af\5\u00f4{\2\u04ab"+
+		"\u04af\7%\2\2\u04ac\u04af\7$\2\2\u04ad\u04af\7#\2\2\u04ae\u04aa\3\2\2"+
+		"\2\u04ae\u04ab\3\2\2\2\u04ae\u04ac\3\2\2\2\u04ae\u04ad\3\2\2\2\u04af\u00bf"+
+		"\3\2\2\2\u04b0\u04b2\5f\64\2\u04b1\u04b0\3\2\2\2\u04b1\u04b2\3\2\2\2\u04b2"+
+		"\u04b3\3\2\2\2\u04b3\u04b4\5\u00c2b\2\u04b4\u04b6\7;\2\2\u04b5\u04b7\5"+
+		"\u00a4S\2\u04b6\u04b5\3\2\2\2\u04b6\u04b7\3\2\2\2\u04b7\u04b8\3\2\2\2"+
+		"\u04b8\u04b9\7<\2\2\u04b9\u00c1\3\2\2\2\u04ba\u04bb\7h\2\2\u04bb\u00c3"+
+		"\3\2\2\2\u04bc\u04be\7=\2\2\u04bd\u04bf\5\u00c6d\2\u04be\u04bd\3\2\2\2"+
+		"\u04be\u04bf\3\2\2\2\u04bf\u04c1\3\2\2\2\u04c0\u04c2\5\u010c\u0087\2\u04c1"+
+		"\u04c0\3\2\2\2\u04c1\u04c2\3\2\2\2\u04c2\u04c3\3\2\2\2\u04c3\u04c4\7>"+
+		"\2\2\u04c4\u00c5\3\2\2\2\u04c5\u04c7\5,\27\2\u04c6\u04c5\3\2\2\2\u04c6"+
+		"\u04c7\3\2\2\2\u04c7\u04c8\3\2\2\2\u04c8\u04c9\7-\2\2\u04c9\u04cb\7;\2"+
+		"\2\u04ca\u04cc\5\u019c\u00cf\2\u04cb\u04ca\3\2\2\2\u04cb\u04cc\3\2\2\2"+
+		"\u04cc\u04cd\3\2\2\2\u04cd\u04ce\7<\2\2\u04ce\u04f4\7A\2\2\u04cf\u04d1"+
+		"\5,\27\2\u04d0\u04cf\3\2\2\2\u04d0\u04d1\3\2\2\2\u04d1\u04d2\3\2\2\2\u04d2"+
+		"\u04d3\7*\2\2\u04d3\u04d5\7;\2\2\u04d4\u04d6\5\u019c\u00cf\2\u04d5\u04d4"+
+		"\3\2\2\2\u04d5\u04d6\3\2\2\2\u04d6\u04d7\3\2\2\2\u04d7\u04d8\7<\2\2\u04d8"+
+		"\u04f4\7A\2\2\u04d9\u04da\5<\37\2\u04da\u04dc\7C\2\2\u04db\u04dd\5,\27"+
+		"\2\u04dc\u04db\3\2\2\2\u04dc\u04dd\3\2\2\2\u04dd\u04de\3\2\2\2\u04de\u04df"+
+		"\7*\2\2\u04df\u04e1\7;\2\2\u04e0\u04e2\5\u019c\u00cf\2\u04e1\u04e0\3\2"+
+		"\2\2\u04e1\u04e2\3\2\2\2\u04e2\u04e3\3\2\2\2\u04e3\u04e4\7<\2\2\u04e4"+
+		"\u04e5\7A\2\2\u04e5\u04f4\3\2\2\2\u04e6\u04e7\5\u016e\u00b8\2\u04e7\u04e9"+
+		"\7C\2\2\u04e8\u04ea\5,\27\2\u04e9\u04e8\3\2\2\2\u04e9\u04ea\3\2\2\2\u04ea"+
+		"\u04eb\3\2\2\2\u04eb\u04ec\7*\2\2\u04ec\u04ee\7;\2\2\u04ed\u04ef\5\u019c"+
+		"\u00cf\2\u04ee\u04ed\3\2\2\2\u04ee\u04ef\3\2\2\2\u04ef\u04f0\3\2\2\2\u04f0"+
+		"\u04f1\7<\2\2\u04f1\u04f2\7A\2\2\u04f2\u04f4\3\2\2\2\u04f3\u04c6\3\2\2"+
+		"\2\u04f3\u04d0\3\2\2\2\u04f3\u04d9\3\2\2\2\u04f3\u04e6\3\2\2\2\u04f4\u00c7"+
+		"\3\2\2\2\u04f5\u04f7\5d\63\2\u04f6\u04f5\3\2\2\2\u04f7\u04fa\3\2\2\2\u04f8"+
+		"\u04f6\3\2\2\2\u04f8\u04f9\3\2\2\2\u04f9\u04fb\3\2\2\2\u04fa\u04f8\3\2"+
+		"\2\2\u04fb\u04fc\7\22\2\2\u04fc\u04fe\7h\2\2\u04fd\u04ff\5l\67\2\u04fe"+
+		"\u04fd\3\2\2\2\u04fe\u04ff\3\2\2\2\u04ff\u0500\3\2\2\2\u0500\u0501\5\u00ca"+
+		"f\2\u0501\u00c9\3\2\2\2\u0502\u0504\7=\2\2\u0503\u0505\5\u00ccg\2\u0504"+
+		"\u0503\3\2\2\2\u0504\u0505\3\2\2\2\u0505\u0507\3\2\2\2\u0506\u0508\7B"+
+		"\2\2\u0507\u0506\3\2\2\2\u0507\u0508\3\2\2\2\u0508\u050a\3\2\2\2\u0509"+
+		"\u050b\5\u00d2j\2\u050a\u0509\3\2\2\2\u050a\u050b\3\2\2\2\u050b\u050c"+
+		"\3\2\2\2\u050c\u050d\7>\2\2\u050d\u00cb\3\2\2\2\u050e\u0513\5\u00ceh\2"+
+		"\u050f\u0510\7B\2\2\u0510\u0512\5\u00ceh\2\u0511\u050f\3\2\2\2\u0512\u0515"+
+		"\3\2\2\2\u0513\u0511\3\2\2\2\u0513\u0514\3\2\2\2\u0514\u00cd\3\2\2\2\u0515"+
+		"\u0513\3\2\2\2\u0516\u0518\5\u00d0i\2\u0517\u0516\3\2\2\2\u0518\u051b"+
+		"\3\2\2\2\u0519\u0517\3\2\2\2\u0519\u051a\3\2\2\2\u051a\u051c\3\2\2\2\u051b"+
+		"\u0519\3\2\2\2\u051c\u0522\7h\2\2\u051d\u051f\7;\2\2\u051e\u0520\5\u019c"+
+		"\u00cf\2\u051f\u051e\3\2\2\2\u051f\u0520\3\2\2\2\u0520\u0521\3\2\2\2\u0521"+
+		"\u0523\7<\2\2\u0522\u051d\3\2\2\2\u0522\u0523\3\2\2\2\u0523\u0525\3\2"+
+		"\2\2\u0524\u0526\5p9\2\u0525\u0524\3\2\2\2\u0525\u0526\3\2\2\2\u0526\u00cf"+
+		"\3\2\2\2\u0527\u0528\5\u00f4{\2\u0528\u00d1\3\2\2\2\u0529\u052d\7A\2\2"+
+		"\u052a\u052c\5r:\2\u052b\u052a\3\2\2\2\u052c\u052f\3\2\2\2\u052d\u052b"+
+		"\3\2\2\2\u052d\u052e\3\2\2\2\u052e\u00d3\3\2\2\2\u052f\u052d\3\2\2\2\u0530"+
+		"\u0533\5\u00d6l\2\u0531\u0533\5\u00e8u\2\u0532\u0530\3\2\2\2\u0532\u0531"+
+		"\3\2\2\2\u0533\u00d5\3\2\2\2\u0534\u0536\5\u00d8m\2\u0535\u0534\3\2\2"+
+		"\2\u0536\u0539\3\2\2\2\u0537\u0535\3\2\2\2\u0537\u0538\3\2\2\2\u0538\u053a"+
+		"\3\2\2\2\u0539\u0537\3\2\2\2\u053a\u053b\7\36\2\2\u053b\u053d\7h\2\2\u053c"+
+		"\u053e\5f\64\2\u053d\u053c\3\2\2\2\u053d\u053e\3\2\2\2\u053e\u0540\3\2"+
+		"\2\2\u053f\u0541\5\u00dan\2\u0540\u053f\3\2\2\2\u0540\u0541\3\2\2\2\u0541"+
+		"\u0542\3\2\2\2\u0542\u0543\5\u00dco\2\u0543\u00d7\3\2\2\2\u0544\u054c"+
+		"\5\u00f4{\2\u0545\u054c\7%\2\2\u0546\u054c\7$\2\2\u0547\u054c\7#\2\2\u0548"+
+		"\u054c\7\3\2\2\u0549\u054c\7(\2\2\u054a\u054c\7)\2\2\u054b\u0544\3\2\2"+
+		"\2\u054b\u0545\3\2\2\2\u054b\u0546\3\2\2\2\u054b\u0547\3\2\2\2\u054b\u0548"+
+		"\3\2\2\2\u054b\u0549\3\2\2\2\u054b\u054a\3\2\2\2\u054c\u00d9\3\2\2\2\u054d"+
+		"\u054e\7\23\2\2\u054e\u054f\5n8\2\u054f\u00db\3\2\2\2\u0550\u0554\7=\2"+
+		"\2\u0551\u0553\5\u00dep\2\u0552\u0551\3\2\2\2\u0553\u0556\3\2\2\2\u0554"+
+		"\u0552\3\2\2\2\u0554\u0555\3\2\2\2\u0555\u0557\3\2\2\2\u0556\u0554\3\2"+
+		"\2\2\u0557\u0558\7>\2\2\u0558\u00dd\3\2\2\2\u0559\u055f\5\u00e0q\2\u055a"+
+		"\u055f\5\u00e4s\2\u055b\u055f\5`\61\2\u055c\u055f\5\u00d4k\2\u055d\u055f"+
+		"\7A\2\2\u055e\u0559\3\2\2\2\u055e\u055a\3\2\2\2\u055e\u055b\3\2\2\2\u055e"+
+		"\u055c\3\2\2\2\u055e\u055d\3\2\2\2\u055f\u00df\3\2\2\2\u0560\u0562\5\u00e2"+
+		"r\2\u0561\u0560\3\2\2\2\u0562\u0565\3\2\2\2\u0563\u0561\3\2\2\2\u0563"+
+		"\u0564\3\2\2\2\u0564\u0566\3\2\2\2\u0565\u0563\3\2\2\2\u0566\u0567\5\u0082"+
+		"B\2\u0567\u0568\5z>\2\u0568\u0569\7A\2\2\u0569\u00e1\3\2\2\2\u056a\u056f"+
+		"\5\u00f4{\2\u056b\u056f\7%\2\2\u056c\u056f\7(\2\2\u056d\u056f\7\24\2\2"+
+		"\u056e\u056a\3\2\2\2\u056e\u056b\3\2\2\2\u056e\u056c\3\2\2\2\u056e\u056d"+
+		"\3\2\2\2\u056f\u00e3\3\2\2\2\u0570\u0572\5\u00e6t\2\u0571\u0570\3\2\2"+
+		"\2\u0572\u0575\3\2\2\2\u0573\u0571\3\2\2\2\u0573\u0574\3\2\2\2\u0574\u0576"+
+		"\3\2\2\2\u0575\u0573\3\2\2\2\u0576\u0577\5\u009eP\2\u0577\u0578\5\u00b6"+
+		"\\\2\u0578\u00e5\3\2\2\2\u0579\u0580\5\u00f4{\2\u057a\u0580\7%\2\2\u057b"+
+		"\u0580\7\3\2\2\u057c\u0580\7\16\2\2\u057d\u0580\7(\2\2\u057e\u0580\7)"+
+		"\2\2\u057f\u0579\3\2\2\2\u057f\u057a\3\2\2\2\u057f\u057b\3\2\2\2\u057f"+
+		"\u057c\3\2\2\2\u057f\u057d\3\2\2\2\u057f\u057e\3\2\2\2\u0580\u00e7\3\2"+
+		"\2\2\u0581\u0583\5\u00d8m\2\u0582\u0581\3\2\2\2\u0583\u0586\3\2\2\2\u0584"+
+		"\u0582\3\2\2\2\u0584\u0585\3\2\2\2\u0585\u0587\3\2\2\2\u0586\u0584\3\2"+
+		"\2\2\u0587\u0588\7i\2\2\u0588\u0589\7\36\2\2\u0589\u058a\7h\2\2\u058a"+
+		"\u058b\5\u00eav\2\u058b\u00e9\3\2\2\2\u058c\u0590\7=\2\2\u058d\u058f\5"+
+		"\u00ecw\2\u058e\u058d\3\2\2\2\u058f\u0592\3\2\2\2\u0590\u058e\3\2\2\2"+
+		"\u0590\u0591\3\2\2\2\u0591\u0593\3\2\2\2\u0592\u0590\3\2\2\2\u0593\u0594"+
+		"\7>\2\2\u0594\u00eb\3\2\2\2\u0595\u059b\5\u00eex\2\u0596\u059b\5\u00e0"+
+		"q\2\u0597\u059b\5`\61\2\u0598\u059b\5\u00d4k\2\u0599\u059b\7A\2\2\u059a"+
+		"\u0595\3\2\2\2\u059a\u0596\3\2\2\2\u059a\u0597\3\2\2\2\u059a\u0598\3\2"+
+		"\2\2\u059a\u0599\3\2\2\2\u059b\u00ed\3\2\2\2\u059c\u059e\5\u00f0y\2\u059d"+
+		"\u059c\3\2\2\2\u059e\u05a1\3\2\2\2\u059f\u059d\3\2\2\2\u059f\u05a0\3\2"+
+		"\2\2\u05a0\u05a2\3\2\2\2\u05a1\u059f\3\2\2\2\u05a2\u05a3\5\u0082B\2\u05a3"+
+		"\u05a4\7h\2\2\u05a4\u05a5\7;\2\2\u05a5\u05a7\7<\2\2\u05a6\u05a8\5\"\22"+
+		"\2\u05a7\u05a6\3\2\2\2\u05a7\u05a8\3\2\2\2\u05a8\u05aa\3\2\2\2\u05a9\u05ab"+
+		"\5\u00f2z\2\u05aa\u05a9\3\2\2\2\u05aa\u05ab\3\2\2\2\u05ab\u05ac\3\2\2"+
+		"\2\u05ac\u05ad\7A\2\2\u05ad\u00ef\3\2\2\2\u05ae\u05b2\5\u00f4{\2\u05af"+
+		"\u05b2\7%\2\2\u05b0\u05b2\7\3\2\2\u05b1\u05ae\3\2\2\2\u05b1\u05af\3\2"+
+		"\2\2\u05b1\u05b0\3\2\2\2\u05b2\u00f1\3\2\2\2\u05b3\u05b4\7\16\2\2\u05b4"+
+		"\u05b5\5\u00fc\177\2\u05b5\u00f3\3\2\2\2\u05b6\u05ba\5\u00f6|\2\u05b7"+
+		"\u05ba\5\u0102\u0082\2\u05b8\u05ba\5\u0104\u0083\2\u05b9\u05b6\3\2\2\2"+
+		"\u05b9\u05b7\3\2\2\2\u05b9\u05b8\3\2\2\2\u05ba\u00f5\3\2\2\2\u05bb\u05bc"+
+		"\7i\2\2\u05bc\u05bd\58\35\2\u05bd\u05bf\7;\2\2\u05be\u05c0\5\u00f8}\2"+
+		"\u05bf\u05be\3\2\2\2\u05bf\u05c0\3\2\2\2\u05c0\u05c1\3\2\2\2\u05c1\u05c2"+
+		"\7<\2\2\u05c2\u00f7\3\2\2\2\u05c3\u05c8\5\u00fa~\2\u05c4\u05c5\7B\2\2"+
+		"\u05c5\u05c7\5\u00fa~\2\u05c6\u05c4\3\2\2\2\u05c7\u05ca\3\2\2\2\u05c8"+
+		"\u05c6\3\2\2\2\u05c8\u05c9\3\2\2\2\u05c9\u00f9\3\2\2\2\u05ca\u05c8\3\2"+
+		"\2\2\u05cb\u05cc\7h\2\2\u05cc\u05cd\7D\2\2\u05cd\u05ce\5\u00fc\177\2\u05ce"+
+		"\u00fb\3\2\2\2\u05cf\u05d3\5\u01be\u00e0\2\u05d0\u05d3\5\u00fe\u0080\2"+
+		"\u05d1\u05d3\5\u00f4{\2\u05d2\u05cf\3\2\2\2\u05d2\u05d0\3\2\2\2\u05d2"+
+		"\u05d1\3\2\2\2\u05d3\u00fd\3\2\2\2\u05d4\u05d6\7=\2\2\u05d5\u05d7\5\u0100"+
+		"\u0081\2\u05d6\u05d5\3\2\2\2\u05d6\u05d7\3\2\2\2\u05d7\u05d9\3\2\2\2\u05d8"+
+		"\u05da\7B\2\2\u05d9\u05d8\3\2\2\2\u05d9\u05da\3\2\2\2\u05da\u05db\3\2"+
+		"\2\2\u05db\u05dc\7>\2\2\u05dc\u00ff\3\2\2\2\u05dd\u05e2\5\u00fc\177\2"+
+		"\u05de\u05df\7B\2\2\u05df\u05e1\5\u00fc\177\2\u05e0\u05de\3\2\2\2\u05e1"+
+		"\u05e4\3\2\2\2\u05e2\u05e0\3\2\2\2\u05e2\u05e3\3\2\2\2\u05e3\u0101\3\2"+
+		"\2\2\u05e4\u05e2\3\2\2\2\u05e5\u05e6\7i\2\2\u05e6\u05e7\58\35\2\u05e7"+
+		"\u0103\3\2\2\2\u05e8\u05e9\7i\2\2\u05e9\u05ea\58\35\2\u05ea\u05eb\7;\2"+
+		"\2\u05eb\u05ec\5\u00fc\177\2\u05ec\u05ed\7<\2\2\u05ed\u0105\3\2\2\2\u05ee"+
+		"\u05f0\7=\2\2\u05ef\u05f1\5\u0108\u0085\2\u05f0\u05ef\3\2\2\2\u05f0\u05f1"+
+		"\3\2\2\2\u05f1\u05f3\3\2\2\2\u05f2\u05f4\7B\2\2\u05f3\u05f2\3\2\2\2\u05f3"+
+		"\u05f4\3\2\2\2\u05f4\u05f5\3\2\2\2\u05f5\u05f6\7>\2\2\u05f6\u0107\3\2"+
+		"\2\2\u05f7\u05fc\5\u0080A\2\u05f8\u05f9\7B\2\2\u05f9\u05fb\5\u0080A\2"+
+		"\u05fa\u05f8\3\2\2\2\u05fb\u05fe\3\2\2\2\u05fc\u05fa\3\2\2\2\u05fc\u05fd"+
+		"\3\2\2\2\u05fd\u0109\3\2\2\2\u05fe\u05fc\3\2\2\2\u05ff\u0601\7=\2\2\u0600"+
+		"\u0602\5\u010c\u0087\2\u0601\u0600\3\2\2\2\u0601\u0602\3\2\2\2\u0602\u0603"+
+		"\3\2\2\2\u0603\u0604\7>\2\2\u0604\u010b\3\2\2\2\u0605\u0609\5\u010e\u0088"+
+		"\2\u0606\u0608\5\u010e\u0088\2\u0607\u0606\3\2\2\2\u0608\u060b\3\2\2\2"+
+		"\u0609\u0607\3\2\2\2\u0609\u060a\3\2\2\2\u060a\u010d\3\2\2\2\u060b\u0609"+
+		"\3\2\2\2\u060c\u0610\5\u0110\u0089\2\u060d\u0610\5`\61\2\u060e\u0610\5"+
+		"\u0114\u008b\2\u060f\u060c\3\2\2\2\u060f\u060d\3\2\2\2\u060f\u060e\3\2"+
+		"\2\2\u0610\u010f\3\2\2\2\u0611\u0612\5\u0112\u008a\2\u0612\u0613\7A\2"+
+		"\2\u0613\u0111\3\2\2\2\u0614\u0616\5\u00aaV\2\u0615\u0614\3\2\2\2\u0616"+
+		"\u0619\3\2\2\2\u0617\u0615\3\2\2\2\u0617\u0618\3\2\2\2\u0618\u061a\3\2"+
+		"\2\2\u0619\u0617\3\2\2\2\u061a\u061b\5\u0082B\2\u061b\u061c\5z>\2\u061c"+
+		"\u0113\3\2\2\2\u061d\u0624\5\u0118\u008d\2\u061e\u0624\5\u011c\u008f\2"+
+		"\u061f\u0624\5\u0124\u0093\2\u0620\u0624\5\u0126\u0094\2\u0621\u0624\5"+
+		"\u0138\u009d\2\u0622\u0624\5\u013e\u00a0\2\u0623\u061d\3\2\2\2\u0623\u061e"+
+		"\3\2\2\2\u0623\u061f\3\2\2\2\u0623\u0620\3\2\2\2\u0623\u0621\3\2\2\2\u0623"+
+		"\u0622\3\2\2\2\u0624\u0115\3\2\2\2\u0625\u062b\5\u0118\u008d\2\u0626\u062b"+
+		"\5\u011e\u0090\2\u0627\u062b\5\u0128\u0095\2\u0628\u062b\5\u013a\u009e"+
+		"\2\u0629\u062b\5\u0140\u00a1\2\u062a\u0625\3\2\2\2\u062a\u0626\3\2\2\2"+
+		"\u062a\u0627\3\2\2\2\u062a\u0628\3\2\2\2\u062a\u0629\3\2\2\2\u062b\u0117"+
+		"\3\2\2\2\u062c\u0639\5\u010a\u0086\2\u062d\u0639\5\u011a\u008e\2\u062e"+
+		"\u0639\5\u0120\u0091\2\u062f\u0639\5\u012a\u0096\2\u0630\u0639\5\u012c"+
+		"\u0097\2\u0631\u0639\5\u013c\u009f\2\u0632\u0639\5\u0150\u00a9\2\u0633"+
+		"\u0639\5\u0152\u00aa\2\u0634\u0639\5\u0154\u00ab\2\u0635\u0639\5\u0158"+
+		"\u00ad\2\u0636\u0639\5\u0156\u00ac\2\u0637\u0639\5\u015a\u00ae\2\u0638"+
+		"\u062c\3\2\2\2\u0638\u062d\3\2\2\2\u0638\u062e\3\2\2\2\u0638\u062f\3\2"+
+		"\2\2\u0638\u0630\3\2\2\2\u0638\u0631\3\2\2\2\u0638\u0632\3\2\2\2\u0638"+
+		"\u0633\3\2\2\2\u0638\u0634\3\2\2\2\u0638\u0635\3\2\2\2\u0638\u0636\3\2"+
+		"\2\2\u0638\u0637\3\2\2\2\u0639\u0119\3\2\2\2\u063a\u063b\7A\2\2\u063b"+
+		"\u011b\3\2\2\2\u063c\u063d\7h\2\2\u063d\u063e\7J\2\2\u063e\u063f\5\u0114"+
+		"\u008b\2\u063f\u011d\3\2\2\2\u0640\u0641\7h\2\2\u0641\u0642\7J\2\2\u0642"+
+		"\u0643\5\u0116\u008c\2\u0643\u011f\3\2\2\2\u0644\u0645\5\u0122\u0092\2"+
+		"\u0645\u0646\7A\2\2\u0646\u0121\3\2\2\2\u0647\u064f\5\u01b8\u00dd\2\u0648"+
+		"\u064f\5\u01d6\u00ec\2\u0649\u064f\5\u01d8\u00ed\2\u064a\u064f\5\u01de"+
+		"\u00f0\2\u064b\u064f\5\u01e2\u00f2\2\u064c\u064f\5\u0196\u00cc\2\u064d"+
+		"\u064f\5\u0182\u00c2\2\u064e\u0647\3\2\2\2\u064e\u0648\3\2\2\2\u064e\u0649"+
+		"\3\2\2\2\u064e\u064a\3\2\2\2\u064e\u064b\3\2\2\2\u064e\u064c\3\2\2\2\u064e"+
+		"\u064d\3\2\2\2\u064f\u0123\3\2\2\2\u0650\u0651\7\30\2\2\u0651\u0652\7"+
+		";\2\2\u0652\u0653\5\u01ac\u00d7\2\u0653\u0654\7<\2\2\u0654\u0655\5\u0114"+
+		"\u008b\2\u0655\u0125\3\2\2\2\u0656\u0657\7\30\2\2\u0657\u0658\7;\2\2\u0658"+
+		"\u0659\5\u01ac\u00d7\2\u0659\u065a\7<\2\2\u065a\u065b\5\u0116\u008c\2"+
+		"\u065b\u065c\7\21\2\2\u065c\u065d\5\u0114\u008b\2\u065d\u0127\3\2\2\2"+
+		"\u065e\u065f\7\30\2\2\u065f\u0660\7;\2\2\u0660\u0661\5\u01ac\u00d7\2\u0661"+
+		"\u0662\7<\2\2\u0662\u0663\5\u0116\u008c\2\u0663\u0664\7\21\2\2\u0664\u0665"+
+		"\5\u0116\u008c\2\u0665\u0129\3\2\2\2\u0666\u0667\7\4\2\2\u0667\u0668\5"+
+		"\u01ac\u00d7\2\u0668\u0669\7A\2\2\u0669\u0671\3\2\2\2\u066a\u066b\7\4"+
+		"\2\2\u066b\u066c\5\u01ac\u00d7\2\u066c\u066d\7J\2\2\u066d\u066e\5\u01ac"+
+		"\u00d7\2\u066e\u066f\7A\2\2\u066f\u0671\3\2\2\2\u0670\u0666\3\2\2\2\u0670"+
+		"\u066a\3\2\2\2\u0671\u012b\3\2\2\2\u0672\u0673\7+\2\2\u0673\u0674\7;\2"+
+		"\2\u0674\u0675\5\u01ac\u00d7\2\u0675\u0676\7<\2\2\u0676\u0677\5\u012e"+
+		"\u0098\2\u0677\u012d\3\2\2\2\u0678\u067c\7=\2\2\u0679\u067b\5\u0130\u0099"+
+		"\2\u067a\u0679\3\2\2\2\u067b\u067e\3\2\2\2\u067c\u067a\3\2\2\2\u067c\u067d"+
+		"\3\2\2\2\u067d\u0682\3\2\2\2\u067e\u067c\3\2\2\2\u067f\u0681\5\u0134\u009b"+
+		"\2\u0680\u067f\3\2\2\2\u0681\u0684\3\2\2\2\u0682\u0680\3\2\2\2\u0682\u0683"+
+		"\3\2\2\2\u0683\u0685\3\2\2\2\u0684\u0682\3\2\2\2\u0685\u0686\7>\2\2\u0686"+
+		"\u012f\3\2\2\2\u0687\u0688\5\u0132\u009a\2\u0688\u0689\5\u010c\u0087\2"+
+		"\u0689\u0131\3\2\2\2\u068a\u068e\5\u0134\u009b\2\u068b\u068d\5\u0134\u009b"+
+		"\2\u068c\u068b\3\2\2\2\u068d\u0690\3\2\2\2\u068e\u068c\3\2\2\2\u068e\u068f"+
+		"\3\2\2\2\u068f\u0133\3\2\2\2\u0690\u068e\3\2\2\2\u0691\u0692\7\b\2\2\u0692"+
+		"\u0693\5\u01aa\u00d6\2\u0693\u0694\7J\2\2\u0694\u069c\3\2\2\2\u0695\u0696"+
+		"\7\b\2\2\u0696\u0697\5\u0136\u009c\2\u0697\u0698\7J\2\2\u0698\u069c\3"+
+		"\2\2\2\u0699\u069a\7\16\2\2\u069a\u069c\7J\2\2\u069b\u0691\3\2\2\2\u069b"+
+		"\u0695\3\2\2\2\u069b\u0699\3\2\2\2\u069c\u0135\3\2\2\2\u069d\u069e\7h"+
+		"\2\2\u069e\u0137\3\2\2\2\u069f\u06a0\7\64\2\2\u06a0\u06a1\7;\2\2\u06a1"+
+		"\u06a2\5\u01ac\u00d7\2\u06a2\u06a3\7<\2\2\u06a3\u06a4\5\u0114\u008b\2"+
+		"\u06a4\u0139\3\2\2\2\u06a5\u06a6\7\64\2\2\u06a6\u06a7\7;\2\2\u06a7\u06a8"+
+		"\5\u01ac\u00d7\2\u06a8\u06a9\7<\2\2\u06a9\u06aa\5\u0116\u008c\2\u06aa"+
+		"\u013b\3\2\2\2\u06ab\u06ac\7\17\2\2\u06ac\u06ad\5\u0114\u008b\2\u06ad"+
+		"\u06ae\7\64\2\2\u06ae\u06af\7;\2\2\u06af\u06b0\5\u01ac\u00d7\2\u06b0\u06b1"+
+		"\7<\2\2\u06b1\u06b2\7A\2\2\u06b2\u013d\3\2\2\2\u06b3\u06b6\5\u0142\u00a2"+
+		"\2\u06b4\u06b6\5\u014c\u00a7\2\u06b5\u06b3\3\2\2\2\u06b5\u06b4\3\2\2\2"+
+		"\u06b6\u013f\3\2\2\2\u06b7\u06ba\5\u0144\u00a3\2\u06b8\u06ba\5\u014e\u00a8"+
+		"\2\u06b9\u06b7\3\2\2\2\u06b9\u06b8\3\2\2\2\u06ba\u0141\3\2\2\2\u06bb\u06bc"+
+		"\7\27\2\2\u06bc\u06be\7;\2\2\u06bd\u06bf\5\u0146\u00a4\2\u06be\u06bd\3"+
+		"\2\2\2\u06be\u06bf\3\2\2\2\u06bf\u06c0\3\2\2\2\u06c0\u06c2\7A\2\2\u06c1"+
+		"\u06c3\5\u01ac\u00d7\2\u06c2\u06c1\3\2\2\2\u06c2\u06c3\3\2\2\2\u06c3\u06c4"+
+		"\3\2\2\2\u06c4\u06c6\7A\2\2\u06c5\u06c7\5\u0148\u00a5\2\u06c6\u06c5\3"+
+		"\2\2\2\u06c6\u06c7\3\2\2\2\u06c7\u06c8\3\2\2\2\u06c8\u06c9\7<\2\2\u06c9"+
+		"\u06ca\5\u0114\u008b\2\u06ca\u0143\3\2\2\2\u06cb\u06cc\7\27\2\2\u06cc"+
+		"\u06ce\7;\2\2\u06cd\u06cf\5\u0146\u00a4\2\u06ce\u06cd\3\2\2\2\u06ce\u06cf"+
+		"\3\2\2\2\u06cf\u06d0\3\2\2\2\u06d0\u06d2\7A\2\2\u06d1\u06d3\5\u01ac\u00d7"+
+		"\2\u06d2\u06d1\3\2\2\2\u06d2\u06d3\3\2\2\2\u06d3\u06d4\3\2\2\2\u06d4\u06d6"+
+		"\7A\2\2\u06d5\u06d7\5\u0148\u00a5\2\u06d6\u06d5\3\2\2\2\u06d6\u06d7\3"+
+		"\2\2\2\u06d7\u06d8\3\2\2\2\u06d8\u06d9\7<\2\2\u06d9\u06da\5\u0116\u008c"+
+		"\2\u06da\u0145\3\2\2\2\u06db\u06de\5\u014a\u00a6\2\u06dc\u06de\5\u0112"+
+		"\u008a\2\u06dd\u06db\3\2\2\2\u06dd\u06dc\3\2\2\2\u06de\u0147\3\2\2\2\u06df"+
+		"\u06e0\5\u014a\u00a6\2\u06e0\u0149\3\2\2\2\u06e1\u06e6\5\u0122\u0092\2"+
+		"\u06e2\u06e3\7B\2\2\u06e3\u06e5\5\u0122\u0092\2\u06e4\u06e2\3\2\2\2\u06e5"+
+		"\u06e8\3\2\2\2\u06e6\u06e4\3\2\2\2\u06e6\u06e7\3\2\2\2\u06e7\u014b\3\2"+
+		"\2\2\u06e8\u06e6\3\2\2\2\u06e9\u06ea\7\27\2\2\u06ea\u06ee\7;\2\2\u06eb"+
+		"\u06ed\5\u00aaV\2\u06ec\u06eb\3\2\2\2\u06ed\u06f0\3\2\2\2\u06ee\u06ec"+
+		"\3\2\2\2\u06ee\u06ef\3\2\2\2\u06ef\u06f1\3\2\2\2\u06f0\u06ee\3\2\2\2\u06f1"+
+		"\u06f2\5\u0082B\2\u06f2\u06f3\5~@\2\u06f3\u06f4\7J\2\2\u06f4\u06f5\5\u01ac"+
+		"\u00d7\2\u06f5\u06f6\7<\2\2\u06f6\u06f7\5\u0114\u008b\2\u06f7\u014d\3"+
+		"\2\2\2\u06f8\u06f9\7\27\2\2\u06f9\u06fd\7;\2\2\u06fa\u06fc\5\u00aaV\2"+
+		"\u06fb\u06fa\3\2\2\2\u06fc\u06ff\3\2\2\2\u06fd\u06fb\3\2\2\2\u06fd\u06fe"+
+		"\3\2\2\2\u06fe\u0700\3\2\2\2\u06ff\u06fd\3\2\2\2\u0700\u0701\5\u0082B"+
+		"\2\u0701\u0702\5~@\2\u0702\u0703\7J\2\2\u0703\u0704\5\u01ac\u00d7\2\u0704"+
+		"\u0705\7<\2\2\u0705\u0706\5\u0116\u008c\2\u0706\u014f\3\2\2\2\u0707\u0709"+
+		"\7\6\2\2\u0708\u070a\7h\2\2\u0709\u0708\3\2\2\2\u0709\u070a\3\2\2\2\u070a"+
+		"\u070b\3\2\2\2\u070b\u070c\7A\2\2\u070c\u0151\3\2\2\2\u070d\u070f\7\r"+
+		"\2\2\u070e\u0710\7h\2\2\u070f\u070e\3\2\2\2\u070f\u0710\3\2\2\2\u0710"+
+		"\u0711\3\2\2\2\u0711\u0712\7A\2\2\u0712\u0153\3\2\2\2\u0713\u0715\7&\2"+
+		"\2\u0714\u0716\5\u01ac\u00d7\2\u0715\u0714\3\2\2\2\u0715\u0716\3\2\2\2"+
+		"\u0716\u0717\3\2\2\2\u0717\u0718\7A\2\2\u0718\u0155\3\2\2\2\u0719\u071a"+
+		"\7.\2\2\u071a\u071b\5\u01ac\u00d7\2\u071b\u071c\7A\2\2\u071c\u0157\3\2"+
+		"\2\2\u071d\u071e\7,\2\2\u071e\u071f\7;\2\2\u071f\u0720\5\u01ac\u00d7\2"+
+		"\u0720\u0721\7<\2\2\u0721\u0722\5\u010a\u0086\2\u0722\u0159\3\2\2\2\u0723"+
+		"\u0724\7\61\2\2\u0724\u0725\5\u010a\u0086\2\u0725\u0726\5\u015c\u00af"+
+		"\2\u0726\u0730\3\2\2\2\u0727\u0728\7\61\2\2\u0728\u072a\5\u010a\u0086"+
+		"\2\u0729\u072b\5\u015c\u00af\2\u072a\u0729\3\2\2\2\u072a\u072b\3\2\2\2"+
+		"\u072b\u072c\3\2\2\2\u072c\u072d\5\u0164\u00b3\2\u072d\u0730\3\2\2\2\u072e"+
+		"\u0730\5\u0166\u00b4\2\u072f\u0723\3\2\2\2\u072f\u0727\3\2\2\2\u072f\u072e"+
+		"\3\2\2\2\u0730\u015b\3\2\2\2\u0731\u0735\5\u015e\u00b0\2\u0732\u0734\5"+
+		"\u015e\u00b0\2\u0733\u0732\3\2\2\2\u0734\u0737\3\2\2\2\u0735\u0733\3\2"+
+		"\2\2\u0735\u0736\3\2\2\2\u0736\u015d\3\2\2\2\u0737\u0735\3\2\2\2\u0738"+
+		"\u0739\7\t\2\2\u0739\u073a\7;\2\2\u073a\u073b\5\u0160\u00b1\2\u073b\u073c"+
+		"\7<\2\2\u073c\u073d\5\u010a\u0086\2\u073d\u015f\3\2\2\2\u073e\u0740\5"+
+		"\u00aaV\2\u073f\u073e\3\2\2\2\u0740\u0743\3\2\2\2\u0741\u073f\3\2\2\2"+
+		"\u0741\u0742\3\2\2\2\u0742\u0744\3\2\2\2\u0743\u0741\3\2\2\2\u0744\u0745"+
+		"\5\u0162\u00b2\2\u0745\u0746\5~@\2\u0746\u0161\3\2\2\2\u0747\u074c\5\u008a"+
+		"F\2\u0748\u0749\7X\2\2\u0749\u074b\5\22\n\2\u074a\u0748\3\2\2\2\u074b"+
+		"\u074e\3\2\2\2\u074c\u074a\3\2\2\2\u074c\u074d\3\2\2\2\u074d\u0163\3\2"+
+		"\2\2\u074e\u074c\3\2\2\2\u074f\u0750\7\25\2\2\u0750\u0751\5\u010a\u0086"+
+		"\2\u0751\u0165\3\2\2\2\u0752\u0753\7\61\2\2\u0753\u0754\5\u0168\u00b5"+
+		"\2\u0754\u0756\5\u010a\u0086\2\u0755\u0757\5\u015c\u00af\2\u0756\u0755"+
+		"\3\2\2\2\u0756\u0757\3\2\2\2\u0757\u0759\3\2\2\2\u0758\u075a\5\u0164\u00b3"+
+		"\2\u0759\u0758\3\2\2\2\u0759\u075a\3\2\2\2\u075a\u0167\3\2\2\2\u075b\u075c"+
+		"\7;\2\2\u075c\u075e\5\u016a\u00b6\2\u075d\u075f\7A\2\2\u075e\u075d\3\2"+
+		"\2\2\u075e\u075f\3\2\2\2\u075f\u0760\3\2\2\2\u0760\u0761\7<\2\2\u0761"+
+		"\u0169\3\2\2\2\u0762\u0767\5\u016c\u00b7\2\u0763\u0764\7A\2\2\u0764\u0766"+
+		"\5\u016c\u00b7\2\u0765\u0763\3\2\2\2\u0766\u0769\3\2\2\2\u0767\u0765\3"+
+		"\2\2\2\u0767\u0768\3\2\2\2\u0768\u016b\3\2\2\2\u0769\u0767\3\2\2\2\u076a"+
+		"\u076c\5\u00aaV\2\u076b\u076a\3\2\2\2\u076c\u076f\3\2\2\2\u076d\u076b"+
+		"\3\2\2\2\u076d\u076e\3\2\2\2\u076e\u0770\3\2\2\2\u076f\u076d\3\2\2\2\u0770"+
+		"\u0771\5\u0082B\2\u0771\u0772\5~@\2\u0772\u0773\7D\2\2\u0773\u0774\5\u01ac"+
+		"\u00d7\2\u0774\u016d\3\2\2\2\u0775\u0778\5\u017c\u00bf\2\u0776\u0778\5"+
+		"\u01a4\u00d3\2\u0777\u0775\3\2\2\2\u0777\u0776\3\2\2\2\u0778\u077c\3\2"+
+		"\2\2\u0779\u077b\5\u0176\u00bc\2\u077a\u0779\3\2\2\2\u077b\u077e\3\2\2"+
+		"\2\u077c\u077a\3\2\2\2\u077c\u077d\3\2\2\2\u077d\u016f\3\2\2\2\u077e\u077c"+
+		"\3\2\2\2\u077f\u079d\5\2\2\2\u0780\u0785\58\35\2\u0781\u0782\7?\2\2\u0782"+
+		"\u0784\7@\2\2\u0783\u0781\3\2\2\2\u0784\u0787\3\2\2\2\u0785\u0783\3\2"+
+		"\2\2\u0785\u0786\3\2\2\2\u0786\u0788\3\2\2\2\u0787\u0785\3\2\2\2\u0788"+
+		"\u0789\7C\2\2\u0789\u078a\7\13\2\2\u078a\u079d\3\2\2\2\u078b\u078c\7\62"+
+		"\2\2\u078c\u078d\7C\2\2\u078d\u079d\7\13\2\2\u078e\u079d\7-\2\2\u078f"+
+		"\u0790\58\35\2\u0790\u0791\7C\2\2\u0791\u0792\7-\2\2\u0792\u079d\3\2\2"+
+		"\2\u0793\u0794\7;\2\2\u0794\u0795\5\u01ac\u00d7\2\u0795\u0796\7<\2\2\u0796"+
+		"\u079d\3\2\2\2\u0797\u079d\5\u0182\u00c2\2\u0798\u079d\5\u018a\u00c6\2"+
+		"\u0799\u079d\5\u0190\u00c9\2\u079a\u079d\5\u0196\u00cc\2\u079b\u079d\5"+
+		"\u019e\u00d0\2\u079c\u077f\3\2\2\2\u079c\u0780\3\2\2\2\u079c\u078b\3\2"+
+		"\2\2\u079c\u078e\3\2\2\2\u079c\u078f\3\2\2\2\u079c\u0793\3\2\2\2\u079c"+
+		"\u0797\3\2\2\2\u079c\u0798\3\2\2\2\u079c\u0799\3\2\2\2\u079c\u079a\3\2"+
+		"\2\2\u079c\u079b\3\2\2\2\u079d\u0171\3\2\2\2\u079e\u079f\3\2\2\2\u079f"+
+		"\u0173\3\2\2\2\u07a0\u07bd\5\2\2\2\u07a1\u07a6\58\35\2\u07a2\u07a3\7?"+
+		"\2\2\u07a3\u07a5\7@\2\2\u07a4\u07a2\3\2\2\2\u07a5\u07a8\3\2\2\2\u07a6"+
+		"\u07a4\3\2\2\2\u07a6\u07a7\3\2\2\2\u07a7\u07a9\3\2\2\2\u07a8\u07a6\3\2"+
+		"\2\2\u07a9\u07aa\7C\2\2\u07aa\u07ab\7\13\2\2\u07ab\u07bd\3\2\2\2\u07ac"+
+		"\u07ad\7\62\2\2\u07ad\u07ae\7C\2\2\u07ae\u07bd\7\13\2\2\u07af\u07bd\7"+
+		"-\2\2\u07b0\u07b1\58\35\2\u07b1\u07b2\7C\2\2\u07b2\u07b3\7-\2\2\u07b3"+
+		"\u07bd\3\2\2\2\u07b4\u07b5\7;\2\2\u07b5\u07b6\5\u01ac\u00d7\2\u07b6\u07b7"+
+		"\7<\2\2\u07b7\u07bd\3\2\2\2\u07b8\u07bd\5\u0182\u00c2\2\u07b9\u07bd\5"+
+		"\u018a\u00c6\2\u07ba\u07bd\5\u0196\u00cc\2\u07bb\u07bd\5\u019e\u00d0\2"+
+		"\u07bc\u07a0\3\2\2\2\u07bc\u07a1\3\2\2\2\u07bc\u07ac\3\2\2\2\u07bc\u07af"+
+		"\3\2\2\2\u07bc\u07b0\3\2\2\2\u07bc\u07b4\3\2\2\2\u07bc\u07b8\3\2\2\2\u07bc"+
+		"\u07b9\3\2\2\2\u07bc\u07ba\3\2\2\2\u07bc\u07bb\3\2\2\2\u07bd\u0175\3\2"+
+		"\2\2\u07be\u07c4\5\u0184\u00c3\2\u07bf\u07c4\5\u018c\u00c7\2\u07c0\u07c4"+
+		"\5\u0192\u00ca\2\u07c1\u07c4\5\u0198\u00cd\2\u07c2\u07c4\5\u01a0\u00d1"+
+		"\2\u07c3\u07be\3\2\2\2\u07c3\u07bf\3\2\2\2\u07c3\u07c0\3\2\2\2\u07c3\u07c1"+
+		"\3\2\2\2\u07c3\u07c2\3\2\2\2\u07c4\u0177\3\2\2\2\u07c5\u07c6\3\2\2\2\u07c6"+
+		"\u0179\3\2\2\2\u07c7\u07cc\5\u0184\u00c3\2\u07c8\u07cc\5\u018c\u00c7\2"+
+		"\u07c9\u07cc\5\u0198\u00cd\2\u07ca\u07cc\5\u01a0\u00d1\2\u07cb\u07c7\3"+
+		"\2\2\2\u07cb\u07c8\3\2\2\2\u07cb\u07c9\3\2\2\2\u07cb\u07ca\3\2\2\2\u07cc"+
+		"\u017b\3\2\2\2\u07cd\u07f6\5\2\2\2\u07ce\u07d3\58\35\2\u07cf\u07d0\7?"+
+		"\2\2\u07d0\u07d2\7@\2\2\u07d1\u07cf\3\2\2\2\u07d2\u07d5\3\2\2\2\u07d3"+
+		"\u07d1\3\2\2\2\u07d3\u07d4\3\2\2\2\u07d4\u07d6\3\2\2\2\u07d5\u07d3\3\2"+
+		"\2\2\u07d6\u07d7\7C\2\2\u07d7\u07d8\7\13\2\2\u07d8\u07f6\3\2\2\2\u07d9"+
+		"\u07de\5\u0084C\2\u07da\u07db\7?\2\2\u07db\u07dd\7@\2\2\u07dc\u07da\3"+
+		"\2\2\2\u07dd\u07e0\3\2\2\2\u07de\u07dc\3\2\2\2\u07de\u07df\3\2\2\2\u07df"+
+		"\u07e1\3\2\2\2\u07e0\u07de\3\2\2\2\u07e1\u07e2\7C\2\2\u07e2\u07e3\7\13"+
+		"\2\2\u07e3\u07f6\3\2\2\2\u07e4\u07e5\7\62\2\2\u07e5\u07e6\7C\2\2\u07e6"+
+		"\u07f6\7\13\2\2\u07e7\u07f6\7-\2\2\u07e8\u07e9\58\35\2\u07e9\u07ea\7C"+
+		"\2\2\u07ea\u07eb\7-\2\2\u07eb\u07f6\3\2\2\2\u07ec\u07ed\7;\2\2\u07ed\u07ee"+
+		"\5\u01ac\u00d7\2\u07ee\u07ef\7<\2\2\u07ef\u07f6\3\2\2\2\u07f0\u07f6\5"+
+		"\u0186\u00c4\2\u07f1\u07f6\5\u018e\u00c8\2\u07f2\u07f6\5\u0194\u00cb\2"+
+		"\u07f3\u07f6\5\u019a\u00ce\2\u07f4\u07f6\5\u01a2\u00d2\2\u07f5\u07cd\3"+
+		"\2\2\2\u07f5\u07ce\3\2\2\2\u07f5\u07d9\3\2\2\2\u07f5\u07e4\3\2\2\2\u07f5"+
+		"\u07e7\3\2\2\2\u07f5\u07e8\3\2\2\2\u07f5\u07ec\3\2\2\2\u07f5\u07f0\3\2"+
+		"\2\2\u07f5\u07f1\3\2\2\2\u07f5\u07f2\3\2\2\2\u07f5\u07f3\3\2\2\2\u07f5"+
+		"\u07f4\3\2\2\2\u07f6\u017d\3\2\2\2\u07f7\u07f8\3\2\2\2\u07f8\u017f\3\2"+
+		"\2\2\u07f9\u0821\5\2\2\2\u07fa\u07ff\58\35\2\u07fb\u07fc\7?\2\2\u07fc"+
+		"\u07fe\7@\2\2\u07fd\u07fb\3\2\2\2\u07fe\u0801\3\2\2\2\u07ff\u07fd\3\2"+
+		"\2\2\u07ff\u0800\3\2\2\2\u0800\u0802\3\2\2\2\u0801\u07ff\3\2\2\2\u0802"+
+		"\u0803\7C\2\2\u0803\u0804\7\13\2\2\u0804\u0821\3\2\2\2\u0805\u080a\5\u0084"+
+		"C\2\u0806\u0807\7?\2\2\u0807\u0809\7@\2\2\u0808\u0806\3\2\2\2\u0809\u080c"+
+		"\3\2\2\2\u080a\u0808\3\2\2\2\u080a\u080b\3\2\2\2\u080b\u080d\3\2\2\2\u080c"+
+		"\u080a\3\2\2\2\u080d\u080e\7C\2\2\u080e\u080f\7\13\2\2\u080f\u0821\3\2"+
+		"\2\2\u0810\u0811\7\62\2\2\u0811\u0812\7C\2\2\u0812\u0821\7\13\2\2\u0813"+
+		"\u0821\7-\2\2\u0814\u0815\58\35\2\u0815\u0816\7C\2\2\u0816\u0817\7-\2"+
+		"\2\u0817\u0821\3\2\2\2\u0818\u0819\7;\2\2\u0819\u081a\5\u01ac\u00d7\2"+
+		"\u081a\u081b\7<\2\2\u081b\u0821\3\2\2\2\u081c\u0821\5\u0186\u00c4\2\u081d"+
+		"\u0821\5\u018e\u00c8\2\u081e\u0821\5\u019a\u00ce\2\u081f\u0821\5\u01a2"+
+		"\u00d2\2\u0820\u07f9\3\2\2\2\u0820\u07fa\3\2\2\2\u0820\u0805\3\2\2\2\u0820"+
+		"\u0810\3\2\2\2\u0820\u0813\3\2\2\2\u0820\u0814\3\2\2\2\u0820\u0818\3\2"+
+		"\2\2\u0820\u081c\3\2\2\2\u0820\u081d\3\2\2\2\u0820\u081e\3\2\2\2\u0820"+
+		"\u081f\3\2\2\2\u0821\u0181\3\2\2\2\u0822\u0824\7!\2\2\u0823\u0825\5,\27"+
+		"\2\u0824\u0823\3\2\2\2\u0824\u0825\3\2\2\2\u0825\u0829\3\2\2\2\u0826\u0828"+
+		"\5\u00f4{\2\u0827\u0826\3\2\2\2\u0828\u082b\3\2\2\2\u0829\u0827\3\2\2"+
+		"\2\u0829\u082a\3\2\2\2\u082a\u082c\3\2\2\2\u082b\u0829\3\2\2\2\u082c\u0837"+
+		"\7h\2\2\u082d\u0831\7C\2\2\u082e\u0830\5\u00f4{\2\u082f\u082e\3\2\2\2"+
+		"\u0830\u0833\3\2\2\2\u0831\u082f\3\2\2\2\u0831\u0832\3\2\2\2\u0832\u0834"+
+		"\3\2\2\2\u0833\u0831\3\2\2\2\u0834\u0836\7h\2\2\u0835\u082d\3\2\2\2\u0836"+
+		"\u0839\3\2\2\2\u0837\u0835\3\2\2\2\u0837\u0838\3\2\2\2\u0838\u083b\3\2"+
+		"\2\2\u0839\u0837\3\2\2\2\u083a\u083c\5\u0188\u00c5\2\u083b\u083a\3\2\2"+
+		"\2\u083b\u083c\3\2\2\2\u083c\u083d\3\2\2\2\u083d\u083f\7;\2\2\u083e\u0840"+
+		"\5\u019c\u00cf\2\u083f\u083e\3\2\2\2\u083f\u0840\3\2\2\2\u0840\u0841\3"+
+		"\2\2\2\u0841\u0843\7<\2\2\u0842\u0844\5p9\2\u0843\u0842\3\2\2\2\u0843"+
+		"\u0844\3\2\2\2\u0844\u0876\3\2\2\2\u0845\u0846\5<\37\2\u0846\u0847\7C"+
+		"\2\2\u0847\u0849\7!\2\2\u0848\u084a\5,\27\2\u0849\u0848\3\2\2\2\u0849"+
+		"\u084a\3\2\2\2\u084a\u084e\3\2\2\2\u084b\u084d\5\u00f4{\2\u084c\u084b"+
+		"\3\2\2\2\u084d\u0850\3\2\2\2\u084e\u084c\3\2\2\2\u084e\u084f\3\2\2\2\u084f"+
+		"\u0851\3\2\2\2\u0850\u084e\3\2\2\2\u0851\u0853\7h\2\2\u0852\u0854\5\u0188"+
+		"\u00c5\2\u0853\u0852\3\2\2\2\u0853\u0854\3\2\2\2\u0854\u0855\3\2\2\2\u0855"+
+		"\u0857\7;\2\2\u0856\u0858\5\u019c\u00cf\2\u0857\u0856\3\2\2\2\u0857\u0858"+
+		"\3\2\2\2\u0858\u0859\3\2\2\2\u0859\u085b\7<\2\2\u085a\u085c\5p9\2\u085b"+
+		"\u085a\3\2\2\2\u085b\u085c\3\2\2\2\u085c\u0876\3\2\2\2\u085d\u085e\5\u016e"+
+		"\u00b8\2\u085e\u085f\7C\2\2\u085f\u0861\7!\2\2\u0860\u0862\5,\27\2\u0861"+
+		"\u0860\3\2\2\2\u0861\u0862\3\2\2\2\u0862\u0866\3\2\2\2\u0863\u0865\5\u00f4"+
+		"{\2\u0864\u0863\3\2\2\2\u0865\u0868\3\2\2\2\u0866\u0864\3\2\2\2\u0866"+
+		"\u0867\3\2\2\2\u0867\u0869\3\2\2\2\u0868\u0866\3\2\2\2\u0869\u086b\7h"+
+		"\2\2\u086a\u086c\5\u0188\u00c5\2\u086b\u086a\3\2\2\2\u086b\u086c\3\2\2"+
+		"\2\u086c\u086d\3\2\2\2\u086d\u086f\7;\2\2\u086e\u0870\5\u019c\u00cf\2"+
+		"\u086f\u086e\3\2\2\2\u086f\u0870\3\2\2\2\u0870\u0871\3\2\2\2\u0871\u0873"+
+		"\7<\2\2\u0872\u0874\5p9\2\u0873\u0872\3\2\2\2\u0873\u0874\3\2\2\2\u0874"+
+		"\u0876\3\2\2\2\u0875\u0822\3\2\2\2\u0875\u0845\3\2\2\2\u0875\u085d\3\2"+
+		"\2\2\u0876\u0183\3\2\2\2\u0877\u0878\7C\2\2\u0878\u087a\7!\2\2\u0879\u087b"+
+		"\5,\27\2\u087a\u0879\3\2\2\2\u087a\u087b\3\2\2\2\u087b\u087f\3\2\2\2\u087c"+
+		"\u087e\5\u00f4{\2\u087d\u087c\3\2\2\2\u087e\u0881\3\2\2\2\u087f\u087d"+
+		"\3\2\2\2\u087f\u0880\3\2\2\2\u0880\u0882\3\2\2\2\u0881\u087f\3\2\2\2\u0882"+
+		"\u0884\7h\2\2\u0883\u0885\5\u0188\u00c5\2\u0884\u0883\3\2\2\2\u0884\u0885"+
+		"\3\2\2\2\u0885\u0886\3\2\2\2\u0886\u0888\7;\2\2\u0887\u0889\5\u019c\u00cf"+
+		"\2\u0888\u0887\3\2\2\2\u0888\u0889\3\2\2\2\u0889\u088a\3\2\2\2\u088a\u088c"+
+		"\7<\2\2\u088b\u088d\5p9\2\u088c\u088b\3\2\2\2\u088c\u088d\3\2\2\2\u088d"+
+		"\u0185\3\2\2\2\u088e\u0890\7!\2\2\u088f\u0891\5,\27\2\u0890\u088f\3\2"+
+		"\2\2\u0890\u0891\3\2\2\2\u0891\u0895\3\2\2\2\u0892\u0894\5\u00f4{\2\u0893"+
+		"\u0892\3\2\2\2\u0894\u0897\3\2\2\2\u0895\u0893\3\2\2\2\u0895\u0896\3\2"+
+		"\2\2\u0896\u0898\3\2\2\2\u0897\u0895\3\2\2\2\u0898\u08a3\7h\2\2\u0899"+
+		"\u089d\7C\2\2\u089a\u089c\5\u00f4{\2\u089b\u089a\3\2\2\2\u089c\u089f\3"+
+		"\2\2\2\u089d\u089b\3\2\2\2\u089d\u089e\3\2\2\2\u089e\u08a0\3\2\2\2\u089f"+
+		"\u089d\3\2\2\2\u08a0\u08a2\7h\2\2\u08a1\u0899\3\2\2\2\u08a2\u08a5\3\2"+
+		"\2\2\u08a3\u08a1\3\2\2\2\u08a3\u08a4\3\2\2\2\u08a4\u08a7\3\2\2\2\u08a5"+
+		"\u08a3\3\2\2\2\u08a6\u08a8\5\u0188\u00c5\2\u08a7\u08a6\3\2\2\2\u08a7\u08a8"+
+		"\3\2\2\2\u08a8\u08a9\3\2\2\2\u08a9\u08ab\7;\2\2\u08aa\u08ac\5\u019c\u00cf"+
+		"\2\u08ab\u08aa\3\2\2\2\u08ab\u08ac\3\2\2\2\u08ac\u08ad\3\2\2\2\u08ad\u08af"+
+		"\7<\2\2\u08ae\u08b0\5p9\2\u08af\u08ae\3\2\2\2\u08af\u08b0\3\2\2\2\u08b0"+
+		"\u08ca\3\2\2\2\u08b1\u08b2\5<\37\2\u08b2\u08b3\7C\2\2\u08b3\u08b5\7!\2"+
+		"\2\u08b4\u08b6\5,\27\2\u08b5\u08b4\3\2\2\2\u08b5\u08b6\3\2\2\2\u08b6\u08ba"+
+		"\3\2\2\2\u08b7\u08b9\5\u00f4{\2\u08b8\u08b7\3\2\2\2\u08b9\u08bc\3\2\2"+
+		"\2\u08ba\u08b8\3\2\2\2\u08ba\u08bb\3\2\2\2\u08bb\u08bd\3\2\2\2\u08bc\u08ba"+
+		"\3\2\2\2\u08bd\u08bf\7h\2\2\u08be\u08c0\5\u0188\u00c5\2\u08bf\u08be\3"+
+		"\2\2\2\u08bf\u08c0\3\2\2\2\u08c0\u08c1\3\2\2\2\u08c1\u08c3\7;\2\2\u08c2"+
+		"\u08c4\5\u019c\u00cf\2\u08c3\u08c2\3\2\2\2\u08c3\u08c4\3\2\2\2\u08c4\u08c5"+
+		"\3\2\2\2\u08c5\u08c7\7<\2\2\u08c6\u08c8\5p9\2\u08c7\u08c6\3\2\2\2\u08c7"+
+		"\u08c8\3\2\2\2\u08c8\u08ca\3\2\2\2\u08c9\u088e\3\2\2\2\u08c9\u08b1\3\2"+
+		"\2\2\u08ca\u0187\3\2\2\2\u08cb\u08cf\5,\27\2\u08cc\u08cd\7F\2\2\u08cd"+
+		"\u08cf\7E\2\2\u08ce\u08cb\3\2\2\2\u08ce\u08cc\3\2\2\2\u08cf\u0189\3\2"+
+		"\2\2\u08d0\u08d1\5\u016e\u00b8\2\u08d1\u08d2\7C\2\2\u08d2\u08d3\7h\2\2"+
+		"\u08d3\u08de\3\2\2\2\u08d4\u08d5\7*\2\2\u08d5\u08d6\7C\2\2\u08d6\u08de"+
+		"\7h\2\2\u08d7\u08d8\58\35\2\u08d8\u08d9\7C\2\2\u08d9\u08da\7*\2\2\u08da"+
+		"\u08db\7C\2\2\u08db\u08dc\7h\2\2\u08dc\u08de\3\2\2\2\u08dd\u08d0\3\2\2"+
+		"\2\u08dd\u08d4\3\2\2\2\u08dd\u08d7\3\2\2\2\u08de\u018b\3\2\2\2\u08df\u08e0"+
+		"\7C\2\2\u08e0\u08e1\7h\2\2\u08e1\u018d\3\2\2\2\u08e2\u08e3\7*\2\2\u08e3"+
+		"\u08e4\7C\2\2\u08e4\u08ec\7h\2\2\u08e5\u08e6\58\35\2\u08e6\u08e7\7C\2"+
+		"\2\u08e7\u08e8\7*\2\2\u08e8\u08e9\7C\2\2\u08e9\u08ea\7h\2\2\u08ea\u08ec"+
+		"\3\2\2\2\u08eb\u08e2\3\2\2\2\u08eb\u08e5\3\2\2\2\u08ec\u018f\3\2\2\2\u08ed"+
+		"\u08ee\5<\37\2\u08ee\u08ef\7?\2\2\u08ef\u08f0\5\u01ac\u00d7\2\u08f0\u08f1"+
+		"\7@\2\2\u08f1\u08f8\3\2\2\2\u08f2\u08f3\5\u0174\u00bb\2\u08f3\u08f4\7"+
+		"?\2\2\u08f4\u08f5\5\u01ac\u00d7\2\u08f5\u08f6\7@\2\2\u08f6\u08f8\3\2\2"+
+		"\2\u08f7\u08ed\3\2\2\2\u08f7\u08f2\3\2\2\2\u08f8\u0900\3\2\2\2\u08f9\u08fa"+
+		"\5\u0172\u00ba\2\u08fa\u08fb\7?\2\2\u08fb\u08fc\5\u01ac\u00d7\2\u08fc"+
+		"\u08fd\7@\2\2\u08fd\u08ff\3\2\2\2\u08fe\u08f9\3\2\2\2\u08ff\u0902\3\2"+
+		"\2\2\u0900\u08fe\3\2\2\2\u0900\u0901\3\2\2\2\u0901\u0191\3\2\2\2\u0902"+
+		"\u0900\3\2\2\2\u0903\u0904\5\u017a\u00be\2\u0904\u0905\7?\2\2\u0905\u0906"+
+		"\5\u01ac\u00d7\2\u0906\u0907\7@\2\2\u0907\u090f\3\2\2\2\u0908\u0909\5"+
+		"\u0178\u00bd\2\u0909\u090a\7?\2\2\u090a\u090b\5\u01ac\u00d7\2\u090b\u090c"+
+		"\7@\2\2\u090c\u090e\3\2\2\2\u090d\u0908\3\2\2\2\u090e\u0911\3\2\2\2\u090f"+
+		"\u090d\3\2\2\2\u090f\u0910\3\2\2\2\u0910\u0193\3\2\2\2\u0911\u090f\3\2"+
+		"\2\2\u0912\u0913\5<\37\2\u0913\u0914\7?\2\2\u0914\u0915\5\u01ac\u00d7"+
+		"\2\u0915\u0916\7@\2\2\u0916\u091d\3\2\2\2\u0917\u0918\5\u0180\u00c1\2"+
+		"\u0918\u0919\7?\2\2\u0919\u091a\5\u01ac\u00d7\2\u091a\u091b\7@\2\2\u091b"+
+		"\u091d\3\2\2\2\u091c\u0912\3\2\2\2\u091c\u0917\3\2\2\2\u091d\u0925\3\2"+
+		"\2\2\u091e\u091f\5\u017e\u00c0\2\u091f\u0920\7?\2\2\u0920\u0921\5\u01ac"+
+		"\u00d7\2\u0921\u0922\7@\2\2\u0922\u0924\3\2\2\2\u0923\u091e\3\2\2\2\u0924"+
+		"\u0927\3\2\2\2\u0925\u0923\3\2\2\2\u0925\u0926\3\2\2\2\u0926\u0195\3\2"+
+		"\2\2\u0927\u0925\3\2\2\2\u0928\u0929\5> \2\u0929\u092b\7;\2\2\u092a\u092c"+
+		"\5\u019c\u00cf\2\u092b\u092a\3\2\2\2\u092b\u092c\3\2\2\2\u092c\u092d\3"+
+		"\2\2\2\u092d\u092e\7<\2\2\u092e\u096d\3\2\2\2\u092f\u0930\58\35\2\u0930"+
+		"\u0932\7C\2\2\u0931\u0933\5,\27\2\u0932\u0931\3\2\2\2\u0932\u0933\3\2"+
+		"\2\2\u0933\u0934\3\2\2\2\u0934\u0935\7h\2\2\u0935\u0937\7;\2\2\u0936\u0938"+
+		"\5\u019c\u00cf\2\u0937\u0936\3\2\2\2\u0937\u0938\3\2\2\2\u0938\u0939\3"+
+		"\2\2\2\u0939\u093a\7<\2\2\u093a\u096d\3\2\2\2\u093b\u093c\5<\37\2\u093c"+
+		"\u093e\7C\2\2\u093d\u093f\5,\27\2\u093e\u093d\3\2\2\2\u093e\u093f\3\2"+
+		"\2\2\u093f\u0940\3\2\2\2\u0940\u0941\7h\2\2\u0941\u0943\7;\2\2\u0942\u0944"+
+		"\5\u019c\u00cf\2\u0943\u0942\3\2\2\2\u0943\u0944\3\2\2\2\u0944\u0945\3"+
+		"\2\2\2\u0945\u0946\7<\2\2\u0946\u096d\3\2\2\2\u0947\u0948\5\u016e\u00b8"+
+		"\2\u0948\u094a\7C\2\2\u0949\u094b\5,\27\2\u094a\u0949\3\2\2\2\u094a\u094b"+
+		"\3\2\2\2\u094b\u094c\3\2\2\2\u094c\u094d\7h\2\2\u094d\u094f\7;\2\2\u094e"+
+		"\u0950\5\u019c\u00cf\2\u094f\u094e\3\2\2\2\u094f\u0950\3\2\2\2\u0950\u0951"+
+		"\3\2\2\2\u0951\u0952\7<\2\2\u0952\u096d\3\2\2\2\u0953\u0954\7*\2\2\u0954"+
+		"\u0956\7C\2\2\u0955\u0957\5,\27\2\u0956\u0955\3\2\2\2\u0956\u0957\3\2"+
+		"\2\2\u0957\u0958\3\2\2\2\u0958\u0959\7h\2\2\u0959\u095b\7;\2\2\u095a\u095c"+
+		"\5\u019c\u00cf\2\u095b\u095a\3\2\2\2\u095b\u095c\3\2\2\2\u095c\u095d\3"+
+		"\2\2\2\u095d\u096d\7<\2\2\u095e\u095f\58\35\2\u095f\u0960\7C\2\2\u0960"+
+		"\u0961\7*\2\2\u0961\u0963\7C\2\2\u0962\u0964\5,\27\2\u0963\u0962\3\2\2"+
+		"\2\u0963\u0964\3\2\2\2\u0964\u0965\3\2\2\2\u0965\u0966\7h\2\2\u0966\u0968"+
+		"\7;\2\2\u0967\u0969\5\u019c\u00cf\2\u0968\u0967";
 	private static final String _serializedATNSegment1 =
-		"> \2\u0964\u0966\7;\2\2\u0965\u0967\5\u0194\u00cb\2\u0966\u0965\3\2\2"+
-		"\2\u0966\u0967\3\2\2\2\u0967\u0968\3\2\2\2\u0968\u0969\7<\2\2\u0969\u099c"+
-		"\3\2\2\2\u096a\u096b\58\35\2\u096b\u096d\7C\2\2\u096c\u096e\5,\27\2\u096d"+
-		"\u096c\3\2\2\2\u096d\u096e\3\2\2\2\u096e\u096f\3\2\2\2\u096f\u0970\7h"+
-		"\2\2\u0970\u0972\7;\2\2\u0971\u0973\5\u0194\u00cb\2\u0972\u0971\3\2\2"+
-		"\2\u0972\u0973\3\2\2\2\u0973\u0974\3\2\2\2\u0974\u0975\7<\2\2\u0975\u099c"+
-		"\3\2\2\2\u0976\u0977\5<\37\2\u0977\u0979\7C\2\2\u0978\u097a\5,\27\2\u0979"+
-		"\u0978\3\2\2\2\u0979\u097a\3\2\2\2\u097a\u097b\3\2\2\2\u097b\u097c\7h"+
-		"\2\2\u097c\u097e\7;\2\2\u097d\u097f\5\u0194\u00cb\2\u097e\u097d\3\2\2"+
-		"\2\u097e\u097f\3\2\2\2\u097f\u0980\3\2\2\2\u0980\u0981\7<\2\2\u0981\u099c"+
-		"\3\2\2\2\u0982\u0983\7*\2\2\u0983\u0985\7C\2\2\u0984\u0986\5,\27\2\u0985"+
-		"\u0984\3\2\2\2\u0985\u0986\3\2\2\2\u0986\u0987\3\2\2\2\u0987\u0988\7h"+
-		"\2\2\u0988\u098a\7;\2\2\u0989\u098b\5\u0194\u00cb\2\u098a\u0989\3\2\2"+
-		"\2\u098a\u098b\3\2\2\2\u098b\u098c\3\2\2\2\u098c\u099c\7<\2\2\u098d\u098e"+
-		"\58\35\2\u098e\u098f\7C\2\2\u098f\u0990\7*\2\2\u0990\u0992\7C\2\2\u0991"+
-		"\u0993\5,\27\2\u0992\u0991\3\2\2\2\u0992\u0993\3\2\2\2\u0993\u0994\3\2"+
-		"\2\2\u0994\u0995\7h\2\2\u0995\u0997\7;\2\2\u0996\u0998\5\u0194\u00cb\2"+
-		"\u0997\u0996\3\2\2\2\u0997\u0998\3\2\2\2\u0998\u0999\3\2\2\2\u0999\u099a"+
-		"\7<\2\2\u099a\u099c\3\2\2\2\u099b\u0963\3\2\2\2\u099b\u096a\3\2\2\2\u099b"+
-		"\u0976\3\2\2\2\u099b\u0982\3\2\2\2\u099b\u098d\3\2\2\2\u099c\u0193\3\2"+
-		"\2\2\u099d\u09a2\5\u01a4\u00d3\2\u099e\u099f\7B\2\2\u099f\u09a1\5\u01a4"+
-		"\u00d3\2\u09a0\u099e\3\2\2\2\u09a1\u09a4\3\2\2\2\u09a2\u09a0\3\2\2\2\u09a2"+
-		"\u09a3\3\2\2\2\u09a3\u0195\3\2\2\2\u09a4\u09a2\3\2\2\2\u09a5\u09a6\5<"+
-		"\37\2\u09a6\u09a8\7\\\2\2\u09a7\u09a9\5,\27\2\u09a8\u09a7\3\2\2\2\u09a8"+
-		"\u09a9\3\2\2\2\u09a9\u09aa\3\2\2\2\u09aa\u09ab\7h\2\2\u09ab\u09d5\3\2"+
-		"\2\2\u09ac\u09ad\5\16\b\2\u09ad\u09af\7\\\2\2\u09ae\u09b0\5,\27\2\u09af"+
-		"\u09ae\3\2\2\2\u09af\u09b0\3\2\2\2\u09b0\u09b1\3\2\2\2\u09b1\u09b2\7h"+
-		"\2\2\u09b2\u09d5\3\2\2\2\u09b3\u09b4\5\u0166\u00b4\2\u09b4\u09b6\7\\\2"+
-		"\2\u09b5\u09b7\5,\27\2\u09b6\u09b5\3\2\2\2\u09b6\u09b7\3\2\2\2\u09b7\u09b8"+
-		"\3\2\2\2\u09b8\u09b9\7h\2\2\u09b9\u09d5\3\2\2\2\u09ba\u09bb\7*\2\2\u09bb"+
-		"\u09bd\7\\\2\2\u09bc\u09be\5,\27\2\u09bd\u09bc\3\2\2\2\u09bd\u09be\3\2"+
-		"\2\2\u09be\u09bf\3\2\2\2\u09bf\u09d5\7h\2\2\u09c0\u09c1\58\35\2\u09c1"+
-		"\u09c2\7C\2\2\u09c2\u09c3\7*\2\2\u09c3\u09c5\7\\\2\2\u09c4\u09c6\5,\27"+
-		"\2\u09c5\u09c4\3\2\2\2\u09c5\u09c6\3\2\2\2\u09c6\u09c7\3\2\2\2\u09c7\u09c8"+
-		"\7h\2\2\u09c8\u09d5\3\2\2\2\u09c9\u09ca\5\22\n\2\u09ca\u09cc\7\\\2\2\u09cb"+
-		"\u09cd\5,\27\2\u09cc\u09cb\3\2\2\2\u09cc\u09cd\3\2\2\2\u09cd\u09ce\3\2"+
-		"\2\2\u09ce\u09cf\7!\2\2\u09cf\u09d5\3\2\2\2\u09d0\u09d1\5 \21\2\u09d1"+
-		"\u09d2\7\\\2\2\u09d2\u09d3\7!\2\2\u09d3\u09d5\3\2\2\2\u09d4\u09a5\3\2"+
-		"\2\2\u09d4\u09ac\3\2\2\2\u09d4\u09b3\3\2\2\2\u09d4\u09ba\3\2\2\2\u09d4"+
-		"\u09c0\3\2\2\2\u09d4\u09c9\3\2\2\2\u09d4\u09d0\3\2\2\2\u09d5\u0197\3\2"+
-		"\2\2\u09d6\u09d8\7\\\2\2\u09d7\u09d9\5,\27\2\u09d8\u09d7\3\2\2\2\u09d8"+
-		"\u09d9\3\2\2\2\u09d9\u09da\3\2\2\2\u09da\u09db\7h\2\2\u09db\u0199\3\2"+
-		"\2\2\u09dc\u09dd\5<\37\2\u09dd\u09df\7\\\2\2\u09de\u09e0\5,\27\2\u09df"+
-		"\u09de\3\2\2\2\u09df\u09e0\3\2\2\2\u09e0\u09e1\3\2\2\2\u09e1\u09e2\7h"+
-		"\2\2\u09e2\u0a05\3\2\2\2\u09e3\u09e4\5\16\b\2\u09e4\u09e6\7\\\2\2\u09e5"+
-		"\u09e7\5,\27\2\u09e6\u09e5\3\2\2\2\u09e6\u09e7\3\2\2\2\u09e7\u09e8\3\2"+
-		"\2\2\u09e8\u09e9\7h\2\2\u09e9\u0a05\3\2\2\2\u09ea\u09eb\7*\2\2\u09eb\u09ed"+
-		"\7\\\2\2\u09ec\u09ee\5,\27\2\u09ed\u09ec\3\2\2\2\u09ed\u09ee\3\2\2\2\u09ee"+
-		"\u09ef\3\2\2\2\u09ef\u0a05\7h\2\2\u09f0\u09f1\58\35\2\u09f1\u09f2\7C\2"+
-		"\2\u09f2\u09f3\7*\2\2\u09f3\u09f5\7\\\2\2\u09f4\u09f6\5,\27\2\u09f5\u09f4"+
-		"\3\2\2\2\u09f5\u09f6\3\2\2\2\u09f6\u09f7\3\2\2\2\u09f7\u09f8\7h\2\2\u09f8"+
-		"\u0a05\3\2\2\2\u09f9\u09fa\5\22\n\2\u09fa\u09fc\7\\\2\2\u09fb\u09fd\5"+
-		",\27\2\u09fc\u09fb\3\2\2\2\u09fc\u09fd\3\2\2\2\u09fd\u09fe\3\2\2\2\u09fe"+
-		"\u09ff\7!\2\2\u09ff\u0a05\3\2\2\2\u0a00\u0a01\5 \21\2\u0a01\u0a02\7\\"+
-		"\2\2\u0a02\u0a03\7!\2\2\u0a03\u0a05\3\2\2\2\u0a04\u09dc\3\2\2\2\u0a04"+
-		"\u09e3\3\2\2\2\u0a04\u09ea\3\2\2\2\u0a04\u09f0\3\2\2\2\u0a04\u09f9\3\2"+
-		"\2\2\u0a04\u0a00\3\2\2\2\u0a05\u019b\3\2\2\2\u0a06\u0a07\7!\2\2\u0a07"+
-		"\u0a08\5\6\4\2\u0a08\u0a0a\5\u019e\u00d0\2\u0a09\u0a0b\5\"\22\2\u0a0a"+
-		"\u0a09\3\2\2\2\u0a0a\u0a0b\3\2\2\2\u0a0b\u0a1d\3\2\2\2\u0a0c\u0a0d\7!"+
-		"\2\2\u0a0d\u0a0e\5\20\t\2\u0a0e\u0a10\5\u019e\u00d0\2\u0a0f\u0a11\5\""+
-		"\22\2\u0a10\u0a0f\3\2\2\2\u0a10\u0a11\3\2\2\2\u0a11\u0a1d\3\2\2\2\u0a12"+
-		"\u0a13\7!\2\2\u0a13\u0a14\5\6\4\2\u0a14\u0a15\5\"\22\2\u0a15\u0a16\5\u00fe"+
-		"\u0080\2\u0a16\u0a1d\3\2\2\2\u0a17\u0a18\7!\2\2\u0a18\u0a19\5\20\t\2\u0a19"+
-		"\u0a1a\5\"\22\2\u0a1a\u0a1b\5\u00fe\u0080\2\u0a1b\u0a1d\3\2\2\2\u0a1c"+
-		"\u0a06\3\2\2\2\u0a1c\u0a0c\3\2\2\2\u0a1c\u0a12\3\2\2\2\u0a1c\u0a17\3\2"+
-		"\2\2\u0a1d\u019d\3\2\2\2\u0a1e\u0a22\5\u01a0\u00d1\2\u0a1f\u0a21\5\u01a0"+
-		"\u00d1\2\u0a20\u0a1f\3\2\2\2\u0a21\u0a24\3\2\2\2\u0a22\u0a20\3\2\2\2\u0a22"+
-		"\u0a23\3\2\2\2\u0a23\u019f\3\2\2\2\u0a24\u0a22\3\2\2\2\u0a25\u0a27\5\u00ec"+
-		"w\2\u0a26\u0a25\3\2\2\2\u0a27\u0a2a\3\2\2\2\u0a28\u0a26\3\2\2\2\u0a28"+
-		"\u0a29\3\2\2\2\u0a29\u0a2b\3\2\2\2\u0a2a\u0a28\3\2\2\2\u0a2b\u0a2c\7?"+
-		"\2\2\u0a2c\u0a2d\5\u01a4\u00d3\2\u0a2d\u0a2e\7@\2\2\u0a2e\u01a1\3\2\2"+
-		"\2\u0a2f\u0a30\5\u01a4\u00d3\2\u0a30\u01a3\3\2\2\2\u0a31\u0a34\5\u01a6"+
-		"\u00d4\2\u0a32\u0a34\5\u01ae\u00d8\2\u0a33\u0a31\3\2\2\2\u0a33\u0a32\3"+
-		"\2\2\2\u0a34\u01a5\3\2\2\2\u0a35\u0a36\5\u01a8\u00d5\2\u0a36\u0a37\7["+
-		"\2\2\u0a37\u0a38\5\u01ac\u00d7\2\u0a38\u01a7\3\2\2\2\u0a39\u0a44\7h\2"+
-		"\2\u0a3a\u0a3c\7;\2\2\u0a3b\u0a3d\5\u009cO\2\u0a3c\u0a3b\3\2\2\2\u0a3c"+
-		"\u0a3d\3\2\2\2\u0a3d\u0a3e\3\2\2\2\u0a3e\u0a44\7<\2\2\u0a3f\u0a40\7;\2"+
-		"\2\u0a40\u0a41\5\u01aa\u00d6\2\u0a41\u0a42\7<\2\2\u0a42\u0a44\3\2\2\2"+
-		"\u0a43\u0a39\3\2\2\2\u0a43\u0a3a\3\2\2\2\u0a43\u0a3f\3\2\2\2\u0a44\u01a9"+
-		"\3\2\2\2\u0a45\u0a4a\7h\2\2\u0a46\u0a47\7B\2\2\u0a47\u0a49\7h\2\2\u0a48"+
-		"\u0a46\3\2\2\2\u0a49\u0a4c\3\2\2\2\u0a4a\u0a48\3\2\2\2\u0a4a\u0a4b\3\2"+
-		"\2\2\u0a4b\u01ab\3\2\2\2\u0a4c\u0a4a\3\2\2\2\u0a4d\u0a50\5\u01a4\u00d3"+
-		"\2\u0a4e\u0a50\5\u0102\u0082\2\u0a4f\u0a4d\3\2\2\2\u0a4f\u0a4e\3\2\2\2"+
-		"\u0a50\u01ad\3\2\2\2\u0a51\u0a54\5\u01b6\u00dc\2\u0a52\u0a54\5\u01b0\u00d9"+
-		"\2\u0a53\u0a51\3\2\2\2\u0a53\u0a52\3\2\2\2\u0a54\u01af\3\2\2\2\u0a55\u0a56"+
-		"\5\u01b2\u00da\2\u0a56\u0a57\5\u01b4\u00db\2\u0a57\u0a58\5\u01a4\u00d3"+
-		"\2\u0a58\u01b1\3\2\2\2\u0a59\u0a5d\5<\37\2\u0a5a\u0a5d\5\u0182\u00c2\2"+
-		"\u0a5b\u0a5d\5\u0188\u00c5\2\u0a5c\u0a59\3\2\2\2\u0a5c\u0a5a\3\2\2\2\u0a5c"+
-		"\u0a5b\3\2\2\2\u0a5d\u01b3\3\2\2\2\u0a5e\u0a5f\t\5\2\2\u0a5f\u01b5\3\2"+
-		"\2\2\u0a60\u0a68\5\u01b8\u00dd\2\u0a61\u0a62\5\u01b8\u00dd\2\u0a62\u0a63"+
-		"\7I\2\2\u0a63\u0a64\5\u01a4\u00d3\2\u0a64\u0a65\7J\2\2\u0a65\u0a66\5\u01b6"+
-		"\u00dc\2\u0a66\u0a68\3\2\2\2\u0a67\u0a60\3\2\2\2\u0a67\u0a61\3\2\2\2\u0a68"+
-		"\u01b7\3\2\2\2\u0a69\u0a6a\b\u00dd\1\2\u0a6a\u0a6b\5\u01ba\u00de\2\u0a6b"+
-		"\u0a71\3\2\2\2\u0a6c\u0a6d\f\3\2\2\u0a6d\u0a6e\7P\2\2\u0a6e\u0a70\5\u01ba"+
-		"\u00de\2\u0a6f\u0a6c\3\2\2\2\u0a70\u0a73\3\2\2\2\u0a71\u0a6f\3\2\2\2\u0a71"+
-		"\u0a72\3\2\2\2\u0a72\u01b9\3\2\2\2\u0a73\u0a71\3\2\2\2\u0a74\u0a75\b\u00de"+
-		"\1\2\u0a75\u0a76\5\u01bc\u00df\2\u0a76\u0a7c\3\2\2\2\u0a77\u0a78\f\3\2"+
-		"\2\u0a78\u0a79\7O\2\2\u0a79\u0a7b\5\u01bc\u00df\2\u0a7a\u0a77\3\2\2\2"+
-		"\u0a7b\u0a7e\3\2\2\2\u0a7c\u0a7a\3\2\2\2\u0a7c\u0a7d\3\2\2\2\u0a7d\u01bb"+
-		"\3\2\2\2\u0a7e\u0a7c\3\2\2\2\u0a7f\u0a80\b\u00df\1\2\u0a80\u0a81\5\u01be"+
-		"\u00e0\2\u0a81\u0a87\3\2\2\2\u0a82\u0a83\f\3\2\2\u0a83\u0a84\7X\2\2\u0a84"+
-		"\u0a86\5\u01be\u00e0\2\u0a85\u0a82\3\2\2\2\u0a86\u0a89\3\2\2\2\u0a87\u0a85"+
-		"\3\2\2\2\u0a87\u0a88\3\2\2\2\u0a88\u01bd\3\2\2\2\u0a89\u0a87\3\2\2\2\u0a8a"+
-		"\u0a8b\b\u00e0\1\2\u0a8b\u0a8c\5\u01c0\u00e1\2\u0a8c\u0a92\3\2\2\2\u0a8d"+
-		"\u0a8e\f\3\2\2\u0a8e\u0a8f\7Y\2\2\u0a8f\u0a91\5\u01c0\u00e1\2\u0a90\u0a8d"+
-		"\3\2\2\2\u0a91\u0a94\3\2\2\2\u0a92\u0a90\3\2\2\2\u0a92\u0a93\3\2\2\2\u0a93"+
-		"\u01bf\3\2\2\2\u0a94\u0a92\3\2\2\2\u0a95\u0a96\b\u00e1\1\2\u0a96\u0a97"+
-		"\5\u01c2\u00e2\2\u0a97\u0a9d\3\2\2\2\u0a98\u0a99\f\3\2\2\u0a99\u0a9a\7"+
-		"W\2\2\u0a9a\u0a9c\5\u01c2\u00e2\2\u0a9b\u0a98\3\2\2\2\u0a9c\u0a9f\3\2"+
-		"\2\2\u0a9d\u0a9b\3\2\2\2\u0a9d\u0a9e\3\2\2\2\u0a9e\u01c1\3\2\2\2\u0a9f"+
-		"\u0a9d\3\2\2\2\u0aa0\u0aa1\b\u00e2\1\2\u0aa1\u0aa2\5\u01c4\u00e3\2\u0aa2"+
-		"\u0aab\3\2\2\2\u0aa3\u0aa4\f\4\2\2\u0aa4\u0aa5\7K\2\2\u0aa5\u0aaa\5\u01c4"+
-		"\u00e3\2\u0aa6\u0aa7\f\3\2\2\u0aa7\u0aa8\7N\2\2\u0aa8\u0aaa\5\u01c4\u00e3"+
-		"\2\u0aa9\u0aa3\3\2\2\2\u0aa9\u0aa6\3\2\2\2\u0aaa\u0aad\3\2\2\2\u0aab\u0aa9"+
-		"\3\2\2\2\u0aab\u0aac\3\2\2\2\u0aac\u01c3\3\2\2\2\u0aad\u0aab\3\2\2\2\u0aae"+
-		"\u0aaf\b\u00e3\1\2\u0aaf\u0ab0\5\u01c6\u00e4\2\u0ab0\u0ac2\3\2\2\2\u0ab1"+
-		"\u0ab2\f\7\2\2\u0ab2\u0ab3\7F\2\2\u0ab3\u0ac1\5\u01c6\u00e4\2\u0ab4\u0ab5"+
-		"\f\6\2\2\u0ab5\u0ab6\7E\2\2\u0ab6\u0ac1\5\u01c6\u00e4\2\u0ab7\u0ab8\f"+
-		"\5\2\2\u0ab8\u0ab9\7L\2\2\u0ab9\u0ac1\5\u01c6\u00e4\2\u0aba\u0abb\f\4"+
-		"\2\2\u0abb\u0abc\7M\2\2\u0abc\u0ac1\5\u01c6\u00e4\2\u0abd\u0abe\f\3\2"+
-		"\2\u0abe\u0abf\7\34\2\2\u0abf\u0ac1\5\16\b\2\u0ac0\u0ab1\3\2\2\2\u0ac0"+
-		"\u0ab4\3\2\2\2\u0ac0\u0ab7\3\2\2\2\u0ac0\u0aba\3\2\2\2\u0ac0\u0abd\3\2"+
-		"\2\2\u0ac1\u0ac4\3\2\2\2\u0ac2\u0ac0\3\2\2\2\u0ac2\u0ac3\3\2\2\2\u0ac3"+
-		"\u01c5\3\2\2\2\u0ac4\u0ac2\3\2\2\2\u0ac5\u0ac6\b\u00e4\1\2\u0ac6\u0ac7"+
-		"\5\u01c8\u00e5\2\u0ac7\u0ad7\3\2\2\2\u0ac8\u0ac9\f\5\2\2\u0ac9\u0aca\7"+
-		"F\2\2\u0aca\u0acb\7F\2\2\u0acb\u0ad6\5\u01c8\u00e5\2\u0acc\u0acd\f\4\2"+
-		"\2\u0acd\u0ace\7E\2\2\u0ace\u0acf\7E\2\2\u0acf\u0ad6\5\u01c8\u00e5\2\u0ad0"+
-		"\u0ad1\f\3\2\2\u0ad1\u0ad2\7E\2\2\u0ad2\u0ad3\7E\2\2\u0ad3\u0ad4\7E\2"+
-		"\2\u0ad4\u0ad6\5\u01c8\u00e5\2\u0ad5\u0ac8\3\2\2\2\u0ad5\u0acc\3\2\2\2"+
-		"\u0ad5\u0ad0\3\2\2\2\u0ad6\u0ad9\3\2\2\2\u0ad7\u0ad5\3\2\2\2\u0ad7\u0ad8"+
-		"\3\2\2\2\u0ad8\u01c7\3\2\2\2\u0ad9\u0ad7\3\2\2\2\u0ada\u0adb\b\u00e5\1"+
-		"\2\u0adb\u0adc\5\u01ca\u00e6\2\u0adc\u0ae5\3\2\2\2\u0add\u0ade\f\4\2\2"+
-		"\u0ade\u0adf\7S\2\2\u0adf\u0ae4\5\u01ca\u00e6\2\u0ae0\u0ae1\f\3\2\2\u0ae1"+
-		"\u0ae2\7T\2\2\u0ae2\u0ae4\5\u01ca\u00e6\2\u0ae3\u0add\3\2\2\2\u0ae3\u0ae0"+
-		"\3\2\2\2\u0ae4\u0ae7\3\2\2\2\u0ae5\u0ae3\3\2\2\2\u0ae5\u0ae6\3\2\2\2\u0ae6"+
-		"\u01c9\3\2\2\2\u0ae7\u0ae5\3\2\2\2\u0ae8\u0ae9\b\u00e6\1\2\u0ae9\u0aea"+
-		"\5\u01cc\u00e7\2\u0aea\u0af6\3\2\2\2\u0aeb\u0aec\f\5\2\2\u0aec\u0aed\7"+
-		"U\2\2\u0aed\u0af5\5\u01cc\u00e7\2\u0aee\u0aef\f\4\2\2\u0aef\u0af0\7V\2"+
-		"\2\u0af0\u0af5\5\u01cc\u00e7\2\u0af1\u0af2\f\3\2\2\u0af2\u0af3\7Z\2\2"+
-		"\u0af3\u0af5\5\u01cc\u00e7\2\u0af4\u0aeb\3\2\2\2\u0af4\u0aee\3\2\2\2\u0af4"+
-		"\u0af1\3\2\2\2\u0af5\u0af8\3\2\2\2\u0af6\u0af4\3\2\2\2\u0af6\u0af7\3\2"+
-		"\2\2\u0af7\u01cb\3\2\2\2\u0af8\u0af6\3\2\2\2\u0af9\u0b01\5\u01ce\u00e8"+
-		"\2\u0afa\u0b01\5\u01d0\u00e9\2\u0afb\u0afc\7S\2\2\u0afc\u0b01\5\u01cc"+
-		"\u00e7\2\u0afd\u0afe\7T\2\2\u0afe\u0b01\5\u01cc\u00e7\2\u0aff\u0b01\5"+
-		"\u01d2\u00ea\2\u0b00\u0af9\3\2\2\2\u0b00\u0afa\3\2\2\2\u0b00\u0afb\3\2"+
-		"\2\2\u0b00\u0afd\3\2\2\2\u0b00\u0aff\3\2\2\2\u0b01\u01cd\3\2\2\2\u0b02"+
-		"\u0b03\7Q\2\2\u0b03\u0b04\5\u01cc\u00e7\2\u0b04\u01cf\3\2\2\2\u0b05\u0b06"+
-		"\7R\2\2\u0b06\u0b07\5\u01cc\u00e7\2\u0b07\u01d1\3\2\2\2\u0b08\u0b0f\5"+
-		"\u01d4\u00eb\2\u0b09\u0b0a\7H\2\2\u0b0a\u0b0f\5\u01cc\u00e7\2\u0b0b\u0b0c"+
-		"\7G\2\2\u0b0c\u0b0f\5\u01cc\u00e7\2\u0b0d\u0b0f\5\u01de\u00f0\2\u0b0e"+
-		"\u0b08\3\2\2\2\u0b0e\u0b09\3\2\2\2\u0b0e\u0b0b\3\2\2\2\u0b0e\u0b0d\3\2"+
-		"\2\2\u0b0f\u01d3\3\2\2\2\u0b10\u0b13\5\u0166\u00b4\2\u0b11\u0b13\5<\37"+
-		"\2\u0b12\u0b10\3\2\2\2\u0b12\u0b11\3\2\2\2\u0b13\u0b18\3\2\2\2\u0b14\u0b17"+
-		"\5\u01d8\u00ed\2\u0b15\u0b17\5\u01dc\u00ef\2\u0b16\u0b14\3\2\2\2\u0b16"+
-		"\u0b15\3\2\2\2\u0b17\u0b1a\3\2\2\2\u0b18\u0b16\3\2\2\2\u0b18\u0b19\3\2"+
-		"\2\2\u0b19\u01d5\3\2\2\2\u0b1a\u0b18\3\2\2\2\u0b1b\u0b1c\5\u01d4\u00eb"+
-		"\2\u0b1c\u0b1d\7Q\2\2\u0b1d\u01d7\3\2\2\2\u0b1e\u0b1f\7Q\2\2\u0b1f\u01d9"+
-		"\3\2\2\2\u0b20\u0b21\5\u01d4\u00eb\2\u0b21\u0b22\7R\2\2\u0b22\u01db\3"+
-		"\2\2\2\u0b23\u0b24\7R\2\2\u0b24\u01dd\3\2\2\2\u0b25\u0b26\7;\2\2\u0b26"+
-		"\u0b27\5\6\4\2\u0b27\u0b28\7<\2\2\u0b28\u0b29\5\u01cc\u00e7\2\u0b29\u0b41"+
-		"\3\2\2\2\u0b2a\u0b2b\7;\2\2\u0b2b\u0b2f\5\16\b\2\u0b2c\u0b2e\5*\26\2\u0b2d"+
-		"\u0b2c\3\2\2\2\u0b2e\u0b31\3\2\2\2\u0b2f\u0b2d\3\2\2\2\u0b2f\u0b30\3\2"+
-		"\2\2\u0b30\u0b32\3\2\2\2\u0b31\u0b2f\3\2\2\2\u0b32\u0b33\7<\2\2\u0b33"+
-		"\u0b34\5\u01d2\u00ea\2\u0b34\u0b41\3\2\2\2\u0b35\u0b36\7;\2\2\u0b36\u0b3a"+
-		"\5\16\b\2\u0b37\u0b39\5*\26\2\u0b38\u0b37\3\2\2\2\u0b39\u0b3c\3\2\2\2"+
-		"\u0b3a\u0b38\3\2\2\2\u0b3a\u0b3b\3\2\2\2\u0b3b\u0b3d\3\2\2\2\u0b3c\u0b3a"+
-		"\3\2\2\2\u0b3d\u0b3e\7<\2\2\u0b3e\u0b3f\5\u01a6\u00d4\2\u0b3f\u0b41\3"+
-		"\2\2\2\u0b40\u0b25\3\2\2\2\u0b40\u0b2a\3\2\2\2\u0b40\u0b35\3\2\2\2\u0b41"+
-		"\u01df\3\2\2\2\u014b\u01e4\u01e9\u01f0\u01f4\u01f8\u0201\u0205\u0209\u020b"+
-		"\u0211\u0216\u021d\u0222\u0224\u022a\u022f\u0234\u0239\u0244\u0252\u0257"+
-		"\u025f\u0266\u026c\u0271\u027c\u027f\u028d\u0292\u0297\u029c\u02a2\u02ac"+
-		"\u02b4\u02be\u02c6\u02d2\u02d8\u02dd\u02e0\u02e5\u02eb\u02ef\u02f3\u02f7"+
-		"\u02fc\u0305\u0310\u032d\u0331\u0336\u033c\u033f\u0342\u034e\u0359\u0367"+
-		"\u036e\u0377\u037e\u0383\u0392\u0399\u039f\u03a3\u03a7\u03ab\u03af\u03b4"+
-		"\u03b8\u03bc\u03be\u03c3\u03ca\u03cf\u03d1\u03d7\u03dc\u03e0\u03f3\u03f8"+
-		"\u0408\u040d\u0413\u0419\u041b\u041f\u0424\u0428\u042f\u0436\u043e\u0441"+
-		"\u0446\u044e\u0453\u045a\u0461\u0466\u046c\u0478\u047d\u0481\u048b\u0490"+
-		"\u0498\u049b\u04a0\u04a8\u04ab\u04b0\u04b5\u04ba\u04bf\u04c6\u04cb\u04d3"+
-		"\u04d8\u04dd\u04e2\u04e8\u04ee\u04f1\u04f4\u04fd\u0503\u0509\u050c\u050f"+
-		"\u0517\u051c\u0521\u0527\u052a\u0535\u053e\u0548\u054d\u0558\u055d\u0569"+
-		"\u056e\u057a\u0584\u0589\u0591\u0594\u059b\u05a3\u05a9\u05b2\u05bc\u05c0"+
-		"\u05c3\u05cc\u05da\u05dd\u05e6\u05eb\u05f3\u05f9\u0601\u060d\u0614\u0622"+
-		"\u0638\u065a\u0666\u066c\u0678\u0685\u069f\u06a3\u06a8\u06ac\u06b0\u06b8"+
-		"\u06bc\u06c0\u06c7\u06d0\u06d8\u06e7\u06f3\u06f9\u06ff\u0714\u0719\u071f"+
-		"\u072b\u0736\u0740\u0743\u0748\u0751\u0757\u0761\u0766\u076f\u0786\u0790"+
-		"\u07a6\u07ad\u07b5\u07bd\u07c8\u07df\u07e9\u07f4\u080a\u080e\u0813\u081b"+
-		"\u0821\u0825\u0829\u082d\u0833\u0838\u083d\u0841\u0845\u084b\u0850\u0855"+
-		"\u0859\u085d\u085f\u0864\u0869\u086e\u0872\u0876\u087a\u087f\u0887\u088d"+
-		"\u0891\u0895\u0899\u089f\u08a4\u08a9\u08ad\u08b1\u08b3\u08b8\u08c7\u08d5"+
-		"\u08e1\u08ea\u08f9\u0906\u090f\u0915\u091c\u0921\u0928\u092d\u0934\u0939"+
-		"\u0940\u0945\u094d\u0952\u0956\u095a\u095f\u0966\u096d\u0972\u0979\u097e"+
-		"\u0985\u098a\u0992\u0997\u099b\u09a2\u09a8\u09af\u09b6\u09bd\u09c5\u09cc"+
-		"\u09d4\u09d8\u09df\u09e6\u09ed\u09f5\u09fc\u0a04\u0a0a\u0a10\u0a1c\u0a22"+
-		"\u0a28\u0a33\u0a3c\u0a43\u0a4a\u0a4f\u0a53\u0a5c\u0a67\u0a71\u0a7c\u0a87"+
-		"\u0a92\u0a9d\u0aa9\u0aab\u0ac0\u0ac2\u0ad5\u0ad7\u0ae3\u0ae5\u0af4\u0af6"+
-		"\u0b00\u0b0e\u0b12\u0b16\u0b18\u0b2f\u0b3a\u0b40";
+		"\3\2\2\2\u0968\u0969\3\2\2\2\u0969\u096a\3\2\2\2\u096a\u096b\7<\2\2\u096b"+
+		"\u096d\3\2\2\2\u096c\u0928\3\2\2\2\u096c\u092f\3\2\2\2\u096c\u093b\3\2"+
+		"\2\2\u096c\u0947\3\2\2\2\u096c\u0953\3\2\2\2\u096c\u095e\3\2\2\2\u096d"+
+		"\u0197\3\2\2\2\u096e\u0970\7C\2\2\u096f\u0971\5,\27\2\u0970\u096f\3\2"+
+		"\2\2\u0970\u0971\3\2\2\2\u0971\u0972\3\2\2\2\u0972\u0973\7h\2\2\u0973"+
+		"\u0975\7;\2\2\u0974\u0976\5\u019c\u00cf\2\u0975\u0974\3\2\2\2\u0975\u0976"+
+		"\3\2\2\2\u0976\u0977\3\2\2\2\u0977\u0978\7<\2\2\u0978\u0199\3\2\2\2\u0979"+
+		"\u097a\5> \2\u097a\u097c\7;\2\2\u097b\u097d\5\u019c\u00cf\2\u097c\u097b"+
+		"\3\2\2\2\u097c\u097d\3\2\2\2\u097d\u097e\3\2\2\2\u097e\u097f\7<\2\2\u097f"+
+		"\u09b2\3\2\2\2\u0980\u0981\58\35\2\u0981\u0983\7C\2\2\u0982\u0984\5,\27"+
+		"\2\u0983\u0982\3\2\2\2\u0983\u0984\3\2\2\2\u0984\u0985\3\2\2\2\u0985\u0986"+
+		"\7h\2\2\u0986\u0988\7;\2\2\u0987\u0989\5\u019c\u00cf\2\u0988\u0987\3\2"+
+		"\2\2\u0988\u0989\3\2\2\2\u0989\u098a\3\2\2\2\u098a\u098b\7<\2\2\u098b"+
+		"\u09b2\3\2\2\2\u098c\u098d\5<\37\2\u098d\u098f\7C\2\2\u098e\u0990\5,\27"+
+		"\2\u098f\u098e\3\2\2\2\u098f\u0990\3\2\2\2\u0990\u0991\3\2\2\2\u0991\u0992"+
+		"\7h\2\2\u0992\u0994\7;\2\2\u0993\u0995\5\u019c\u00cf\2\u0994\u0993\3\2"+
+		"\2\2\u0994\u0995\3\2\2\2\u0995\u0996\3\2\2\2\u0996\u0997\7<\2\2\u0997"+
+		"\u09b2\3\2\2\2\u0998\u0999\7*\2\2\u0999\u099b\7C\2\2\u099a\u099c\5,\27"+
+		"\2\u099b\u099a\3\2\2\2\u099b\u099c\3\2\2\2\u099c\u099d\3\2\2\2\u099d\u099e"+
+		"\7h\2\2\u099e\u09a0\7;\2\2\u099f\u09a1\5\u019c\u00cf\2\u09a0\u099f\3\2"+
+		"\2\2\u09a0\u09a1\3\2\2\2\u09a1\u09a2\3\2\2\2\u09a2\u09b2\7<\2\2\u09a3"+
+		"\u09a4\58\35\2\u09a4\u09a5\7C\2\2\u09a5\u09a6\7*\2\2\u09a6\u09a8\7C\2"+
+		"\2\u09a7\u09a9\5,\27\2\u09a8\u09a7\3\2\2\2\u09a8\u09a9\3\2\2\2\u09a9\u09aa"+
+		"\3\2\2\2\u09aa\u09ab\7h\2\2\u09ab\u09ad\7;\2\2\u09ac\u09ae\5\u019c\u00cf"+
+		"\2\u09ad\u09ac\3\2\2\2\u09ad\u09ae\3\2\2\2\u09ae\u09af\3\2\2\2\u09af\u09b0"+
+		"\7<\2\2\u09b0\u09b2\3\2\2\2\u09b1\u0979\3\2\2\2\u09b1\u0980\3\2\2\2\u09b1"+
+		"\u098c\3\2\2\2\u09b1\u0998\3\2\2\2\u09b1\u09a3\3\2\2\2\u09b2\u019b\3\2"+
+		"\2\2\u09b3\u09b8\5\u01ac\u00d7\2\u09b4\u09b5\7B\2\2\u09b5\u09b7\5\u01ac"+
+		"\u00d7\2\u09b6\u09b4\3\2\2\2\u09b7\u09ba\3\2\2\2\u09b8\u09b6\3\2\2\2\u09b8"+
+		"\u09b9\3\2\2\2\u09b9\u019d\3\2\2\2\u09ba\u09b8\3\2\2\2\u09bb\u09bc\5<"+
+		"\37\2\u09bc\u09be\7\\\2\2\u09bd\u09bf\5,\27\2\u09be\u09bd\3\2\2\2\u09be"+
+		"\u09bf\3\2\2\2\u09bf\u09c0\3\2\2\2\u09c0\u09c1\7h\2\2\u09c1\u09eb\3\2"+
+		"\2\2\u09c2\u09c3\5\16\b\2\u09c3\u09c5\7\\\2\2\u09c4\u09c6\5,\27\2\u09c5"+
+		"\u09c4\3\2\2\2\u09c5\u09c6\3\2\2\2\u09c6\u09c7\3\2\2\2\u09c7\u09c8\7h"+
+		"\2\2\u09c8\u09eb\3\2\2\2\u09c9\u09ca\5\u016e\u00b8\2\u09ca\u09cc\7\\\2"+
+		"\2\u09cb\u09cd\5,\27\2\u09cc\u09cb\3\2\2\2\u09cc\u09cd\3\2\2\2\u09cd\u09ce"+
+		"\3\2\2\2\u09ce\u09cf\7h\2\2\u09cf\u09eb\3\2\2\2\u09d0\u09d1\7*\2\2\u09d1"+
+		"\u09d3\7\\\2\2\u09d2\u09d4\5,\27\2\u09d3\u09d2\3\2\2\2\u09d3\u09d4\3\2"+
+		"\2\2\u09d4\u09d5\3\2\2\2\u09d5\u09eb\7h\2\2\u09d6\u09d7\58\35\2\u09d7"+
+		"\u09d8\7C\2\2\u09d8\u09d9\7*\2\2\u09d9\u09db\7\\\2\2\u09da\u09dc\5,\27"+
+		"\2\u09db\u09da\3\2\2\2\u09db\u09dc\3\2\2\2\u09dc\u09dd\3\2\2\2\u09dd\u09de"+
+		"\7h\2\2\u09de\u09eb\3\2\2\2\u09df\u09e0\5\22\n\2\u09e0\u09e2\7\\\2\2\u09e1"+
+		"\u09e3\5,\27\2\u09e2\u09e1\3\2\2\2\u09e2\u09e3\3\2\2\2\u09e3\u09e4\3\2"+
+		"\2\2\u09e4\u09e5\7!\2\2\u09e5\u09eb\3\2\2\2\u09e6\u09e7\5 \21\2\u09e7"+
+		"\u09e8\7\\\2\2\u09e8\u09e9\7!\2\2\u09e9\u09eb\3\2\2\2\u09ea\u09bb\3\2"+
+		"\2\2\u09ea\u09c2\3\2\2\2\u09ea\u09c9\3\2\2\2\u09ea\u09d0\3\2\2\2\u09ea"+
+		"\u09d6\3\2\2\2\u09ea\u09df\3\2\2\2\u09ea\u09e6\3\2\2\2\u09eb\u019f\3\2"+
+		"\2\2\u09ec\u09ee\7\\\2\2\u09ed\u09ef\5,\27\2\u09ee\u09ed\3\2\2\2\u09ee"+
+		"\u09ef\3\2\2\2\u09ef\u09f0\3\2\2\2\u09f0\u09f1\7h\2\2\u09f1\u01a1\3\2"+
+		"\2\2\u09f2\u09f3\5<\37\2\u09f3\u09f5\7\\\2\2\u09f4\u09f6\5,\27\2\u09f5"+
+		"\u09f4\3\2\2\2\u09f5\u09f6\3\2\2\2\u09f6\u09f7\3\2\2\2\u09f7\u09f8\7h"+
+		"\2\2\u09f8\u0a1b\3\2\2\2\u09f9\u09fa\5\16\b\2\u09fa\u09fc\7\\\2\2\u09fb"+
+		"\u09fd\5,\27\2\u09fc\u09fb\3\2\2\2\u09fc\u09fd\3\2\2\2\u09fd\u09fe\3\2"+
+		"\2\2\u09fe\u09ff\7h\2\2\u09ff\u0a1b\3\2\2\2\u0a00\u0a01\7*\2\2\u0a01\u0a03"+
+		"\7\\\2\2\u0a02\u0a04\5,\27\2\u0a03\u0a02\3\2\2\2\u0a03\u0a04\3\2\2\2\u0a04"+
+		"\u0a05\3\2\2\2\u0a05\u0a1b\7h\2\2\u0a06\u0a07\58\35\2\u0a07\u0a08\7C\2"+
+		"\2\u0a08\u0a09\7*\2\2\u0a09\u0a0b\7\\\2\2\u0a0a\u0a0c\5,\27\2\u0a0b\u0a0a"+
+		"\3\2\2\2\u0a0b\u0a0c\3\2\2\2\u0a0c\u0a0d\3\2\2\2\u0a0d\u0a0e\7h\2\2\u0a0e"+
+		"\u0a1b\3\2\2\2\u0a0f\u0a10\5\22\n\2\u0a10\u0a12\7\\\2\2\u0a11\u0a13\5"+
+		",\27\2\u0a12\u0a11\3\2\2\2\u0a12\u0a13\3\2\2\2\u0a13\u0a14\3\2\2\2\u0a14"+
+		"\u0a15\7!\2\2\u0a15\u0a1b\3\2\2\2\u0a16\u0a17\5 \21\2\u0a17\u0a18\7\\"+
+		"\2\2\u0a18\u0a19\7!\2\2\u0a19\u0a1b\3\2\2\2\u0a1a\u09f2\3\2\2\2\u0a1a"+
+		"\u09f9\3\2\2\2\u0a1a\u0a00\3\2\2\2\u0a1a\u0a06\3\2\2\2\u0a1a\u0a0f\3\2"+
+		"\2\2\u0a1a\u0a16\3\2\2\2\u0a1b\u01a3\3\2\2\2\u0a1c\u0a1d\7!\2\2\u0a1d"+
+		"\u0a1e\5\6\4\2\u0a1e\u0a20\5\u01a6\u00d4\2\u0a1f\u0a21\5\"\22\2\u0a20"+
+		"\u0a1f\3\2\2\2\u0a20\u0a21\3\2\2\2\u0a21\u0a33\3\2\2\2\u0a22\u0a23\7!"+
+		"\2\2\u0a23\u0a24\5\20\t\2\u0a24\u0a26\5\u01a6\u00d4\2\u0a25\u0a27\5\""+
+		"\22\2\u0a26\u0a25\3\2\2\2\u0a26\u0a27\3\2\2\2\u0a27\u0a33\3\2\2\2\u0a28"+
+		"\u0a29\7!\2\2\u0a29\u0a2a\5\6\4\2\u0a2a\u0a2b\5\"\22\2\u0a2b\u0a2c\5\u0106"+
+		"\u0084\2\u0a2c\u0a33\3\2\2\2\u0a2d\u0a2e\7!\2\2\u0a2e\u0a2f\5\20\t\2\u0a2f"+
+		"\u0a30\5\"\22\2\u0a30\u0a31\5\u0106\u0084\2\u0a31\u0a33\3\2\2\2\u0a32"+
+		"\u0a1c\3\2\2\2\u0a32\u0a22\3\2\2\2\u0a32\u0a28\3\2\2\2\u0a32\u0a2d\3\2"+
+		"\2\2\u0a33\u01a5\3\2\2\2\u0a34\u0a38\5\u01a8\u00d5\2\u0a35\u0a37\5\u01a8"+
+		"\u00d5\2\u0a36\u0a35\3\2\2\2\u0a37\u0a3a\3\2\2\2\u0a38\u0a36\3\2\2\2\u0a38"+
+		"\u0a39\3\2\2\2\u0a39\u01a7\3\2\2\2\u0a3a\u0a38\3\2\2\2\u0a3b\u0a3d\5\u00f4"+
+		"{\2\u0a3c\u0a3b\3\2\2\2\u0a3d\u0a40\3\2\2\2\u0a3e\u0a3c\3\2\2\2\u0a3e"+
+		"\u0a3f\3\2\2\2\u0a3f\u0a41\3\2\2\2\u0a40\u0a3e\3\2\2\2\u0a41\u0a42\7?"+
+		"\2\2\u0a42\u0a43\5\u01ac\u00d7\2\u0a43\u0a44\7@\2\2\u0a44\u01a9\3\2\2"+
+		"\2\u0a45\u0a46\5\u01ac\u00d7\2\u0a46\u01ab\3\2\2\2\u0a47\u0a4a\5\u01ae"+
+		"\u00d8\2\u0a48\u0a4a\5\u01b6\u00dc\2\u0a49\u0a47\3\2\2\2\u0a49\u0a48\3"+
+		"\2\2\2\u0a4a\u01ad\3\2\2\2\u0a4b\u0a4c\5\u01b0\u00d9\2\u0a4c\u0a4d\7["+
+		"\2\2\u0a4d\u0a4e\5\u01b4\u00db\2\u0a4e\u01af\3\2\2\2\u0a4f\u0a5a\7h\2"+
+		"\2\u0a50\u0a52\7;\2\2\u0a51\u0a53\5\u00a4S\2\u0a52\u0a51\3\2\2\2\u0a52"+
+		"\u0a53\3\2\2\2\u0a53\u0a54\3\2\2\2\u0a54\u0a5a\7<\2\2\u0a55\u0a56\7;\2"+
+		"\2\u0a56\u0a57\5\u01b2\u00da\2\u0a57\u0a58\7<\2\2\u0a58\u0a5a\3\2\2\2"+
+		"\u0a59\u0a4f\3\2\2\2\u0a59\u0a50\3\2\2\2\u0a59\u0a55\3\2\2\2\u0a5a\u01b1"+
+		"\3\2\2\2\u0a5b\u0a60\7h\2\2\u0a5c\u0a5d\7B\2\2\u0a5d\u0a5f\7h\2\2\u0a5e"+
+		"\u0a5c\3\2\2\2\u0a5f\u0a62\3\2\2\2\u0a60\u0a5e\3\2\2\2\u0a60\u0a61\3\2"+
+		"\2\2\u0a61\u01b3\3\2\2\2\u0a62\u0a60\3\2\2\2\u0a63\u0a66\5\u01ac\u00d7"+
+		"\2\u0a64\u0a66\5\u010a\u0086\2\u0a65\u0a63\3\2\2\2\u0a65\u0a64\3\2\2\2"+
+		"\u0a66\u01b5\3\2\2\2\u0a67\u0a6a\5\u01be\u00e0\2\u0a68\u0a6a\5\u01b8\u00dd"+
+		"\2\u0a69\u0a67\3\2\2\2\u0a69\u0a68\3\2\2\2\u0a6a\u01b7\3\2\2\2\u0a6b\u0a6c"+
+		"\5\u01ba\u00de\2\u0a6c\u0a6d\5\u01bc\u00df\2\u0a6d\u0a6e\5\u01ac\u00d7"+
+		"\2\u0a6e\u01b9\3\2\2\2\u0a6f\u0a73\5<\37\2\u0a70\u0a73\5\u018a\u00c6\2"+
+		"\u0a71\u0a73\5\u0190\u00c9\2\u0a72\u0a6f\3\2\2\2\u0a72\u0a70\3\2\2\2\u0a72"+
+		"\u0a71\3\2\2\2\u0a73\u01bb\3\2\2\2\u0a74\u0a75\t\5\2\2\u0a75\u01bd\3\2"+
+		"\2\2\u0a76\u0a7e\5\u01c0\u00e1\2\u0a77\u0a78\5\u01c0\u00e1\2\u0a78\u0a79"+
+		"\7I\2\2\u0a79\u0a7a\5\u01ac\u00d7\2\u0a7a\u0a7b\7J\2\2\u0a7b\u0a7c\5\u01be"+
+		"\u00e0\2\u0a7c\u0a7e\3\2\2\2\u0a7d\u0a76\3\2\2\2\u0a7d\u0a77\3\2\2\2\u0a7e"+
+		"\u01bf\3\2\2\2\u0a7f\u0a80\b\u00e1\1\2\u0a80\u0a81\5\u01c2\u00e2\2\u0a81"+
+		"\u0a87\3\2\2\2\u0a82\u0a83\f\3\2\2\u0a83\u0a84\7P\2\2\u0a84\u0a86\5\u01c2"+
+		"\u00e2\2\u0a85\u0a82\3\2\2\2\u0a86\u0a89\3\2\2\2\u0a87\u0a85\3\2\2\2\u0a87"+
+		"\u0a88\3\2\2\2\u0a88\u01c1\3\2\2\2\u0a89\u0a87\3\2\2\2\u0a8a\u0a8b\b\u00e2"+
+		"\1\2\u0a8b\u0a8c\5\u01c4\u00e3\2\u0a8c\u0a92\3\2\2\2\u0a8d\u0a8e\f\3\2"+
+		"\2\u0a8e\u0a8f\7O\2\2\u0a8f\u0a91\5\u01c4\u00e3\2\u0a90\u0a8d\3\2\2\2"+
+		"\u0a91\u0a94\3\2\2\2\u0a92\u0a90\3\2\2\2\u0a92\u0a93\3\2\2\2\u0a93\u01c3"+
+		"\3\2\2\2\u0a94\u0a92\3\2\2\2\u0a95\u0a96\b\u00e3\1\2\u0a96\u0a97\5\u01c6"+
+		"\u00e4\2\u0a97\u0a9d\3\2\2\2\u0a98\u0a99\f\3\2\2\u0a99\u0a9a\7X\2\2\u0a9a"+
+		"\u0a9c\5\u01c6\u00e4\2\u0a9b\u0a98\3\2\2\2\u0a9c\u0a9f\3\2\2\2\u0a9d\u0a9b"+
+		"\3\2\2\2\u0a9d\u0a9e\3\2\2\2\u0a9e\u01c5\3\2\2\2\u0a9f\u0a9d\3\2\2\2\u0aa0"+
+		"\u0aa1\b\u00e4\1\2\u0aa1\u0aa2\5\u01c8\u00e5\2\u0aa2\u0aa8\3\2\2\2\u0aa3"+
+		"\u0aa4\f\3\2\2\u0aa4\u0aa5\7Y\2\2\u0aa5\u0aa7\5\u01c8\u00e5\2\u0aa6\u0aa3"+
+		"\3\2\2\2\u0aa7\u0aaa\3\2\2\2\u0aa8\u0aa6\3\2\2\2\u0aa8\u0aa9\3\2\2\2\u0aa9"+
+		"\u01c7\3\2\2\2\u0aaa\u0aa8\3\2\2\2\u0aab\u0aac\b\u00e5\1\2\u0aac\u0aad"+
+		"\5\u01ca\u00e6\2\u0aad\u0ab3\3\2\2\2\u0aae\u0aaf\f\3\2\2\u0aaf\u0ab0\7"+
+		"W\2\2\u0ab0\u0ab2\5\u01ca\u00e6\2\u0ab1\u0aae\3\2\2\2\u0ab2\u0ab5\3\2"+
+		"\2\2\u0ab3\u0ab1\3\2\2\2\u0ab3\u0ab4\3\2\2\2\u0ab4\u01c9\3\2\2\2\u0ab5"+
+		"\u0ab3\3\2\2\2\u0ab6\u0ab7\b\u00e6\1\2\u0ab7\u0ab8\5\u01cc\u00e7\2\u0ab8"+
+		"\u0ac1\3\2\2\2\u0ab9\u0aba\f\4\2\2\u0aba\u0abb\7K\2\2\u0abb\u0ac0\5\u01cc"+
+		"\u00e7\2\u0abc\u0abd\f\3\2\2\u0abd\u0abe\7N\2\2\u0abe\u0ac0\5\u01cc\u00e7"+
+		"\2\u0abf\u0ab9\3\2\2\2\u0abf\u0abc\3\2\2\2\u0ac0\u0ac3\3\2\2\2\u0ac1\u0abf"+
+		"\3\2\2\2\u0ac1\u0ac2\3\2\2\2\u0ac2\u01cb\3\2\2\2\u0ac3\u0ac1\3\2\2\2\u0ac4"+
+		"\u0ac5\b\u00e7\1\2\u0ac5\u0ac6\5\u01ce\u00e8\2\u0ac6\u0ad8\3\2\2\2\u0ac7"+
+		"\u0ac8\f\7\2\2\u0ac8\u0ac9\7F\2\2\u0ac9\u0ad7\5\u01ce\u00e8\2\u0aca\u0acb"+
+		"\f\6\2\2\u0acb\u0acc\7E\2\2\u0acc\u0ad7\5\u01ce\u00e8\2\u0acd\u0ace\f"+
+		"\5\2\2\u0ace\u0acf\7L\2\2\u0acf\u0ad7\5\u01ce\u00e8\2\u0ad0\u0ad1\f\4"+
+		"\2\2\u0ad1\u0ad2\7M\2\2\u0ad2\u0ad7\5\u01ce\u00e8\2\u0ad3\u0ad4\f\3\2"+
+		"\2\u0ad4\u0ad5\7\34\2\2\u0ad5\u0ad7\5\16\b\2\u0ad6\u0ac7\3\2\2\2\u0ad6"+
+		"\u0aca\3\2\2\2\u0ad6\u0acd\3\2\2\2\u0ad6\u0ad0\3\2\2\2\u0ad6\u0ad3\3\2"+
+		"\2\2\u0ad7\u0ada\3\2\2\2\u0ad8\u0ad6\3\2\2\2\u0ad8\u0ad9\3\2\2\2\u0ad9"+
+		"\u01cd\3\2\2\2\u0ada\u0ad8\3\2\2\2\u0adb\u0adc\b\u00e8\1\2\u0adc\u0add"+
+		"\5\u01d0\u00e9\2\u0add\u0aed\3\2\2\2\u0ade\u0adf\f\5\2\2\u0adf\u0ae0\7"+
+		"F\2\2\u0ae0\u0ae1\7F\2\2\u0ae1\u0aec\5\u01d0\u00e9\2\u0ae2\u0ae3\f\4\2"+
+		"\2\u0ae3\u0ae4\7E\2\2\u0ae4\u0ae5\7E\2\2\u0ae5\u0aec\5\u01d0\u00e9\2\u0ae6"+
+		"\u0ae7\f\3\2\2\u0ae7\u0ae8\7E\2\2\u0ae8\u0ae9\7E\2\2\u0ae9\u0aea\7E\2"+
+		"\2\u0aea\u0aec\5\u01d0\u00e9\2\u0aeb\u0ade\3\2\2\2\u0aeb\u0ae2\3\2\2\2"+
+		"\u0aeb\u0ae6\3\2\2\2\u0aec\u0aef\3\2\2\2\u0aed\u0aeb\3\2\2\2\u0aed\u0aee"+
+		"\3\2\2\2\u0aee\u01cf\3\2\2\2\u0aef\u0aed\3\2\2\2\u0af0\u0af1\b\u00e9\1"+
+		"\2\u0af1\u0af2\5\u01d2\u00ea\2\u0af2\u0afb\3\2\2\2\u0af3\u0af4\f\4\2\2"+
+		"\u0af4\u0af5\7S\2\2\u0af5\u0afa\5\u01d2\u00ea\2\u0af6\u0af7\f\3\2\2\u0af7"+
+		"\u0af8\7T\2\2\u0af8\u0afa\5\u01d2\u00ea\2\u0af9\u0af3\3\2\2\2\u0af9\u0af6"+
+		"\3\2\2\2\u0afa\u0afd\3\2\2\2\u0afb\u0af9\3\2\2\2\u0afb\u0afc\3\2\2\2\u0afc"+
+		"\u01d1\3\2\2\2\u0afd\u0afb\3\2\2\2\u0afe\u0aff\b\u00ea\1\2\u0aff\u0b00"+
+		"\5\u01d4\u00eb\2\u0b00\u0b0c\3\2\2\2\u0b01\u0b02\f\5\2\2\u0b02\u0b03\7"+
+		"U\2\2\u0b03\u0b0b\5\u01d4\u00eb\2\u0b04\u0b05\f\4\2\2\u0b05\u0b06\7V\2"+
+		"\2\u0b06\u0b0b\5\u01d4\u00eb\2\u0b07\u0b08\f\3\2\2\u0b08\u0b09\7Z\2\2"+
+		"\u0b09\u0b0b\5\u01d4\u00eb\2\u0b0a\u0b01\3\2\2\2\u0b0a\u0b04\3\2\2\2\u0b0a"+
+		"\u0b07\3\2\2\2\u0b0b\u0b0e\3\2\2\2\u0b0c\u0b0a\3\2\2\2\u0b0c\u0b0d\3\2"+
+		"\2\2\u0b0d\u01d3\3\2\2\2\u0b0e\u0b0c\3\2\2\2\u0b0f\u0b17\5\u01d6\u00ec"+
+		"\2\u0b10\u0b17\5\u01d8\u00ed\2\u0b11\u0b12\7S\2\2\u0b12\u0b17\5\u01d4"+
+		"\u00eb\2\u0b13\u0b14\7T\2\2\u0b14\u0b17\5\u01d4\u00eb\2\u0b15\u0b17\5"+
+		"\u01da\u00ee\2\u0b16\u0b0f\3\2\2\2\u0b16\u0b10\3\2\2\2\u0b16\u0b11\3\2"+
+		"\2\2\u0b16\u0b13\3\2\2\2\u0b16\u0b15\3\2\2\2\u0b17\u01d5\3\2\2\2\u0b18"+
+		"\u0b19\7Q\2\2\u0b19\u0b1a\5\u01d4\u00eb\2\u0b1a\u01d7\3\2\2\2\u0b1b\u0b1c"+
+		"\7R\2\2\u0b1c\u0b1d\5\u01d4\u00eb\2\u0b1d\u01d9\3\2\2\2\u0b1e\u0b25\5"+
+		"\u01dc\u00ef\2\u0b1f\u0b20\7H\2\2\u0b20\u0b25\5\u01d4\u00eb\2\u0b21\u0b22"+
+		"\7G\2\2\u0b22\u0b25\5\u01d4\u00eb\2\u0b23\u0b25\5\u01e6\u00f4\2\u0b24"+
+		"\u0b1e\3\2\2\2\u0b24\u0b1f\3\2\2\2\u0b24\u0b21\3\2\2\2\u0b24\u0b23\3\2"+
+		"\2\2\u0b25\u01db\3\2\2\2\u0b26\u0b29\5\u016e\u00b8\2\u0b27\u0b29\5<\37"+
+		"\2\u0b28\u0b26\3\2\2\2\u0b28\u0b27\3\2\2\2\u0b29\u0b2e\3\2\2\2\u0b2a\u0b2d"+
+		"\5\u01e0\u00f1\2\u0b2b\u0b2d\5\u01e4\u00f3\2\u0b2c\u0b2a\3\2\2\2\u0b2c"+
+		"\u0b2b\3\2\2\2\u0b2d\u0b30\3\2\2\2\u0b2e\u0b2c\3\2\2\2\u0b2e\u0b2f\3\2"+
+		"\2\2\u0b2f\u01dd\3\2\2\2\u0b30\u0b2e\3\2\2\2\u0b31\u0b32\5\u01dc\u00ef"+
+		"\2\u0b32\u0b33\7Q\2\2\u0b33\u01df\3\2\2\2\u0b34\u0b35\7Q\2\2\u0b35\u01e1"+
+		"\3\2\2\2\u0b36\u0b37\5\u01dc\u00ef\2\u0b37\u0b38\7R\2\2\u0b38\u01e3\3"+
+		"\2\2\2\u0b39\u0b3a\7R\2\2\u0b3a\u01e5\3\2\2\2\u0b3b\u0b3c\7;\2\2\u0b3c"+
+		"\u0b3d\5\6\4\2\u0b3d\u0b3e\7<\2\2\u0b3e\u0b3f\5\u01d4\u00eb\2\u0b3f\u0b57"+
+		"\3\2\2\2\u0b40\u0b41\7;\2\2\u0b41\u0b45\5\16\b\2\u0b42\u0b44\5*\26\2\u0b43"+
+		"\u0b42\3\2\2\2\u0b44\u0b47\3\2\2\2\u0b45\u0b43\3\2\2\2\u0b45\u0b46\3\2"+
+		"\2\2\u0b46\u0b48\3\2\2\2\u0b47\u0b45\3\2\2\2\u0b48\u0b49\7<\2\2\u0b49"+
+		"\u0b4a\5\u01da\u00ee\2\u0b4a\u0b57\3\2\2\2\u0b4b\u0b4c\7;\2\2\u0b4c\u0b50"+
+		"\5\16\b\2\u0b4d\u0b4f\5*\26\2\u0b4e\u0b4d\3\2\2\2\u0b4f\u0b52\3\2\2\2"+
+		"\u0b50\u0b4e\3\2\2\2\u0b50\u0b51\3\2\2\2\u0b51\u0b53\3\2\2\2\u0b52\u0b50"+
+		"\3\2\2\2\u0b53\u0b54\7<\2\2\u0b54\u0b55\5\u01ae\u00d8\2\u0b55\u0b57\3"+
+		"\2\2\2\u0b56\u0b3b\3\2\2\2\u0b56\u0b40\3\2\2\2\u0b56\u0b4b\3\2\2\2\u0b57"+
+		"\u01e7\3\2\2\2\u014b\u01ec\u01f1\u01f8\u01fc\u0200\u0209\u020d\u0211\u0213"+
+		"\u0219\u021e\u0225\u022a\u022c\u0232\u0237\u023c\u0241\u024c\u025a\u025f"+
+		"\u0267\u026e\u0274\u0279\u0284\u0287\u0295\u029a\u029f\u02a4\u02aa\u02b4"+
+		"\u02bc\u02c6\u02ce\u02da\u02de\u02e3\u02e9\u02f1\u02f8\u0302\u0309\u030d"+
+		"\u0312\u031b\u0326\u0343\u0347\u034c\u0352\u0355\u0358\u0364\u036f\u037d"+
+		"\u0384\u038d\u0394\u0399\u03a8\u03af\u03b5\u03b9\u03bd\u03c1\u03c5\u03ca"+
+		"\u03ce\u03d2\u03d4\u03d9\u03e0\u03e5\u03e7\u03ed\u03f2\u03f6\u0409\u040e"+
+		"\u041e\u0423\u0429\u042f\u0431\u0435\u043a\u043e\u0445\u044c\u0454\u0457"+
+		"\u045c\u0464\u0469\u0470\u0477\u047c\u0482\u048e\u0493\u0497\u04a1\u04a6"+
+		"\u04ae\u04b1\u04b6\u04be\u04c1\u04c6\u04cb\u04d0\u04d5\u04dc\u04e1\u04e9"+
+		"\u04ee\u04f3\u04f8\u04fe\u0504\u0507\u050a\u0513\u0519\u051f\u0522\u0525"+
+		"\u052d\u0532\u0537\u053d\u0540\u054b\u0554\u055e\u0563\u056e\u0573\u057f"+
+		"\u0584\u0590\u059a\u059f\u05a7\u05aa\u05b1\u05b9\u05bf\u05c8\u05d2\u05d6"+
+		"\u05d9\u05e2\u05f0\u05f3\u05fc\u0601\u0609\u060f\u0617\u0623\u062a\u0638"+
+		"\u064e\u0670\u067c\u0682\u068e\u069b\u06b5\u06b9\u06be\u06c2\u06c6\u06ce"+
+		"\u06d2\u06d6\u06dd\u06e6\u06ee\u06fd\u0709\u070f\u0715\u072a\u072f\u0735"+
+		"\u0741\u074c\u0756\u0759\u075e\u0767\u076d\u0777\u077c\u0785\u079c\u07a6"+
+		"\u07bc\u07c3\u07cb\u07d3\u07de\u07f5\u07ff\u080a\u0820\u0824\u0829\u0831"+
+		"\u0837\u083b\u083f\u0843\u0849\u084e\u0853\u0857\u085b\u0861\u0866\u086b"+
+		"\u086f\u0873\u0875\u087a\u087f\u0884\u0888\u088c\u0890\u0895\u089d\u08a3"+
+		"\u08a7\u08ab\u08af\u08b5\u08ba\u08bf\u08c3\u08c7\u08c9\u08ce\u08dd\u08eb"+
+		"\u08f7\u0900\u090f\u091c\u0925\u092b\u0932\u0937\u093e\u0943\u094a\u094f"+
+		"\u0956\u095b\u0963\u0968\u096c\u0970\u0975\u097c\u0983\u0988\u098f\u0994"+
+		"\u099b\u09a0\u09a8\u09ad\u09b1\u09b8\u09be\u09c5\u09cc\u09d3\u09db\u09e2"+
+		"\u09ea\u09ee\u09f5\u09fc\u0a03\u0a0b\u0a12\u0a1a\u0a20\u0a26\u0a32\u0a38"+
+		"\u0a3e\u0a49\u0a52\u0a59\u0a60\u0a65\u0a69\u0a72\u0a7d\u0a87\u0a92\u0a9d"+
+		"\u0aa8\u0ab3\u0abf\u0ac1\u0ad6\u0ad8\u0aeb\u0aed\u0af9\u0afb\u0b0a\u0b0c"+
+		"\u0b16\u0b24\u0b28\u0b2c\u0b2e\u0b45\u0b50\u0b56";
 	public static final String _serializedATN = Utils.join(
 		new String[] {
 			_serializedATNSegment0,
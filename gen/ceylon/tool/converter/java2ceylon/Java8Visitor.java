@@ -208,6 +208,30 @@ public interface Java8Visitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCompilationUnit(Java8Parser.CompilationUnitContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link Java8Parser#declarations}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDeclarations(Java8Parser.DeclarationsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link Java8Parser#singleStatements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSingleStatements(Java8Parser.SingleStatementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link Java8Parser#singleExpression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSingleExpression(Java8Parser.SingleExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link Java8Parser#classBodyDeclarations}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitClassBodyDeclarations(Java8Parser.ClassBodyDeclarationsContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link Java8Parser#declaration}.
 	 * @param ctx the parse tree
@@ -229,11 +229,25 @@ ambiguousName
  */
 
 compilationUnit
-	:	declaration+
-	|   classDeclaration+
-	|   (packageDeclaration? importDeclaration* typeDeclaration*) EOF
+	:	packageDeclaration? importDeclaration* typeDeclaration* EOF
 	;
 
+declarations
+    :   declaration+ EOF
+    ;
+
+singleStatements
+    :   singleStatement+ EOF
+    ;
+
+singleExpression
+    :   expression EOF
+    ;
+
+classBodyDeclarations
+    :   classBodyDeclaration* EOF
+    ;
+
 declaration
     :   methodDeclaration
     |   fieldDeclaration
@@ -1783,9 +1797,9 @@ WS  :  [ \t\r\n\u000C]+ -> skip
     ;
 
 COMMENT
-    :   '/*' .*? '*/' -> skip
+    :   '/*' .*? '*/' -> channel(HIDDEN)
     ;
 
 LINE_COMMENT
-    :   '//' ~[\r\n]* -> skip
+    :   '//' ~[\r\n]* -> channel(HIDDEN)
     ;
@@ -0,0 +1,932 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+/**
+ * Converts every {@code .java} file below a directory, mirroring the tree
+ * into a target directory. The source can also be a ZIP or JAR file, such as
+ * a {@code -sources.jar}, whose entries are then read where they are instead
+ * of being extracted first. When the target is a {@code .zip} file, or a
+ * {@code .src} file as Ceylon source archives are named, the converted files
+ * are written into that archive instead of a directory, by a single writer.
+ * Files in a target directory that already hold their new output are left
+ * untouched, so they keep their modification time.
+ *
+ * The work is split into three stages joined by bounded queues: readers load
+ * the sources, converter workers do the CPU-bound lexing, parsing and
+ * emission, and writers store the results. The reader and writer stages run
+ * on virtual threads when the JDK has them, and on a small dedicated I/O pool
+ * otherwise, so a slow filesystem never holds up a converter worker.
+ *
+ * Each file is lexed before it is parsed, and the parse only starts once the
+ * estimated size of its tokens and tree fits in the heap budget. Files that
+ * are large compared to a worker's share of the budget are set apart before
+ * reading starts, and converted one after the other by a single lane with
+ * its own reader, so several giant files never compete for the heap at the
+ * same time and never hold up the readers of the other files.
+ *
+ * Files are scheduled largest first, using the sizes collected while scanning
+ * the source tree. Every idle worker takes the next job from the shared queue,
+ * so the small files at the end fill in the gaps left by the big ones instead
+ * of a single big file running alone at the end of the batch.
+ */
+public class BatchConverter {
+
+    private static final String JAVA_SUFFIX = ".java";
+    private static final String CEYLON_SUFFIX = ".ceylon";
+
+    private final File sourceRoot;
+    private final File targetRoot;
+    private final boolean transformGetters;
+    private final boolean useValues;
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int ioThreads = 4;
+    private int queueCapacity = 64;
+    private long heapBudget = Runtime.getRuntime().maxMemory() / 2;
+    private long largeFileSize = -1;
+    private boolean failFast = true;
+    private boolean compactTrees;
+    private String indentation;
+    private boolean comments;
+    private int typeCacheSize;
+    private ParseCache parseCache;
+    private long fileTimeout;
+    private long workerStackSize = 16 * 1024 * 1024;
+
+    private volatile BlockingQueue<Job> parseQueue;
+    private volatile BlockingQueue<Job> largeFileQueue;
+    private volatile BlockingQueue<Job> writeQueue;
+    private MemoryBudget budget;
+    private ExecutorService io;
+    private ExecutorService cpu;
+    // what made the first stage fail, the others were interrupted after it
+    private AtomicReference<Throwable> failure;
+
+    private static class Job {
+        static final Job END = new Job(null, 0);
+
+        final String path;
+        final long size;
+        String content;
+        String output;
+        long reserved;
+        Throwable error;
+        List<SyntaxError> errors;
+
+        Job(String path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    private static final Comparator<Job> LARGEST_FIRST = new Comparator<Job>() {
+        @Override
+        public int compare(Job a, Job b) {
+            return a.size != b.size ? Long.compare(b.size, a.size) : a.path.compareTo(b.path);
+        }
+    };
+
+    public BatchConverter(File sourceRoot, File targetRoot, boolean transformGetters, boolean useValues) {
+        this.sourceRoot = sourceRoot;
+        this.targetRoot = targetRoot;
+        this.transformGetters = transformGetters;
+        this.useValues = useValues;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = Math.max(1, workers);
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public void setIoThreads(int ioThreads) {
+        this.ioThreads = Math.max(1, ioThreads);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public long getHeapBudget() {
+        return heapBudget;
+    }
+
+    public void setHeapBudget(long heapBudget) {
+        this.heapBudget = Math.max(1, heapBudget);
+    }
+
+    /**
+     * Source files of at least this many bytes go to the single-lane queue.
+     * By default that is any file estimated to need more than one worker's
+     * share of the heap budget.
+     */
+    public long getLargeFileSize() {
+        if (largeFileSize >= 0) {
+            return largeFileSize;
+        }
+        long share = heapBudget / workers;
+        long size = 1;
+        while (MemoryBudget.estimate(size) < share) {
+            size *= 2;
+        }
+        return size;
+    }
+
+    public void setLargeFileSize(long largeFileSize) {
+        this.largeFileSize = largeFileSize;
+    }
+
+    /**
+     * Whether a file with syntax errors fails, rather than being converted
+     * as far as the parser could recover. On by default.
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Whether expressions are parsed into compact trees, see
+     * {@link SourceConverter#setCompactTrees}.
+     */
+    public boolean isCompactTrees() {
+        return compactTrees;
+    }
+
+    public void setCompactTrees(boolean compactTrees) {
+        this.compactTrees = compactTrees;
+    }
+
+    /**
+     * What the output is indented with per level of braces, see
+     * {@link SourceConverter#setIndentation}.
+     */
+    public String getIndentation() {
+        return indentation;
+    }
+
+    public void setIndentation(String indentation) {
+        this.indentation = indentation;
+    }
+
+    /**
+     * Whether comments are carried over, see {@link SourceConverter#setComments}.
+     */
+    public boolean isComments() {
+        return comments;
+    }
+
+    public void setComments(boolean comments) {
+        this.comments = comments;
+    }
+
+    /**
+     * The number of rendered types all converters share, see
+     * {@link TypeCache}, or 0 for each converter to keep the types of the
+     * file it is converting only.
+     */
+    public int getTypeCacheSize() {
+        return typeCacheSize;
+    }
+
+    public void setTypeCacheSize(int typeCacheSize) {
+        this.typeCacheSize = typeCacheSize;
+    }
+
+    /**
+     * Where the tokens and parser decisions of all files are cached, see
+     * {@link ParseCache}, or null. Converting the same tree again, with the
+     * same or other options, only parses the files that changed.
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    /**
+     * Milliseconds a single file may spend being parsed and converted before
+     * it is given up on, or 0 for no limit.
+     */
+    public long getFileTimeout() {
+        return fileTimeout;
+    }
+
+    public void setFileTimeout(long fileTimeout) {
+        this.fileTimeout = Math.max(0, fileTimeout);
+    }
+
+    /**
+     * Stack size in bytes of the converter worker threads. Deeply nested
+     * code, like calls passed as arguments to calls many levels deep, is
+     * parsed and converted recursively.
+     */
+    public long getWorkerStackSize() {
+        return workerStackSize;
+    }
+
+    public void setWorkerStackSize(long workerStackSize) {
+        this.workerStackSize = Math.max(0, workerStackSize);
+    }
+
+    public int getParseQueueDepth() {
+        BlockingQueue<Job> queue = parseQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getLargeFileQueueDepth() {
+        BlockingQueue<Job> queue = largeFileQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getWriteQueueDepth() {
+        BlockingQueue<Job> queue = writeQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Whether the given file is read as an archive of sources, by its name.
+     */
+    public static boolean isArchive(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        return name.endsWith(".jar") || name.endsWith(".zip");
+    }
+
+    /**
+     * Whether the converted files are written into the given file as an
+     * archive, by its name.
+     */
+    public static boolean isTargetArchive(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        return name.endsWith(".zip") || name.endsWith(".src");
+    }
+
+    public BatchStats run() throws InterruptedException {
+        Sources sources = null;
+        Target target = null;
+        try {
+            sources = sourceRoot.isFile() && isArchive(sourceRoot)
+                    ? new Archive(sourceRoot) : new Directory(sourceRoot);
+            target = isTargetArchive(targetRoot) ? new TargetArchive(targetRoot) : new TargetDirectory(targetRoot);
+            BatchStats stats = run(sources, target);
+            target.finish();
+            return stats;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            closeQuietly(sources);
+            closeQuietly(target);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // already failing, or everything was read already
+            }
+        }
+    }
+
+    private BatchStats run(final Sources sources, final Target target) throws InterruptedException {
+        long start = System.nanoTime();
+        final BatchStats stats = new BatchStats(start);
+
+        List<Job> jobs = new ArrayList<>();
+        sources.collect(jobs);
+        Collections.sort(jobs, LARGEST_FIRST);
+
+        // split by the sizes found while collecting, so a reader never waits
+        // for the large file lane while the workers run out of files
+        long largeSize = getLargeFileSize();
+        final List<Job> smallJobs = new ArrayList<>();
+        final List<Job> largeJobs = new ArrayList<>();
+        for (Job job : jobs) {
+            if (job.size >= largeSize) {
+                stats.largeFileQueued();
+                largeJobs.add(job);
+            } else {
+                smallJobs.add(job);
+            }
+        }
+        parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        largeFileQueue = new ArrayBlockingQueue<>(1);
+        writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        // an archive can only be written sequentially
+        final int writers = target.isSequential() ? 1 : ioThreads;
+        budget = new MemoryBudget(heapBudget);
+        final TypeCache sharedTypes = typeCacheSize > 0 ? new TypeCache(typeCacheSize) : null;
+        long parseLookups = parseCache == null ? 0 : parseCache.getLookups();
+        long parseHits = parseCache == null ? 0 : parseCache.getHits();
+
+        io = newIoExecutor(ioThreads);
+        cpu = Executors.newFixedThreadPool(workers + 1, new WorkerThreadFactory(workerStackSize));
+        failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            final AtomicInteger nextJob = new AtomicInteger();
+            final AtomicInteger activeReaders = new AtomicInteger(ioThreads);
+            for (int i = 0; i < ioThreads; i++) {
+                futures.add(io.submit(new Stage() {
+                    @Override
+                    void work() throws InterruptedException {
+                        try {
+                            int index;
+                            while ((index = nextJob.getAndIncrement()) < smallJobs.size()) {
+                                Job job = smallJobs.get(index);
+                                read(sources, job, stats);
+                                hand(job, parseQueue, stats.parseQueue());
+                            }
+                        } finally {
+                            if (activeReaders.decrementAndGet() == 0) {
+                                for (int w = 0; w < workers; w++) {
+                                    parseQueue.put(Job.END);
+                                }
+                            }
+                        }
+                    }
+                }));
+            }
+            // the large file lane has a reader of its own, which reads the
+            // next file while the current one converts
+            futures.add(io.submit(new Stage() {
+                @Override
+                void work() throws InterruptedException {
+                    try {
+                        for (Job job : largeJobs) {
+                            read(sources, job, stats);
+                            hand(job, largeFileQueue, stats.largeFileQueue());
+                        }
+                    } finally {
+                        largeFileQueue.put(Job.END);
+                    }
+                }
+            }));
+
+            final AtomicInteger activeWorkers = new AtomicInteger(workers + 1);
+            for (int i = 0; i <= workers; i++) {
+                final boolean largeFileLane = i == workers;
+                final BlockingQueue<Job> queue = largeFileLane ? largeFileQueue : parseQueue;
+                futures.add(cpu.submit(new Stage() {
+                    @Override
+                    void work() throws InterruptedException {
+                        SourceConverter converter = new SourceConverter(transformGetters, useValues);
+                        converter.setFailFast(failFast);
+                        converter.setCompactTrees(compactTrees);
+                        converter.setIndentation(indentation);
+                        converter.setComments(comments);
+                        converter.setTypeCache(sharedTypes);
+                        converter.setParseCache(parseCache);
+                        try {
+                            while (true) {
+                                // the large file lane is expected to wait
+                                long waitStart = System.nanoTime();
+                                Job job = queue.take();
+                                if (!largeFileLane) {
+                                    stats.workerWaited(waitStart, job == Job.END);
+                                }
+                                if (job == Job.END) {
+                                    break;
+                                }
+                                long cpuStart = cpuTime();
+                                convert(converter, job);
+                                stats.converterTime(cpuTime() - cpuStart);
+                                hand(job, writeQueue, stats.writeQueue());
+                            }
+                            if (sharedTypes == null) {
+                                stats.typesLookedUp(converter.getTypeCache());
+                            }
+                        } finally {
+                            if (activeWorkers.decrementAndGet() == 0) {
+                                for (int w = 0; w < writers; w++) {
+                                    writeQueue.put(Job.END);
+                                }
+                            }
+                        }
+                    }
+                }));
+            }
+
+            for (int i = 0; i < writers; i++) {
+                futures.add(io.submit(new Stage() {
+                    @Override
+                    void work() throws InterruptedException {
+                        Job job;
+                        while ((job = writeQueue.take()) != Job.END) {
+                            write(target, job, stats);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // not necessarily this stage, which may just have been
+                    // interrupted by the one that failed
+                    failure.compareAndSet(null, e.getCause());
+                    throw new RuntimeException(failure.get());
+                }
+            }
+        } finally {
+            io.shutdownNow();
+            cpu.shutdownNow();
+        }
+
+        stats.setBudget(budget);
+        if (sharedTypes != null) {
+            stats.typesLookedUp(sharedTypes);
+        }
+        if (parseCache != null) {
+            stats.parsesLookedUp(parseCache.getLookups() - parseLookups, parseCache.getHits() - parseHits);
+        }
+        stats.setWorkers(workers);
+        stats.setCpuTimeMeasured(isCpuTimeMeasured());
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Where the sources of a batch are read from, by their path relative to
+     * the source root. Reads may happen on several threads at once.
+     */
+    private abstract static class Sources implements Closeable {
+        abstract void collect(List<Job> jobs);
+
+        abstract byte[] read(Job job) throws IOException;
+    }
+
+    private static final class Directory extends Sources {
+        private final File root;
+
+        Directory(File root) {
+            this.root = root;
+        }
+
+        @Override
+        void collect(List<Job> jobs) {
+            collect(root, "", jobs);
+        }
+
+        private void collect(File dir, String prefix, List<Job> jobs) {
+            File[] children = dir.listFiles();
+            if (children == null) {
+                return;
+            }
+            Arrays.sort(children);
+
+            for (File child : children) {
+                String path = prefix + child.getName();
+                if (child.isDirectory()) {
+                    collect(child, path + "/", jobs);
+                } else if (path.endsWith(JAVA_SUFFIX)) {
+                    jobs.add(new Job(path, child.length()));
+                }
+            }
+        }
+
+        @Override
+        byte[] read(Job job) throws IOException {
+            return Files.readAllBytes(new File(root, job.path).toPath());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // entries are inflated straight from the archive, which ZipFile allows
+    // on several threads at once
+    private static final class Archive extends Sources {
+        private final ZipFile zip;
+        // by their normalized path
+        private final Map<String, ZipEntry> entries = new HashMap<>();
+
+        Archive(File file) throws IOException {
+            zip = new ZipFile(file);
+        }
+
+        @Override
+        void collect(List<Job> jobs) {
+            Enumeration<? extends ZipEntry> all = zip.entries();
+            while (all.hasMoreElements()) {
+                ZipEntry entry = all.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.endsWith(JAVA_SUFFIX)) {
+                    continue;
+                }
+                String path = relativePath(name);
+                if (path == null) {
+                    // never written, but reported as failed
+                    Job job = new Job(name, 0);
+                    job.error = new IOException("Entry " + name + " lies outside of the archive root");
+                    jobs.add(job);
+                } else if (entries.containsKey(path)) {
+                    // the first entry is converted, the others reported
+                    Job job = new Job(name, 0);
+                    job.error = new IOException("Entry " + name + " has the same path as an earlier entry, " + path);
+                    jobs.add(job);
+                } else {
+                    entries.put(path, entry);
+                    jobs.add(new Job(path, Math.max(0, entry.getSize())));
+                }
+            }
+        }
+
+        /**
+         * The entry name as a path with '/' between its segments, or null if
+         * it is absolute or has a ".." segment, and could be written outside
+         * of the target.
+         */
+        static String relativePath(String name) {
+            String normalized = name.replace('\\', '/');
+            if (normalized.startsWith("/") || normalized.length() > 1 && normalized.charAt(1) == ':') {
+                return null;
+            }
+            StringBuilder path = new StringBuilder(normalized.length());
+            for (String segment : normalized.split("/")) {
+                if (segment.equals("..")) {
+                    return null;
+                }
+                if (!segment.isEmpty() && !segment.equals(".")) {
+                    if (path.length() > 0) {
+                        path.append('/');
+                    }
+                    path.append(segment);
+                }
+            }
+            return path.length() == 0 ? null : path.toString();
+        }
+
+        @Override
+        byte[] read(Job job) throws IOException {
+            ZipEntry entry = entries.get(job.path);
+            if (entry == null) {
+                throw new IOException("No entry " + job.path + " in " + zip.getName());
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                return readAll(in, entry.getSize());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.close();
+        }
+    }
+
+    private static byte[] readAll(InputStream in, long size) throws IOException {
+        if (size >= 0 && size < Integer.MAX_VALUE) {
+            byte[] bytes = new byte[(int) size];
+            int read = 0, n;
+            while (read < bytes.length && (n = in.read(bytes, read, bytes.length - read)) > 0) {
+                read += n;
+            }
+            if (read < bytes.length) {
+                return Arrays.copyOf(bytes, read);
+            }
+            int next = in.read();
+            if (next < 0) {
+                return bytes;
+            }
+            // longer than the archive said
+            ByteArrayOutputStream out = new ByteArrayOutputStream(2 * bytes.length + 1);
+            out.write(bytes);
+            out.write(next);
+            copy(in, out);
+            return out.toByteArray();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        copy(in, out);
+        return out.toByteArray();
+    }
+
+    private static void copy(InputStream in, ByteArrayOutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+    }
+
+    private static void hand(Job job, BlockingQueue<Job> queue, BatchStats.QueueGauge gauge)
+            throws InterruptedException {
+        queue.put(job);
+        gauge.sample(queue.size());
+    }
+
+    private void read(Sources sources, Job job, BatchStats stats) {
+        if (job.error != null) {
+            return;
+        }
+        try {
+            byte[] bytes = sources.read(job);
+            stats.fileRead(bytes.length);
+            job.content = new String(bytes, Charset.defaultCharset());
+        } catch (IOException e) {
+            job.error = e;
+        }
+    }
+
+    private void convert(SourceConverter converter, Job job) throws InterruptedException {
+        if (job.error != null) {
+            return;
+        }
+        try {
+            int chars = job.content.length();
+            CommonTokenStream tokens = converter.lex(new ANTLRInputStream(job.content));
+            job.content = null;
+
+            // held until the writer is done with the output
+            job.reserved = MemoryBudget.estimate(chars, tokens.size());
+            budget.acquire(job.reserved);
+
+            CancellationToken cancellation = fileTimeout > 0
+                    ? CancellationToken.withTimeout(fileTimeout) : CancellationToken.NONE;
+            job.output = converter.convert(tokens, cancellation);
+            job.errors = converter.getErrors();
+        } catch (RuntimeException e) {
+            job.error = e;
+        } catch (StackOverflowError e) {
+            // the converter is reset for the next file, so only this one fails
+            job.error = e;
+        } finally {
+            job.content = null;
+        }
+    }
+
+    private void write(Target target, Job job, BatchStats stats) {
+        try {
+            store(target, job, stats);
+        } finally {
+            job.output = null;
+            budget.release(job.reserved);
+        }
+    }
+
+    private void store(Target target, Job job, BatchStats stats) {
+        if (job.error != null) {
+            stats.fileFailed(job.path, job.error);
+            return;
+        }
+
+        String path = job.path.substring(0, job.path.length() - JAVA_SUFFIX.length()) + CEYLON_SUFFIX;
+        try {
+            if (target.write(path, job.output)) {
+                stats.fileConverted(job.output.length());
+            } else {
+                stats.fileUnchanged();
+            }
+            if (!job.errors.isEmpty()) {
+                stats.fileRecovered(job.path, job.errors);
+            }
+        } catch (IOException e) {
+            stats.fileFailed(job.path, e);
+        }
+    }
+
+    /**
+     * Where the converted files are written to, by their path relative to
+     * the target root.
+     */
+    private abstract static class Target implements Closeable {
+        /**
+         * @return false if the output was already there and left untouched
+         */
+        abstract boolean write(String path, String output) throws IOException;
+
+        /**
+         * Whether only one thread may write at a time.
+         */
+        abstract boolean isSequential();
+
+        /**
+         * Called once everything was written. Closing a target that wasn't
+         * finished discards what can be discarded.
+         */
+        void finish() throws IOException {
+        }
+    }
+
+    private static final class TargetDirectory extends Target {
+        private final File root;
+        private final Path canonicalRoot;
+
+        TargetDirectory(File root) throws IOException {
+            this.root = root;
+            canonicalRoot = root.getCanonicalFile().toPath();
+        }
+
+        @Override
+        boolean write(String path, String output) throws IOException {
+            File file = new File(root, path);
+            // whatever the path is made of, or its directories link to
+            if (!file.getCanonicalFile().toPath().startsWith(canonicalRoot)) {
+                throw new IOException(file + " lies outside of " + root);
+            }
+            return OutputFiles.writeIfChanged(file, output, Charset.defaultCharset());
+        }
+
+        @Override
+        boolean isSequential() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // one entry after the other into a single file, so the file system only
+    // ever sees one file being appended to. That is a temporary file next to
+    // the archive, which only replaces it once the whole batch was written.
+    private static final class TargetArchive extends Target {
+        private final Path file;
+        private final Path temporary;
+        private final ZipOutputStream zip;
+        private final Writer out;
+        private boolean finished;
+
+        TargetArchive(File file) throws IOException {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+                throw new IOException("Cannot create directory " + parent);
+            }
+            this.file = file.toPath();
+            temporary = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+            zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024));
+            out = new OutputStreamWriter(zip, Charset.defaultCharset());
+        }
+
+        @Override
+        boolean write(String path, String output) throws IOException {
+            zip.putNextEntry(new ZipEntry(path));
+            out.write(output);
+            out.flush();
+            zip.closeEntry();
+            return true;
+        }
+
+        @Override
+        boolean isSequential() {
+            return true;
+        }
+
+        @Override
+        void finish() throws IOException {
+            // an archive is only complete once its directory is written
+            out.close();
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            finished = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                try {
+                    out.close();
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+    }
+
+    private static boolean isCpuTimeMeasured() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+    }
+
+    // zero when the JVM can't measure it, the stats then report it unavailable
+    private static long cpuTime() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() ? Math.max(0, threads.getCurrentThreadCpuTime()) : 0;
+    }
+
+    private static ExecutorService newIoExecutor(int threads) {
+        // one thread for each reader, the large file reader and each writer,
+        // as they all block on the queues
+        try {
+            // Java 21+: blocking reads and writes only park a virtual thread
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(2 * threads + 1, new IoThreadFactory());
+        }
+    }
+
+    private abstract class Stage implements Callable<Void> {
+        abstract void work() throws InterruptedException;
+
+        @Override
+        public Void call() throws InterruptedException {
+            try {
+                work();
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+                // a dead stage would leave its neighbours blocked on a full or empty queue
+                io.shutdownNow();
+                cpu.shutdownNow();
+                throw t;
+            }
+            return null;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+        private final long stackSize;
+
+        WorkerThreadFactory(long stackSize) {
+            this.stackSize = stackSize;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(null, r, "java2ceylon-worker-" + count.incrementAndGet(), stackSize);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+    private static class IoThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "java2ceylon-io-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters collected while a {@link BatchConverter} runs. The queue depth
+ * gauges are sampled every time a file is handed to the next stage.
+ */
+public class BatchStats {
+
+    private final AtomicInteger converted = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger timedOut = new AtomicInteger();
+    private final AtomicInteger recovered = new AtomicInteger();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong charsWritten = new AtomicLong();
+    private final AtomicInteger largeFiles = new AtomicInteger();
+    private final AtomicLong typeLookups = new AtomicLong();
+    private final AtomicLong typeHits = new AtomicLong();
+    private final AtomicLong parseLookups = new AtomicLong();
+    private final AtomicLong parseHits = new AtomicLong();
+    private final QueueGauge parseQueue = new QueueGauge();
+    private final QueueGauge largeFileQueue = new QueueGauge();
+    private final QueueGauge writeQueue = new QueueGauge();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> syntaxErrors = Collections.synchronizedList(new ArrayList<String>());
+    private final long startNanos;
+    private final AtomicLong converterNanos = new AtomicLong();
+    private final AtomicLong idleNanos = new AtomicLong();
+    private final AtomicInteger finishedWorkers = new AtomicInteger();
+    private final AtomicLong finishedNanos = new AtomicLong();
+    private final AtomicLong firstIdleNanos = new AtomicLong(Long.MAX_VALUE);
+    private int workers;
+    private boolean cpuTimeMeasured;
+    private long elapsedNanos;
+    private long heapBudget;
+    private long peakReserved;
+    private long admissionWaits;
+    private long admissionWaitMillis;
+
+    BatchStats(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    static class QueueGauge {
+        private final AtomicInteger max = new AtomicInteger();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong samples = new AtomicLong();
+
+        void sample(int depth) {
+            int current;
+            while (depth > (current = max.get())) {
+                if (max.compareAndSet(current, depth)) {
+                    break;
+                }
+            }
+            total.addAndGet(depth);
+            samples.incrementAndGet();
+        }
+
+        int getMax() {
+            return max.get();
+        }
+
+        double getMean() {
+            long n = samples.get();
+            return n == 0 ? 0 : (double) total.get() / n;
+        }
+    }
+
+    void fileConverted(long written) {
+        converted.incrementAndGet();
+        charsWritten.addAndGet(written);
+    }
+
+    void fileUnchanged() {
+        converted.incrementAndGet();
+        unchanged.incrementAndGet();
+    }
+
+    void fileFailed(String path, Throwable error) {
+        failed.incrementAndGet();
+        if (error instanceof ConversionCancelledException) {
+            timedOut.incrementAndGet();
+        }
+        failures.add(path + ": " + error);
+    }
+
+    void fileRecovered(String path, List<SyntaxError> errors) {
+        recovered.incrementAndGet();
+        for (SyntaxError error : errors) {
+            syntaxErrors.add(path + ": " + error);
+        }
+    }
+
+    void fileRead(long read) {
+        bytesRead.addAndGet(read);
+    }
+
+    void converterTime(long nanos) {
+        converterNanos.addAndGet(nanos);
+    }
+
+    /**
+     * A worker waited from the given time for its next file. If there was
+     * none left, it stays idle until the end of the batch.
+     */
+    void workerWaited(long sinceNanos, boolean finished) {
+        long now = System.nanoTime();
+        idleNanos.addAndGet(now - sinceNanos);
+        if (finished) {
+            finishedWorkers.incrementAndGet();
+            finishedNanos.addAndGet(now - startNanos);
+            long since = sinceNanos - startNanos;
+            long current;
+            while (since < (current = firstIdleNanos.get())) {
+                if (firstIdleNanos.compareAndSet(current, since)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    void typesLookedUp(TypeCache types) {
+        typeLookups.addAndGet(types.getLookups());
+        typeHits.addAndGet(types.getHits());
+    }
+
+    void parsesLookedUp(long lookups, long hits) {
+        parseLookups.addAndGet(lookups);
+        parseHits.addAndGet(hits);
+    }
+
+    void largeFileQueued() {
+        largeFiles.incrementAndGet();
+    }
+
+    QueueGauge parseQueue() {
+        return parseQueue;
+    }
+
+    QueueGauge largeFileQueue() {
+        return largeFileQueue;
+    }
+
+    QueueGauge writeQueue() {
+        return writeQueue;
+    }
+
+    void setBudget(MemoryBudget budget) {
+        heapBudget = budget.getCapacity();
+        peakReserved = budget.getPeak();
+        admissionWaits = budget.getWaits();
+        admissionWaitMillis = budget.getWaitMillis();
+    }
+
+    void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    void setCpuTimeMeasured(boolean cpuTimeMeasured) {
+        this.cpuTimeMeasured = cpuTimeMeasured;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getConverted() {
+        return converted.get();
+    }
+
+    /**
+     * Converted files whose target already held exactly their output, and
+     * was left untouched. These are also counted as converted.
+     */
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Files that ran out of time, these are also counted as failed.
+     */
+    public int getTimedOut() {
+        return timedOut.get();
+    }
+
+    /**
+     * Files converted despite syntax errors, when not in fail-fast mode.
+     */
+    public int getRecovered() {
+        return recovered.get();
+    }
+
+    public List<String> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getCharsWritten() {
+        return charsWritten.get();
+    }
+
+    public int getMaxParseQueueDepth() {
+        return parseQueue.getMax();
+    }
+
+    public double getMeanParseQueueDepth() {
+        return parseQueue.getMean();
+    }
+
+    public int getLargeFiles() {
+        return largeFiles.get();
+    }
+
+    public int getMaxLargeFileQueueDepth() {
+        return largeFileQueue.getMax();
+    }
+
+    public long getHeapBudget() {
+        return heapBudget;
+    }
+
+    public long getPeakReserved() {
+        return peakReserved;
+    }
+
+    public long getAdmissionWaits() {
+        return admissionWaits;
+    }
+
+    public long getAdmissionWaitMillis() {
+        return admissionWaitMillis;
+    }
+
+    public int getMaxWriteQueueDepth() {
+        return writeQueue.getMax();
+    }
+
+    public double getMeanWriteQueueDepth() {
+        return writeQueue.getMean();
+    }
+
+    /**
+     * How often a type made of more than one token was rendered, including
+     * those found in a {@link TypeCache}.
+     */
+    public long getTypeLookups() {
+        return typeLookups.get();
+    }
+
+    public long getTypeCacheHits() {
+        return typeHits.get();
+    }
+
+    public double getTypeCacheHitRate() {
+        long lookups = getTypeLookups();
+        return lookups == 0 ? 0 : (double) getTypeCacheHits() / lookups;
+    }
+
+    /**
+     * How many files were looked up in the {@link ParseCache}, none if the
+     * batch had none.
+     */
+    public long getParseLookups() {
+        return parseLookups.get();
+    }
+
+    public long getParseCacheHits() {
+        return parseHits.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1000000;
+    }
+
+    /**
+     * Whether the JVM measured the CPU time of the converter threads. If it
+     * didn't, the converter time and the utilisation are unavailable.
+     */
+    public boolean isCpuTimeMeasured() {
+        return cpuTimeMeasured;
+    }
+
+    /**
+     * CPU time the converter threads spent lexing, parsing and emitting, or
+     * -1 if it couldn't be measured.
+     */
+    public long getConverterMillis() {
+        return cpuTimeMeasured ? converterNanos.get() / 1000000 : -1;
+    }
+
+    /**
+     * The workers, and the large file lane if any file was converted there.
+     * A lane that got no files only ever waited, and isn't counted.
+     */
+    public int getConverterThreads() {
+        return getLargeFiles() > 0 ? workers + 1 : workers;
+    }
+
+    /**
+     * Time between the first converter worker starting to wait for a file
+     * when there were none left, and the end of the batch.
+     */
+    public long getTailMillis() {
+        long idle = firstIdleNanos.get();
+        return idle == Long.MAX_VALUE ? 0 : Math.max(0, elapsedNanos - idle) / 1000000;
+    }
+
+    /**
+     * Time the converter workers together spent waiting for their next file,
+     * including the time from running out of files to the end of the batch.
+     */
+    public long getWorkerIdleMillis() {
+        long afterFinishing = finishedWorkers.get() * elapsedNanos - finishedNanos.get();
+        return (idleNanos.get() + Math.max(0, afterFinishing)) / 1000000;
+    }
+
+    /**
+     * Converter CPU time over the time all converter threads together were
+     * available during the makespan, so 1.0 means none was ever idle, or -1
+     * if the CPU time couldn't be measured.
+     */
+    public double getWorkerUtilisation() {
+        if (!cpuTimeMeasured) {
+            return -1;
+        }
+        int threads = getConverterThreads();
+        return elapsedNanos == 0 || threads == 0 ? 0 : (double) converterNanos.get() / elapsedNanos / threads;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Converted ").append(getConverted()).append(" file(s), ")
+                .append(getFailed()).append(" failed in ").append(getElapsedMillis()).append(" ms\n");
+        if (getUnchanged() > 0) {
+            sb.append(getUnchanged()).append(" file(s) unchanged, not rewritten\n");
+        }
+        if (getTimedOut() > 0 || getRecovered() > 0) {
+            sb.append(getTimedOut()).append(" file(s) timed out, ")
+                    .append(getRecovered()).append(" converted despite syntax errors\n");
+        }
+        if (cpuTimeMeasured) {
+            sb.append(String.format("Makespan %d ms, converter CPU time %d ms over %d thread(s), utilisation %.2f, tail %d ms, idle %d ms\n",
+                    getElapsedMillis(), getConverterMillis(), getConverterThreads(), getWorkerUtilisation(),
+                    getTailMillis(), getWorkerIdleMillis()));
+        } else {
+            sb.append(String.format("Makespan %d ms, converter CPU time unavailable, tail %d ms, idle %d ms\n",
+                    getElapsedMillis(), getTailMillis(), getWorkerIdleMillis()));
+        }
+        sb.append("Read ").append(getBytesRead()).append(" bytes, wrote ")
+                .append(getCharsWritten()).append(" chars\n");
+        sb.append(String.format("Parse queue depth: max %d, mean %.1f\n",
+                getMaxParseQueueDepth(), getMeanParseQueueDepth()));
+        sb.append(String.format("Large file queue: %d file(s), max depth %d\n",
+                getLargeFiles(), getMaxLargeFileQueueDepth()));
+        sb.append(String.format("Write queue depth: max %d, mean %.1f\n",
+                getMaxWriteQueueDepth(), getMeanWriteQueueDepth()));
+        sb.append(String.format("Heap budget: %d MB, peak reserved %d MB, %d admission wait(s) totalling %d ms\n",
+                getHeapBudget() >> 20, getPeakReserved() >> 20, getAdmissionWaits(), getAdmissionWaitMillis()));
+        sb.append(String.format("Type cache: %d lookup(s), hit rate %.2f\n",
+                getTypeLookups(), getTypeCacheHitRate()));
+        if (getParseLookups() > 0) {
+            sb.append(String.format("Parse cache: %d lookup(s), %d hit(s)\n",
+                    getParseLookups(), getParseCacheHits()));
+        }
+        synchronized (failures) {
+            for (String failure : failures) {
+                sb.append("Failed: ").append(failure).append("\n");
+            }
+        }
+        synchronized (syntaxErrors) {
+            for (String error : syntaxErrors) {
+                sb.append("Syntax error: ").append(error).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+/**
+ * Lets a conversion be stopped from another thread, or once it runs past a
+ * deadline. The parser, {@link ScopeTree} and the converter check the token
+ * every few hundred steps and throw {@link ConversionCancelledException} once
+ * it has been cancelled or has expired.
+ */
+public class CancellationToken {
+
+    public static final CancellationToken NONE = new CancellationToken(null, false, 0, 0) {
+        @Override
+        public void cancel() {
+            // shared by every conversion that can't be cancelled
+        }
+    };
+
+    private final CancellationToken parent;
+    private final boolean timed;
+    private final long deadline;
+    private final long timeoutMillis;
+    private volatile boolean cancelled;
+
+    private CancellationToken(CancellationToken parent, boolean timed, long deadline, long timeoutMillis) {
+        this.parent = parent;
+        this.timed = timed;
+        this.deadline = deadline;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * A token that is only cancelled by {@link #cancel()}.
+     */
+    public CancellationToken() {
+        this(null, false, 0, 0);
+    }
+
+    /**
+     * A token that expires the given number of milliseconds from now.
+     */
+    public static CancellationToken withTimeout(long millis) {
+        return new CancellationToken(null, true, System.nanoTime() + millis * 1000000, millis);
+    }
+
+    /**
+     * A token that is cancelled along with this one, but can also be
+     * cancelled on its own, to stop part of a conversion.
+     */
+    CancellationToken child() {
+        return new CancellationToken(this, false, 0, 0);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || isExpired() || parent != null && parent.isCancelled();
+    }
+
+    private boolean isExpired() {
+        return timed && System.nanoTime() - deadline >= 0;
+    }
+
+    public void check() {
+        if (parent != null) {
+            parent.check();
+        }
+        if (cancelled) {
+            throw new ConversionCancelledException("Conversion cancelled");
+        }
+        if (isExpired()) {
+            throw new ConversionCancelledException("Conversion took longer than " + timeoutMillis + " ms");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+import ceylon.tool.converter.java2ceylon.CeylonUnit.Imports;
+
+/**
+ * Renders a {@link CeylonUnit}. The length of the whole unit is known before
+ * anything is copied, so printing to a string fills a single array of the
+ * exact size, and printing to a writer goes through one buffer, flushed
+ * whenever it is full, instead of a call per part.
+ */
+final class CeylonPrinter {
+
+    // big units are written in pieces rather than held as characters twice
+    private static final int MAX_BUFFER = 1 << 16;
+
+    private final Writer out;
+    private final char[] buffer;
+    private int used;
+
+    CeylonPrinter(Writer out, int length) {
+        this.out = out;
+        buffer = new char[Math.max(16, Math.min(length, MAX_BUFFER))];
+    }
+
+    private CeylonPrinter(int length) {
+        out = null;
+        buffer = new char[length];
+    }
+
+    static String toString(CeylonUnit unit) {
+        CeylonPrinter printer = new CeylonPrinter(length(unit));
+        try {
+            printer.printParts(unit);
+        } catch (IOException e) {
+            throw new AssertionError(e); // there is no writer
+        }
+        return new String(printer.buffer, 0, printer.used);
+    }
+
+    static int length(CeylonUnit unit) {
+        int length = 0;
+        for (int i = 0; i < unit.size(); i++) {
+            Object part = unit.get(i);
+            if (part instanceof String) {
+                length += ((String) part).length();
+            } else if (part instanceof CeylonUnit) {
+                length += length((CeylonUnit) part);
+            } else {
+                length += text((Imports) part).length();
+            }
+        }
+        return length;
+    }
+
+    void print(CeylonUnit unit) throws IOException {
+        printParts(unit);
+        flush();
+    }
+
+    private void printParts(CeylonUnit unit) throws IOException {
+        for (int i = 0; i < unit.size(); i++) {
+            Object part = unit.get(i);
+            if (part instanceof String) {
+                write((String) part);
+            } else if (part instanceof CeylonUnit) {
+                printParts((CeylonUnit) part);
+            } else {
+                write(text((Imports) part));
+            }
+        }
+    }
+
+    private void write(String text) throws IOException {
+        int length = text.length();
+        if (used + length > buffer.length) {
+            flush();
+            if (length > buffer.length) {
+                out.write(text);
+                return;
+            }
+        }
+        text.getChars(0, length, buffer, used);
+        used += length;
+    }
+
+    private void flush() throws IOException {
+        if (used > 0) {
+            out.write(buffer, 0, used);
+            used = 0;
+        }
+    }
+
+    private static String text(Imports imports) {
+        if (imports.text == null) {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Map<String, Set<String>>> entry : imports.importsByPackage.entrySet()) {
+                sb.append("import ").append(entry.getKey()).append(" {\n");
+
+                boolean first = true;
+                for (Map.Entry<String, Set<String>> type : entry.getValue().entrySet()) {
+                    if (!first) {
+                        sb.append(",\n");
+                    }
+                    first = false;
+
+                    sb.append(type.getKey());
+                    Set<String> members = type.getValue();
+                    if (members != null) {
+                        sb.append("{\n");
+                        boolean firstMember = true;
+                        for (String member : members) {
+                            if (!firstMember) {
+                                sb.append(", \n");
+                            }
+                            firstMember = false;
+                            sb.append(member);
+                        }
+                        sb.append("\n}\n");
+                    }
+                }
+                sb.append("\n}\n");
+            }
+            imports.text = sb.toString();
+        }
+        return imports.text;
+    }
+}
@@ -0,0 +1,117 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Ceylon code {@link JavaToCeylonConverter} produces, as the parts it
+ * was emitted in: runs of text, the import list, and units emitted
+ * separately, for instance on other threads, which are spliced in without
+ * copying their text. Nothing is turned into characters until the unit is
+ * printed, by a {@link CeylonPrinter} that knows the exact size up front.
+ */
+public final class CeylonUnit {
+
+    private Object[] parts;
+    private int count;
+
+    public CeylonUnit() {
+        parts = new Object[64];
+    }
+
+    void append(String text) {
+        if (!text.isEmpty()) {
+            add(text);
+        }
+    }
+
+    void append(CeylonUnit unit) {
+        add(unit);
+    }
+
+    void appendImports(Map<String, Map<String, Set<String>>> importsByPackage) {
+        add(new Imports(importsByPackage));
+    }
+
+    /**
+     * Puts the text at the end of the last line the parts from the given
+     * one on have written, before its line break, or on a line of its own
+     * if that line isn't finished yet or was written by a spliced unit.
+     */
+    void appendToLastLine(String text, int from) {
+        boolean broken = false;
+        for (int i = count - 1; i >= from && parts[i] instanceof String; i--) {
+            String part = (String) parts[i];
+            int end = part.length();
+            while (end > 0 && part.charAt(end - 1) == '\n') {
+                end--;
+            }
+            broken |= end < part.length();
+            if (end > 0) {
+                if (broken) {
+                    parts[i] = part.substring(0, end) + text + part.substring(end);
+                    return;
+                }
+                break;
+            }
+        }
+        add(text + "\n");
+    }
+
+    private void add(Object part) {
+        if (count == parts.length) {
+            parts = Arrays.copyOf(parts, 2 * count);
+        }
+        parts[count++] = part;
+    }
+
+    int size() {
+        return count;
+    }
+
+    Object get(int index) {
+        return parts[index];
+    }
+
+    /**
+     * The number of characters this unit prints as.
+     */
+    public int length() {
+        return CeylonPrinter.length(this);
+    }
+
+    public void printTo(Writer out) throws IOException {
+        new CeylonPrinter(out, length()).print(this);
+    }
+
+    @Override
+    public String toString() {
+        return CeylonPrinter.toString(this);
+    }
+
+    /**
+     * The imports of a compilation unit: by escaped package name, the types
+     * imported from it, each with the static members imported from it or
+     * null.
+     */
+    static final class Imports {
+        final Map<String, Map<String, Set<String>>> importsByPackage;
+        String text;
+
+        Imports(Map<String, Map<String, Set<String>>> importsByPackage) {
+            this.importsByPackage = importsByPackage;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ceylon.tool.converter.java2ceylon.Java8Parser.AdditiveExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.AndExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.AssignmentExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ConditionalAndExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ConditionalExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ConditionalOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.EqualityExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ExclusiveOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.InclusiveOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.MultiplicativeExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.PostfixExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.RelationalExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ShiftExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.UnaryExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.UnaryExpressionNotPlusMinusContext;
+
+/**
+ * A parse listener that drops the contexts between an expression and a
+ * plain operand. Every precedence level of the grammar wraps the one below,
+ * so the name {@code x} as an expression is a chain of sixteen contexts
+ * down to its {@code postfixExpression}, which is most of the tree in
+ * expression heavy code.
+ *
+ * The topmost context of such a chain is kept, so whatever refers to it
+ * still finds it, and gets the {@code postfixExpression} as its only child.
+ * Its accessor for the level below it returns null then, which visitors
+ * have to allow for, for instance by visiting the last child of a binary
+ * operator rule as its right operand. Chains ending in anything else are
+ * left alone, the converter looks at the parents of operators and casts.
+ *
+ * Only the outermost context of a left recursive rule is exited, the others
+ * are compacted when the next one is entered.
+ */
+final class ChainCompactor extends Java8BaseListener {
+
+    static final ChainCompactor INSTANCE = new ChainCompactor();
+
+    private static final Set<Class<?>> LEVELS = new HashSet<Class<?>>(Arrays.asList(
+            AssignmentExpressionContext.class, ConditionalExpressionContext.class,
+            ConditionalOrExpressionContext.class, ConditionalAndExpressionContext.class,
+            InclusiveOrExpressionContext.class, ExclusiveOrExpressionContext.class,
+            AndExpressionContext.class, EqualityExpressionContext.class,
+            RelationalExpressionContext.class, ShiftExpressionContext.class,
+            AdditiveExpressionContext.class, MultiplicativeExpressionContext.class,
+            UnaryExpressionContext.class, UnaryExpressionNotPlusMinusContext.class));
+
+    private ChainCompactor() {
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        // a left recursive rule just wrapped its previous context
+        if (ctx.getChildCount() == 1 && ctx.getChild(0).getClass() == ctx.getClass()) {
+            compact((ParserRuleContext) ctx.getChild(0));
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        compact(ctx);
+    }
+
+    private static void compact(ParserRuleContext ctx) {
+        if (ctx.getChildCount() != 1) {
+            return;
+        }
+        ParseTree level = ctx.getChild(0);
+        if (LEVELS.contains(level.getClass()) && level.getChildCount() == 1
+                && level.getChild(0) instanceof PostfixExpressionContext) {
+            PostfixExpressionContext operand = (PostfixExpressionContext) level.getChild(0);
+            ctx.children.set(0, operand);
+            operand.parent = ctx;
+        }
+    }
+}
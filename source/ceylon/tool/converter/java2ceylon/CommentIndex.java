@@ -0,0 +1,146 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.antlr.v4.runtime.Token;
+
+/**
+ * The comments of a file, which the lexer puts on the hidden channel, with
+ * the code tokens around them. It is built with one pass over the tokens,
+ * after which the comments of a member or statement are found by binary
+ * search on its first or last token instead of by scanning the token stream.
+ *
+ * A comment on the same line as a preceding {@code ;} or {@code }} trails
+ * the code ending there, any other comment leads the code that follows it.
+ * It is safe to share an index between threads once it is built.
+ */
+final class CommentIndex {
+
+    private final Token[] comments;
+    // token indices of the code tokens before and after each comment, both
+    // in ascending order since the comments are
+    private final int[] previous;
+    private final int[] next;
+    private final boolean[] trailing;
+
+    private CommentIndex(Token[] comments, int[] previous, int[] next, boolean[] trailing) {
+        this.comments = comments;
+        this.previous = previous;
+        this.next = next;
+        this.trailing = trailing;
+    }
+
+    static CommentIndex build(List<Token> tokens) {
+        int count = 0;
+        for (Token token : tokens) {
+            if (isComment(token)) {
+                count++;
+            }
+        }
+        Token[] comments = new Token[count];
+        int[] previous = new int[count];
+        int[] next = new int[count];
+        boolean[] trailing = new boolean[count];
+
+        Token code = null;
+        int c = 0, pending = 0;
+        for (Token token : tokens) {
+            if (isComment(token)) {
+                comments[c] = token;
+                previous[c] = code == null ? -1 : code.getTokenIndex();
+                trailing[c] = code != null && token.getLine() == code.getLine()
+                        && (code.getType() == Java8Parser.SEMI || code.getType() == Java8Parser.RBRACE);
+                c++;
+            } else if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                code = token;
+                while (pending < c) {
+                    next[pending++] = token.getTokenIndex();
+                }
+            }
+        }
+        while (pending < c) {
+            next[pending++] = Integer.MAX_VALUE;
+        }
+        return new CommentIndex(comments, previous, next, trailing);
+    }
+
+    private static boolean isComment(Token token) {
+        return token.getType() == Java8Lexer.COMMENT || token.getType() == Java8Lexer.LINE_COMMENT;
+    }
+
+    /**
+     * The leading comments of the code tokens from index {@code from} up
+     * to {@code to}, exclusive, in source order.
+     */
+    List<Token> leading(int from, int to) {
+        int end = lowerBound(next, to);
+        List<Token> found = null;
+        for (int i = lowerBound(next, from); i < end; i++) {
+            if (!trailing[i]) {
+                found = add(found, comments[i]);
+            }
+        }
+        return found == null ? Collections.<Token>emptyList() : found;
+    }
+
+    /**
+     * The comments before the code token at the given index, except those
+     * leading it, in source order.
+     */
+    List<Token> before(int index) {
+        int end = lowerBound(next, index);
+        // comments trailing the code before the token come first
+        while (end < comments.length && next[end] == index && trailing[end]) {
+            end++;
+        }
+        return Arrays.asList(comments).subList(0, end);
+    }
+
+    /**
+     * The comments trailing the code token at the given index.
+     */
+    List<Token> trailing(int index) {
+        int end = lowerBound(previous, index + 1);
+        List<Token> found = null;
+        for (int i = lowerBound(previous, index); i < end; i++) {
+            if (trailing[i]) {
+                found = add(found, comments[i]);
+            }
+        }
+        return found == null ? Collections.<Token>emptyList() : found;
+    }
+
+    private static List<Token> add(List<Token> found, Token comment) {
+        if (found == null) {
+            found = new ArrayList<>(2);
+        }
+        found.add(comment);
+        return found;
+    }
+
+    // the first position holding a value of at least key
+    private static int lowerBound(int[] values, int key) {
+        int low = 0, high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,22 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+/**
+ * Thrown when a conversion is stopped by its {@link CancellationToken}.
+ */
+public class ConversionCancelledException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConversionCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.List;
+
+/**
+ * Thrown in fail-fast mode when the source has syntax errors.
+ */
+public class ConversionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<SyntaxError> errors;
+
+    public ConversionException(List<SyntaxError> errors) {
+        super(errors.isEmpty() ? "Syntax error" : errors.get(0).toString());
+        this.errors = errors;
+    }
+
+    public List<SyntaxError> getErrors() {
+        return errors;
+    }
+}
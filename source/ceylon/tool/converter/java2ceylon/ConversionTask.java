@@ -0,0 +1,54 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A conversion of a code fragment that can run on any executor. Cancelling
+ * the task also cancels its {@link CancellationToken}, so a conversion that
+ * is already running stops at the next check instead of running to the end.
+ *
+ * The conversion uses the {@link SourceConverter} kept by the thread that
+ * runs it, so executor threads stay warm between tasks.
+ */
+public class ConversionTask extends FutureTask<String> {
+
+    private final CancellationToken cancellation;
+
+    public ConversionTask(String code, boolean transformGetters, boolean useValues) {
+        this(code, transformGetters, useValues, new CancellationToken());
+    }
+
+    public ConversionTask(final String code, final boolean transformGetters, final boolean useValues,
+            final CancellationToken cancellation) {
+        super(new Callable<String>() {
+            @Override
+            public String call() {
+                return SourceConverter.forCurrentThread(transformGetters, useValues).convert(code, cancellation);
+            }
+        });
+        this.cancellation = cancellation;
+    }
+
+    public CancellationToken getCancellation() {
+        return cancellation;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        // the task is cancelled first, or the conversion could stop and fail
+        // the task before it is
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        cancellation.cancel();
+        return cancelled;
+    }
+}
@@ -0,0 +1,193 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Indents Ceylon code by brace depth as it is written through, in a single
+ * pass and with a fixed amount of memory, however big the output. Lines
+ * lose the whitespace they started with and get one indentation per open
+ * brace instead, one less if they start with the closing brace. Braces in
+ * string and character literals and in comments don't count, and lines
+ * inside multi-line strings are left as they are.
+ */
+final class IndentingWriter extends Writer {
+
+    private static final int CODE = 0, LINE_COMMENT = 1, BLOCK_COMMENT = 2,
+            STRING = 3, VERBATIM_STRING = 4, CHARACTER = 5;
+
+    private final Writer out;
+    private final String indentation;
+    private final char[] buffer = new char[8192];
+    private int used;
+
+    private int state = CODE;
+    private int depth;
+    private boolean lineStart = true;
+    // the previous character, for "//", "/*", "*/" and escapes
+    private char previous;
+    private boolean escaped;
+    // quotes seen in a row, to tell "" from the start and end of """
+    private int quotes;
+    private int stringLength;
+
+    IndentingWriter(Writer out, String indentation) {
+        this.out = out;
+        this.indentation = indentation;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        process((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            process(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            process(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain();
+        out.close();
+    }
+
+    private void process(char c) throws IOException {
+        if (lineStart && state != STRING && state != VERBATIM_STRING) {
+            if (c == ' ' || c == '\t') {
+                return;
+            }
+            if (c != '\n') {
+                startLine(c);
+            }
+        }
+        emit(c);
+        track(c);
+        lineStart = c == '\n';
+    }
+
+    private void track(char c) {
+        switch (state) {
+        case CODE:
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth = Math.max(0, depth - 1);
+            } else if (c == '"') {
+                state = STRING;
+                quotes = 1;
+                stringLength = 0;
+                escaped = false;
+            } else if (c == '\'') {
+                state = CHARACTER;
+                escaped = false;
+            } else if (c == '/' && previous == '/') {
+                state = LINE_COMMENT;
+            } else if (c == '*' && previous == '/') {
+                state = BLOCK_COMMENT;
+                c = 0; // so "/*/" doesn't end it
+            }
+            break;
+        case LINE_COMMENT:
+            if (c == '\n') {
+                state = CODE;
+            }
+            break;
+        case BLOCK_COMMENT:
+            if (c == '/' && previous == '*') {
+                state = CODE;
+                c = 0;
+            }
+            break;
+        case STRING:
+            if (quotes == 2) {
+                if (c == '"') {
+                    state = VERBATIM_STRING;
+                    quotes = 0;
+                } else {
+                    // it was "", so this is code again
+                    state = CODE;
+                    previous = 0;
+                    track(c);
+                    return;
+                }
+            } else if (c == '"' && !escaped) {
+                if (stringLength == 0) {
+                    // either "" or the start of """
+                    quotes = 2;
+                } else {
+                    state = CODE;
+                }
+            } else {
+                stringLength++;
+                escaped = c == '\\' && !escaped;
+            }
+            break;
+        case VERBATIM_STRING:
+            quotes = c == '"' ? quotes + 1 : 0;
+            if (quotes == 3) {
+                state = CODE;
+            }
+            break;
+        case CHARACTER:
+            if (c == '\'' && !escaped) {
+                state = CODE;
+            } else {
+                escaped = c == '\\' && !escaped;
+            }
+            break;
+        }
+        previous = c;
+    }
+
+    private void startLine(char first) throws IOException {
+        int levels = state == CODE && first == '}' ? depth - 1 : depth;
+        for (int i = 0; i < levels; i++) {
+            for (int j = 0; j < indentation.length(); j++) {
+                emit(indentation.charAt(j));
+            }
+        }
+        if (state == BLOCK_COMMENT && first == '*') {
+            emit(' ');
+        }
+        lineStart = false;
+    }
+
+    private void emit(char c) throws IOException {
+        if (used == buffer.length) {
+            drain();
+        }
+        buffer[used++] = c;
+    }
+
+    private void drain() throws IOException {
+        if (used > 0) {
+            out.write(buffer, 0, used);
+            used = 0;
+        }
+    }
+}
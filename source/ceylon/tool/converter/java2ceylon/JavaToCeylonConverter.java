@@ -10,48 +10,173 @@
 package ceylon.tool.converter.java2ceylon;
 
 import ceylon.tool.converter.java2ceylon.Java8Parser.*;
-import ceylon.tool.converter.java2ceylon.ScopeTree.Node;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.RuleNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
-import java.io.IOException;
-import java.io.Writer;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
     private boolean transformGetters;
     private boolean useValues;
-    private Writer writer;
-    private Pattern GETTER_PATTERN = Pattern.compile("(get|is)([A-Z]\\w*)");
+    private CeylonUnit unit;
     private ScopeTree scopeTree;
     private ClassTypeContext superClass;
-    private static final List<String> RESERVED_KEYWORDS = Arrays.asList(
+    private CancellationToken cancellation = CancellationToken.NONE;
+    private int steps;
+    private Executor executor;
+    private CommentIndex comments;
+    private TypeCache types;
+    // set while a type is rendered for the cache, so its parts aren't cached on their own
+    private boolean renderingType;
+    // below this many tokens, emitting declarations on another thread costs more than it saves
+    private static final int MIN_TASK_TOKENS = 4096;
+    // packages seen in imports, which mostly repeat from file to file
+    private static final int MAX_ESCAPED_PACKAGES = 4096;
+    private final Map<String, String> escapedPackages = new HashMap<>();
+    private static final Set<String> RESERVED_KEYWORDS = new HashSet<>(Arrays.asList(
             "assembly", "abstracts", "alias", "assert", "assign", "break", "case", "catch", "class",
             "continue", "dynamic", "else", "exists", "extends", "finally", "for", "function", "given", "if", "import",
             "in", "interface", "is", "module", "nonempty", "object", "of", "out", "outer", "package", "return",
             "satisfies", "super", "switch", "then", "this", "throw", "try", "value", "void", "while"
-    );
-
-    public JavaToCeylonConverter(Writer out, boolean transformGetters, boolean useValues, ScopeTree scopeTree) {
-        writer = out;
+    ));
+    private static final Map<String, String> PRIMITIVE_ARRAY_TYPES = new HashMap<>();
+
+    static {
+        PRIMITIVE_ARRAY_TYPES.put("int", "IntArray");
+        PRIMITIVE_ARRAY_TYPES.put("short", "ShortArray");
+        PRIMITIVE_ARRAY_TYPES.put("boolean", "BooleanArray");
+        PRIMITIVE_ARRAY_TYPES.put("byte", "ByteArray");
+        PRIMITIVE_ARRAY_TYPES.put("long", "LongArray");
+        PRIMITIVE_ARRAY_TYPES.put("float", "FloatArray");
+        PRIMITIVE_ARRAY_TYPES.put("double", "DoubleArray");
+        PRIMITIVE_ARRAY_TYPES.put("char", "CharArray");
+    }
+
+    public JavaToCeylonConverter(CeylonUnit out, boolean transformGetters, boolean useValues, ScopeTree scopeTree) {
+        unit = out;
         this.transformGetters = transformGetters;
         this.useValues = useValues;
         this.scopeTree = scopeTree;
     }
 
+    public void reset(CeylonUnit out) {
+        unit = out;
+        superClass = null;
+        comments = null;
+        types = null;
+    }
+
+    /**
+     * The comments of the source being converted, which are then written
+     * before and after the members and statements they belong to, or null
+     * to leave them out.
+     */
+    void setComments(CommentIndex comments) {
+        this.comments = comments;
+    }
+
+    /**
+     * Where types rendered from more than one token are kept, so each
+     * distinct type is only rendered once, or null to render every use.
+     */
+    void setTypeCache(TypeCache types) {
+        this.types = types;
+    }
+
+    public void setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * Lets top-level types and class members be emitted in parallel on the
+     * given executor, or sequentially if it is null. The output is the same
+     * either way.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    private void checkCancelled() {
+        if ((++steps & 0xFF) == 0) {
+            cancellation.check();
+        }
+    }
+
+    @Override
+    public Void visitChildren(RuleNode node) {
+        checkCancelled();
+        return super.visitChildren(node);
+    }
+
     private void write(String str) {
-        try {
-            writer.write(str);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        checkCancelled();
+        unit.append(str);
+    }
+
+    // comments leading the code tokens from from to to, exclusive, each on a line of its own
+    private void writeComments(int from, int to) {
+        if (comments != null) {
+            for (Token comment : comments.leading(from, to)) {
+                write(comment.getText());
+                write("\n");
+            }
         }
     }
 
+    // comments that lead the closing brace of a body
+    private void writeCommentsBefore(Token closing) {
+        if (closing != null) {
+            writeComments(closing.getTokenIndex(), closing.getTokenIndex() + 1);
+        }
+    }
+
+    /**
+     * Visits a member or statement, with the comments leading it on the
+     * lines before it and those trailing it at the end of its last line.
+     */
+    private Void visitWithComments(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (comments == null || start == null || stop == null) {
+            return visitChildren(ctx);
+        }
+        writeComments(start.getTokenIndex(), start.getTokenIndex() + 1);
+        int from = unit.size();
+        visitChildren(ctx);
+        for (Token comment : comments.trailing(stop.getTokenIndex())) {
+            unit.appendToLastLine(" " + comment.getText(), from);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitTypeDeclaration(TypeDeclarationContext ctx) {
+        return visitWithComments(ctx);
+    }
+
+    @Override
+    public Void visitClassBodyDeclaration(ClassBodyDeclarationContext ctx) {
+        return visitWithComments(ctx);
+    }
+
+    @Override
+    public Void visitInterfaceMemberDeclaration(InterfaceMemberDeclarationContext ctx) {
+        return visitWithComments(ctx);
+    }
+
+    @Override
+    public Void visitBlockStatement(BlockStatementContext ctx) {
+        return visitWithComments(ctx);
+    }
+
     private boolean hasModifier(List<? extends ParserRuleContext> modifiers, String modifier) {
         for (ParserRuleContext m : modifiers) {
             if (m.getText().equals(modifier)) {
@@ -62,15 +187,18 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         return false;
     }
 
-    private void addImport(Map<String, List<String>> importsByPackage, String pack, String type) {
-        List<String> imports;
-
+    /**
+     * Adds a type to the imports of its package, which map the types
+     * imported from each package to the static members imported from them,
+     * or null if there are none, in the order they were first imported.
+     */
+    private Map<String, Set<String>> addImport(Map<String, Map<String, Set<String>>> importsByPackage,
+            String pack, String type) {
         pack = escapePackageIdentifiers(pack);
 
-        if (importsByPackage.containsKey(pack)) {
-            imports = importsByPackage.get(pack);
-        } else {
-            imports = new ArrayList<>();
+        Map<String, Set<String>> imports = importsByPackage.get(pack);
+        if (imports == null) {
+            imports = new LinkedHashMap<>();
             importsByPackage.put(pack, imports);
         }
 
@@ -79,54 +207,64 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
             imports.clear();
         }
 
-        if (imports.size() == 1 && imports.get(0).equals("...")) {
-            return; // No need to add a single import if there's already a wildcard
+        if (imports.containsKey("...")) {
+            return imports; // No need to add a single import if there's already a wildcard
         }
 
-        if(!imports.contains(type))
-            imports.add(type);
+        if (!imports.containsKey(type)) {
+            imports.put(type, null);
+        }
+        return imports;
     }
 
     private String escapePackageIdentifiers(String pack) {
-        StringBuilder builder = new StringBuilder();
-
-        for (String id : pack.split("\\.")) {
-            if (builder.length() > 0) {
-                builder.append(".");
+        String escaped = escapedPackages.get(pack);
+        if (escaped == null) {
+            StringBuilder builder = new StringBuilder();
+            int start = 0;
+            while (true) {
+                int dot = pack.indexOf('.', start);
+                if (start > 0) {
+                    builder.append(".");
+                }
+                builder.append(escapeIdentifier(pack.substring(start, dot < 0 ? pack.length() : dot), false));
+                if (dot < 0) {
+                    break;
+                }
+                start = dot + 1;
+            }
+            escaped = builder.toString();
+            if (escapedPackages.size() == MAX_ESCAPED_PACKAGES) {
+                escapedPackages.clear();
             }
-            builder.append(escapeIdentifier(id, false));
+            escapedPackages.put(pack, escaped);
         }
-
-        return builder.toString();
+        return escaped;
     }
 
-    private void addStaticImport(Map<String, List<String>> staticImports, String pack, String type) {
-        List<String> imports;
-
-        if(staticImports.containsKey(pack)) {
-            imports = staticImports.get(pack);
-        } else {
-            imports = new ArrayList<>();
-            staticImports.put(pack, imports);
+    private void addStaticImport(Map<String, Set<String>> imports, String type, String member) {
+        if (!imports.containsKey(type)) {
+            return; // the package is imported on demand, which leaves no room for members
+        }
+        Set<String> members = imports.get(type);
+        if (members == null) {
+            members = new LinkedHashSet<>();
+            imports.put(type, members);
         }
 
         // import on demand wins over single imports
-        if (type.equals("...") && !imports.isEmpty()) {
-            imports.clear();
+        if (member.equals("...") && !members.isEmpty()) {
+            members.clear();
         }
 
-        if (imports.size() == 1 && imports.get(0).equals("...")) {
-            return; // No need to add a single import if there's already a wildcard
+        if (!members.contains("...")) {
+            members.add(member);
         }
-
-        if(!imports.contains(type))
-            imports.add(type);
     }
 
     @Override
     public Void visitCompilationUnit(CompilationUnitContext ctx) {
-        Map<String, List<String>> importsByPackage = new LinkedHashMap<>();
-        Map<String, List<String>> staticImports = new LinkedHashMap<>();
+        Map<String, Map<String, Set<String>>> importsByPackage = new LinkedHashMap<>();
 
         for (ImportDeclarationContext decl : ctx.importDeclaration()) {
             if (decl.singleTypeImportDeclaration() != null) {
@@ -140,50 +278,133 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
             if(decl.singleStaticImportDeclaration() != null) {
                 TypeNameContext typeName = decl.singleStaticImportDeclaration().typeName();
-                addImport(importsByPackage, typeName.packageOrTypeName().getText(), typeName.Identifier().getText());
-                addStaticImport(staticImports, typeName.getText(), decl.singleStaticImportDeclaration().Identifier().getText());
+                String type = typeName.Identifier().getText();
+                addStaticImport(addImport(importsByPackage, typeName.packageOrTypeName().getText(), type),
+                        type, decl.singleStaticImportDeclaration().Identifier().getText());
             }
             if(decl.staticImportOnDemandDeclaration() != null) {
                 TypeNameContext typeName = decl.staticImportOnDemandDeclaration().typeName();
-                addImport(importsByPackage, typeName.packageOrTypeName().getText(), typeName.Identifier().getText());
-                addStaticImport(staticImports, typeName.getText(), "...");
+                String type = typeName.Identifier().getText();
+                addStaticImport(addImport(importsByPackage, typeName.packageOrTypeName().getText(), type),
+                        type, "...");
             }
         }
 
-        for (Map.Entry<String, List<String>> entry : importsByPackage.entrySet()) {
-            String key = entry.getKey();
-            write("import ");
-            write(key);
-            write(" {\n");
-
-            for (int i = 0; i < entry.getValue().size(); i++) {
-                if (i > 0) {
-                    write(",\n");
-                }
+        if (comments != null) {
+            // the header of the file, and whatever is next to the imports
+            List<TypeDeclarationContext> types = ctx.typeDeclaration();
+            int end = types.isEmpty() ? Integer.MAX_VALUE : types.get(0).getStart().getTokenIndex();
+            for (Token comment : comments.before(end)) {
+                write(comment.getText());
+                write("\n");
+            }
+        }
 
-                String value = entry.getValue().get(i);
+        if (!importsByPackage.isEmpty()) {
+            unit.appendImports(importsByPackage);
+        }
 
-                write(value);
-                if(staticImports.containsKey(key + "." + value)) {
-                    write("{\n");
-                    List<String> imports = staticImports.get(key + "." + value);
-                    for(int j = 0; j < imports.size(); j++) {
-                        if(j > 0)
-                            write(", \n");
+        for (ParseTree child : ctx.children) {
+            if (!(child instanceof TypeDeclarationContext)) {
+                child.accept(this);
+            }
+        }
+        emitAll(ctx.typeDeclaration());
+        if (!ctx.typeDeclaration().isEmpty()) {
+            writeCommentsBefore(ctx.EOF() == null ? null : ctx.EOF().getSymbol());
+        }
+        return null;
+    }
 
-                        write(imports.get(j));
+    /**
+     * Emits declarations that don't depend on each other's output. With an
+     * executor, runs of them big enough to be worth it are converted by
+     * their own converters into their own units, which are then spliced in
+     * in source order. The first run is emitted directly, and runs no
+     * worker has picked up yet are emitted by this thread while it waits.
+     */
+    private void emitAll(List<? extends ParserRuleContext> declarations) {
+        List<List<ParserRuleContext>> runs = executor == null
+                ? Collections.<List<ParserRuleContext>>emptyList()
+                : splitIntoRuns(declarations);
+        if (runs.size() < 2) {
+            for (ParserRuleContext declaration : declarations) {
+                declaration.accept(this);
+            }
+            return;
+        }
+
+        final CancellationToken abort = cancellation.child();
+        final ClassTypeContext currentSuperClass = superClass;
+        ParallelTasks<CeylonUnit> tasks = new ParallelTasks<>(executor);
+        for (final List<ParserRuleContext> run : runs.subList(1, runs.size())) {
+            tasks.submit(new Callable<CeylonUnit>() {
+                @Override
+                public CeylonUnit call() {
+                    CeylonUnit out = new CeylonUnit();
+                    JavaToCeylonConverter converter =
+                            new JavaToCeylonConverter(out, transformGetters, useValues, scopeTree);
+                    converter.superClass = currentSuperClass;
+                    converter.cancellation = abort;
+                    converter.executor = executor;
+                    converter.comments = comments;
+                    converter.types = types;
+                    for (ParserRuleContext declaration : run) {
+                        declaration.accept(converter);
                     }
-                    write("\n}\n");
+                    return out;
                 }
+            });
+        }
+
+        boolean done = false;
+        try {
+            for (ParserRuleContext declaration : runs.get(0)) {
+                declaration.accept(this);
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                unit.append(tasks.get(i));
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                // don't leave workers reading a tree that is about to be released
+                abort.cancel();
+                tasks.awaitQuietly();
             }
-            write("\n}\n");
         }
+    }
+
+    private static List<List<ParserRuleContext>> splitIntoRuns(List<? extends ParserRuleContext> declarations) {
+        List<List<ParserRuleContext>> runs = new ArrayList<>();
+        List<ParserRuleContext> run = new ArrayList<>();
+        int tokens = 0;
+        for (ParserRuleContext declaration : declarations) {
+            run.add(declaration);
+            tokens += tokenCount(declaration);
+            if (tokens >= MIN_TASK_TOKENS) {
+                runs.add(run);
+                run = new ArrayList<>();
+                tokens = 0;
+            }
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
 
-        return super.visitCompilationUnit(ctx);
+    private static int tokenCount(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        return start == null || stop == null ? 1 : Math.max(1, stop.getTokenIndex() - start.getTokenIndex() + 1);
     }
 
     @Override
     public Void visitNormalClassDeclaration(NormalClassDeclarationContext ctx) {
+        // the superclass only applies to this class, not to the ones declared after it
+        ClassTypeContext outerSuperClass = superClass;
+        superClass = null;
         if (hasModifier(ctx.classModifier(), "public")) {
             write("shared ");
         }
@@ -224,6 +445,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         }
         visitClassBody(ctx.classBody());
 
+        superClass = outerSuperClass;
         return null;
     }
 
@@ -324,10 +546,11 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitClassBody(ClassBodyContext ctx) {
         write(" {\n\n");
-        Void result = super.visitClassBody(ctx);
+        emitAll(ctx.classBodyDeclaration());
+        writeCommentsBefore(ctx.getStop());
         write("}\n");
 
-        return result;
+        return null;
     }
 
     @Override
@@ -370,15 +593,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitMethodDeclarator(MethodDeclaratorContext ctx) {
         String methodName = ctx.Identifier().getText();
-        Matcher matcher = GETTER_PATTERN.matcher(methodName);
-        if (transformGetters && matcher.matches() && ctx.formalParameterList() == null) {
-            String property = matcher.group(2);
-            // TODO we should use NamingBase.getJavaBeanName() instead
-            if (property.length() > 1) {
-                property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
-            } else {
-                property = property.toLowerCase();
-            }
+        String property;
+        if (transformGetters && ctx.formalParameterList() == null
+                && (property = getterProperty(methodName)) != null) {
             write(escapeIdentifier(property, true));
         } else if ("toString".equals(methodName) && ctx.formalParameterList() == null) {
             write("string");
@@ -431,9 +648,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
     @Override
     public Void visitLastFormalParameter(LastFormalParameterContext ctx) {
-        Node n = scopeTree.getNode(ctx.variableDeclaratorId(), scopeTree.root);
+        int n = scopeTree.getNode(ctx.variableDeclaratorId());
 
-        if (n.variable && !hasModifier(ctx.variableModifier(), "final")) {
+        if (scopeTree.isVariable(n) && !hasModifier(ctx.variableModifier(), "final")) {
             write("variable ");
         }
 
@@ -446,9 +663,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
     @Override
     public Void visitFormalParameter(FormalParameterContext param) {
-        Node n = scopeTree.getNode(param.variableDeclaratorId(), scopeTree.root);
+        int n = scopeTree.getNode(param.variableDeclaratorId());
 
-        if (n.variable && !hasModifier(param.variableModifier(), "final")) {
+        if (scopeTree.isVariable(n) && !hasModifier(param.variableModifier(), "final")) {
             write("variable ");
         }
         visitUnannType(param.unannType());
@@ -513,13 +730,62 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     }
 
     @Override
-    public Void visitTypeArguments(TypeArgumentsContext ctx) {
-        write("<");
-        visitTypeArgumentList(ctx.typeArgumentList());
-        write(">");
+    public Void visitUnannType(UnannTypeContext ctx) {
+        writeType(ctx);
         return null;
     }
 
+    @Override
+    public Void visitTypeArguments(TypeArgumentsContext ctx) {
+        writeType(ctx);
+        return null;
+    }
+
+    /**
+     * Writes a type, or type arguments, from the type cache if the same
+     * text was rendered before. A single token is cheaper to write than to
+     * look up, and annotations can hold expressions, so neither is cached.
+     */
+    private void writeType(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (types == null || renderingType || start == null || stop == null || start == stop
+                || start.getInputStream() == null) {
+            renderType(ctx);
+            return;
+        }
+        String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+        if (text.indexOf('@') >= 0) {
+            renderType(ctx);
+            return;
+        }
+        String rendered = types.get(text);
+        if (rendered == null) {
+            CeylonUnit out = unit;
+            unit = new CeylonUnit();
+            renderingType = true;
+            try {
+                renderType(ctx);
+                rendered = unit.toString();
+            } finally {
+                unit = out;
+                renderingType = false;
+            }
+            types.put(text, rendered);
+        }
+        write(rendered);
+    }
+
+    private void renderType(ParserRuleContext ctx) {
+        if (ctx instanceof TypeArgumentsContext) {
+            write("<");
+            visitTypeArgumentList(((TypeArgumentsContext) ctx).typeArgumentList());
+            write(">");
+        } else {
+            visitChildren(ctx);
+        }
+    }
+
     @Override
     public Void visitTypeArgumentList(TypeArgumentListContext ctx) {
         boolean isFirst = true;
@@ -606,6 +872,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         for (InterfaceMemberDeclarationContext decl : ctx.interfaceMemberDeclaration()) {
             visitInterfaceMemberDeclaration(decl);
         }
+        writeCommentsBefore(ctx.getStop());
         write("}\n");
         return null;
     }
@@ -624,7 +891,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         ExplicitConstructorInvocationContext child =
                 ctx.constructorBody().explicitConstructorInvocation();
 
-        if(child != null) {
+        if(child != null && superClass != null) {
             for(ParseTree c : child.children) {
                 if(c.getText().equals("super")) {
                     write(" extends " + superClass.getText());
@@ -670,6 +937,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     public Void visitConstructorBody(ConstructorBodyContext ctx) {
         write(" {\n");
         super.visitConstructorBody(ctx);
+        writeCommentsBefore(ctx.getStop());
         write("}\n\n");
         return null;
     }
@@ -710,14 +978,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
             write(escapeIdentifier(name, true));
         } else {
             if (ctx.Identifier() != null) {
-                Matcher matcher = GETTER_PATTERN.matcher(ctx.Identifier().getText());
-                if (transformGetters && matcher.matches() && ctx.argumentList() == null) {
-                    String property = matcher.group(2);
-                    if (property.length() > 1) {
-                        property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
-                    } else {
-                        property = property.toLowerCase();
-                    }
+                String property;
+                if (transformGetters && ctx.argumentList() == null
+                        && (property = getterProperty(ctx.Identifier().getText())) != null) {
                     write(escapeIdentifier(property, true));
                     return null;
                 } else {
@@ -766,14 +1029,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         }
 
         write(prefix);
-        Matcher matcher = GETTER_PATTERN.matcher(methodName);
-        if (transformGetters && matcher.matches() && ctx.argumentList() == null) {
-            String property = matcher.group(2);
-            if (property.length() > 1) {
-                property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
-            } else {
-                property = property.toLowerCase();
-            }
+        String property;
+        if (transformGetters && ctx.argumentList() == null
+                && (property = getterProperty(methodName)) != null) {
             write(escapeIdentifier(property, true));
         } else if ("toString".equals(methodName) && ctx.argumentList() == null) {
             write("string");
@@ -804,14 +1062,9 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
             methodName = ctx.Identifier().getText();
         }
 
-        Matcher matcher = GETTER_PATTERN.matcher(methodName);
-        if (transformGetters && matcher.matches() && ctx.argumentList() == null) {
-            String property = matcher.group(2);
-            if (property.length() > 1) {
-                property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
-            } else {
-                property = property.toLowerCase();
-            }
+        String property;
+        if (transformGetters && ctx.argumentList() == null
+                && (property = getterProperty(methodName)) != null) {
             write(escapeIdentifier(property, true));
         } else if ("toString".equals(methodName) && ctx.argumentList() == null) {
             write("string");
@@ -830,14 +1083,18 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
     @Override
     public Void visitLiteral(LiteralContext ctx) {
-        if (ctx.FloatingPointLiteral() != null) {
-            double d = Double.parseDouble(ctx.FloatingPointLiteral().getText());
+        writeLiteral(ctx.getStart());
+
+        return super.visitLiteral(ctx);
+    }
+
+    private void writeLiteral(Token literal) {
+        if (literal.getType() == Java8Parser.FloatingPointLiteral) {
+            double d = Double.parseDouble(literal.getText());
             write(String.valueOf(d));
         } else {
-            write(ctx.getText());
+            write(literal.getText());
         }
-
-        return super.visitLiteral(ctx);
     }
 
     @Override
@@ -915,37 +1172,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitUnannArrayType(UnannArrayTypeContext ctx) {
         if (ctx.unannPrimitiveType() != null) {
-            String ceylonType;
-            String type = ctx.unannPrimitiveType().getText();
-            switch (type) {
-                case "int":
-                    ceylonType = "IntArray";
-                    break;
-                case "short":
-                    ceylonType = "ShortArray";
-                    break;
-                case "boolean":
-                    ceylonType = "BooleanArray";
-                    break;
-                case "byte":
-                    ceylonType = "ByteArray";
-                    break;
-                case "long":
-                    ceylonType = "LongArray";
-                    break;
-                case "float":
-                    ceylonType = "FloatArray";
-                    break;
-                case "double":
-                    ceylonType = "DoubleArray";
-                    break;
-                case "char":
-                    ceylonType = "CharArray";
-                    break;
-                default:
-                    ceylonType = "ObjectArray<" + type + ">";
-                    break;
-            }
+            String ceylonType = primitiveArrayType(ctx.unannPrimitiveType().getText());
             write(ceylonType);
         } else if (ctx.unannTypeVariable() != null) {
             write("ObjectArray<" + ctx.unannTypeVariable().Identifier().getText() + ">");
@@ -960,38 +1187,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitArrayCreationExpression(ArrayCreationExpressionContext ctx) {
         if (ctx.primitiveType() != null) {
-            String ceylonType;
-            String type = ctx.primitiveType().getText();
-
-            switch (type) {
-                case "int":
-                    ceylonType = "IntArray";
-                    break;
-                case "short":
-                    ceylonType = "ShortArray";
-                    break;
-                case "boolean":
-                    ceylonType = "BooleanArray";
-                    break;
-                case "byte":
-                    ceylonType = "ByteArray";
-                    break;
-                case "long":
-                    ceylonType = "LongArray";
-                    break;
-                case "float":
-                    ceylonType = "FloatArray";
-                    break;
-                case "double":
-                    ceylonType = "DoubleArray";
-                    break;
-                case "char":
-                    ceylonType = "CharArray";
-                    break;
-                default:
-                    ceylonType = "ObjectArray<" + type + ">";
-                    break;
-            }
+            String ceylonType = primitiveArrayType(ctx.primitiveType().getText());
             write(ceylonType);
             if (ctx.arrayInitializer() != null) {
                 write(".with");
@@ -1031,9 +1227,18 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitVariableInitializerList(VariableInitializerListContext ctx) {
     	for (int i = 0; i < ctx.getChildCount(); i++) {
-    		if(ctx.getChild(i) instanceof VariableInitializerContext)
-    			visitVariableInitializer((VariableInitializerContext) ctx.getChild(i));
-    		else
+    		if(ctx.getChild(i) instanceof VariableInitializerContext) {
+    			VariableInitializerContext initializer = (VariableInitializerContext) ctx.getChild(i);
+    			// lookup tables can have many thousands of these, skip the expression rules
+    			if (ParseTrees.isSignedLiteral(initializer)) {
+    				if (initializer.getStart() != initializer.getStop()) {
+    					write(initializer.getStart().getText());
+    				}
+    				writeLiteral(initializer.getStop());
+    			} else {
+    				visitVariableInitializer(initializer);
+    			}
+    		} else
     			write(", ");
     	}
 
@@ -1045,21 +1250,21 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         for (VariableDeclaratorContext var : ctx.localVariableDeclaration().variableDeclaratorList().variableDeclarator()) {
             boolean shouldUseAssert = var.variableInitializer() != null && isCastOutsideOfInstanceof(ctx.localVariableDeclaration(), var);
 
-            Node n = scopeTree.getNode(var.variableDeclaratorId(), scopeTree.root);
+            int n = scopeTree.getNode(var.variableDeclaratorId());
 
-            if (!shouldUseAssert && useValues && var.variableInitializer() != null && !n.optional) {
+            if (!shouldUseAssert && useValues && var.variableInitializer() != null && !scopeTree.isOptional(n)) {
                 write("value");
             } else {
                 if (shouldUseAssert) {
                     write("assert(is ");
-                } else if (n.variable && !hasModifier(ctx.localVariableDeclaration().variableModifier(), "final")) {
+                } else if (scopeTree.isVariable(n) && !hasModifier(ctx.localVariableDeclaration().variableModifier(), "final")) {
                     write("variable ");
                 }
                 // TODO int a[] should be converted to IntArray, but unfortunately at this point we can't know that it's an array
                 // we should do some sort of lookahead :(
                 visitUnannType(ctx.localVariableDeclaration().unannType());
 
-                if(n.optional)
+                if(scopeTree.isOptional(n))
                 	write("?");
             }
             write(" ");
@@ -1086,17 +1291,17 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         for (VariableDeclaratorContext var : ctx.variableDeclaratorList().variableDeclarator()) {
             VariableDeclaratorIdContext context = var.variableDeclaratorId();
 
-            Node n = scopeTree.getNode(context, scopeTree.root);
+            int n = scopeTree.getNode(context);
 
-            if (useValues && var.variableInitializer() != null && !n.optional) {
+            if (useValues && var.variableInitializer() != null && !scopeTree.isOptional(n)) {
                 write("value");
             } else {
-                if (n.variable && !hasModifier(ctx.variableModifier(), "final")) {
+                if (scopeTree.isVariable(n) && !hasModifier(ctx.variableModifier(), "final")) {
                     write("variable ");
                 }
                 visitUnannType(ctx.unannType());
 
-                if(n.optional) {
+                if(scopeTree.isOptional(n)) {
                     write("?");
                 }
             }
@@ -1335,6 +1540,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
             write("}\n");
         }
 
+        writeCommentsBefore(ctx.getStop());
         if (!hasElse) {
             write("else {}\n");
         }
@@ -1345,6 +1551,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     public Void visitBlock(BlockContext ctx) {
         write("{\n");
         super.visitBlock(ctx);
+        writeCommentsBefore(ctx.getStop());
         if (!isBlockInDoWhile(ctx)) {
             write("}\n");
         }
@@ -1405,141 +1612,184 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         return null;
     }
 
+    // The binary operator rules below are left recursive, so their contexts
+    // form chains as deep as the number of operators. They are emitted
+    // from the innermost link outwards instead of recursing down the chain.
+
+    // the operand of the innermost link, or the right operand of the others,
+    // which can be a postfix expression when ChainCompactor dropped the
+    // levels in between
+    private void visitOperand(ParserRuleContext link) {
+        link.getChild(link.getChildCount() - 1).accept(this);
+    }
+
     @Override
     public Void visitConditionalOrExpression(ConditionalOrExpressionContext ctx) {
-        if (ctx.conditionalOrExpression() != null) {
-            visitConditionalOrExpression(ctx.conditionalOrExpression());
-            write(" || ");
+        for (ConditionalOrExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.conditionalOrExpression() != null) {
+                write(" || ");
+            }
+            visitOperand(link);
         }
-        return visitConditionalAndExpression(ctx.conditionalAndExpression());
+        return null;
     }
 
     @Override
     public Void visitConditionalAndExpression(ConditionalAndExpressionContext ctx) {
-        if (ctx.conditionalAndExpression() != null) {
-            visitConditionalAndExpression(ctx.conditionalAndExpression());
-
-            if (isInIfCondition(ctx)) {
-                write(", ");
-            } else {
-                write(" && ");
+        String operator = isInIfCondition(ctx) ? ", " : " && ";
+        for (ConditionalAndExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.conditionalAndExpression() != null) {
+                write(operator);
             }
+            visitOperand(link);
         }
-        return visitInclusiveOrExpression(ctx.inclusiveOrExpression());
+        return null;
     }
 
     @Override
     public Void visitInclusiveOrExpression(InclusiveOrExpressionContext ctx) {
-        if (ctx.inclusiveOrExpression() != null) {
-            visitInclusiveOrExpression(ctx.inclusiveOrExpression());
-            write(" | ");
+        for (InclusiveOrExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.inclusiveOrExpression() != null) {
+                write(" | ");
+            }
+            visitOperand(link);
         }
-        return visitExclusiveOrExpression(ctx.exclusiveOrExpression());
+        return null;
     }
 
     @Override
     public Void visitExclusiveOrExpression(ExclusiveOrExpressionContext ctx) {
-        if (ctx.exclusiveOrExpression() != null) {
-            visitExclusiveOrExpression(ctx.exclusiveOrExpression());
-            write(" ^ ");
+        for (ExclusiveOrExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.exclusiveOrExpression() != null) {
+                write(" ^ ");
+            }
+            visitOperand(link);
         }
-        return visitAndExpression(ctx.andExpression());
+        return null;
     }
 
     @Override
     public Void visitAndExpression(AndExpressionContext ctx) {
-        if (ctx.andExpression() != null) {
-            visitAndExpression(ctx.andExpression());
-            write(" & ");
+        for (AndExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.andExpression() != null) {
+                write(" & ");
+            }
+            visitOperand(link);
         }
-        return visitEqualityExpression(ctx.equalityExpression());
+        return null;
     }
 
     @Override
     public Void visitEqualityExpression(EqualityExpressionContext ctx) {
-        if (ctx.equalityExpression() != null) {
-            String operator = ctx.getChild(1).getText();
-            if (ctx.relationalExpression().getText().equals("null")) {
-                if (operator.equals("==")) {
+        List<EqualityExpressionContext> chain = ParseTrees.leftChain(ctx);
+
+        // "x == null" becomes "!exists x" or "!x exists", the prefixes of the
+        // outer links come first
+        for (int i = chain.size() - 1; i > 0; i--) {
+            EqualityExpressionContext link = chain.get(i);
+            if (ParseTrees.isNullLiteral(link.relationalExpression())) {
+                if (link.getChild(1).getText().equals("==")) {
                     write("!");
                 }
-                if (ctx.equalityExpression().getText().matches("\\w+") && isInIfCondition(ctx)) {
+                if (isExistsPrefix(link)) {
                     write("exists ");
-                    visitEqualityExpression(ctx.equalityExpression());
                 }
-                else {
-                    visitEqualityExpression(ctx.equalityExpression());
+            }
+        }
+
+        visitOperand(chain.get(0));
+
+        for (int i = 1; i < chain.size(); i++) {
+            EqualityExpressionContext link = chain.get(i);
+            if (ParseTrees.isNullLiteral(link.relationalExpression())) {
+                if (!isExistsPrefix(link)) {
                     write(" exists");
                 }
-                return null;
             } else {
-                visitEqualityExpression(ctx.equalityExpression());
-                write(" " + operator + " ");
+                write(" " + link.getChild(1).getText() + " ");
+                visitOperand(link);
             }
         }
+        return null;
+    }
 
-        return visitRelationalExpression(ctx.relationalExpression());
+    private boolean isExistsPrefix(EqualityExpressionContext ctx) {
+        return isWord(ctx.equalityExpression()) && isInIfCondition(ctx);
     }
 
     @Override
     public Void visitRelationalExpression(RelationalExpressionContext ctx) {
-        if (ctx.relationalExpression() != null) {
-            String operator = ctx.getChild(1).getText();
-            if (operator.equals("instanceof")) {
-                if (ctx.relationalExpression().getText().matches("\\w+") && isInIfCondition(ctx)
-                		&& !isExpression(ctx)) {
-                    write("is ");
-                    visitReferenceType(ctx.referenceType());
-                    write(" ");
-                    visitRelationalExpression(ctx.relationalExpression());
-                }
-                else {
-                    visitRelationalExpression(ctx.relationalExpression());
-                    write(" is ");
-                    visitReferenceType(ctx.referenceType());
-                }
-                return null;
+        List<RelationalExpressionContext> chain = ParseTrees.leftChain(ctx);
+
+        for (int i = chain.size() - 1; i > 0; i--) {
+            RelationalExpressionContext link = chain.get(i);
+            if (isIsPrefix(link)) {
+                write("is ");
+                visitReferenceType(link.referenceType());
+                write(" ");
             }
-
-            visitRelationalExpression(ctx.relationalExpression());
-            write(" ");
-            write(operator.replace("instanceof", "is"));
-            write(" ");
         }
 
-        if (ctx.shiftExpression() != null) {
-            visitShiftExpression(ctx.shiftExpression());
+        RelationalExpressionContext first = chain.get(0);
+        if (first.referenceType() != null) {
+            visitReferenceType(first.referenceType());
         } else {
-            visitReferenceType(ctx.referenceType());
+            visitOperand(first);
+        }
+
+        for (int i = 1; i < chain.size(); i++) {
+            RelationalExpressionContext link = chain.get(i);
+            String operator = link.getChild(1).getText();
+            if (operator.equals("instanceof")) {
+                if (!isIsPrefix(link)) {
+                    write(" is ");
+                    visitReferenceType(link.referenceType());
+                }
+            } else {
+                write(" " + operator + " ");
+                visitOperand(link);
+            }
         }
         return null;
     }
 
+    private boolean isIsPrefix(RelationalExpressionContext ctx) {
+        return ctx.getChild(1).getText().equals("instanceof")
+                && isWord(ctx.relationalExpression()) && isInIfCondition(ctx)
+                && !isExpression(ctx);
+    }
+
     @Override
     public Void visitShiftExpression(ShiftExpressionContext ctx) {
-        if (ctx.shiftExpression() != null) {
-            visitShiftExpression(ctx.shiftExpression());
-            write(" << ");
+        for (ShiftExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.shiftExpression() != null) {
+                write(" << ");
+            }
+            visitOperand(link);
         }
-        return visitAdditiveExpression(ctx.additiveExpression());
+        return null;
     }
 
     @Override
     public Void visitAdditiveExpression(AdditiveExpressionContext ctx) {
-        if (ctx.additiveExpression() != null) {
-            visitAdditiveExpression(ctx.additiveExpression());
-            write(" " + ctx.getChild(1).getText() + " ");
+        for (AdditiveExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.additiveExpression() != null) {
+                write(" " + link.getChild(1).getText() + " ");
+            }
+            visitOperand(link);
         }
-        return visitMultiplicativeExpression(ctx.multiplicativeExpression());
+        return null;
     }
 
     @Override
     public Void visitMultiplicativeExpression(MultiplicativeExpressionContext ctx) {
-        if (ctx.multiplicativeExpression() != null) {
-            visitMultiplicativeExpression(ctx.multiplicativeExpression());
-            write(" " + ctx.getChild(1).getText() + " ");
+        for (MultiplicativeExpressionContext link : ParseTrees.leftChain(ctx)) {
+            if (link.multiplicativeExpression() != null) {
+                write(" " + link.getChild(1).getText() + " ");
+            }
+            visitOperand(link);
         }
-        return visitUnaryExpression(ctx.unaryExpression());
+        return null;
     }
 
     @Override
@@ -1692,6 +1942,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         if (ctx.enumConstantList() != null) {
             visitEnumConstantList(ctx.enumConstantList());
         }
+        writeCommentsBefore(ctx.getStop());
         write("}\n");
         return null;
     }
@@ -1715,6 +1966,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
 
     @Override
     public Void visitEnumConstant(EnumConstantContext ctx) {
+        writeComments(ctx.getStart().getTokenIndex(), ctx.getStart().getTokenIndex() + 1);
         write("shared new \\i");
         write(ctx.Identifier().getText());
         if (ctx.argumentList() == null) {
@@ -1740,7 +1992,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
                 .variableDeclarator()) {
             VariableDeclaratorIdContext context = var.variableDeclaratorId();
 
-            Node n = scopeTree.getNode(context, scopeTree.root);
+            int n = scopeTree.getNode(context);
 
             if (hasModifier(ctx.fieldModifier(), "public")) {
                 write("shared ");
@@ -1751,15 +2003,15 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
             if (useValues && var.variableInitializer() != null
                     && !hasModifier(ctx.fieldModifier(), "public")
                     && !hasModifier(ctx.fieldModifier(), "protected")
-                    && !n.optional) {
+                    && !scopeTree.isOptional(n)) {
                 write("value");
             } else {
-                if (n.variable && !hasModifier(ctx.fieldModifier(), "final")) {
+                if (scopeTree.isVariable(n) && !hasModifier(ctx.fieldModifier(), "final")) {
                     write("variable ");
                 }
                 visitUnannType(ctx.unannType());
 
-                if(n.optional)
+                if(scopeTree.isOptional(n))
                 	write("?");
             }
             write(" ");
@@ -1946,7 +2198,7 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
     @Override
     public Void visitAssertStatement(AssertStatementContext ctx) {
         if (ctx.expression().size() > 1) {
-            if (!ctx.expression(1).getText().matches("\"[^\"]*\"")) {
+            if (!isPlainStringLiteral(ctx.expression(1))) {
                 write("// ");
             }
             visitExpression(ctx.expression(1));
@@ -2187,6 +2439,75 @@ public class JavaToCeylonConverter extends Java8BaseVisitor<Void> {
         return null;
     }
 
+    private static String primitiveArrayType(String type) {
+        String ceylonType = PRIMITIVE_ARRAY_TYPES.get(type);
+        return ceylonType != null ? ceylonType : "ObjectArray<" + type + ">";
+    }
+
+    /**
+     * Returns the property name for a getter called {@code getX...} or
+     * {@code isX...}, or {@code null} if the method isn't named like one.
+     */
+    private static String getterProperty(String methodName) {
+        int start;
+        if (methodName.startsWith("get")) {
+            start = 3;
+        } else if (methodName.startsWith("is")) {
+            start = 2;
+        } else {
+            return null;
+        }
+        int length = methodName.length();
+        if (start == length) {
+            return null;
+        }
+        char first = methodName.charAt(start);
+        if (first < 'A' || first > 'Z') {
+            return null;
+        }
+        for (int i = start + 1; i < length; i++) {
+            if (!isWordChar(methodName.charAt(i))) {
+                return null;
+            }
+        }
+        // TODO we should use NamingBase.getJavaBeanName() instead
+        if (length - start > 1) {
+            return Character.toLowerCase(first) + methodName.substring(start + 1);
+        }
+        return String.valueOf(Character.toLowerCase(first));
+    }
+
+    private static boolean isWordChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+    }
+
+    private static boolean isWord(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isWordChar(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWord(ParserRuleContext ctx) {
+        Token token = ParseTrees.singleToken(ctx);
+        return token != null && isWord(token.getText());
+    }
+
+    private static boolean isPlainStringLiteral(ParserRuleContext ctx) {
+        Token token = ParseTrees.singleToken(ctx);
+        if (token == null) {
+            return false;
+        }
+        String text = token.getText();
+        int last = text.length() - 1;
+        return last > 0 && text.charAt(0) == '"' && text.indexOf('"', 1) == last;
+    }
+
     private String escapeIdentifier(String identifier,
             boolean shouldBeLowercase) {
 
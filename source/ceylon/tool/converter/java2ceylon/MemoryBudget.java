@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Admits conversions only while their estimated heap usage fits in a fixed
+ * budget. Estimates come from the source size and token count; the constants
+ * were measured on the Java8 parse trees, which dominate at about 600 bytes
+ * per token.
+ *
+ * Jobs are admitted in the order they asked, so a big job waiting for room
+ * isn't overtaken by the small ones that keep arriving while it waits.
+ */
+class MemoryBudget {
+
+    private static final long BYTES_PER_CHAR = 6; // source and output text
+    private static final long BYTES_PER_TOKEN = 650; // token plus parse tree
+    private static final long CHARS_PER_TOKEN = 3;
+
+    private final long capacity;
+    private long used;
+    private long peak;
+    private long waits;
+    private long waitNanos;
+    // tickets handed out and the one whose turn it is, those given up by
+    // interrupted waiters are skipped
+    private long nextTicket;
+    private long serving;
+    private final Set<Long> abandoned = new HashSet<>();
+
+    MemoryBudget(long capacity) {
+        this.capacity = capacity;
+    }
+
+    static long estimate(long chars, long tokens) {
+        return chars * BYTES_PER_CHAR + tokens * BYTES_PER_TOKEN;
+    }
+
+    static long estimate(long chars) {
+        return estimate(chars, chars / CHARS_PER_TOKEN);
+    }
+
+    long getCapacity() {
+        return capacity;
+    }
+
+    synchronized void acquire(long bytes) throws InterruptedException {
+        long ticket = nextTicket++;
+        if (!admits(ticket, bytes)) {
+            long start = System.nanoTime();
+            waits++;
+            try {
+                do {
+                    wait();
+                } while (!admits(ticket, bytes));
+            } catch (InterruptedException e) {
+                if (ticket == serving) {
+                    next();
+                } else {
+                    abandoned.add(ticket);
+                }
+                throw e;
+            } finally {
+                waitNanos += System.nanoTime() - start;
+            }
+        }
+        used += bytes;
+        peak = Math.max(peak, used);
+        next();
+    }
+
+    // a job bigger than the whole budget is still admitted, but only on its own
+    private boolean admits(long ticket, long bytes) {
+        return ticket == serving && (used == 0 || used + bytes <= capacity);
+    }
+
+    private void next() {
+        serving++;
+        while (abandoned.remove(serving)) {
+            serving++;
+        }
+        // the next in line may fit as well
+        notifyAll();
+    }
+
+    synchronized void release(long bytes) {
+        used -= bytes;
+        notifyAll();
+    }
+
+    synchronized long getPeak() {
+        return peak;
+    }
+
+    synchronized long getWaits() {
+        return waits;
+    }
+
+    synchronized long getWaitMillis() {
+        return waitNanos / 1000000;
+    }
+}
@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Writes converted files, leaving those that already hold exactly the new
+ * output alone. Rewriting them would only change their modification time,
+ * and make the Ceylon compiler build everything that depends on them again.
+ */
+final class OutputFiles {
+
+    private OutputFiles() {
+    }
+
+    /**
+     * Writes the text into the file, unless the file already holds it.
+     * Files of another size are rewritten without being read, otherwise
+     * their content is compared a block at a time.
+     *
+     * @return whether the file was written
+     */
+    static boolean writeIfChanged(File file, String text, Charset charset) throws IOException {
+        byte[] bytes = text.getBytes(charset);
+        if (file.isFile() && file.length() == bytes.length && holds(file, bytes)) {
+            return false;
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(bytes);
+        }
+        return true;
+    }
+
+    private static boolean holds(File file, byte[] bytes) throws IOException {
+        byte[] block = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int position = 0, n;
+            while ((n = in.read(block)) > 0) {
+                if (position + n > bytes.length) {
+                    return false;
+                }
+                for (int i = 0; i < n; i++) {
+                    if (block[i] != bytes[position + i]) {
+                        return false;
+                    }
+                }
+                position += n;
+            }
+            return position == bytes.length;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Tasks handed to an executor whose results are collected in order. A task
+ * no worker has started by the time its result is needed runs on the
+ * collecting thread instead, so tasks that fork tasks of their own, or an
+ * executor that is busy with other work, can't cause a deadlock.
+ */
+final class ParallelTasks<T> {
+
+    private final Executor executor;
+    private final List<FutureTask<T>> tasks = new ArrayList<>();
+
+    ParallelTasks(Executor executor) {
+        this.executor = executor;
+    }
+
+    void submit(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<>(callable);
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // run by get() instead
+        }
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    /**
+     * The result of the given task, rethrowing what it threw.
+     */
+    T get(int index) {
+        FutureTask<T> task = tasks.get(index);
+        task.run(); // does nothing if a worker already took it
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConversionCancelledException("Conversion interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Waits for every task to finish, ignoring their results. Call this
+     * after cancelling them when giving up, so no worker is left reading
+     * data that is about to be released.
+     */
+    void awaitQuietly() {
+        for (FutureTask<T> task : tasks) {
+            task.run();
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // already giving up for another reason
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * What lexing and parsing a source came to, in files below a directory named
+ * after the hash of its content: its tokens, comments included, the rule it
+ * was parsed with, and the alternative the parser predicted at each decision.
+ * A source found in the cache isn't lexed again, and the parser replays the
+ * predictions instead of making them, which is where parsing spends its time.
+ * None of this depends on the conversion options, so a source converted
+ * with other options, or by another converter, finds what was cached before.
+ *
+ * Only sources without syntax errors are cached. When the files take up more
+ * than the given size, the least recently used are deleted. Converters on
+ * several threads, or in several processes, can share a directory.
+ */
+public final class ParseCache {
+
+    private static final String SUFFIX = ".parse";
+    private static final int MAGIC = 0x4a325043;
+    // changes with the grammar, so a cache never outlives the parser it was made with
+    private static final int GRAMMAR = Java8Lexer._serializedATN.hashCode() * 31
+            + Java8Parser._serializedATN.hashCode();
+
+    private final File directory;
+    private final long maxSize;
+    private long size = -1;
+    private long lookups;
+    private long hits;
+
+    public ParseCache(File directory) {
+        this(directory, 256L * 1024 * 1024);
+    }
+
+    /**
+     * @param maxSize the number of bytes the cached files may take up
+     */
+    public ParseCache(File directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The key of a source, the SHA-256 hash of its content.
+     */
+    static String key(CharStream input) {
+        String text = input.size() == 0 ? "" : input.getText(Interval.of(0, input.size() - 1));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(2 * hash.length);
+            for (byte b : hash) {
+                key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e); // every JRE has SHA-256
+        }
+    }
+
+    /**
+     * The parse of the given source cached under its key, with tokens
+     * referring to the given lexer and input, or null.
+     */
+    Entry load(String key, TokenSource lexer, CharStream input) {
+        synchronized (this) {
+            lookups++;
+        }
+        File file = file(key);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            return null;
+        }
+        Entry entry;
+        try {
+            entry = decode(new Decoder(bytes), new Pair<TokenSource, CharStream>(lexer, input), input.size());
+        } catch (RuntimeException e) {
+            entry = null;
+        }
+        if (entry == null) {
+            // left by an older grammar, or truncated
+            file.delete();
+            return null;
+        }
+        // the modification time orders the files for eviction
+        file.setLastModified(System.currentTimeMillis());
+        synchronized (this) {
+            hits++;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the parse of a source. A cache that can't be written to is
+     * only a cache that misses, so this doesn't fail.
+     */
+    void store(String key, List<Token> tokens, int rule, int[] trace) {
+        byte[] bytes = encode(tokens, rule, trace);
+        if (bytes.length > maxSize) {
+            return;
+        }
+        File file = file(key);
+        try {
+            Files.createDirectories(directory.toPath());
+            // readers only ever see whole files
+            Path temporary = Files.createTempFile(directory.toPath(), key, ".tmp");
+            try {
+                Files.write(temporary, bytes);
+                Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            return;
+        }
+        added(bytes.length);
+    }
+
+    private synchronized void added(long bytes) {
+        if (size < 0) {
+            size = 0;
+            for (File file : files()) {
+                size += file.length();
+            }
+        } else {
+            size += bytes;
+        }
+        if (size > maxSize) {
+            evict();
+        }
+    }
+
+    // down to three quarters of the size, so not every store evicts
+    private void evict() {
+        File[] files = files();
+        final long[] used = new long[files.length];
+        Integer[] order = new Integer[files.length];
+        size = 0;
+        for (int i = 0; i < files.length; i++) {
+            used[i] = files[i].lastModified();
+            order[i] = i;
+            size += files[i].length();
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Long.compare(used[a], used[b]);
+            }
+        });
+        for (int i = 0; i < order.length && size > maxSize / 4 * 3; i++) {
+            File file = files[order[i]];
+            long length = file.length();
+            if (file.delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    private File[] files() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return new File[0];
+        }
+        List<File> cached = new ArrayList<>(files.length);
+        for (File file : files) {
+            if (file.getName().endsWith(SUFFIX)) {
+                cached.add(file);
+            }
+        }
+        return cached.toArray(new File[cached.size()]);
+    }
+
+    private File file(String key) {
+        return new File(directory, key + SUFFIX);
+    }
+
+    /**
+     * How often a source was looked up, since the cache was created.
+     */
+    public synchronized long getLookups() {
+        return lookups;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public double getHitRate() {
+        long lookups = getLookups();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    /**
+     * The bytes the cached files take up, as far as this cache knows.
+     */
+    public synchronized long size() {
+        if (size < 0) {
+            added(0);
+        }
+        return size;
+    }
+
+    static final class Entry {
+        final List<Token> tokens;
+        final int rule;
+        final int[] trace;
+
+        Entry(List<Token> tokens, int rule, int[] trace) {
+            this.tokens = tokens;
+            this.rule = rule;
+            this.trace = trace;
+        }
+    }
+
+    // Tokens are stored as their type, channel and position relative to the
+    // token before, their text is taken from the input again. Everything is
+    // a small non-negative number, written in as few bytes as it fits.
+    private static byte[] encode(List<Token> tokens, int rule, int[] trace) {
+        Encoder out = new Encoder(8 * tokens.size() + 2 * trace.length + 32);
+        out.write(MAGIC);
+        out.write(GRAMMAR);
+        out.write(rule);
+        out.write(tokens.size());
+        int end = 0, line = 0;
+        for (Token token : tokens) {
+            out.write(token.getType() + 1); // EOF is -1
+            out.write(token.getChannel());
+            out.write(token.getStartIndex() - end);
+            out.write(token.getStopIndex() - token.getStartIndex() + 1);
+            out.write(token.getLine() - line);
+            out.write(token.getCharPositionInLine());
+            end = token.getStopIndex() + 1;
+            line = token.getLine();
+        }
+        out.write(trace.length);
+        for (int alt : trace) {
+            out.write(alt);
+        }
+        return out.toByteArray();
+    }
+
+    private static Entry decode(Decoder in, Pair<TokenSource, CharStream> source, int length) {
+        if (in.read() != MAGIC || in.read() != GRAMMAR) {
+            return null;
+        }
+        int rule = in.read();
+        int count = in.read();
+        List<Token> tokens = new ArrayList<>(count);
+        int end = 0, line = 0;
+        for (int i = 0; i < count; i++) {
+            int type = in.read() - 1;
+            int channel = in.read();
+            int start = end + in.read();
+            int stop = start + in.read() - 1;
+            if (stop >= length) {
+                return null;
+            }
+            CommonToken token = new CommonToken(source, type, channel, start, stop);
+            line += in.read();
+            token.setLine(line);
+            token.setCharPositionInLine(in.read());
+            tokens.add(token);
+            end = stop + 1;
+        }
+        int[] trace = new int[in.read()];
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = in.read();
+        }
+        if (count == 0 || tokens.get(count - 1).getType() != Token.EOF || !in.atEnd()) {
+            return null;
+        }
+        return new Entry(tokens, rule, trace);
+    }
+
+    private static final class Encoder {
+        private byte[] bytes;
+        private int length;
+
+        Encoder(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        // seven bits at a time, lowest first, with the top bit set on all
+        // but the last byte
+        void write(int value) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, 2 * bytes.length + 5);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    private static final class Decoder {
+        private final byte[] bytes;
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int read() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        boolean atEnd() {
+            return position == bytes.length;
+        }
+    }
+}
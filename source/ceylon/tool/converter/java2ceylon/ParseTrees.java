@@ -0,0 +1,130 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ceylon.tool.converter.java2ceylon.Java8Parser.AdditiveExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.AndExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ConditionalAndExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ConditionalOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.EqualityExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ExclusiveOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.InclusiveOrExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.MultiplicativeExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.RelationalExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ShiftExpressionContext;
+
+/**
+ * Helpers for walking parse trees without recursing through them.
+ *
+ * The binary operator rules are left recursive, so {@code a + b + c} is a
+ * chain of nested contexts, one per operator. Generated code can have
+ * thousands of terms in a single expression, which is too deep to visit or to
+ * call {@code getText()} on recursively.
+ */
+final class ParseTrees {
+
+    private static final Set<Class<?>> BINARY_OPERATORS = new HashSet<Class<?>>(Arrays.asList(
+            ConditionalOrExpressionContext.class, ConditionalAndExpressionContext.class,
+            InclusiveOrExpressionContext.class, ExclusiveOrExpressionContext.class,
+            AndExpressionContext.class, EqualityExpressionContext.class,
+            RelationalExpressionContext.class, ShiftExpressionContext.class,
+            AdditiveExpressionContext.class, MultiplicativeExpressionContext.class));
+
+    private ParseTrees() {
+    }
+
+    /**
+     * Whether the node applies a binary operator to a left operand of the
+     * same rule.
+     */
+    static boolean isChainLink(ParseTree node) {
+        return node.getChildCount() > 1
+                && BINARY_OPERATORS.contains(node.getClass())
+                && node.getChild(0).getClass() == node.getClass();
+    }
+
+    /**
+     * The links of the chain ending in {@code ctx}, innermost first. The
+     * first one is the leftmost operand, every following one adds an
+     * operator and its right operand.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends ParserRuleContext> List<T> leftChain(T ctx) {
+        List<T> chain = new ArrayList<>();
+        ParseTree node = ctx;
+        while (isChainLink(node)) {
+            chain.add((T) node);
+            node = node.getChild(0);
+        }
+        chain.add((T) node);
+        Collections.reverse(chain);
+        return chain;
+    }
+
+    /**
+     * The only token the context spans, or null if it spans more than one.
+     * Unlike comparing {@code getText()} this doesn't walk the subtree.
+     */
+    static Token singleToken(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        return start != null && start == ctx.getStop() ? start : null;
+    }
+
+    /**
+     * Whether the context is nothing but a literal, possibly preceded by a
+     * sign, like the elements of a generated lookup table. These can be
+     * written straight from their tokens.
+     */
+    static boolean isSignedLiteral(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (start == null || stop == null || !isLiteral(stop)) {
+            return false;
+        }
+        switch (stop.getTokenIndex() - start.getTokenIndex()) {
+        case 0:
+            return true;
+        case 1:
+            return start.getType() == Java8Parser.SUB || start.getType() == Java8Parser.ADD;
+        default:
+            return false;
+        }
+    }
+
+    static boolean isLiteral(Token token) {
+        switch (token.getType()) {
+        case Java8Parser.IntegerLiteral:
+        case Java8Parser.FloatingPointLiteral:
+        case Java8Parser.BooleanLiteral:
+        case Java8Parser.CharacterLiteral:
+        case Java8Parser.StringLiteral:
+        case Java8Parser.NullLiteral:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    static boolean isNullLiteral(ParserRuleContext ctx) {
+        Token token = singleToken(ctx);
+        return token != null && token.getType() == Java8Parser.NullLiteral;
+    }
+}
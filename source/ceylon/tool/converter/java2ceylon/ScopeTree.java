@@ -9,14 +9,15 @@
  ********************************************************************************/
 package ceylon.tool.converter.java2ceylon;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.RuleNode;
 
 import ceylon.tool.converter.java2ceylon.Java8Parser.AssignmentContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.CompilationUnitContext;
-import ceylon.tool.converter.java2ceylon.Java8Parser.LocalVariableDeclarationContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.DeclarationsContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.MethodDeclarationContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.NormalClassDeclarationContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.PostDecrementExpressionContext;
@@ -24,110 +25,265 @@ import ceylon.tool.converter.java2ceylon.Java8Parser.PostIncrementExpressionCont
 import ceylon.tool.converter.java2ceylon.Java8Parser.PostfixExpressionContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.PreDecrementExpressionContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.PreIncrementExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.SingleExpressionContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.SingleStatementsContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.VariableDeclaratorContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.VariableDeclaratorIdContext;
 import ceylon.tool.converter.java2ceylon.Java8Parser.VariableInitializerContext;
 
+/**
+ * Scopes and the variables declared in them, with whether each variable is
+ * ever assigned to, or to null. Nodes are numbered in the order they are
+ * added, and stored in parallel arrays indexed by that number, so a file
+ * with many declarations doesn't cost an object, a list and a context per
+ * declaration.
+ */
 public class ScopeTree extends Java8BaseVisitor<Void> {
-    public Node root, scopeNode;
+    private static final byte SCOPE = 1, VARIABLE = 2, OPTIONAL = 4;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private ParserRuleContext[] data;
+    private int[] parent;
+    // children are linked from the last one added, scopes only ever get
+    // searched through as a whole
+    private int[] lastChild;
+    private int[] previousSibling;
+    private byte[] flags;
+    private int size;
+    // open addressing from a context's identity hash to its node, plus one
+    private int[] index;
+    private int root = NONE, scopeNode = NONE;
+    private CancellationToken cancellation = CancellationToken.NONE;
+    private int steps;
+    private final Builder builder = new Builder();
 
     public ScopeTree() {
-        root = new Node();
+        allocate(INITIAL_CAPACITY);
     }
 
-    public static class Node {
-        ParserRuleContext data;
-        Node parent;
-        List<Node> children;
-        boolean scope, variable, optional;
+    public void reset() {
+        allocate(INITIAL_CAPACITY);
+        root = NONE;
+        scopeNode = NONE;
+        builder.reset();
+    }
+
+    private void allocate(int capacity) {
+        data = new ParserRuleContext[capacity];
+        parent = new int[capacity];
+        lastChild = new int[capacity];
+        previousSibling = new int[capacity];
+        flags = new byte[capacity];
+        index = new int[2 * capacity];
+        size = 0;
+    }
+
+    /**
+     * A listener that collects the same facts as visiting the finished tree,
+     * while the tree is being parsed, when added to a parser with
+     * {@link Java8Parser#addParseListener}. That saves walking the whole tree
+     * once more.
+     *
+     * The listener starts over whenever the parser enters an entry rule, so
+     * it can stay attached while the parser tries several rules or
+     * prediction modes. Check {@link #isBuiltFrom} before relying on it, and
+     * visit the tree instead if it wasn't parsed by that parser.
+     */
+    public Java8Listener getParseListener() {
+        return builder;
+    }
+
+    /**
+     * Whether the listener saw all of the given tree being parsed.
+     */
+    public boolean isBuiltFrom(ParserRuleContext tree) {
+        return root != NONE && data[root] == tree && builder.complete;
+    }
+
+    public void setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+    }
 
-        Node() {
-            data = new ParserRuleContext();
-            scope = false;
-            variable = false;
-            optional = false;
-            children = new ArrayList<>();
+    @Override
+    public Void visitChildren(RuleNode node) {
+        if ((++steps & 0xFF) == 0) {
+            cancellation.check();
+        }
+        if (ParseTrees.isChainLink(node)) {
+            // same order as visiting recursively, without a stack frame per operator
+            List<ParserRuleContext> chain = ParseTrees.leftChain((ParserRuleContext) node);
+            super.visitChildren(chain.get(0));
+            for (int i = 1; i < chain.size(); i++) {
+                ParserRuleContext link = chain.get(i);
+                for (int c = 1; c < link.getChildCount(); c++) {
+                    link.getChild(c).accept(this);
+                }
+            }
+            return null;
         }
+        return super.visitChildren(node);
+    }
 
-        void addNode(Node n) {
-            children.add(n);
+    @Override
+    public Void visitVariableInitializer(VariableInitializerContext ctx) {
+        // literals don't declare anything, and tables of them can be huge
+        if (ParseTrees.isSignedLiteral(ctx)) {
+            return null;
         }
+        return super.visitVariableInitializer(ctx);
     }
 
-    public Node getNode(ParserRuleContext ctx, Node n) {
-        if (ctx == n.data) {
-            return n;
-        } else {
-            for (Node c : n.children) {
-                Node found = getNode(ctx, c);
-                if (found != null)
-                    return found;
+    /**
+     * The node of the given scope or variable declarator id, or -1 if it
+     * isn't in the tree.
+     */
+    public int getNode(ParserRuleContext ctx) {
+        int mask = index.length - 1;
+        for (int slot = hash(ctx) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            if (data[index[slot] - 1] == ctx) {
+                return index[slot] - 1;
             }
         }
-        return null;
+        return NONE;
+    }
+
+    public boolean isVariable(int node) {
+        return node != NONE && (flags[node] & VARIABLE) != 0;
+    }
+
+    public boolean isOptional(int node) {
+        return node != NONE && (flags[node] & OPTIONAL) != 0;
+    }
+
+    private static int hash(ParserRuleContext ctx) {
+        int h = System.identityHashCode(ctx);
+        return h ^ (h >>> 16);
+    }
+
+    private int addNode(ParserRuleContext ctx, byte nodeFlags) {
+        if (size == data.length) {
+            grow();
+        }
+        int n = size++;
+        data[n] = ctx;
+        flags[n] = nodeFlags;
+        parent[n] = scopeNode;
+        lastChild[n] = NONE;
+        if (scopeNode == NONE) {
+            previousSibling[n] = NONE;
+        } else {
+            previousSibling[n] = lastChild[scopeNode];
+            lastChild[scopeNode] = n;
+        }
+        put(ctx, n);
+        return n;
+    }
+
+    private void put(ParserRuleContext ctx, int n) {
+        int mask = index.length - 1;
+        int slot = hash(ctx) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = n + 1;
+    }
+
+    private void grow() {
+        int capacity = 2 * data.length;
+        data = Arrays.copyOf(data, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        previousSibling = Arrays.copyOf(previousSibling, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        index = new int[2 * capacity];
+        for (int n = 0; n < size; n++) {
+            put(data[n], n);
+        }
     }
 
     @Override
     public Void visitCompilationUnit(CompilationUnitContext ctx) {
-        Node n = new Node();
-        n.data = ctx;
-        n.scope = true;
-        root = n;
+        enterRoot(ctx);
+        return super.visitCompilationUnit(ctx);
+    }
 
-        scopeNode = n;
+    @Override
+    public Void visitDeclarations(DeclarationsContext ctx) {
+        enterRoot(ctx);
+        return super.visitDeclarations(ctx);
+    }
 
-        return super.visitCompilationUnit(ctx);
+    @Override
+    public Void visitSingleStatements(SingleStatementsContext ctx) {
+        enterRoot(ctx);
+        return super.visitSingleStatements(ctx);
     }
 
     @Override
-    public Void visitNormalClassDeclaration(NormalClassDeclarationContext ctx) {
-        Node n = new Node();
-        n.data = ctx;
-        n.parent = scopeNode;
-        n.scope = true;
-        scopeNode.addNode(n);
+    public Void visitSingleExpression(SingleExpressionContext ctx) {
+        enterRoot(ctx);
+        return super.visitSingleExpression(ctx);
+    }
+
+    private void enterRoot(ParserRuleContext ctx) {
+        // the parse listener starts over on every attempt
+        Arrays.fill(data, 0, size, null);
+        Arrays.fill(index, 0);
+        size = 0;
+        scopeNode = NONE;
+
+        root = addNode(ctx, SCOPE);
+        scopeNode = root;
+    }
+
+    private void enterScope(ParserRuleContext ctx) {
+        scopeNode = addNode(ctx, SCOPE);
+    }
 
-        scopeNode = n;
+    private void exitScope() {
+        scopeNode = parent[scopeNode];
+    }
+
+    private int declare(VariableDeclaratorIdContext ctx) {
+        return addNode(ctx, (byte) 0);
+    }
+
+    private static boolean isNullInitialized(VariableDeclaratorContext declarator) {
+        VariableInitializerContext initial = declarator.variableInitializer();
+
+        return initial != null && ParseTrees.isNullLiteral(initial);
+    }
+
+    @Override
+    public Void visitNormalClassDeclaration(NormalClassDeclarationContext ctx) {
+        enterScope(ctx);
         visitClassBody(ctx.classBody());
-        scopeNode = n.parent;
+        exitScope();
 
         return null;
     }
 
     @Override
     public Void visitVariableDeclaratorId(VariableDeclaratorIdContext ctx) {
-        Node n = new Node();
-        n.data = ctx;
-        n.parent = scopeNode;
+        int n = declare(ctx);
 
         ParserRuleContext parent = ctx.getParent();
 
-        if (parent instanceof VariableDeclaratorContext) {
-            VariableInitializerContext initial = ((VariableDeclaratorContext) parent).variableInitializer();
-
-            if (initial != null && initial.getText().equals("null"))
-                n.optional = true;
-        }
-
-        scopeNode.addNode(n);
+        if (parent instanceof VariableDeclaratorContext && isNullInitialized((VariableDeclaratorContext) parent))
+            flags[n] |= OPTIONAL;
 
         return super.visitVariableDeclaratorId(ctx);
     }
 
     @Override
     public Void visitMethodDeclaration(MethodDeclarationContext ctx) {
-        Node n = new Node();
-        n.parent = scopeNode;
-        n.data = ctx;
-        n.scope = true;
-        scopeNode.addNode(n);
-
-        scopeNode = n;
+        enterScope(ctx);
 
         visitMethodHeader(ctx.methodHeader());
         visitMethodBody(ctx.methodBody());
 
-        scopeNode = n.parent;
+        exitScope();
 
         return null;
     }
@@ -179,49 +335,210 @@ public class ScopeTree extends Java8BaseVisitor<Void> {
     public Void visitAssignment(AssignmentContext ctx) {
         String leftHandSide = ctx.leftHandSide().getText();
 
-        String expression = ctx.expression().getText();
-
-        checkVariable(scopeNode, leftHandSide, expression.equals("null"));
+        checkVariable(scopeNode, leftHandSide, ParseTrees.isNullLiteral(ctx.expression()));
 
         return super.visitAssignment(ctx);
     }
 
-    private void checkVariable(Node n, String var, boolean isNull) {
+    private void checkVariable(int n, String var, boolean isNull) {
+        checkVariable(n, var, isNull, size);
+    }
+
+    // only the nodes numbered below limit are looked at, those added before the check
+    private void checkVariable(int n, String var, boolean isNull, int limit) {
         boolean flag = false;
 
-        for (Node c : n.children) {
-            if (c.data instanceof LocalVariableDeclarationContext) {
-                LocalVariableDeclarationContext context = (LocalVariableDeclarationContext) c.data;
+        for (int c = lastChild[n]; c != NONE; c = previousSibling[c]) {
+            if (c >= limit || (flags[c] & SCOPE) != 0) {
+                continue;
+            }
+            VariableDeclaratorIdContext context = (VariableDeclaratorIdContext) data[c];
 
-                for (VariableDeclaratorContext x : context.variableDeclaratorList().variableDeclarator()) {
-                    String id = x.variableDeclaratorId().getText();
+            if (var.equals(context.Identifier().getText())) {
+                flags[c] |= isNull ? VARIABLE | OPTIONAL : VARIABLE;
+                flag = true;
+            }
+        }
 
-                    if (var.equals(id)) {
-                        c.variable = true;
+        if (!flag && parent[n] != NONE)
+            checkVariable(parent[n], var, isNull, limit);
+    }
 
-                        if (isNull)
-                            c.optional = true;
+    /**
+     * Builds the tree from parse events. Scopes and declarations are added
+     * as their rules are entered and exited, which is the order a visitor
+     * meets them in. A rule's text is only complete when it is exited, so
+     * that is where assignments are checked, against the nodes there were
+     * when it was entered. Rules are also exited when the parser gives
+     * up on them, so their children can be missing.
+     */
+    private class Builder extends Java8BaseListener {
+        boolean complete;
+        private int[] pending = new int[16];
+        private int depth;
+
+        void reset() {
+            complete = false;
+            depth = 0;
+        }
 
-                        flag = true;
-                        break;
-                    }
+        private void start(ParserRuleContext ctx) {
+            enterRoot(ctx);
+            reset();
+        }
 
-                }
+        private void enterCheck() {
+            if (depth == pending.length) {
+                pending = Arrays.copyOf(pending, 2 * depth);
             }
-            if (c.data instanceof VariableDeclaratorIdContext) {
-                VariableDeclaratorIdContext context = (VariableDeclaratorIdContext) c.data;
+            pending[depth++] = size;
+        }
+
+        private void exitCheck(ParserRuleContext target, boolean isNull) {
+            int limit = pending[--depth];
+            if (target != null) {
+                checkVariable(scopeNode, target.getText(), isNull, limit);
+            }
+        }
+
+        @Override
+        public void enterCompilationUnit(CompilationUnitContext ctx) {
+            start(ctx);
+        }
+
+        @Override
+        public void enterDeclarations(DeclarationsContext ctx) {
+            start(ctx);
+        }
 
-                if (var.equals(context.Identifier().getText())) {
-                    c.variable = true;
-                    flag = true;
+        @Override
+        public void enterSingleStatements(SingleStatementsContext ctx) {
+            start(ctx);
+        }
+
+        @Override
+        public void enterSingleExpression(SingleExpressionContext ctx) {
+            start(ctx);
+        }
+
+        @Override
+        public void exitCompilationUnit(CompilationUnitContext ctx) {
+            complete = true;
+        }
+
+        @Override
+        public void exitDeclarations(DeclarationsContext ctx) {
+            complete = true;
+        }
+
+        @Override
+        public void exitSingleStatements(SingleStatementsContext ctx) {
+            complete = true;
+        }
+
+        @Override
+        public void exitSingleExpression(SingleExpressionContext ctx) {
+            complete = true;
+        }
+
+        @Override
+        public void enterNormalClassDeclaration(NormalClassDeclarationContext ctx) {
+            enterScope(ctx);
+        }
+
+        @Override
+        public void exitNormalClassDeclaration(NormalClassDeclarationContext ctx) {
+            exitScope();
+        }
 
-                    if (isNull)
-                        c.optional = true;
+        @Override
+        public void enterMethodDeclaration(MethodDeclarationContext ctx) {
+            enterScope(ctx);
+        }
+
+        @Override
+        public void exitMethodDeclaration(MethodDeclarationContext ctx) {
+            exitScope();
+        }
+
+        @Override
+        public void exitVariableDeclaratorId(VariableDeclaratorIdContext ctx) {
+            if (ctx.Identifier() != null) {
+                declare(ctx);
+            }
+        }
+
+        @Override
+        public void exitVariableDeclarator(VariableDeclaratorContext ctx) {
+            VariableDeclaratorIdContext id = ctx.variableDeclaratorId();
+            if (id == null || !isNullInitialized(ctx)) {
+                return;
+            }
+            int n = getNode(id);
+            if (n != NONE) {
+                flags[n] |= OPTIONAL;
+            }
+        }
+
+        @Override
+        public void exitPostfixExpression(PostfixExpressionContext ctx) {
+            if (ctx.postDecrementExpression_lf_postfixExpression(0) != null
+                    || ctx.postIncrementExpression_lf_postfixExpression(0) != null) {
+                if (ctx.expressionName() != null) {
+                    checkVariable(scopeNode, ctx.expressionName().getText(), false);
                 }
             }
         }
 
-        if (!flag && n.parent != null)
-            checkVariable(n.parent, var, isNull);
+        @Override
+        public void enterPostIncrementExpression(PostIncrementExpressionContext ctx) {
+            enterCheck();
+        }
+
+        @Override
+        public void exitPostIncrementExpression(PostIncrementExpressionContext ctx) {
+            exitCheck(ctx.postfixExpression(), false);
+        }
+
+        @Override
+        public void enterPostDecrementExpression(PostDecrementExpressionContext ctx) {
+            enterCheck();
+        }
+
+        @Override
+        public void exitPostDecrementExpression(PostDecrementExpressionContext ctx) {
+            exitCheck(ctx.postfixExpression(), false);
+        }
+
+        @Override
+        public void enterPreIncrementExpression(PreIncrementExpressionContext ctx) {
+            enterCheck();
+        }
+
+        @Override
+        public void exitPreIncrementExpression(PreIncrementExpressionContext ctx) {
+            exitCheck(ctx.unaryExpression(), false);
+        }
+
+        @Override
+        public void enterPreDecrementExpression(PreDecrementExpressionContext ctx) {
+            enterCheck();
+        }
+
+        @Override
+        public void exitPreDecrementExpression(PreDecrementExpressionContext ctx) {
+            exitCheck(ctx.unaryExpression(), false);
+        }
+
+        @Override
+        public void enterAssignment(AssignmentContext ctx) {
+            enterCheck();
+        }
+
+        @Override
+        public void exitAssignment(AssignmentContext ctx) {
+            exitCheck(ctx.expression() == null ? null : ctx.leftHandSide(),
+                    ctx.expression() != null && ParseTrees.isNullLiteral(ctx.expression()));
+        }
     }
 }
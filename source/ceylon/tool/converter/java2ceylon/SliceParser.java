@@ -0,0 +1,398 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import ceylon.tool.converter.java2ceylon.Java8Parser.ClassBodyContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ClassBodyDeclarationsContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.ClassDeclarationContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.CompilationUnitContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.NormalClassDeclarationContext;
+import ceylon.tool.converter.java2ceylon.Java8Parser.TypeDeclarationContext;
+
+/**
+ * Parses a big compilation unit in slices on several threads.
+ *
+ * A scan of the tokens finds where the top-level types end, by brace depth.
+ * When a file is mostly one big class, it finds where the members of that
+ * class end instead. Runs of whole declarations are parsed concurrently,
+ * while the calling thread parses the rest of the file with those runs cut
+ * out. The declarations are then grafted into that tree where they were cut
+ * out, giving the same tree as parsing the whole file at once.
+ *
+ * The scan only looks at braces, so it can be fooled. Any slice that doesn't
+ * parse makes {@link #parse} give up, and the file is parsed as a whole.
+ */
+final class SliceParser {
+
+    // below this many tokens, parsing on another thread costs more than it saves
+    static final int MIN_SLICE_TOKENS = 8192;
+
+    private final Executor executor;
+    private final CancellationToken cancellation;
+    private final boolean compactTrees;
+
+    SliceParser(Executor executor, CancellationToken cancellation, boolean compactTrees) {
+        this.executor = executor;
+        this.cancellation = cancellation;
+        this.compactTrees = compactTrees;
+    }
+
+    /**
+     * The tree of the whole file, or null if it can't be split or a slice
+     * has a syntax error.
+     */
+    CompilationUnitContext parse(CommonTokenStream input) {
+        input.fill();
+        List<Token> tokens = input.getTokens();
+        int eof = tokens.size() - 1;
+        if (eof < 2 * MIN_SLICE_TOKENS || tokens.get(eof).getType() != Token.EOF) {
+            return null;
+        }
+
+        int from = skipHeader(tokens, eof);
+        int to = eof;
+        List<Integer> ends = declarationEnds(tokens, from, to);
+        if (ends == null) {
+            return null;
+        }
+        boolean members = false;
+        if (slices(from, to, ends).size() < 2) {
+            // a single big class, split its members instead
+            int biggest = biggestDeclaration(from, ends);
+            int start = biggest == 0 ? from : ends.get(biggest - 1);
+            int brace = classBodyStart(tokens, start, ends.get(biggest));
+            if (brace < 0) {
+                return null;
+            }
+            from = brace + 1;
+            to = ends.get(biggest) - 1;
+            ends = declarationEnds(tokens, from, to);
+            members = true;
+        }
+        if (ends == null) {
+            return null;
+        }
+        List<int[]> slices = slices(from, to, ends);
+        if (slices.size() < 2) {
+            return null;
+        }
+        return parse(input, from, to, slices, members);
+    }
+
+    private CompilationUnitContext parse(CommonTokenStream input, int from, int to,
+            List<int[]> slices, final boolean members) {
+        final List<Token> tokens = input.getTokens();
+        final CancellationToken abort = cancellation.child();
+        final Token eof = tokens.get(tokens.size() - 1);
+        ParallelTasks<List<? extends ParserRuleContext>> tasks = new ParallelTasks<>(executor);
+        for (final int[] slice : slices) {
+            tasks.submit(new Callable<List<? extends ParserRuleContext>>() {
+                @Override
+                public List<? extends ParserRuleContext> call() {
+                    List<Token> sliceTokens = new ArrayList<>(tokens.subList(slice[0], slice[1]));
+                    sliceTokens.add(eof);
+                    if (members) {
+                        return ((ClassBodyDeclarationsContext) parse(sliceTokens,
+                                Java8Parser.RULE_classBodyDeclarations, abort, compactTrees)).classBodyDeclaration();
+                    }
+                    CompilationUnitContext unit = (CompilationUnitContext) parse(sliceTokens,
+                            Java8Parser.RULE_compilationUnit, abort, compactTrees);
+                    if (unit.packageDeclaration() != null || !unit.importDeclaration().isEmpty()) {
+                        throw new ParseCancellationException("Slice is not made of type declarations");
+                    }
+                    return unit.typeDeclaration();
+                }
+            });
+        }
+
+        boolean done = false;
+        try {
+            List<Token> rest = new ArrayList<>(tokens.subList(0, from));
+            rest.addAll(tokens.subList(to, tokens.size()));
+            CompilationUnitContext unit = (CompilationUnitContext) parse(rest, Java8Parser.RULE_compilationUnit, abort, compactTrees);
+            ParserRuleContext target = members ? findClassBody(unit, tokens.get(from - 1)) : unit;
+            if (target == null) {
+                return null;
+            }
+            // before the EOF of the file, or the closing brace of the class
+            int position = target.getChildCount() - 1;
+            for (int i = 0; i < tasks.size(); i++) {
+                for (ParserRuleContext declaration : tasks.get(i)) {
+                    declaration.parent = target;
+                    target.children.add(position++, declaration);
+                }
+            }
+            int first = 0;
+            while (tokens.get(first).getChannel() != Token.DEFAULT_CHANNEL) {
+                first++;
+            }
+            unit.start = tokens.get(first);
+            done = true;
+            return unit;
+        } catch (ParseCancellationException e) {
+            return null;
+        } finally {
+            if (!done) {
+                abort.cancel();
+                tasks.awaitQuietly();
+            }
+        }
+    }
+
+    /**
+     * Parses silently, bailing out at the first syntax error with a
+     * {@link ParseCancellationException}. Like a whole file, a slice is only
+     * parsed again with full LL prediction when SLL prediction fails.
+     */
+    private static ParserRuleContext parse(List<Token> tokens, int rule, CancellationToken cancellation,
+            boolean compactTrees) {
+        CommonTokenStream stream = new SliceTokenStream(tokens);
+        Java8Parser parser = new Java8Parser(stream);
+        if (compactTrees) {
+            parser.addParseListener(ChainCompactor.INSTANCE);
+        }
+        SourceConverter.CancellableATNSimulator simulator = new SourceConverter.CancellableATNSimulator(parser);
+        simulator.cancellation = cancellation;
+        parser.setInterpreter(simulator);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            simulator.setPredictionMode(PredictionMode.SLL);
+            return parseRule(parser, rule);
+        } catch (ParseCancellationException e) {
+            stream.seek(0);
+            parser.setTokenStream(stream);
+            simulator.setPredictionMode(PredictionMode.LL);
+            return parseRule(parser, rule);
+        }
+    }
+
+    private static ParserRuleContext parseRule(Java8Parser parser, int rule) {
+        return rule == Java8Parser.RULE_classBodyDeclarations ? parser.classBodyDeclarations() : parser.compilationUnit();
+    }
+
+    // the index of the first token after the package and import declarations
+    private static int skipHeader(List<Token> tokens, int eof) {
+        int i = 0;
+        while (i < eof) {
+            int type = tokens.get(i).getType();
+            if (tokens.get(i).getChannel() != Token.DEFAULT_CHANNEL) {
+                i++;
+            } else if (type == Java8Parser.PACKAGE || type == Java8Parser.IMPORT) {
+                while (i < eof && tokens.get(i).getType() != Java8Parser.SEMI) {
+                    i++;
+                }
+                i++;
+            } else {
+                break;
+            }
+        }
+        return Math.min(i, eof);
+    }
+
+    /**
+     * Where the declarations between {@code from} and {@code to} end: after a
+     * ';' or a closing brace at their own level. A closing brace followed by
+     * something that can't start a declaration, as in an annotation argument
+     * or a field initialised with an anonymous class, doesn't count. Null if
+     * the braces don't match.
+     */
+    private static List<Integer> declarationEnds(List<Token> tokens, int from, int to) {
+        List<Integer> ends = new ArrayList<>();
+        int depth = 0;
+        for (int i = from; i < to; i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            switch (token.getType()) {
+            case Java8Parser.LBRACE:
+                depth++;
+                break;
+            case Java8Parser.RBRACE:
+                if (--depth < 0) {
+                    return null;
+                }
+                if (depth == 0 && startsDeclaration(tokens, i + 1, to)) {
+                    ends.add(i + 1);
+                }
+                break;
+            case Java8Parser.SEMI:
+                if (depth == 0) {
+                    ends.add(i + 1);
+                }
+                break;
+            }
+        }
+        return depth == 0 ? ends : null;
+    }
+
+    private static boolean startsDeclaration(List<Token> tokens, int i, int to) {
+        while (i < to && tokens.get(i).getChannel() != Token.DEFAULT_CHANNEL) {
+            i++;
+        }
+        if (i == to) {
+            return true;
+        }
+        // not ';', which ends the declaration anyway, and may belong to it
+        switch (tokens.get(i).getType()) {
+        case Java8Parser.LBRACE:
+        case Java8Parser.RBRACE:
+        case Java8Parser.AT:
+        case Java8Parser.LT:
+        case Java8Parser.Identifier:
+        case Java8Parser.VOID:
+        case Java8Parser.CLASS:
+        case Java8Parser.INTERFACE:
+        case Java8Parser.ENUM:
+        case Java8Parser.BOOLEAN:
+        case Java8Parser.BYTE:
+        case Java8Parser.SHORT:
+        case Java8Parser.INT:
+        case Java8Parser.LONG:
+        case Java8Parser.CHAR:
+        case Java8Parser.FLOAT:
+        case Java8Parser.DOUBLE:
+        case Java8Parser.PUBLIC:
+        case Java8Parser.PROTECTED:
+        case Java8Parser.PRIVATE:
+        case Java8Parser.STATIC:
+        case Java8Parser.ABSTRACT:
+        case Java8Parser.FINAL:
+        case Java8Parser.NATIVE:
+        case Java8Parser.SYNCHRONIZED:
+        case Java8Parser.TRANSIENT:
+        case Java8Parser.VOLATILE:
+        case Java8Parser.STRICTFP:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    // groups consecutive declarations into slices of at least MIN_SLICE_TOKENS
+    private static List<int[]> slices(int from, int to, List<Integer> ends) {
+        List<int[]> slices = new ArrayList<>();
+        int start = from;
+        for (int end : ends) {
+            if (end - start >= MIN_SLICE_TOKENS && to - end >= MIN_SLICE_TOKENS) {
+                slices.add(new int[] { start, end });
+                start = end;
+            }
+        }
+        if (start < to) {
+            slices.add(new int[] { start, to });
+        }
+        return slices;
+    }
+
+    private static int biggestDeclaration(int from, List<Integer> ends) {
+        int biggest = 0;
+        int start = from;
+        int size = 0;
+        for (int i = 0; i < ends.size(); i++) {
+            if (ends.get(i) - start > size) {
+                size = ends.get(i) - start;
+                biggest = i;
+            }
+            start = ends.get(i);
+        }
+        return biggest;
+    }
+
+    // the opening brace of a class body, or -1 if the declaration isn't a plain class
+    private static int classBodyStart(List<Token> tokens, int start, int end) {
+        boolean isClass = false;
+        int parens = 0;
+        for (int i = start; i < end; i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            switch (token.getType()) {
+            case Java8Parser.LPAREN:
+                parens++;
+                break;
+            case Java8Parser.RPAREN:
+                parens--;
+                break;
+            case Java8Parser.CLASS:
+                isClass |= parens == 0;
+                break;
+            case Java8Parser.INTERFACE:
+            case Java8Parser.ENUM:
+                if (parens == 0) {
+                    return -1;
+                }
+                break;
+            case Java8Parser.LBRACE:
+                if (parens == 0) {
+                    return isClass && tokens.get(end - 1).getType() == Java8Parser.RBRACE ? i : -1;
+                }
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private static ClassBodyContext findClassBody(CompilationUnitContext unit, Token brace) {
+        for (TypeDeclarationContext type : unit.typeDeclaration()) {
+            ClassDeclarationContext declaration = type.classDeclaration();
+            NormalClassDeclarationContext normal = declaration == null ? null : declaration.normalClassDeclaration();
+            if (normal != null && normal.classBody().getStart() == brace) {
+                return normal.classBody();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A stream over tokens taken from another stream. Unlike filling a
+     * {@link CommonTokenStream} from a {@link ListTokenSource}, this keeps
+     * their indexes in the whole file, which other threads may be reading.
+     */
+    private static class SliceTokenStream extends CommonTokenStream {
+        private final List<Token> slice;
+
+        SliceTokenStream(List<Token> slice) {
+            super(new ListTokenSource(slice));
+            this.slice = slice;
+        }
+
+        @Override
+        protected int fetch(int n) {
+            if (fetchedEOF) {
+                return 0;
+            }
+            for (int i = 0; i < n; i++) {
+                Token token = slice.get(tokens.size());
+                tokens.add(token);
+                if (token.getType() == Token.EOF) {
+                    fetchedEOF = true;
+                    return i + 1;
+                }
+            }
+            return n;
+        }
+    }
+}
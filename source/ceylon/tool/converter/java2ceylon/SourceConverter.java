@@ -0,0 +1,811 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.IntegerList;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * Runs the lexer, parser, {@link ScopeTree} and {@link JavaToCeylonConverter}
+ * over a single Java source.
+ *
+ * All of these are created once and reset for every source, so an instance
+ * should be kept per thread and reused for all the files that thread converts.
+ * Instances are not thread safe.
+ */
+public class SourceConverter {
+
+    private final Java8Lexer lexer;
+    private final ReusableTokenStream tokens;
+    private final Java8Parser parser;
+    private final ScopeTree scopeTree;
+    private final JavaToCeylonConverter converter;
+    private final ANTLRErrorStrategy recovery;
+    private final ANTLRErrorStrategy bail = new BailErrorStrategy();
+    private final CancellableATNSimulator simulator;
+    private final List<SyntaxError> errors = new ArrayList<>();
+    // how many of the errors the lexer reported for the last source lexed
+    private int lexErrors;
+    private boolean failFast;
+    private boolean compactTrees;
+    private String indentation;
+    private boolean comments;
+    // enough for the distinct types of any one file
+    private final TypeCache fileTypes = new TypeCache(4096);
+    private TypeCache sharedTypes;
+    private ParseCache parseCache;
+    // the key of the source last lexed, and what the cache had for it, or
+    // all its tokens so it can be cached once it is known to parse cleanly
+    private String parseKey;
+    private ParseCache.Entry cached;
+    private List<Token> lexed;
+    private Executor executor;
+    private RecognitionException failure;
+
+    private static final ThreadLocal<SourceConverter[]> warm = new ThreadLocal<SourceConverter[]>() {
+        @Override
+        protected SourceConverter[] initialValue() {
+            return new SourceConverter[4];
+        }
+    };
+
+    public SourceConverter(boolean transformGetters, boolean useValues) {
+        lexer = new Java8Lexer(null);
+        tokens = new ReusableTokenStream(lexer);
+        parser = new Java8Parser(tokens);
+        scopeTree = new ScopeTree();
+        converter = new JavaToCeylonConverter(null, transformGetters, useValues, scopeTree);
+        recovery = parser.getErrorHandler();
+        simulator = new CancellableATNSimulator(parser);
+        parser.setInterpreter(simulator);
+        parser.addParseListener(scopeTree.getParseListener());
+
+        ANTLRErrorListener collector = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                    int charPositionInLine, String msg, RecognitionException e) {
+                errors.add(new SyntaxError(line, charPositionInLine, msg));
+            }
+        };
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(collector);
+        parser.removeErrorListeners();
+        parser.addErrorListener(collector);
+    }
+
+    /**
+     * The converter kept by the current thread for the given options.
+     */
+    public static SourceConverter forCurrentThread(boolean transformGetters, boolean useValues) {
+        SourceConverter[] converters = warm.get();
+        int i = (transformGetters ? 2 : 0) + (useValues ? 1 : 0);
+        if (converters[i] == null) {
+            converters[i] = new SourceConverter(transformGetters, useValues);
+        }
+        return converters[i];
+    }
+
+    /**
+     * Converts a fragment of Java code, which can be a whole file, class
+     * members, statements or a single expression, using the converter kept
+     * by the current thread.
+     */
+    public static String convertSnippet(String code, boolean transformGetters, boolean useValues) {
+        return forCurrentThread(transformGetters, useValues).convert(code);
+    }
+
+    /**
+     * Converts a fragment of Java code on the given executor. When the user
+     * changes the code again, cancel the returned task: it completes right
+     * away and the conversion stops at its next cancellation check.
+     */
+    public static ConversionTask convertSnippetAsync(String code, boolean transformGetters, boolean useValues,
+            Executor executor) {
+        ConversionTask task = new ConversionTask(code, transformGetters, useValues);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Lexes the whole input. The returned stream is reused, it stays valid
+     * until the next call to {@code lex} or {@code convert} on this instance.
+     */
+    public CommonTokenStream lex(CharStream input) {
+        return lex(input, CancellationToken.NONE);
+    }
+
+    public CommonTokenStream lex(CharStream input, CancellationToken cancellation) {
+        errors.clear();
+        lexErrors = 0;
+        forgetParse();
+        lexer.setInputStream(input);
+        if (parseCache != null) {
+            parseKey = ParseCache.key(input);
+            cached = parseCache.load(parseKey, lexer, input);
+        }
+        if (cached != null) {
+            tokens.setTokenSource(new ListTokenSource(cached.tokens));
+        } else {
+            tokens.setTokenSource(lexer);
+            if (parseKey != null) {
+                lexed = new ArrayList<>();
+                tokens.lexed = lexed;
+            }
+        }
+        try {
+            tokens.fill(cancellation);
+        } finally {
+            tokens.lexed = null;
+            lexErrors = errors.size();
+        }
+        return tokens;
+    }
+
+    public void convert(CharStream input, Writer out) {
+        convert(lex(input), out);
+    }
+
+    public void convert(CommonTokenStream input, Writer out) {
+        convert(input, out, CancellationToken.NONE);
+    }
+
+    /**
+     * Converts the input into the given file, in the platform encoding. A
+     * file that already holds exactly the output is left untouched, so its
+     * modification time only changes when its content does.
+     *
+     * @return whether the file was written
+     */
+    public boolean convert(CharStream input, File target) throws IOException {
+        String output = convert(lex(input));
+        return OutputFiles.writeIfChanged(target, output, Charset.defaultCharset());
+    }
+
+    /**
+     * Converts the given tokens, checking the cancellation token while
+     * parsing and emitting.
+     *
+     * @throws ConversionException in fail-fast mode, if the source has syntax errors
+     * @throws ConversionCancelledException if the token expires first
+     */
+    public void convert(CommonTokenStream input, Writer out, CancellationToken cancellation) {
+        try {
+            if (indentation == null) {
+                emit(input, cancellation).printTo(out);
+            } else {
+                Writer indenting = new IndentingWriter(out, indentation);
+                emit(input, cancellation).printTo(indenting);
+                indenting.flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private CeylonUnit emit(CommonTokenStream input, CancellationToken cancellation) {
+        try {
+            simulator.cancellation = cancellation;
+            if (input != tokens) {
+                // not what the last call to lex returned, whatever was
+                // found in that source doesn't apply to this one
+                errors.clear();
+                lexErrors = 0;
+                forgetParse();
+            } else {
+                // keep what the lexer found, but not the parse errors of
+                // an earlier conversion of the same tokens
+                errors.subList(lexErrors, errors.size()).clear();
+            }
+            if (failFast && !errors.isEmpty()) {
+                throw new ConversionException(new ArrayList<>(errors));
+            }
+            scopeTree.reset();
+            ParserRuleContext tree = parse(input);
+
+            if (!scopeTree.isBuiltFrom(tree)) {
+                // parsed in slices, by parsers the scope tree didn't listen to
+                scopeTree.reset();
+                scopeTree.setCancellation(cancellation);
+                tree.accept(scopeTree);
+            }
+
+            CeylonUnit unit = new CeylonUnit();
+            converter.reset(unit);
+            converter.setTypeCache(getTypeCache());
+            if (comments) {
+                input.fill();
+                converter.setComments(CommentIndex.build(input.getTokens()));
+            }
+            converter.setCancellation(cancellation);
+            tree.accept(converter);
+            return unit;
+        } finally {
+            release();
+        }
+    }
+
+    public String convert(String source) {
+        return convert(source, CancellationToken.NONE);
+    }
+
+    public String convert(String source, CancellationToken cancellation) {
+        return convert(lex(new ANTLRInputStream(source), cancellation), cancellation);
+    }
+
+    public String convert(CommonTokenStream input) {
+        return convert(input, CancellationToken.NONE);
+    }
+
+    public String convert(CommonTokenStream input, CancellationToken cancellation) {
+        CeylonUnit unit = emit(input, cancellation);
+        if (indentation == null) {
+            return unit.toString();
+        }
+        StringWriter out = new StringWriter(unit.length() + unit.length() / 4);
+        try {
+            Writer indenting = new IndentingWriter(out, indentation);
+            unit.printTo(indenting);
+            indenting.flush();
+        } catch (IOException e) {
+            throw new AssertionError(e); // a StringWriter doesn't throw
+        }
+        return out.toString();
+    }
+
+    /**
+     * In fail-fast mode the parser stops at the first syntax error and
+     * {@code convert} throws a {@link ConversionException}, instead of
+     * recovering and converting whatever it could make sense of.
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Whether the parser leaves out the contexts between an expression and
+     * a plain operand, see {@link ChainCompactor}. That makes trees of
+     * expression heavy code a lot smaller, without changing the output.
+     */
+    public boolean isCompactTrees() {
+        return compactTrees;
+    }
+
+    public void setCompactTrees(boolean compactTrees) {
+        if (compactTrees != this.compactTrees) {
+            if (compactTrees) {
+                parser.addParseListener(ChainCompactor.INSTANCE);
+            } else {
+                parser.removeParseListener(ChainCompactor.INSTANCE);
+            }
+            this.compactTrees = compactTrees;
+        }
+    }
+
+    /**
+     * Whether comments are kept and written before and after the members and
+     * statements they belong to, see {@link CommentIndex}. Otherwise they are
+     * dropped as soon as they are lexed, and cost nothing further.
+     */
+    public boolean isComments() {
+        return comments;
+    }
+
+    public void setComments(boolean comments) {
+        this.comments = comments;
+        tokens.keepComments = comments;
+    }
+
+    /**
+     * The cache the types of the last source were rendered with. Unless a
+     * cache shared with other converters is set, it is this converter's own,
+     * which only keeps the types of one source at a time, and its hit rate
+     * covers all the sources converted so far.
+     */
+    public TypeCache getTypeCache() {
+        return sharedTypes == null ? fileTypes : sharedTypes;
+    }
+
+    /**
+     * Shares a type cache with other converters, for instance those of a
+     * batch, which may run on other threads. Null goes back to a cache of
+     * this converter's own.
+     */
+    public void setTypeCache(TypeCache types) {
+        sharedTypes = types;
+    }
+
+    /**
+     * Where the tokens and parser decisions of sources are cached, see
+     * {@link ParseCache}, or null. The cache is looked up when a source is
+     * lexed, and a source that wasn't found is cached once it has parsed
+     * without syntax errors.
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    /**
+     * What each line is indented with per brace it is nested in, for
+     * instance four spaces or a tab, null to leave the code unindented. The
+     * code is indented as it is written out, see {@link IndentingWriter}.
+     */
+    public String getIndentation() {
+        return indentation;
+    }
+
+    public void setIndentation(String indentation) {
+        this.indentation = indentation == null || indentation.isEmpty() ? null : indentation;
+    }
+
+    /**
+     * Executor on which the types and class members of a big source are
+     * parsed and emitted in parallel, null to do everything on the calling
+     * thread. The calling thread takes part as well, so this never waits for
+     * a saturated executor.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+        converter.setExecutor(executor);
+    }
+
+    /**
+     * The syntax errors found in the last source, in recovery mode these
+     * don't stop the conversion.
+     */
+    public List<SyntaxError> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    private static final int[] FILE = { Java8Parser.RULE_compilationUnit };
+    private static final int[] DECLARATIONS = { Java8Parser.RULE_declarations };
+    private static final int[] STATEMENTS = { Java8Parser.RULE_singleStatements };
+    private static final int[] EXPRESSION_OR_STATEMENTS = {
+        Java8Parser.RULE_singleExpression, Java8Parser.RULE_singleStatements
+    };
+    private static final int[] DECLARATIONS_OR_STATEMENTS = {
+        Java8Parser.RULE_declarations, Java8Parser.RULE_singleStatements
+    };
+    private static final int[] DECLARATIONS_STATEMENTS_OR_EXPRESSION = {
+        Java8Parser.RULE_declarations, Java8Parser.RULE_singleStatements, Java8Parser.RULE_singleExpression
+    };
+
+    // what a scan of the tokens outside of any braces found
+    private static final int CONTROL_FLOW = 1;
+    private static final int SEMICOLON = 2;
+
+    /**
+     * Parses a whole file, a list of members, a list of statements or a
+     * single expression, picking the rule from the tokens of the input.
+     * Snippets that could be either members or statements are tried as
+     * members first.
+     *
+     * Every candidate rule is first tried with SLL prediction, bailing out at
+     * the first syntax error. Only when that fails is the input parsed again
+     * with full LL prediction, and then with error recovery unless in
+     * fail-fast mode.
+     */
+    ParserRuleContext parse(CommonTokenStream input) {
+        if (cached != null) {
+            ParserRuleContext tree = replay(input, cached);
+            if (tree != null) {
+                return tree;
+            }
+            scopeTree.reset();
+        }
+        int[] rules = entryRules(input);
+        if (executor != null && rules == FILE) {
+            ParserRuleContext tree = new SliceParser(executor, simulator.cancellation, compactTrees).parse(input);
+            if (tree != null) {
+                return tree;
+            }
+        }
+        simulator.trace = lexed != null ? new IntegerList() : null;
+        for (int rule : rules) {
+            ParserRuleContext tree = attempt(input, rule, PredictionMode.SLL);
+            if (tree != null) {
+                store(rule);
+                return tree;
+            }
+        }
+        RecognitionException preferred = null;
+        if (rules.length > 1 || failFast) {
+            for (int rule : rules) {
+                ParserRuleContext tree = attempt(input, rule, PredictionMode.LL);
+                if (tree != null) {
+                    store(rule);
+                    return tree;
+                }
+                if (preferred == null) {
+                    preferred = failure;
+                }
+            }
+        }
+        if (failFast) {
+            if (preferred != null) {
+                new DefaultErrorStrategy().reportError(parser, preferred);
+            }
+            throw new ConversionException(new ArrayList<>(errors));
+        }
+        // report the errors against the preferred rule, if there are any
+        // after all, as SLL prediction fails on some valid code
+        rewind(input);
+        if (simulator.trace != null) {
+            simulator.trace.clear();
+        }
+        ParserRuleContext tree = parseRule(rules[0]);
+        store(rules[0]);
+        return tree;
+    }
+
+    // parses with the predictions of an earlier parse, null if they don't fit
+    private ParserRuleContext replay(CommonTokenStream input, ParseCache.Entry entry) {
+        simulator.replay = entry.trace;
+        simulator.replayed = 0;
+        try {
+            ParserRuleContext tree = attempt(input, entry.rule, PredictionMode.SLL);
+            return simulator.replayed == entry.trace.length ? tree : null;
+        } finally {
+            simulator.replay = null;
+        }
+    }
+
+    private void store(int rule) {
+        if (simulator.trace != null && errors.isEmpty()) {
+            parseCache.store(parseKey, lexed, rule, simulator.trace.toArray());
+        }
+        simulator.trace = null;
+    }
+
+    private void forgetParse() {
+        parseKey = null;
+        cached = null;
+        lexed = null;
+    }
+
+    // parses silently and gives up at the first syntax error
+    private ParserRuleContext attempt(CommonTokenStream input, int rule, PredictionMode mode) {
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        rewind(input);
+        if (simulator.trace != null) {
+            simulator.trace.clear();
+        }
+        parser.removeErrorListeners();
+        parser.setErrorHandler(bail);
+        parser.getInterpreter().setPredictionMode(mode);
+        try {
+            return parseRule(rule);
+        } catch (ParseCancellationException e) {
+            failure = e.getCause() instanceof RecognitionException ? (RecognitionException) e.getCause() : null;
+            return null;
+        } finally {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(recovery);
+            for (ANTLRErrorListener listener : listeners) {
+                parser.addErrorListener(listener);
+            }
+        }
+    }
+
+    private ParserRuleContext parseRule(int rule) {
+        switch (rule) {
+        case Java8Parser.RULE_declarations:
+            return parser.declarations();
+        case Java8Parser.RULE_singleStatements:
+            return parser.singleStatements();
+        case Java8Parser.RULE_singleExpression:
+            return parser.singleExpression();
+        default:
+            return parser.compilationUnit();
+        }
+    }
+
+    private void rewind(CommonTokenStream input) {
+        input.seek(0);
+        parser.setTokenStream(input);
+    }
+
+    private static int[] entryRules(TokenStream input) {
+        boolean member = false;
+        int k = 1;
+        while (true) {
+            switch (input.LA(k)) {
+            case Java8Parser.PACKAGE:
+            case Java8Parser.IMPORT:
+            case Java8Parser.CLASS:
+            case Java8Parser.INTERFACE:
+            case Java8Parser.ENUM:
+            case Java8Parser.EOF:
+                return FILE;
+            case Java8Parser.AT:
+                if (input.LA(k + 1) == Java8Parser.INTERFACE) {
+                    return FILE;
+                }
+                k = skipAnnotation(input, k);
+                continue;
+            case Java8Parser.SYNCHRONIZED:
+                if (input.LA(k + 1) == Java8Parser.LPAREN) {
+                    return STATEMENTS;
+                }
+                member = true;
+                k++;
+                continue;
+            case Java8Parser.PUBLIC:
+            case Java8Parser.PROTECTED:
+            case Java8Parser.PRIVATE:
+            case Java8Parser.ABSTRACT:
+            case Java8Parser.STATIC:
+            case Java8Parser.STRICTFP:
+            case Java8Parser.TRANSIENT:
+            case Java8Parser.VOLATILE:
+            case Java8Parser.NATIVE:
+            case Java8Parser.DEFAULT:
+                member = true;
+                k++;
+                continue;
+            case Java8Parser.FINAL:
+                k++;
+                continue;
+            case Java8Parser.VOID:
+            case Java8Parser.LT:
+                return DECLARATIONS;
+            case Java8Parser.Identifier:
+                if (member) {
+                    return DECLARATIONS;
+                }
+                switch (input.LA(k + 1)) {
+                case Java8Parser.LPAREN:
+                case Java8Parser.ASSIGN:
+                case Java8Parser.INC:
+                case Java8Parser.DEC:
+                    return statementsOrExpression(input);
+                case Java8Parser.COLON:
+                    return STATEMENTS;
+                default:
+                    return declarationsOrStatements(input);
+                }
+            case Java8Parser.BOOLEAN:
+            case Java8Parser.BYTE:
+            case Java8Parser.SHORT:
+            case Java8Parser.INT:
+            case Java8Parser.LONG:
+            case Java8Parser.CHAR:
+            case Java8Parser.FLOAT:
+            case Java8Parser.DOUBLE:
+                return member ? DECLARATIONS : declarationsOrStatements(input);
+            default:
+                // if, while, return, literals, this, new, '{', ...
+                return member ? DECLARATIONS : statementsOrExpression(input);
+            }
+        }
+    }
+
+    private static int[] statementsOrExpression(TokenStream input) {
+        return scanTopLevel(input) == 0 ? EXPRESSION_OR_STATEMENTS : STATEMENTS;
+    }
+
+    private static int[] declarationsOrStatements(TokenStream input) {
+        int found = scanTopLevel(input);
+        if ((found & CONTROL_FLOW) != 0) {
+            // can't be part of a member, this saves parsing the whole snippet
+            // as members before failing
+            return STATEMENTS;
+        }
+        return (found & SEMICOLON) != 0 ? DECLARATIONS_OR_STATEMENTS : DECLARATIONS_STATEMENTS_OR_EXPRESSION;
+    }
+
+    private static int scanTopLevel(TokenStream input) {
+        int found = 0;
+        int depth = 0;
+        for (int i = 0; i < input.size(); i++) {
+            switch (input.get(i).getType()) {
+            case Java8Parser.LBRACE:
+                depth++;
+                break;
+            case Java8Parser.RBRACE:
+                depth--;
+                break;
+            case Java8Parser.SEMI:
+                if (depth == 0) {
+                    found |= SEMICOLON;
+                }
+                break;
+            case Java8Parser.IF:
+            case Java8Parser.WHILE:
+            case Java8Parser.DO:
+            case Java8Parser.FOR:
+            case Java8Parser.SWITCH:
+            case Java8Parser.RETURN:
+            case Java8Parser.THROW:
+            case Java8Parser.TRY:
+            case Java8Parser.BREAK:
+            case Java8Parser.CONTINUE:
+            case Java8Parser.ASSERT:
+                if (depth == 0) {
+                    found |= CONTROL_FLOW;
+                }
+                break;
+            }
+        }
+        return found;
+    }
+
+    // returns the index of the first token after '@' Name ('.' Name)* ('(' ... ')')?
+    private static int skipAnnotation(TokenStream input, int k) {
+        k += 2;
+        while (input.LA(k) == Java8Parser.DOT && input.LA(k + 1) == Java8Parser.Identifier) {
+            k += 2;
+        }
+        if (input.LA(k) == Java8Parser.LPAREN) {
+            int depth = 0;
+            do {
+                switch (input.LA(k++)) {
+                case Java8Parser.LPAREN:
+                    depth++;
+                    break;
+                case Java8Parser.RPAREN:
+                    depth--;
+                    break;
+                case Java8Parser.EOF:
+                    return k - 1;
+                }
+            } while (depth > 0);
+        }
+        return k;
+    }
+
+    private static class ReusableTokenStream extends CommonTokenStream {
+        private static final int BLOCK_SIZE = 1024;
+
+        boolean keepComments;
+        // every token the source produced, comments included, or null
+        List<Token> lexed;
+
+        ReusableTokenStream(TokenSource tokenSource) {
+            super(tokenSource);
+        }
+
+        @Override
+        protected int fetch(int n) {
+            if (fetchedEOF) {
+                return 0;
+            }
+            for (int i = 0; i < n; ) {
+                Token token = tokenSource.nextToken();
+                if (lexed != null) {
+                    lexed.add(token);
+                }
+                if (!keepComments && token.getChannel() != Token.DEFAULT_CHANNEL) {
+                    continue;
+                }
+                ((WritableToken) token).setTokenIndex(tokens.size());
+                tokens.add(token);
+                i++;
+                if (token.getType() == Token.EOF) {
+                    fetchedEOF = true;
+                    return i;
+                }
+            }
+            return n;
+        }
+
+        void fill(CancellationToken cancellation) {
+            lazyInit();
+            while (fetch(BLOCK_SIZE) == BLOCK_SIZE) {
+                cancellation.check();
+            }
+        }
+
+        @Override
+        public void setTokenSource(TokenSource tokenSource) {
+            super.setTokenSource(tokenSource);
+            // not rewound by ANTLR 4.5, the new source would never be read
+            fetchedEOF = false;
+        }
+    }
+
+    static class CancellableATNSimulator extends ParserATNSimulator {
+        private static final int CHECK_INTERVAL = 0xFF;
+
+        CancellationToken cancellation = CancellationToken.NONE;
+        private int steps;
+        // the predictions made so far, or those of an earlier parse to make
+        // again without looking at the tokens
+        IntegerList trace;
+        int[] replay;
+        int replayed;
+
+        CancellableATNSimulator(Java8Parser parser) {
+            super(parser, parser.getATN(), Java8Parser._decisionToDFA, Java8Parser._sharedContextCache);
+        }
+
+        @Override
+        public int adaptivePredict(TokenStream input, int decision, ParserRuleContext outerContext) {
+            if ((++steps & CHECK_INTERVAL) == 0) {
+                cancellation.check();
+            }
+            if (replay != null) {
+                if (replayed == replay.length) {
+                    throw new ParseCancellationException("ran out of cached predictions");
+                }
+                return replay[replayed++];
+            }
+            int alt = super.adaptivePredict(input, decision, outerContext);
+            if (trace != null) {
+                trace.add(alt);
+            }
+            return alt;
+        }
+
+        @Override
+        protected ATNConfigSet computeReachSet(ATNConfigSet closure, int t, boolean fullCtx) {
+            // the slow path of prediction, which can look ahead through the
+            // whole file, is expensive enough to check on every step
+            cancellation.check();
+            return super.computeReachSet(closure, t, fullCtx);
+        }
+    }
+
+    // drop everything that refers to the last source, so a worker waiting for
+    // its next file doesn't keep the previous tree alive
+    private void release() {
+        scopeTree.reset();
+        scopeTree.setCancellation(CancellationToken.NONE);
+        converter.reset(null);
+        fileTypes.clear();
+        converter.setCancellation(CancellationToken.NONE);
+        simulator.cancellation = CancellationToken.NONE;
+        failure = null;
+        forgetParse();
+        simulator.trace = null;
+        lexer.setInputStream(null);
+        tokens.setTokenSource(lexer);
+        parser.setTokenStream(tokens);
+    }
+}
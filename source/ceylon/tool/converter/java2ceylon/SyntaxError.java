@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+/**
+ * A syntax error reported by the lexer or the parser.
+ */
+public class SyntaxError {
+
+    private final int line;
+    private final int column;
+    private final String message;
+
+    public SyntaxError(int line, int column, String message) {
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "line " + line + ":" + column + " " + message;
+    }
+}
@@ -0,0 +1,132 @@
+/********************************************************************************
+ * Copyright (c) 2011-2017 Red Hat Inc. and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made available under the 
+ * terms of the Apache License, Version 2.0 which is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0 
+ ********************************************************************************/
+package ceylon.tool.converter.java2ceylon;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ceylon renderings of Java types, by their source text, so that a type
+ * like {@code Map<String, List<String>>} is only rendered once however often
+ * it is used. Only the least recently used types are dropped when it is
+ * full. The types are spread over segments with a lock each, so converters
+ * on several threads can share a cache without waiting for each other much.
+ */
+public final class TypeCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param capacity the number of types kept, at least
+     */
+    public TypeCache(int capacity) {
+        int perSegment = Math.max(1, (capacity + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    String get(String type) {
+        return segment(type).get(type);
+    }
+
+    void put(String type, String rendered) {
+        segment(type).put(type, rendered);
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segment(String type) {
+        int h = type.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * How often a type was looked up, since the cache was created.
+     */
+    public long getLookups() {
+        long lookups = 0;
+        for (Segment segment : segments) {
+            lookups += segment.lookups();
+        }
+        return lookups;
+    }
+
+    public long getHits() {
+        long hits = 0;
+        for (Segment segment : segments) {
+            hits += segment.hits();
+        }
+        return hits;
+    }
+
+    public double getHitRate() {
+        long lookups = getLookups();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    private static final class Segment {
+        private final Map<String, String> types;
+        private long lookups;
+        private long hits;
+
+        Segment(final int capacity) {
+            types = new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized String get(String type) {
+            lookups++;
+            String rendered = types.get(type);
+            if (rendered != null) {
+                hits++;
+            }
+            return rendered;
+        }
+
+        synchronized void put(String type, String rendered) {
+            types.put(type, rendered);
+        }
+
+        synchronized void clear() {
+            types.clear();
+        }
+
+        synchronized int size() {
+            return types.size();
+        }
+
+        synchronized long lookups() {
+            return lookups;
+        }
+
+        synchronized long hits() {
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * License header
+ */
+package test;
+
+import java.util.List; // needed for items
+
+/**
+ * A class with comments.
+ */
+public class TestComments {
+    // the count
+    private int count = 0; // starts at zero
+
+    /** Adds the items. */
+    public void add(List<String> items) {
+        // loop over them
+        for (String item : items) {
+            count++; // one more
+            /* nothing else */
+        }
+        if (count > 10) {
+            System.out.println("many"); // print it
+        } // end if
+        // last
+    }
+
+    enum Color {
+        // the first one
+        RED,
+        GREEN
+    }
+}
+// end of file
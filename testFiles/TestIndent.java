@@ -0,0 +1,28 @@
+import java.util.List;
+import static java.lang.Math.max;
+
+public class TestIndent {
+    private String open = "{";
+    private char close = '}';
+
+    public int test(List<String> items) {
+        int n = 0;
+        for (String item : items) {
+            if (item.equals("{\"") || item.isEmpty()) {
+                System.out.println("}" + item);
+            } else {
+                try {
+                    n = max(n, item.indexOf('{'));
+                } catch (Exception e) {
+                    System.out.println("{" + e);
+                }
+            }
+        }
+        Runnable r = new Runnable() {
+            public void run() {
+                System.out.println("");
+            }
+        };
+        return n;
+    }
+}
@@ -0,0 +1,14 @@
+package ceylon.tool.converter.java2ceylon.testFiles;
+
+public class TestNestedSuperclass extends Base {
+
+    static class Node extends Entry {
+        Node(int hash) {
+            super(hash);
+        }
+    }
+
+    public TestNestedSuperclass(int capacity) {
+        super(capacity);
+    }
+}
@@ -0,0 +1 @@
+person.getName() == null ? defaultName : person.getName().trim()